@@ -0,0 +1,92 @@
+package software.amazon.athena.fake;
+
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationResponse;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsRequest;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsResponse;
+import software.amazon.awssdk.services.athena.model.ListDataCatalogsRequest;
+import software.amazon.awssdk.services.athena.model.ListDataCatalogsResponse;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsRequest;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AthenaAsyncClient} over an {@link InMemoryAthenaClient}, for the reads and listings the handlers issue
+ * through the async client. Each call runs on the calling thread against the same resources and call counts as
+ * the synchronous fake, and returns a future that is already complete, or already failed with the exception the
+ * synchronous call throws. Operations the handlers never call asynchronously keep the SDK default and throw
+ * {@link UnsupportedOperationException}.
+ */
+public class InMemoryAthenaAsyncClient implements AthenaAsyncClient {
+    private final InMemoryAthenaClient client;
+
+    public InMemoryAthenaAsyncClient(final InMemoryAthenaClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CompletableFuture<GetWorkGroupResponse> getWorkGroup(final GetWorkGroupRequest request) {
+        return complete(() -> client.getWorkGroup(request));
+    }
+
+    @Override
+    public CompletableFuture<ListWorkGroupsResponse> listWorkGroups(final ListWorkGroupsRequest request) {
+        return complete(() -> client.listWorkGroups(request));
+    }
+
+    @Override
+    public CompletableFuture<ListDataCatalogsResponse> listDataCatalogs(final ListDataCatalogsRequest request) {
+        return complete(() -> client.listDataCatalogs(request));
+    }
+
+    @Override
+    public CompletableFuture<GetCapacityReservationResponse> getCapacityReservation(
+            final GetCapacityReservationRequest request) {
+        return complete(() -> client.getCapacityReservation(request));
+    }
+
+    @Override
+    public CompletableFuture<ListCapacityReservationsResponse> listCapacityReservations(
+            final ListCapacityReservationsRequest request) {
+        return complete(() -> client.listCapacityReservations(request));
+    }
+
+    @Override
+    public CompletableFuture<GetCapacityAssignmentConfigurationResponse> getCapacityAssignmentConfiguration(
+            final GetCapacityAssignmentConfigurationRequest request) {
+        return complete(() -> client.getCapacityAssignmentConfiguration(request));
+    }
+
+    @Override
+    public CompletableFuture<ListTagsForResourceResponse> listTagsForResource(final ListTagsForResourceRequest request) {
+        return complete(() -> client.listTagsForResource(request));
+    }
+
+    private static <T> CompletableFuture<T> complete(final Supplier<T> call) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(call.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
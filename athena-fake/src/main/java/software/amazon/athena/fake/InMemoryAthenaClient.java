@@ -0,0 +1,972 @@
+package software.amazon.athena.fake;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.AclConfiguration;
+import software.amazon.awssdk.services.athena.model.BatchGetNamedQueryRequest;
+import software.amazon.awssdk.services.athena.model.BatchGetNamedQueryResponse;
+import software.amazon.awssdk.services.athena.model.BatchGetPreparedStatementRequest;
+import software.amazon.awssdk.services.athena.model.BatchGetPreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.CancelCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.CancelCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.CapacityAllocation;
+import software.amazon.awssdk.services.athena.model.CapacityAllocationStatus;
+import software.amazon.awssdk.services.athena.model.CapacityAssignmentConfiguration;
+import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.CreateCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.CreateCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.CreateDataCatalogRequest;
+import software.amazon.awssdk.services.athena.model.CreateDataCatalogResponse;
+import software.amazon.awssdk.services.athena.model.CreateNamedQueryRequest;
+import software.amazon.awssdk.services.athena.model.CreateNamedQueryResponse;
+import software.amazon.awssdk.services.athena.model.CreatePreparedStatementRequest;
+import software.amazon.awssdk.services.athena.model.CreatePreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.CreateWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.CreateWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.CustomerContentEncryptionConfiguration;
+import software.amazon.awssdk.services.athena.model.DataCatalog;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogSummary;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+import software.amazon.awssdk.services.athena.model.DeleteCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.DeleteCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.DeleteDataCatalogRequest;
+import software.amazon.awssdk.services.athena.model.DeleteDataCatalogResponse;
+import software.amazon.awssdk.services.athena.model.DeleteNamedQueryRequest;
+import software.amazon.awssdk.services.athena.model.DeleteNamedQueryResponse;
+import software.amazon.awssdk.services.athena.model.DeletePreparedStatementRequest;
+import software.amazon.awssdk.services.athena.model.DeletePreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.DeleteWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.DeleteWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.EncryptionConfiguration;
+import software.amazon.awssdk.services.athena.model.EngineVersion;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationResponse;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.GetDataCatalogRequest;
+import software.amazon.awssdk.services.athena.model.GetDataCatalogResponse;
+import software.amazon.awssdk.services.athena.model.GetNamedQueryRequest;
+import software.amazon.awssdk.services.athena.model.GetNamedQueryResponse;
+import software.amazon.awssdk.services.athena.model.GetPreparedStatementRequest;
+import software.amazon.awssdk.services.athena.model.GetPreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsRequest;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsResponse;
+import software.amazon.awssdk.services.athena.model.ListDataCatalogsRequest;
+import software.amazon.awssdk.services.athena.model.ListDataCatalogsResponse;
+import software.amazon.awssdk.services.athena.model.ListNamedQueriesRequest;
+import software.amazon.awssdk.services.athena.model.ListNamedQueriesResponse;
+import software.amazon.awssdk.services.athena.model.ListPreparedStatementsRequest;
+import software.amazon.awssdk.services.athena.model.ListPreparedStatementsResponse;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsRequest;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsResponse;
+import software.amazon.awssdk.services.athena.model.NamedQuery;
+import software.amazon.awssdk.services.athena.model.PreparedStatement;
+import software.amazon.awssdk.services.athena.model.PreparedStatementSummary;
+import software.amazon.awssdk.services.athena.model.PutCapacityAssignmentConfigurationRequest;
+import software.amazon.awssdk.services.athena.model.PutCapacityAssignmentConfigurationResponse;
+import software.amazon.awssdk.services.athena.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.athena.model.ResultConfiguration;
+import software.amazon.awssdk.services.athena.model.ResultConfigurationUpdates;
+import software.amazon.awssdk.services.athena.model.Tag;
+import software.amazon.awssdk.services.athena.model.TagResourceRequest;
+import software.amazon.awssdk.services.athena.model.TagResourceResponse;
+import software.amazon.awssdk.services.athena.model.UnprocessedNamedQueryId;
+import software.amazon.awssdk.services.athena.model.UnprocessedPreparedStatementName;
+import software.amazon.awssdk.services.athena.model.UntagResourceRequest;
+import software.amazon.awssdk.services.athena.model.UntagResourceResponse;
+import software.amazon.awssdk.services.athena.model.UpdateCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.UpdateCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.UpdateDataCatalogRequest;
+import software.amazon.awssdk.services.athena.model.UpdateDataCatalogResponse;
+import software.amazon.awssdk.services.athena.model.UpdatePreparedStatementRequest;
+import software.amazon.awssdk.services.athena.model.UpdatePreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.UpdateWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.UpdateWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.WorkGroup;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfiguration;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfigurationUpdates;
+import software.amazon.awssdk.services.athena.model.WorkGroupState;
+import software.amazon.awssdk.services.athena.model.WorkGroupSummary;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link AthenaClient} that keeps workgroups, named queries, prepared statements, data catalogs, capacity
+ * reservations and tags in memory and answers with real SDK response objects, so handlers can run through a
+ * ProxyClient without any I/O. Errors are the modelled exceptions with the messages the service uses, which
+ * the handlers match on.
+ *
+ * <p>Asynchronous status changes are counted in polls rather than time, which keeps runs deterministic: with
+ * {@code pollsUntilStable} set to n, a new or resized capacity reservation is PENDING or UPDATE_PENDING, a
+ * cancelled one CANCELLING, and a FEDERATED catalog CREATE_IN_PROGRESS or DELETE_IN_PROGRESS, for the next n
+ * Get calls on it. Every method is synchronized, so one instance can be shared across threads.
+ */
+public class InMemoryAthenaClient implements AthenaClient {
+    public static final String PRIMARY_WORK_GROUP = "primary";
+    public static final String DEFAULT_DATA_CATALOG = "AwsDataCatalog";
+
+    private static final int DEFAULT_MAX_RESULTS = 50;
+    private static final String AUTO_ENGINE_VERSION = "AUTO";
+    private static final String DEFAULT_ENGINE_VERSION = "Athena engine version 3";
+    private static final String ALREADY_EXISTS_ERROR_CODE = "ALREADY_EXISTS";
+    private static final String WORK_GROUP_RESOURCE = "workgroup/";
+    private static final String DATA_CATALOG_RESOURCE = "datacatalog/";
+    private static final String CAPACITY_RESERVATION_RESOURCE = "capacity-reservation/";
+
+    private final int pollsUntilStable;
+
+    private final Map<String, WorkGroup> workGroups = new TreeMap<>();
+    private final Map<String, NamedQuery> namedQueries = new LinkedHashMap<>();
+    private final Map<String, String> namedQueryIdsByClientRequestToken = new HashMap<>();
+    private final Map<String, Map<String, PreparedStatement>> preparedStatements = new HashMap<>();
+    private final Map<String, DataCatalog> dataCatalogs = new TreeMap<>();
+    private final Map<String, CapacityReservation> capacityReservations = new TreeMap<>();
+    private final Map<String, CapacityAssignmentConfiguration> capacityAssignmentConfigurations = new HashMap<>();
+    // Keyed by the resource part of the ARN ("workgroup/name"), so any partition, region or account matches
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, PendingTransition> transitions = new HashMap<>();
+    private final Map<String, Long> callCounts = new TreeMap<>();
+    private boolean counting = true;
+
+    private static final class PendingTransition {
+        int remainingPolls;
+        final Runnable apply;
+
+        PendingTransition(final int remainingPolls, final Runnable apply) {
+            this.remainingPolls = remainingPolls;
+            this.apply = apply;
+        }
+    }
+
+    public InMemoryAthenaClient() {
+        this(0);
+    }
+
+    public InMemoryAthenaClient(final int pollsUntilStable) {
+        if (pollsUntilStable < 0) {
+            throw new IllegalArgumentException("pollsUntilStable must not be negative");
+        }
+        this.pollsUntilStable = pollsUntilStable;
+        reset();
+    }
+
+    /**
+     * Drops every resource and call count, leaving only the "primary" workgroup and "AwsDataCatalog" catalog
+     * that every account starts with.
+     */
+    public synchronized void reset() {
+        workGroups.clear();
+        namedQueries.clear();
+        namedQueryIdsByClientRequestToken.clear();
+        preparedStatements.clear();
+        dataCatalogs.clear();
+        capacityReservations.clear();
+        capacityAssignmentConfigurations.clear();
+        tags.clear();
+        transitions.clear();
+        callCounts.clear();
+
+        workGroups.put(PRIMARY_WORK_GROUP, newWorkGroup(PRIMARY_WORK_GROUP, null, null));
+        dataCatalogs.put(DEFAULT_DATA_CATALOG, DataCatalog.builder()
+                .name(DEFAULT_DATA_CATALOG)
+                .type(DataCatalogType.GLUE)
+                .status(DataCatalogStatus.CREATE_COMPLETE)
+                .parameters(Collections.emptyMap())
+                .build());
+    }
+
+    /**
+     * Number of calls per operation name, such as "GetWorkGroup", since construction or the last reset,
+     * including calls that threw.
+     */
+    public synchronized Map<String, Long> callCounts() {
+        return Collections.unmodifiableMap(new TreeMap<>(callCounts));
+    }
+
+    public synchronized long callCount(final String operation) {
+        return callCounts.getOrDefault(operation, 0L);
+    }
+
+    /**
+     * Makes the calls without adding them to the call counts, for setting up fixtures between measured calls.
+     */
+    public synchronized void uncounted(final Runnable calls) {
+        counting = false;
+        try {
+            calls.run();
+        } finally {
+            counting = true;
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Workgroups
+
+    @Override
+    public synchronized CreateWorkGroupResponse createWorkGroup(final CreateWorkGroupRequest request) {
+        count("CreateWorkGroup");
+        if (workGroups.containsKey(request.name())) {
+            throw invalidRequest("WorkGroup is already created");
+        }
+        workGroups.put(request.name(), newWorkGroup(request.name(), request.description(), request.configuration()));
+        putTags(WORK_GROUP_RESOURCE + request.name(), request.tags());
+        return CreateWorkGroupResponse.builder().build();
+    }
+
+    @Override
+    public synchronized GetWorkGroupResponse getWorkGroup(final GetWorkGroupRequest request) {
+        count("GetWorkGroup");
+        return GetWorkGroupResponse.builder().workGroup(requireWorkGroup(request.workGroup())).build();
+    }
+
+    @Override
+    public synchronized UpdateWorkGroupResponse updateWorkGroup(final UpdateWorkGroupRequest request) {
+        count("UpdateWorkGroup");
+        final WorkGroup workGroup = requireWorkGroup(request.workGroup());
+        final WorkGroup.Builder updated = workGroup.toBuilder();
+        if (request.description() != null) {
+            updated.description(request.description());
+        }
+        if (request.state() != null) {
+            updated.state(request.state());
+        }
+        if (request.configurationUpdates() != null) {
+            updated.configuration(applyUpdates(workGroup.configuration(), request.configurationUpdates()));
+        }
+        workGroups.put(workGroup.name(), updated.build());
+        return UpdateWorkGroupResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DeleteWorkGroupResponse deleteWorkGroup(final DeleteWorkGroupRequest request) {
+        count("DeleteWorkGroup");
+        final String name = request.workGroup();
+        requireWorkGroup(name);
+        if (PRIMARY_WORK_GROUP.equals(name)) {
+            throw invalidRequest("Primary WorkGroup cannot be deleted");
+        }
+        final boolean hasNamedQueries = namedQueries.values().stream()
+                .anyMatch(namedQuery -> name.equals(namedQuery.workGroup()));
+        final boolean hasPreparedStatements = !preparedStatements.getOrDefault(name, Collections.emptyMap()).isEmpty();
+        if (!Boolean.TRUE.equals(request.recursiveDeleteOption()) && (hasNamedQueries || hasPreparedStatements)) {
+            throw invalidRequest(String.format("WorkGroup %s is not empty", name));
+        }
+        workGroups.remove(name);
+        preparedStatements.remove(name);
+        namedQueries.values().removeIf(namedQuery -> name.equals(namedQuery.workGroup()));
+        namedQueryIdsByClientRequestToken.values().removeIf(id -> !namedQueries.containsKey(id));
+        tags.remove(WORK_GROUP_RESOURCE + name);
+        return DeleteWorkGroupResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListWorkGroupsResponse listWorkGroups(final ListWorkGroupsRequest request) {
+        count("ListWorkGroups");
+        final Page<WorkGroupSummary> page = page(workGroups.values().stream()
+                .map(workGroup -> WorkGroupSummary.builder()
+                        .name(workGroup.name())
+                        .state(workGroup.state())
+                        .description(workGroup.description())
+                        .creationTime(workGroup.creationTime())
+                        .engineVersion(workGroup.configuration().engineVersion())
+                        .build())
+                .collect(Collectors.toList()), request.nextToken(), request.maxResults());
+        return ListWorkGroupsResponse.builder().workGroups(page.items).nextToken(page.nextToken).build();
+    }
+
+    // Named queries
+
+    @Override
+    public synchronized CreateNamedQueryResponse createNamedQuery(final CreateNamedQueryRequest request) {
+        count("CreateNamedQuery");
+        final String clientRequestToken = request.clientRequestToken();
+        String namedQueryId = clientRequestToken == null ? null : namedQueryIdsByClientRequestToken.get(clientRequestToken);
+        if (namedQueryId == null) {
+            final String workGroup = request.workGroup() != null ? request.workGroup() : PRIMARY_WORK_GROUP;
+            requireWorkGroup(workGroup);
+            namedQueryId = UUID.randomUUID().toString();
+            namedQueries.put(namedQueryId, NamedQuery.builder()
+                    .namedQueryId(namedQueryId)
+                    .name(request.name())
+                    .description(request.description())
+                    .database(request.database())
+                    .queryString(request.queryString())
+                    .workGroup(workGroup)
+                    .build());
+            if (clientRequestToken != null) {
+                namedQueryIdsByClientRequestToken.put(clientRequestToken, namedQueryId);
+            }
+        }
+        return CreateNamedQueryResponse.builder().namedQueryId(namedQueryId).build();
+    }
+
+    @Override
+    public synchronized GetNamedQueryResponse getNamedQuery(final GetNamedQueryRequest request) {
+        count("GetNamedQuery");
+        return GetNamedQueryResponse.builder().namedQuery(requireNamedQuery(request.namedQueryId())).build();
+    }
+
+    @Override
+    public synchronized DeleteNamedQueryResponse deleteNamedQuery(final DeleteNamedQueryRequest request) {
+        count("DeleteNamedQuery");
+        requireNamedQuery(request.namedQueryId());
+        namedQueries.remove(request.namedQueryId());
+        namedQueryIdsByClientRequestToken.values().remove(request.namedQueryId());
+        return DeleteNamedQueryResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListNamedQueriesResponse listNamedQueries(final ListNamedQueriesRequest request) {
+        count("ListNamedQueries");
+        final String workGroup = request.workGroup() != null ? request.workGroup() : PRIMARY_WORK_GROUP;
+        requireWorkGroup(workGroup);
+        final Page<String> page = page(namedQueries.values().stream()
+                .filter(namedQuery -> workGroup.equals(namedQuery.workGroup()))
+                .map(NamedQuery::namedQueryId)
+                .collect(Collectors.toList()), request.nextToken(), request.maxResults());
+        return ListNamedQueriesResponse.builder().namedQueryIds(page.items).nextToken(page.nextToken).build();
+    }
+
+    @Override
+    public synchronized BatchGetNamedQueryResponse batchGetNamedQuery(final BatchGetNamedQueryRequest request) {
+        count("BatchGetNamedQuery");
+        final List<NamedQuery> found = new ArrayList<>();
+        final List<UnprocessedNamedQueryId> unprocessed = new ArrayList<>();
+        for (final String namedQueryId : request.namedQueryIds()) {
+            final NamedQuery namedQuery = namedQueries.get(namedQueryId);
+            if (namedQuery != null) {
+                found.add(namedQuery);
+            } else {
+                unprocessed.add(UnprocessedNamedQueryId.builder()
+                        .namedQueryId(namedQueryId)
+                        .errorCode("INVALID_INPUT")
+                        .errorMessage(String.format("NamedQuery %s does not exist", namedQueryId))
+                        .build());
+            }
+        }
+        return BatchGetNamedQueryResponse.builder().namedQueries(found).unprocessedNamedQueryIds(unprocessed).build();
+    }
+
+    // Prepared statements
+
+    @Override
+    public synchronized CreatePreparedStatementResponse createPreparedStatement(final CreatePreparedStatementRequest request) {
+        count("CreatePreparedStatement");
+        final Map<String, PreparedStatement> statements = statementsOf(request.workGroup());
+        if (statements.containsKey(request.statementName())) {
+            throw invalidRequest(String.format("Prepared statement %s already exists", request.statementName()),
+                    ALREADY_EXISTS_ERROR_CODE);
+        }
+        statements.put(request.statementName(), PreparedStatement.builder()
+                .statementName(request.statementName())
+                .workGroupName(request.workGroup())
+                .queryStatement(request.queryStatement())
+                .description(request.description())
+                .lastModifiedTime(Instant.now())
+                .build());
+        return CreatePreparedStatementResponse.builder().build();
+    }
+
+    @Override
+    public synchronized GetPreparedStatementResponse getPreparedStatement(final GetPreparedStatementRequest request) {
+        count("GetPreparedStatement");
+        return GetPreparedStatementResponse.builder()
+                .preparedStatement(requireStatement(request.workGroup(), request.statementName()))
+                .build();
+    }
+
+    @Override
+    public synchronized UpdatePreparedStatementResponse updatePreparedStatement(final UpdatePreparedStatementRequest request) {
+        count("UpdatePreparedStatement");
+        final PreparedStatement statement = requireStatement(request.workGroup(), request.statementName());
+        statementsOf(request.workGroup()).put(request.statementName(), statement.toBuilder()
+                .queryStatement(request.queryStatement())
+                .description(request.description())
+                .lastModifiedTime(Instant.now())
+                .build());
+        return UpdatePreparedStatementResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DeletePreparedStatementResponse deletePreparedStatement(final DeletePreparedStatementRequest request) {
+        count("DeletePreparedStatement");
+        requireStatement(request.workGroup(), request.statementName());
+        statementsOf(request.workGroup()).remove(request.statementName());
+        return DeletePreparedStatementResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListPreparedStatementsResponse listPreparedStatements(final ListPreparedStatementsRequest request) {
+        count("ListPreparedStatements");
+        final Page<PreparedStatementSummary> page = page(statementsOf(request.workGroup()).values().stream()
+                .map(statement -> PreparedStatementSummary.builder()
+                        .statementName(statement.statementName())
+                        .lastModifiedTime(statement.lastModifiedTime())
+                        .build())
+                .collect(Collectors.toList()), request.nextToken(), request.maxResults());
+        return ListPreparedStatementsResponse.builder().preparedStatements(page.items).nextToken(page.nextToken).build();
+    }
+
+    @Override
+    public synchronized BatchGetPreparedStatementResponse batchGetPreparedStatement(final BatchGetPreparedStatementRequest request) {
+        count("BatchGetPreparedStatement");
+        final Map<String, PreparedStatement> statements = statementsOf(request.workGroup());
+        final List<PreparedStatement> found = new ArrayList<>();
+        final List<UnprocessedPreparedStatementName> unprocessed = new ArrayList<>();
+        for (final String statementName : request.preparedStatementNames()) {
+            final PreparedStatement statement = statements.get(statementName);
+            if (statement != null) {
+                found.add(statement);
+            } else {
+                unprocessed.add(UnprocessedPreparedStatementName.builder()
+                        .statementName(statementName)
+                        .errorCode("STATEMENT_NOT_FOUND")
+                        .errorMessage(String.format("Prepared statement %s is not found", statementName))
+                        .build());
+            }
+        }
+        return BatchGetPreparedStatementResponse.builder()
+                .preparedStatements(found)
+                .unprocessedPreparedStatementNames(unprocessed)
+                .build();
+    }
+
+    // Data catalogs
+
+    @Override
+    public synchronized CreateDataCatalogResponse createDataCatalog(final CreateDataCatalogRequest request) {
+        count("CreateDataCatalog");
+        final String name = request.name();
+        final DataCatalog existing = dataCatalogs.get(name);
+        if (existing != null && existing.status() != DataCatalogStatus.DELETE_COMPLETE) {
+            throw invalidRequest(String.format("DataCatalog %s has already been created", name));
+        }
+        final boolean federated = request.type() == DataCatalogType.FEDERATED;
+        dataCatalogs.put(name, DataCatalog.builder()
+                .name(name)
+                .type(request.type())
+                .description(request.description())
+                .parameters(request.parameters())
+                .status(federated ? DataCatalogStatus.CREATE_IN_PROGRESS : DataCatalogStatus.CREATE_COMPLETE)
+                .build());
+        putTags(DATA_CATALOG_RESOURCE + name, request.tags());
+        if (federated) {
+            schedule(DATA_CATALOG_RESOURCE + name, () -> updateDataCatalogStatus(name, DataCatalogStatus.CREATE_COMPLETE));
+        } else {
+            transitions.remove(DATA_CATALOG_RESOURCE + name);
+        }
+        return CreateDataCatalogResponse.builder().build();
+    }
+
+    @Override
+    public synchronized GetDataCatalogResponse getDataCatalog(final GetDataCatalogRequest request) {
+        count("GetDataCatalog");
+        poll(DATA_CATALOG_RESOURCE + request.name());
+        return GetDataCatalogResponse.builder().dataCatalog(requireDataCatalog(request.name(), true)).build();
+    }
+
+    @Override
+    public synchronized UpdateDataCatalogResponse updateDataCatalog(final UpdateDataCatalogRequest request) {
+        count("UpdateDataCatalog");
+        final DataCatalog dataCatalog = requireDataCatalog(request.name(), false);
+        dataCatalogs.put(request.name(), dataCatalog.toBuilder()
+                .type(request.type())
+                .description(request.description())
+                .parameters(request.parameters())
+                .build());
+        return UpdateDataCatalogResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DeleteDataCatalogResponse deleteDataCatalog(final DeleteDataCatalogRequest request) {
+        count("DeleteDataCatalog");
+        final String name = request.name();
+        final DataCatalog dataCatalog = requireDataCatalog(name, false);
+        if (DEFAULT_DATA_CATALOG.equals(name)) {
+            throw invalidRequest(String.format("DataCatalog %s cannot be deleted", name));
+        }
+        if (dataCatalog.type() == DataCatalogType.FEDERATED) {
+            // Deleted federated catalogs stay listed as DELETE_COMPLETE, as they do in the service
+            updateDataCatalogStatus(name, DataCatalogStatus.DELETE_IN_PROGRESS);
+            schedule(DATA_CATALOG_RESOURCE + name, () -> updateDataCatalogStatus(name, DataCatalogStatus.DELETE_COMPLETE));
+        } else {
+            dataCatalogs.remove(name);
+            transitions.remove(DATA_CATALOG_RESOURCE + name);
+        }
+        tags.remove(DATA_CATALOG_RESOURCE + name);
+        return DeleteDataCatalogResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListDataCatalogsResponse listDataCatalogs(final ListDataCatalogsRequest request) {
+        count("ListDataCatalogs");
+        final Page<DataCatalogSummary> page = page(dataCatalogs.values().stream()
+                .map(dataCatalog -> DataCatalogSummary.builder()
+                        .catalogName(dataCatalog.name())
+                        .type(dataCatalog.type())
+                        .status(dataCatalog.status())
+                        .build())
+                .collect(Collectors.toList()), request.nextToken(), request.maxResults());
+        return ListDataCatalogsResponse.builder().dataCatalogsSummary(page.items).nextToken(page.nextToken).build();
+    }
+
+    // Capacity reservations
+
+    @Override
+    public synchronized CreateCapacityReservationResponse createCapacityReservation(final CreateCapacityReservationRequest request) {
+        count("CreateCapacityReservation");
+        final String name = request.name();
+        if (capacityReservations.containsKey(name)) {
+            throw invalidRequest(String.format("Capacity reservation %s already exists", name));
+        }
+        capacityReservations.put(name, CapacityReservation.builder()
+                .name(name)
+                .creationTime(Instant.now())
+                .allocatedDpus(0)
+                .build());
+        putTags(CAPACITY_RESERVATION_RESOURCE + name, request.tags());
+        requestAllocation(name, CapacityReservationStatus.PENDING, request.targetDpus());
+        return CreateCapacityReservationResponse.builder().build();
+    }
+
+    @Override
+    public synchronized GetCapacityReservationResponse getCapacityReservation(final GetCapacityReservationRequest request) {
+        count("GetCapacityReservation");
+        poll(CAPACITY_RESERVATION_RESOURCE + request.name());
+        return GetCapacityReservationResponse.builder()
+                .capacityReservation(requireCapacityReservation(request.name()))
+                .build();
+    }
+
+    @Override
+    public synchronized UpdateCapacityReservationResponse updateCapacityReservation(final UpdateCapacityReservationRequest request) {
+        count("UpdateCapacityReservation");
+        requireModifiable(request.name());
+        requestAllocation(request.name(), CapacityReservationStatus.UPDATE_PENDING, request.targetDpus());
+        return UpdateCapacityReservationResponse.builder().build();
+    }
+
+    @Override
+    public synchronized CancelCapacityReservationResponse cancelCapacityReservation(final CancelCapacityReservationRequest request) {
+        count("CancelCapacityReservation");
+        final String name = request.name();
+        capacityReservations.put(name, requireModifiable(name).toBuilder()
+                .status(CapacityReservationStatus.CANCELLING)
+                .build());
+        schedule(CAPACITY_RESERVATION_RESOURCE + name, () -> capacityReservations.computeIfPresent(name,
+                (key, capacityReservation) -> capacityReservation.toBuilder()
+                        .status(CapacityReservationStatus.CANCELLED)
+                        .allocatedDpus(0)
+                        .build()));
+        return CancelCapacityReservationResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DeleteCapacityReservationResponse deleteCapacityReservation(final DeleteCapacityReservationRequest request) {
+        count("DeleteCapacityReservation");
+        final String name = request.name();
+        if (requireCapacityReservation(name).status() != CapacityReservationStatus.CANCELLED) {
+            throw invalidRequest(String.format("Capacity reservation %s must be cancelled before it is deleted", name));
+        }
+        capacityReservations.remove(name);
+        capacityAssignmentConfigurations.remove(name);
+        transitions.remove(CAPACITY_RESERVATION_RESOURCE + name);
+        tags.remove(CAPACITY_RESERVATION_RESOURCE + name);
+        return DeleteCapacityReservationResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListCapacityReservationsResponse listCapacityReservations(final ListCapacityReservationsRequest request) {
+        count("ListCapacityReservations");
+        final Page<CapacityReservation> page = page(new ArrayList<>(capacityReservations.values()),
+                request.nextToken(), request.maxResults());
+        return ListCapacityReservationsResponse.builder()
+                .capacityReservations(page.items)
+                .nextToken(page.nextToken)
+                .build();
+    }
+
+    @Override
+    public synchronized PutCapacityAssignmentConfigurationResponse putCapacityAssignmentConfiguration(
+            final PutCapacityAssignmentConfigurationRequest request) {
+        count("PutCapacityAssignmentConfiguration");
+        final String name = request.capacityReservationName();
+        requireModifiable(name);
+        request.capacityAssignments().forEach(capacityAssignment ->
+                capacityAssignment.workGroupNames().forEach(this::requireWorkGroup));
+        capacityAssignmentConfigurations.put(name, CapacityAssignmentConfiguration.builder()
+                .capacityReservationName(name)
+                .capacityAssignments(request.capacityAssignments())
+                .build());
+        return PutCapacityAssignmentConfigurationResponse.builder().build();
+    }
+
+    @Override
+    public synchronized GetCapacityAssignmentConfigurationResponse getCapacityAssignmentConfiguration(
+            final GetCapacityAssignmentConfigurationRequest request) {
+        count("GetCapacityAssignmentConfiguration");
+        final String name = request.capacityReservationName();
+        requireCapacityReservation(name);
+        final CapacityAssignmentConfiguration capacityAssignmentConfiguration = capacityAssignmentConfigurations.get(name);
+        if (capacityAssignmentConfiguration == null) {
+            throw invalidRequest(String.format("Capacity assignment configuration for %s not found", name));
+        }
+        return GetCapacityAssignmentConfigurationResponse.builder()
+                .capacityAssignmentConfiguration(capacityAssignmentConfiguration)
+                .build();
+    }
+
+    // Tags
+
+    @Override
+    public synchronized TagResourceResponse tagResource(final TagResourceRequest request) {
+        count("TagResource");
+        putTags(arnResource(request.resourceARN()), request.tags());
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        count("UntagResource");
+        final String resource = arnResource(request.resourceARN());
+        final Map<String, String> resourceTags = tags.get(resource);
+        if (resourceTags != null) {
+            request.tagKeys().forEach(resourceTags::remove);
+            if (resourceTags.isEmpty()) {
+                tags.remove(resource);
+            }
+        }
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        count("ListTagsForResource");
+        final Page<Tag> page = page(tags.getOrDefault(arnResource(request.resourceARN()), Collections.emptyMap())
+                .entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toList()), request.nextToken(), request.maxResults());
+        return ListTagsForResourceResponse.builder().tags(page.items).nextToken(page.nextToken).build();
+    }
+
+    // State helpers
+
+    private void count(final String operation) {
+        if (counting) {
+            callCounts.merge(operation, 1L, Long::sum);
+        }
+    }
+
+    private static WorkGroup newWorkGroup(final String name,
+                                          final String description,
+                                          final WorkGroupConfiguration configuration) {
+        final WorkGroupConfiguration.Builder builder = configuration != null
+                ? configuration.toBuilder()
+                : WorkGroupConfiguration.builder();
+        final WorkGroupConfiguration requested = builder.build();
+        if (requested.enforceWorkGroupConfiguration() == null) {
+            builder.enforceWorkGroupConfiguration(true);
+        }
+        if (requested.publishCloudWatchMetricsEnabled() == null) {
+            builder.publishCloudWatchMetricsEnabled(true);
+        }
+        if (requested.requesterPaysEnabled() == null) {
+            builder.requesterPaysEnabled(false);
+        }
+        builder.engineVersion(engineVersion(requested.engineVersion()));
+        return WorkGroup.builder()
+                .name(name)
+                .state(WorkGroupState.ENABLED)
+                .description(description)
+                .creationTime(Instant.now())
+                .configuration(builder.build())
+                .build();
+    }
+
+    private static EngineVersion engineVersion(final EngineVersion requested) {
+        final String selected = requested != null && requested.selectedEngineVersion() != null
+                ? requested.selectedEngineVersion()
+                : AUTO_ENGINE_VERSION;
+        return EngineVersion.builder()
+                .selectedEngineVersion(selected)
+                .effectiveEngineVersion(AUTO_ENGINE_VERSION.equals(selected) ? DEFAULT_ENGINE_VERSION : selected)
+                .build();
+    }
+
+    private static WorkGroupConfiguration applyUpdates(final WorkGroupConfiguration configuration,
+                                                       final WorkGroupConfigurationUpdates updates) {
+        final WorkGroupConfiguration.Builder builder = configuration.toBuilder();
+        if (updates.enforceWorkGroupConfiguration() != null) {
+            builder.enforceWorkGroupConfiguration(updates.enforceWorkGroupConfiguration());
+        }
+        if (updates.publishCloudWatchMetricsEnabled() != null) {
+            builder.publishCloudWatchMetricsEnabled(updates.publishCloudWatchMetricsEnabled());
+        }
+        if (updates.bytesScannedCutoffPerQuery() != null) {
+            builder.bytesScannedCutoffPerQuery(updates.bytesScannedCutoffPerQuery());
+        }
+        if (Boolean.TRUE.equals(updates.removeBytesScannedCutoffPerQuery())) {
+            builder.bytesScannedCutoffPerQuery(null);
+        }
+        if (updates.requesterPaysEnabled() != null) {
+            builder.requesterPaysEnabled(updates.requesterPaysEnabled());
+        }
+        if (updates.engineVersion() != null) {
+            builder.engineVersion(engineVersion(updates.engineVersion()));
+        }
+        if (updates.additionalConfiguration() != null) {
+            builder.additionalConfiguration(updates.additionalConfiguration());
+        }
+        if (updates.executionRole() != null) {
+            builder.executionRole(updates.executionRole());
+        }
+        if (updates.customerContentEncryptionConfiguration() != null) {
+            builder.customerContentEncryptionConfiguration(updates.customerContentEncryptionConfiguration());
+        }
+        if (Boolean.TRUE.equals(updates.removeCustomerContentEncryptionConfiguration())) {
+            builder.customerContentEncryptionConfiguration((CustomerContentEncryptionConfiguration) null);
+        }
+        if (updates.enableMinimumEncryptionConfiguration() != null) {
+            builder.enableMinimumEncryptionConfiguration(updates.enableMinimumEncryptionConfiguration());
+        }
+        if (updates.resultConfigurationUpdates() != null) {
+            builder.resultConfiguration(applyUpdates(configuration.resultConfiguration(), updates.resultConfigurationUpdates()));
+        }
+        return builder.build();
+    }
+
+    private static ResultConfiguration applyUpdates(final ResultConfiguration configuration,
+                                                    final ResultConfigurationUpdates updates) {
+        final ResultConfiguration.Builder builder = configuration != null
+                ? configuration.toBuilder()
+                : ResultConfiguration.builder();
+        if (updates.outputLocation() != null) {
+            builder.outputLocation(updates.outputLocation());
+        }
+        if (Boolean.TRUE.equals(updates.removeOutputLocation())) {
+            builder.outputLocation(null);
+        }
+        if (updates.encryptionConfiguration() != null) {
+            builder.encryptionConfiguration(updates.encryptionConfiguration());
+        }
+        if (Boolean.TRUE.equals(updates.removeEncryptionConfiguration())) {
+            builder.encryptionConfiguration((EncryptionConfiguration) null);
+        }
+        if (updates.expectedBucketOwner() != null) {
+            builder.expectedBucketOwner(updates.expectedBucketOwner());
+        }
+        if (Boolean.TRUE.equals(updates.removeExpectedBucketOwner())) {
+            builder.expectedBucketOwner(null);
+        }
+        if (updates.aclConfiguration() != null) {
+            builder.aclConfiguration(updates.aclConfiguration());
+        }
+        if (Boolean.TRUE.equals(updates.removeAclConfiguration())) {
+            builder.aclConfiguration((AclConfiguration) null);
+        }
+        return builder.build();
+    }
+
+    private WorkGroup requireWorkGroup(final String name) {
+        final WorkGroup workGroup = workGroups.get(name);
+        if (workGroup == null) {
+            throw invalidRequest(String.format("WorkGroup %s is not found.", name));
+        }
+        return workGroup;
+    }
+
+    private NamedQuery requireNamedQuery(final String namedQueryId) {
+        final NamedQuery namedQuery = namedQueries.get(namedQueryId);
+        if (namedQuery == null) {
+            throw invalidRequest(String.format("NamedQuery %s does not exist", namedQueryId));
+        }
+        return namedQuery;
+    }
+
+    private Map<String, PreparedStatement> statementsOf(final String workGroup) {
+        requireWorkGroup(workGroup);
+        return preparedStatements.computeIfAbsent(workGroup, key -> new TreeMap<>());
+    }
+
+    private PreparedStatement requireStatement(final String workGroup, final String statementName) {
+        final PreparedStatement statement = statementsOf(workGroup).get(statementName);
+        if (statement == null) {
+            throw resourceNotFound(String.format("Prepared statement %s is not found", statementName));
+        }
+        return statement;
+    }
+
+    private DataCatalog requireDataCatalog(final String name, final boolean includeDeleted) {
+        final DataCatalog dataCatalog = dataCatalogs.get(name);
+        if (dataCatalog == null || !includeDeleted && dataCatalog.status() == DataCatalogStatus.DELETE_COMPLETE) {
+            throw invalidRequest(String.format("DataCatalog %s was not found", name));
+        }
+        return dataCatalog;
+    }
+
+    private void updateDataCatalogStatus(final String name, final DataCatalogStatus status) {
+        dataCatalogs.computeIfPresent(name, (key, dataCatalog) -> dataCatalog.toBuilder().status(status).build());
+    }
+
+    private CapacityReservation requireCapacityReservation(final String name) {
+        final CapacityReservation capacityReservation = capacityReservations.get(name);
+        if (capacityReservation == null) {
+            throw invalidRequest(String.format("Capacity reservation %s not found", name));
+        }
+        return capacityReservation;
+    }
+
+    private CapacityReservation requireModifiable(final String name) {
+        final CapacityReservation capacityReservation = requireCapacityReservation(name);
+        if (capacityReservation.status() == CapacityReservationStatus.CANCELLING
+                || capacityReservation.status() == CapacityReservationStatus.CANCELLED) {
+            throw invalidRequest(String.format("Reservation cannot be modified when state is %s",
+                    capacityReservation.statusAsString()));
+        }
+        return capacityReservation;
+    }
+
+    private void requestAllocation(final String name, final CapacityReservationStatus pendingStatus, final Integer targetDpus) {
+        final Instant requestTime = Instant.now();
+        capacityReservations.put(name, requireCapacityReservation(name).toBuilder()
+                .status(pendingStatus)
+                .targetDpus(targetDpus)
+                .lastAllocation(CapacityAllocation.builder()
+                        .status(CapacityAllocationStatus.PENDING)
+                        .requestTime(requestTime)
+                        .build())
+                .build());
+        schedule(CAPACITY_RESERVATION_RESOURCE + name, () -> capacityReservations.computeIfPresent(name,
+                (key, capacityReservation) -> {
+                    final Instant completionTime = Instant.now();
+                    return capacityReservation.toBuilder()
+                            .status(CapacityReservationStatus.ACTIVE)
+                            .allocatedDpus(targetDpus)
+                            .lastAllocation(CapacityAllocation.builder()
+                                    .status(CapacityAllocationStatus.SUCCEEDED)
+                                    .requestTime(requestTime)
+                                    .requestCompletionTime(completionTime)
+                                    .build())
+                            .lastSuccessfulAllocationTime(completionTime)
+                            .build();
+                }));
+    }
+
+    /**
+     * Applies the transition after the next pollsUntilStable Get calls on the resource, replacing any transition
+     * still pending for it.
+     */
+    private void schedule(final String resource, final Runnable transition) {
+        transitions.remove(resource);
+        if (pollsUntilStable == 0) {
+            transition.run();
+        } else {
+            transitions.put(resource, new PendingTransition(pollsUntilStable, transition));
+        }
+    }
+
+    private void poll(final String resource) {
+        final PendingTransition transition = transitions.get(resource);
+        if (transition == null) {
+            return;
+        }
+        if (transition.remainingPolls > 0) {
+            transition.remainingPolls--;
+        } else {
+            transitions.remove(resource);
+            transition.apply.run();
+        }
+    }
+
+    private void putTags(final String resource, final List<Tag> resourceTags) {
+        if (resourceTags != null && !resourceTags.isEmpty()) {
+            final Map<String, String> current = tags.computeIfAbsent(resource, key -> new LinkedHashMap<>());
+            resourceTags.forEach(tag -> current.put(tag.key(), tag.value()));
+        }
+    }
+
+    private static String arnResource(final String arn) {
+        if (arn == null || !arn.startsWith("arn:") || arn.split(":", -1).length < 6) {
+            throw invalidRequest(String.format("Invalid ResourceARN %s", arn));
+        }
+        return arn.substring(arn.lastIndexOf(':') + 1);
+    }
+
+    private static final class Page<T> {
+        final List<T> items;
+        final String nextToken;
+
+        Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+
+    /**
+     * Returns one page of items. The NextToken is the index of the first item of the next page.
+     */
+    private static <T> Page<T> page(final List<T> items, final String nextToken, final Integer maxResults) {
+        final int start;
+        try {
+            start = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        } catch (NumberFormatException e) {
+            throw invalidRequest(String.format("Invalid NextToken %s", nextToken));
+        }
+        final int end = Math.min(items.size(), start + (maxResults != null ? maxResults : DEFAULT_MAX_RESULTS));
+        return new Page<>(new ArrayList<>(items.subList(Math.min(start, end), end)),
+                end < items.size() ? String.valueOf(end) : null);
+    }
+
+    private static InvalidRequestException invalidRequest(final String message) {
+        return invalidRequest(message, null);
+    }
+
+    private static InvalidRequestException invalidRequest(final String message, final String athenaErrorCode) {
+        return InvalidRequestException.builder()
+                .message(message)
+                .athenaErrorCode(athenaErrorCode)
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("InvalidRequestException", message))
+                .build();
+    }
+
+    private static ResourceNotFoundException resourceNotFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("ResourceNotFoundException", message))
+                .build();
+    }
+
+    private static AwsErrorDetails errorDetails(final String errorCode, final String message) {
+        return AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName(SERVICE_NAME)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package software.amazon.athena.fake;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InMemoryAthenaAsyncClientTest {
+
+    @Test
+    public void testSharesResourcesAndCallCounts() {
+        final InMemoryAthenaClient client = new InMemoryAthenaClient();
+        final InMemoryAthenaAsyncClient asyncClient = new InMemoryAthenaAsyncClient(client);
+        client.createCapacityReservation(r -> r.name("reservation").targetDpus(24));
+
+        assertThat(asyncClient.getCapacityReservation(r -> r.name("reservation")).join()
+                .capacityReservation().targetDpus()).isEqualTo(24);
+        assertThat(asyncClient.listWorkGroups(r -> r.maxResults(10)).join().workGroups())
+                .extracting("name")
+                .containsExactly(InMemoryAthenaClient.PRIMARY_WORK_GROUP);
+        assertThat(client.callCount("GetCapacityReservation")).isEqualTo(1L);
+        assertThat(client.callCount("ListWorkGroups")).isEqualTo(1L);
+    }
+
+    @Test
+    public void testErrorsFailTheFuture() {
+        final InMemoryAthenaAsyncClient asyncClient = new InMemoryAthenaAsyncClient(new InMemoryAthenaClient());
+
+        final CompletableFuture<?> future = asyncClient.getWorkGroup(r -> r.workGroup("missing"));
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,171 @@
+package software.amazon.athena.fake;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.athena.model.CapacityAssignment;
+import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.athena.model.ResultConfigurationUpdates;
+import software.amazon.awssdk.services.athena.model.Tag;
+import software.amazon.awssdk.services.athena.model.WorkGroup;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfiguration;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfigurationUpdates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InMemoryAthenaClientTest {
+    private static final String ARN_PREFIX = "arn:aws:athena:us-east-1:123456789012:";
+
+    private InMemoryAthenaClient client;
+
+    @BeforeEach
+    public void setup() {
+        client = new InMemoryAthenaClient();
+    }
+
+    @Test
+    public void testWorkGroupLifecycle() {
+        client.createWorkGroup(r -> r.name("analytics")
+                .configuration(WorkGroupConfiguration.builder().bytesScannedCutoffPerQuery(10_000_000L).build())
+                .tags(Tag.builder().key("team").value("data").build()));
+
+        client.updateWorkGroup(r -> r.workGroup("analytics")
+                .description("updated")
+                .configurationUpdates(WorkGroupConfigurationUpdates.builder()
+                        .removeBytesScannedCutoffPerQuery(true)
+                        .resultConfigurationUpdates(ResultConfigurationUpdates.builder()
+                                .outputLocation("s3://bucket/results/")
+                                .build())
+                        .build()));
+
+        final WorkGroup workGroup = client.getWorkGroup(r -> r.workGroup("analytics")).workGroup();
+        assertThat(workGroup.description()).isEqualTo("updated");
+        assertThat(workGroup.configuration().bytesScannedCutoffPerQuery()).isNull();
+        assertThat(workGroup.configuration().resultConfiguration().outputLocation()).isEqualTo("s3://bucket/results/");
+        assertThat(workGroup.configuration().engineVersion().effectiveEngineVersion()).isNotNull();
+        assertThat(client.listTagsForResource(r -> r.resourceARN(ARN_PREFIX + "workgroup/analytics")).tags())
+                .containsExactly(Tag.builder().key("team").value("data").build());
+
+        client.deleteWorkGroup(r -> r.workGroup("analytics").recursiveDeleteOption(true));
+        assertThatThrownBy(() -> client.getWorkGroup(r -> r.workGroup("analytics")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("not found");
+        assertThatThrownBy(() -> client.createWorkGroup(r -> r.name("primary")))
+                .hasMessageContaining("already created");
+    }
+
+    @Test
+    public void testNamedQueriesAndPreparedStatements() {
+        final String namedQueryId = client.createNamedQuery(r -> r.name("query").database("db")
+                .queryString("SELECT 1").clientRequestToken("token")).namedQueryId();
+        assertThat(client.createNamedQuery(r -> r.name("query").database("db")
+                .queryString("SELECT 1").clientRequestToken("token")).namedQueryId()).isEqualTo(namedQueryId);
+        assertThat(client.listNamedQueries(r -> r.workGroup("primary")).namedQueryIds()).containsExactly(namedQueryId);
+
+        client.deleteNamedQuery(r -> r.namedQueryId(namedQueryId));
+        assertThatThrownBy(() -> client.getNamedQuery(r -> r.namedQueryId(namedQueryId)))
+                .hasMessageContaining("does not exist");
+
+        client.createPreparedStatement(r -> r.workGroup("primary").statementName("stmt").queryStatement("SELECT ?"));
+        assertThatThrownBy(() -> client.createPreparedStatement(r -> r.workGroup("primary").statementName("stmt")
+                .queryStatement("SELECT ?")))
+                .hasMessageContaining("already exists")
+                .hasFieldOrPropertyWithValue("athenaErrorCode", "ALREADY_EXISTS");
+        client.deletePreparedStatement(r -> r.workGroup("primary").statementName("stmt"));
+        assertThatThrownBy(() -> client.getPreparedStatement(r -> r.workGroup("primary").statementName("stmt")))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(client.batchGetPreparedStatement(r -> r.workGroup("primary").preparedStatementNames("stmt"))
+                .unprocessedPreparedStatementNames())
+                .extracting("errorCode")
+                .containsExactly("STATEMENT_NOT_FOUND");
+    }
+
+    @Test
+    public void testStatusChangesAfterPolls() {
+        client = new InMemoryAthenaClient(2);
+        client.createCapacityReservation(r -> r.name("reservation").targetDpus(24));
+        client.createDataCatalog(r -> r.name("federated").type(DataCatalogType.FEDERATED));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(client.getCapacityReservation(r -> r.name("reservation")).capacityReservation().status())
+                    .isEqualTo(CapacityReservationStatus.PENDING);
+            assertThat(client.getDataCatalog(r -> r.name("federated")).dataCatalog().status())
+                    .isEqualTo(DataCatalogStatus.CREATE_IN_PROGRESS);
+        }
+        assertThat(client.getCapacityReservation(r -> r.name("reservation")).capacityReservation().allocatedDpus())
+                .isEqualTo(24);
+        assertThat(client.getDataCatalog(r -> r.name("federated")).dataCatalog().status())
+                .isEqualTo(DataCatalogStatus.CREATE_COMPLETE);
+
+        client.cancelCapacityReservation(r -> r.name("reservation"));
+        assertThatThrownBy(() -> client.updateCapacityReservation(r -> r.name("reservation").targetDpus(32)))
+                .hasMessageContaining("Reservation cannot be modified when state is CANCELLING");
+
+        client.deleteDataCatalog(r -> r.name("federated"));
+        assertThat(client.getDataCatalog(r -> r.name("federated")).dataCatalog().status())
+                .isEqualTo(DataCatalogStatus.DELETE_IN_PROGRESS);
+        assertThat(client.callCount("GetDataCatalog")).isEqualTo(4L);
+    }
+
+    @Test
+    public void testRandomCapacityReservationCycles() {
+        final Random random = new Random(7L);
+        final Map<String, Integer> expectedDpus = new HashMap<>();
+        final List<String> cancelled = new ArrayList<>();
+
+        for (int step = 0; step < 500; step++) {
+            final String name = "reservation-" + random.nextInt(8);
+            final int targetDpus = 24 + 8 * random.nextInt(10);
+            final boolean exists = expectedDpus.containsKey(name) || cancelled.contains(name);
+            switch (random.nextInt(4)) {
+                case 0:
+                    if (!exists) {
+                        client.createCapacityReservation(r -> r.name(name).targetDpus(targetDpus));
+                        client.putCapacityAssignmentConfiguration(r -> r.capacityReservationName(name)
+                                .capacityAssignments(CapacityAssignment.builder().workGroupNames("primary").build()));
+                        expectedDpus.put(name, targetDpus);
+                    }
+                    break;
+                case 1:
+                    if (expectedDpus.containsKey(name)) {
+                        client.updateCapacityReservation(r -> r.name(name).targetDpus(targetDpus));
+                        expectedDpus.put(name, targetDpus);
+                    }
+                    break;
+                case 2:
+                    if (expectedDpus.remove(name) != null) {
+                        client.cancelCapacityReservation(r -> r.name(name));
+                        cancelled.add(name);
+                    }
+                    break;
+                default:
+                    if (cancelled.remove(name)) {
+                        client.deleteCapacityReservation(r -> r.name(name));
+                    }
+                    break;
+            }
+
+            expectedDpus.forEach((reservation, dpus) -> {
+                assertThat(client.getCapacityReservation(r -> r.name(reservation)).capacityReservation().allocatedDpus())
+                        .isEqualTo(dpus);
+                assertThat(client.getCapacityAssignmentConfiguration(r -> r.capacityReservationName(reservation))
+                        .capacityAssignmentConfiguration().capacityAssignments()).hasSize(1);
+            });
+            cancelled.forEach(reservation ->
+                    assertThat(client.getCapacityReservation(r -> r.name(reservation)).capacityReservation().status())
+                            .isEqualTo(CapacityReservationStatus.CANCELLED));
+            assertThat(client.listCapacityReservations(r -> r.maxResults(100)).capacityReservations())
+                    .hasSize(expectedDpus.size() + cancelled.size());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package software.amazon.athena.client;
+
+import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+
+import java.net.URI;
+
+/**
+ * Lets every resource provider send its Athena calls to the endpoint named by the "athena.endpoint" system
+ * property instead of the regional one, such as the in-process stub server used for offline end-to-end runs.
+ * The property is never set in Lambda.
+ */
+public final class AthenaEndpoint {
+    public static final String PROPERTY = "athena.endpoint";
+
+    private AthenaEndpoint() {
+    }
+
+    /**
+     * Points the client builder at the endpoint in the system property when it is set, and otherwise returns it
+     * unchanged.
+     */
+    public static <B extends SdkClientBuilder<B, ?>> B override(final B builder) {
+        final String endpoint = System.getProperty(PROPERTY);
+        return endpoint == null || endpoint.isEmpty() ? builder : builder.endpointOverride(URI.create(endpoint));
+    }
+}
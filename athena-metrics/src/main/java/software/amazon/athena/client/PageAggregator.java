@@ -0,0 +1,149 @@
+package software.amazon.athena.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Follows nextToken across service pages within a single List invocation, shared by every resource provider.
+ *
+ * Pages are read until the aggregated page holds at least maxItems models, the service has no more pages,
+ * or less than MIN_REMAINING_MILLIS is left of the invocation. The returned nextToken is the service token
+ * of the last page that was read, so the next invocation resumes exactly where this one stopped.
+ */
+public final class PageAggregator {
+    /**
+     * Models returned per List invocation when the handler is not given a maxItems, the page size the
+     * providers request from Athena.
+     */
+    public static final int DEFAULT_MAX_ITEMS = 50;
+    /**
+     * Time an invocation may spend aggregating when the handler is not given its remaining time. The handler
+     * wrappers of rpdk 2.0.6 and 2.0.12 pass the Lambda context's remaining time to the client proxy but do not
+     * keep it, so handlers count this down from the start of the request instead.
+     */
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 30_000L;
+    // Kept back for one more service call and for returning the progress event
+    public static final long MIN_REMAINING_MILLIS = 5_000L;
+
+    private final int maxItems;
+    private final LongSupplier remainingTimeMillis;
+
+    private PageAggregator(final int maxItems, final LongSupplier remainingTimeMillis) {
+        this.maxItems = maxItems;
+        this.remainingTimeMillis = remainingTimeMillis;
+    }
+
+    /**
+     * Reads pages until DEFAULT_MAX_ITEMS models were read, the service has no more of them or the invocation
+     * runs low on time. Handlers aggregate first thing in handleRequest, so the time is counted down from
+     * DEFAULT_TIME_BUDGET_MILLIS when aggregation starts.
+     */
+    public static PageAggregator withinTimeBudget() {
+        return new PageAggregator(DEFAULT_MAX_ITEMS, null);
+    }
+
+    /**
+     * @param maxItems            number of models after which no further page is read
+     * @param remainingTimeMillis remaining time of the invocation, e.g. the Lambda context's getRemainingTimeInMillis
+     */
+    public static PageAggregator aggregated(final int maxItems, final LongSupplier remainingTimeMillis) {
+        return new PageAggregator(maxItems, remainingTimeMillis);
+    }
+
+    public <R, T> Page<T> aggregate(final String nextToken,
+                                    final Function<String, R> fetchPage,
+                                    final Function<R, List<T>> itemsOf,
+                                    final Function<R, String> nextTokenOf) {
+        final LongSupplier remaining = remainingTime();
+        final List<T> items = new ArrayList<>();
+        String token = nextToken;
+        do {
+            final R response = fetchPage.apply(token);
+            items.addAll(itemsOf.apply(response));
+            token = nextTokenOf.apply(response);
+        } while (token != null
+                && items.size() < maxItems
+                && remaining.getAsLong() >= MIN_REMAINING_MILLIS);
+        return new Page<>(items, token);
+    }
+
+    /**
+     * Same stopping rules as aggregate, but the next page is requested before the current one is translated,
+     * so service latency overlaps translation. The read-ahead is only started once the untranslated size of the
+     * current page shows that maxItems is still out of reach and enough time is left, so no page is requested
+     * that this invocation does not return. When translation drops entries and leaves the models short of
+     * maxItems, the next page is requested after translation instead, so filtering listings still fill up.
+     */
+    public <R, T> Page<T> aggregateWithPrefetch(final String nextToken,
+                                                final Function<String, CompletableFuture<R>> fetchPageAsync,
+                                                final Function<R, List<T>> itemsOf,
+                                                final ToIntFunction<R> pageSizeOf,
+                                                final Function<R, String> nextTokenOf) {
+        final LongSupplier remaining = remainingTime();
+        final List<T> items = new ArrayList<>();
+        CompletableFuture<R> pendingPage = fetchPageAsync.apply(nextToken);
+        String token;
+        do {
+            final R response = join(pendingPage);
+            token = nextTokenOf.apply(response);
+            final boolean timeLeft = token != null && remaining.getAsLong() >= MIN_REMAINING_MILLIS;
+            pendingPage = timeLeft && items.size() + pageSizeOf.applyAsInt(response) < maxItems
+                    ? fetchPageAsync.apply(token) : null;
+            items.addAll(itemsOf.apply(response));
+            if (pendingPage == null && timeLeft && items.size() < maxItems) {
+                pendingPage = fetchPageAsync.apply(token);
+            }
+        } while (pendingPage != null);
+        return new Page<>(items, token);
+    }
+
+    /**
+     * The supplied remaining time of the invocation, or DEFAULT_TIME_BUDGET_MILLIS counted down from now when
+     * none was supplied.
+     */
+    private LongSupplier remainingTime() {
+        if (remainingTimeMillis != null) {
+            return remainingTimeMillis;
+        }
+        final long deadline = System.currentTimeMillis() + DEFAULT_TIME_BUDGET_MILLIS;
+        return () -> deadline - System.currentTimeMillis();
+    }
+
+    /**
+     * Waits for the future and rethrows the exception it failed with, so callers can translate it
+     * exactly like an exception from a blocking call.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        public Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public String getNextToken() {
+            return nextToken;
+        }
+    }
+}
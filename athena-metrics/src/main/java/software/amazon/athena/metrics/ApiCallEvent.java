@@ -0,0 +1,35 @@
+package software.amazon.athena.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The Java Flight Recorder event {@link ApiCallMetrics} commits for every Athena call. It sits in the same
+ * category as the stabilization poll and tag diff events of the resource providers, and
+ * profiling/athena-handlers.jfc at the root of the repository enables all of them.
+ */
+@Name(ApiCallEvent.NAME)
+@Label("Athena API Call")
+@Category({"AWS", "Athena Resource Providers"})
+@Description("One Athena API call made by a handler, SDK retries included")
+public final class ApiCallEvent extends Event {
+    public static final String NAME = "software.amazon.athena.ApiCall";
+
+    @Label("Resource Type")
+    String resourceType;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Retries")
+    int retries;
+
+    @Label("Throttled")
+    boolean throttled;
+
+    @Label("Error Code")
+    String errorCode;
+}
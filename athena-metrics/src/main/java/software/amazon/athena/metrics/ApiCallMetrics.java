@@ -0,0 +1,255 @@
+package software.amazon.athena.metrics;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.athena.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Logs one Embedded Metric Format line per Athena API call, with its latency, the number of SDK retries,
+ * whether it was throttled and, on failure, the service error code.
+ *
+ * The timer wraps the SDK client method inside the credentials proxy, so it measures the service call itself.
+ * Retries are read from the SDK call metrics through a {@link MetricPublisher} added to the request, which
+ * only a real SDK client reports; calls answered by a mock report zero retries.
+ *
+ * Each call is also recorded as an {@link ApiCallEvent} for Java Flight Recorder. Every method takes the
+ * CloudFormation type name of the resource provider, which becomes the ResourceType dimension.
+ */
+public final class ApiCallMetrics {
+    public static final String LATENCY_METRIC = "Latency";
+    public static final String RETRY_COUNT_METRIC = "RetryCount";
+    public static final String THROTTLED_METRIC = "Throttled";
+    public static final String ERROR_METRIC = "Error";
+    public static final String ERROR_CODE_PROPERTY = "ErrorCode";
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private ApiCallMetrics() {
+    }
+
+    /**
+     * Runs a call through the credentials proxy and measures it.
+     */
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(
+            final AmazonWebServicesClientProxy proxy,
+            final Logger logger,
+            final String resourceType,
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        return proxy.injectCredentialsAndInvokeV2(request, instrument(logger, resourceType, requestFunction));
+    }
+
+    /**
+     * Runs an asynchronous call through the credentials proxy and measures it once the future completes.
+     */
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+    CompletableFuture<ResponseT> invokeAsync(
+            final AmazonWebServicesClientProxy proxy,
+            final Logger logger,
+            final String resourceType,
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return proxy.injectCredentialsAndInvokeV2Async(request, instrumentAsync(logger, resourceType, requestFunction));
+    }
+
+    /**
+     * Decorates a proxy client so every synchronous and asynchronous call made through it is measured.
+     */
+    public static <ClientT> ProxyClient<ClientT> instrument(final Logger logger,
+                                                            final String resourceType,
+                                                            final ProxyClient<ClientT> proxyClient) {
+        return new ProxyClient<ClientT>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                    final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2(request,
+                        instrument(logger, resourceType, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                    final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2Async(request,
+                        instrumentAsync(logger, resourceType, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT injectCredentialsAndInvokeIterableV2(
+                    final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+                    final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+                    final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+                return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+            }
+
+            @Override
+            public ClientT client() {
+                return proxyClient.client();
+            }
+        };
+    }
+
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> Function<RequestT, ResponseT> instrument(
+            final Logger logger, final String resourceType, final Function<RequestT, ResponseT> requestFunction) {
+        return request -> {
+            final RetryCountPublisher retries = new RetryCountPublisher();
+            final ApiCallEvent event = new ApiCallEvent();
+            event.begin();
+            final long startNanos = System.nanoTime();
+            try {
+                final ResponseT response = requestFunction.apply(withMetricPublisher(request, retries));
+                log(logger, resourceType, request, startNanos, retries, event, null);
+                return response;
+            } catch (RuntimeException e) {
+                log(logger, resourceType, request, startNanos, retries, event, e);
+                throw e;
+            }
+        };
+    }
+
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+    Function<RequestT, CompletableFuture<ResponseT>> instrumentAsync(
+            final Logger logger,
+            final String resourceType,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return request -> {
+            final RetryCountPublisher retries = new RetryCountPublisher();
+            final ApiCallEvent event = new ApiCallEvent();
+            event.begin();
+            final long startNanos = System.nanoTime();
+            final CompletableFuture<ResponseT> response;
+            try {
+                response = requestFunction.apply(withMetricPublisher(request, retries));
+            } catch (RuntimeException e) {
+                log(logger, resourceType, request, startNanos, retries, event, e);
+                throw e;
+            }
+            // The caller keeps the original future so cancelling it still reaches the SDK
+            response.whenComplete((result, error) -> {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                // A cancelled read-ahead was abandoned by the handler, not failed by the service
+                if (!(cause instanceof CancellationException)) {
+                    log(logger, resourceType, request, startNanos, retries, event, cause);
+                }
+            });
+            return response;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <RequestT extends AwsRequest> RequestT withMetricPublisher(final RequestT request,
+                                                                              final MetricPublisher metricPublisher) {
+        final AwsRequestOverrideConfiguration overrideConfiguration = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder)
+                .addMetricPublisher(metricPublisher)
+                .build();
+        return (RequestT) request.toBuilder()
+                .overrideConfiguration(overrideConfiguration)
+                .build();
+    }
+
+    private static void log(final Logger logger,
+                            final String resourceType,
+                            final AwsRequest request,
+                            final long startNanos,
+                            final RetryCountPublisher retries,
+                            final ApiCallEvent event,
+                            final Throwable error) {
+        // Ends the event before the log line is written, so it covers the call alone
+        event.end();
+        final List<EmbeddedMetrics.Metric> metrics = new ArrayList<>();
+        metrics.add(EmbeddedMetrics.Metric.milliseconds(LATENCY_METRIC,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        metrics.add(EmbeddedMetrics.Metric.count(RETRY_COUNT_METRIC, retries.retryCount));
+        metrics.add(EmbeddedMetrics.Metric.count(THROTTLED_METRIC, isThrottled(error) ? 1 : 0));
+        metrics.add(EmbeddedMetrics.Metric.count(ERROR_METRIC, error == null ? 0 : 1));
+        EmbeddedMetrics.log(logger, resourceType, operationName(request), metrics, error == null
+                ? Collections.emptyMap()
+                : Collections.singletonMap(ERROR_CODE_PROPERTY, errorCode(error)));
+
+        event.resourceType = resourceType;
+        event.operation = operationName(request);
+        event.retries = retries.retryCount;
+        event.throttled = isThrottled(error);
+        event.errorCode = error == null ? null : errorCode(error);
+        event.commit();
+    }
+
+    static String operationName(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith(REQUEST_SUFFIX)
+                ? requestName.substring(0, requestName.length() - REQUEST_SUFFIX.length())
+                : requestName;
+    }
+
+    private static boolean isThrottled(final Throwable error) {
+        return error instanceof TooManyRequestsException
+                || error instanceof SdkServiceException && ((SdkServiceException) error).isThrottlingException();
+    }
+
+    private static String errorCode(final Throwable error) {
+        if (error instanceof AwsServiceException) {
+            final AwsErrorDetails awsErrorDetails = ((AwsServiceException) error).awsErrorDetails();
+            if (awsErrorDetails != null && awsErrorDetails.errorCode() != null) {
+                return awsErrorDetails.errorCode();
+            }
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    /**
+     * Keeps the retry count of the single call it is attached to.
+     */
+    private static final class RetryCountPublisher implements MetricPublisher {
+        private volatile int retryCount;
+
+        @Override
+        public void publish(final MetricCollection metricCollection) {
+            metricCollection.metricValues(CoreMetric.RETRY_COUNT).stream()
+                    .findFirst()
+                    .ifPresent(count -> retryCount = count);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.athena.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes metrics as CloudWatch Embedded Metric Format log lines. The handler log group is already shipped to
+ * CloudWatch Logs, which extracts the metrics, so no PutMetricData permission or extra client is needed.
+ */
+public final class EmbeddedMetrics {
+    public static final String NAMESPACE = "Athena/ResourceProviders";
+    public static final String DIMENSION_RESOURCE_TYPE = "ResourceType";
+    public static final String DIMENSION_OPERATION = "Operation";
+    public static final String UNIT_COUNT = "Count";
+    public static final String UNIT_MILLISECONDS = "Milliseconds";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private EmbeddedMetrics() {
+    }
+
+    /**
+     * Logs one EMF line carrying the given counts under the ResourceType and Operation dimensions.
+     */
+    public static void logCounts(final Logger logger,
+                                 final String resourceType,
+                                 final String operation,
+                                 final Map<String, Long> counts) {
+        final List<Metric> metrics = new ArrayList<>();
+        counts.forEach((name, value) -> metrics.add(Metric.count(name, value)));
+        log(logger, resourceType, operation, metrics, Collections.emptyMap());
+    }
+
+    /**
+     * Logs one EMF line carrying the given metrics under the ResourceType and Operation dimensions.
+     * Properties are written next to the metrics so they can be searched in CloudWatch Logs Insights,
+     * but are not extracted as metrics.
+     */
+    public static void log(final Logger logger,
+                           final String resourceType,
+                           final String operation,
+                           final List<Metric> metrics,
+                           final Map<String, String> properties) {
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>();
+        metrics.forEach(metric -> {
+            final Map<String, String> definition = new LinkedHashMap<>();
+            definition.put("Name", metric.name);
+            definition.put("Unit", metric.unit);
+            metricDefinitions.add(definition);
+        });
+
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", NAMESPACE);
+        directive.put("Dimensions", Collections.singletonList(new String[] {DIMENSION_RESOURCE_TYPE, DIMENSION_OPERATION}));
+        directive.put("Metrics", metricDefinitions);
+
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", System.currentTimeMillis());
+        metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+        final Map<String, Object> line = new LinkedHashMap<>();
+        line.put("_aws", metadata);
+        line.put(DIMENSION_RESOURCE_TYPE, resourceType);
+        line.put(DIMENSION_OPERATION, operation);
+        metrics.forEach(metric -> line.put(metric.name, metric.value));
+        line.putAll(properties);
+
+        try {
+            logger.log(MAPPER.writeValueAsString(line));
+        } catch (JsonProcessingException e) {
+            // Metrics are best effort and must never fail the handler
+            logger.log(String.format("Could not serialize metrics for %s: %s", operation, e.getMessage()));
+        }
+    }
+
+    public static final class Metric {
+        private final String name;
+        private final String unit;
+        private final long value;
+
+        private Metric(final String name, final String unit, final long value) {
+            this.name = name;
+            this.unit = unit;
+            this.value = value;
+        }
+
+        public static Metric count(final String name, final long value) {
+            return new Metric(name, UNIT_COUNT, value);
+        }
+
+        public static Metric milliseconds(final String name, final long value) {
+            return new Metric(name, UNIT_MILLISECONDS, value);
+        }
+    }
+}
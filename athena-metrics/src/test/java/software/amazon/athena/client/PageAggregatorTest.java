@@ -0,0 +1,127 @@
+package software.amazon.athena.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageAggregatorTest {
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 20;
+
+    private AtomicInteger calls;
+
+    @BeforeEach
+    public void setup() {
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    public void testDefaultStopsAtDefaultMaxItems() {
+        final PageAggregator.Page<String> page = PageAggregator.withinTimeBudget()
+                .aggregate(null, this::listPage, PageAggregatorTest::itemsOf, PageAggregatorTest::nextTokenOf);
+
+        // 20 + 20 is still short of 50, the third page reaches it
+        assertThat(page.getItems()).hasSize(3 * PAGE_SIZE);
+        assertThat(page.getNextToken()).isEqualTo("3");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testResumesFromNextToken() {
+        final PageAggregator.Page<String> page = PageAggregator.withinTimeBudget()
+                .aggregate("8", this::listPage, PageAggregatorTest::itemsOf, PageAggregatorTest::nextTokenOf);
+
+        assertThat(page.getItems()).hasSize(2 * PAGE_SIZE).startsWith("item160");
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    public void testSuppliedRemainingTimeStopsAggregation() {
+        final PageAggregator.Page<String> page = PageAggregator.aggregated(Integer.MAX_VALUE,
+                () -> PageAggregator.MIN_REMAINING_MILLIS - 1)
+                .aggregate(null, this::listPage, PageAggregatorTest::itemsOf, PageAggregatorTest::nextTokenOf);
+
+        assertThat(page.getItems()).hasSize(PAGE_SIZE);
+        assertThat(page.getNextToken()).isEqualTo("1");
+    }
+
+    @Test
+    public void testSuppliedRemainingTimeIsReadPerPage() {
+        final AtomicInteger remainingPages = new AtomicInteger(4);
+        final PageAggregator.Page<String> page = PageAggregator.aggregated(Integer.MAX_VALUE,
+                () -> remainingPages.decrementAndGet() > 0 ? 60_000L : 0L)
+                .aggregate(null, this::listPage, PageAggregatorTest::itemsOf, PageAggregatorTest::nextTokenOf);
+
+        assertThat(page.getItems()).hasSize(4 * PAGE_SIZE);
+        assertThat(page.getNextToken()).isEqualTo("4");
+    }
+
+    @Test
+    public void testPrefetchReadsNoPageItDoesNotReturn() {
+        final PageAggregator.Page<String> page = PageAggregator.withinTimeBudget().aggregateWithPrefetch(
+                null,
+                nextToken -> CompletableFuture.completedFuture(listPage(nextToken)),
+                PageAggregatorTest::itemsOf,
+                response -> response.size() - 1,
+                PageAggregatorTest::nextTokenOf);
+
+        assertThat(page.getItems()).hasSize(3 * PAGE_SIZE);
+        assertThat(page.getNextToken()).isEqualTo("3");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testPrefetchFillsPagesShortenedByTranslation() {
+        // Every page loses half of its entries, so 20 raw entries per page yield 10 models
+        final PageAggregator.Page<String> page = PageAggregator.withinTimeBudget().aggregateWithPrefetch(
+                null,
+                nextToken -> CompletableFuture.completedFuture(listPage(nextToken)),
+                response -> itemsOf(response).subList(0, PAGE_SIZE / 2),
+                response -> response.size() - 1,
+                PageAggregatorTest::nextTokenOf);
+
+        assertThat(page.getItems()).hasSize(PageAggregator.DEFAULT_MAX_ITEMS);
+        assertThat(page.getNextToken()).isEqualTo("5");
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void testPrefetchRethrowsPageFailure() {
+        final IllegalStateException failure = new IllegalStateException("throttled");
+        final CompletableFuture<List<String>> failedPage = new CompletableFuture<>();
+        failedPage.completeExceptionally(failure);
+
+        assertThat(assertThrows(IllegalStateException.class, () -> PageAggregator.withinTimeBudget()
+                .aggregateWithPrefetch(null, nextToken -> failedPage, PageAggregatorTest::itemsOf,
+                        List::size, PageAggregatorTest::nextTokenOf))).isSameAs(failure);
+    }
+
+    /**
+     * Returns the items of one page followed by the next token, or null after the last page.
+     */
+    private List<String> listPage(final String nextToken) {
+        calls.incrementAndGet();
+        final int page = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        final List<String> response = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            response.add("item" + (page * PAGE_SIZE + i));
+        }
+        response.add(page + 1 < PAGES ? Integer.toString(page + 1) : null);
+        return response;
+    }
+
+    private static List<String> itemsOf(final List<String> response) {
+        return response.subList(0, response.size() - 1);
+    }
+
+    private static String nextTokenOf(final List<String> response) {
+        return response.get(response.size() - 1);
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.athena.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.TooManyRequestsException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ApiCallEventTest {
+    private static final String RESOURCE_TYPE = "AWS::Athena::WorkGroup";
+
+    private Recording recording;
+
+    @BeforeEach
+    public void setup() {
+        recording = new Recording();
+        recording.enable(ApiCallEvent.NAME).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        recording.close();
+    }
+
+    @Test
+    public void testApiCallsAreRecorded() throws IOException {
+        final TooManyRequestsException throttled = TooManyRequestsException.builder()
+                .message("Rate exceeded")
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("TooManyRequestsException").build())
+                .build();
+
+        ApiCallMetrics.instrument(line -> { }, RESOURCE_TYPE, (GetWorkGroupRequest request) ->
+                GetWorkGroupResponse.builder().build())
+                .apply(GetWorkGroupRequest.builder().workGroup("primary").build());
+        assertThrows(TooManyRequestsException.class, () -> ApiCallMetrics.instrument(line -> { }, RESOURCE_TYPE,
+                (GetWorkGroupRequest request) -> {
+                    throw throttled;
+                }).apply(GetWorkGroupRequest.builder().workGroup("primary").build()));
+
+        final List<RecordedEvent> apiCalls = recordedEvents();
+        assertThat(apiCalls).hasSize(2);
+        assertThat(apiCalls.get(0).getString("resourceType")).isEqualTo(RESOURCE_TYPE);
+        assertThat(apiCalls.get(0).getString("operation")).isEqualTo("GetWorkGroup");
+        assertThat(apiCalls.get(0).getBoolean("throttled")).isFalse();
+        assertThat(apiCalls.get(0).getString("errorCode")).isNull();
+        assertThat(apiCalls.get(1).getBoolean("throttled")).isTrue();
+        assertThat(apiCalls.get(1).getString("errorCode")).isEqualTo("TooManyRequestsException");
+    }
+
+    private List<RecordedEvent> recordedEvents() throws IOException {
+        recording.stop();
+        final Path dump = Files.createTempFile("athena-handlers", ".jfr");
+        try {
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(ApiCallEvent.NAME))
+                    .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(dump);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package software.amazon.athena.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupResponse;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsRequest;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsResponse;
+import software.amazon.awssdk.services.athena.model.TooManyRequestsException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ApiCallMetricsTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESOURCE_TYPE = "AWS::Athena::WorkGroup";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private List<String> logLines;
+
+    @BeforeEach
+    public void setup() {
+        logLines = new ArrayList<>();
+    }
+
+    @Test
+    public void testSuccessfulCallIsMeasured() throws IOException {
+        final GetWorkGroupResponse response = GetWorkGroupResponse.builder().build();
+
+        assertThat(ApiCallMetrics.instrument(logLines::add, RESOURCE_TYPE, (GetWorkGroupRequest request) -> response)
+                .apply(GetWorkGroupRequest.builder().workGroup("primary").build())).isSameAs(response);
+
+        final JsonNode line = singleLine();
+        assertThat(line.path("_aws").path("CloudWatchMetrics").get(0).path("Namespace").asText())
+                .isEqualTo(EmbeddedMetrics.NAMESPACE);
+        assertThat(line.path(EmbeddedMetrics.DIMENSION_RESOURCE_TYPE).asText()).isEqualTo(RESOURCE_TYPE);
+        assertThat(line.path(EmbeddedMetrics.DIMENSION_OPERATION).asText()).isEqualTo("GetWorkGroup");
+        final List<String> metricNames = new ArrayList<>();
+        line.path("_aws").path("CloudWatchMetrics").get(0).path("Metrics")
+                .forEach(metric -> metricNames.add(metric.path("Name").asText()));
+        assertThat(metricNames).containsExactly(ApiCallMetrics.LATENCY_METRIC, ApiCallMetrics.RETRY_COUNT_METRIC,
+                ApiCallMetrics.THROTTLED_METRIC, ApiCallMetrics.ERROR_METRIC);
+        assertThat(line.path(ApiCallMetrics.LATENCY_METRIC).isNumber()).isTrue();
+        assertThat(line.path(ApiCallMetrics.RETRY_COUNT_METRIC).asLong()).isEqualTo(0L);
+        assertThat(line.path(ApiCallMetrics.THROTTLED_METRIC).asLong()).isEqualTo(0L);
+        assertThat(line.path(ApiCallMetrics.ERROR_METRIC).asLong()).isEqualTo(0L);
+        assertThat(line.has(ApiCallMetrics.ERROR_CODE_PROPERTY)).isFalse();
+    }
+
+    @Test
+    public void testThrottledCallIsMeasured() throws IOException {
+        final TooManyRequestsException throttled = TooManyRequestsException.builder()
+                .message("Rate exceeded")
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("TooManyRequestsException").build())
+                .build();
+
+        assertThrows(TooManyRequestsException.class, () -> ApiCallMetrics.instrument(logLines::add, RESOURCE_TYPE,
+                (ListWorkGroupsRequest request) -> {
+                    throw throttled;
+                }).apply(ListWorkGroupsRequest.builder().build()));
+
+        final JsonNode line = singleLine();
+        assertThat(line.path(EmbeddedMetrics.DIMENSION_OPERATION).asText()).isEqualTo("ListWorkGroups");
+        assertThat(line.path(ApiCallMetrics.THROTTLED_METRIC).asLong()).isEqualTo(1L);
+        assertThat(line.path(ApiCallMetrics.ERROR_METRIC).asLong()).isEqualTo(1L);
+        assertThat(line.path(ApiCallMetrics.ERROR_CODE_PROPERTY).asText()).isEqualTo("TooManyRequestsException");
+    }
+
+    @Test
+    public void testAsyncCallIsMeasuredOnCompletion() throws IOException {
+        final CompletableFuture<ListWorkGroupsResponse> pending = new CompletableFuture<>();
+
+        final CompletableFuture<ListWorkGroupsResponse> response = ApiCallMetrics.instrumentAsync(logLines::add,
+                RESOURCE_TYPE, (ListWorkGroupsRequest request) -> pending).apply(ListWorkGroupsRequest.builder().build());
+
+        assertThat(response).isSameAs(pending);
+        assertThat(logLines).isEmpty();
+        pending.complete(ListWorkGroupsResponse.builder().build());
+        assertThat(singleLine().path(ApiCallMetrics.ERROR_METRIC).asLong()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testCancelledAsyncCallIsNotMeasured() {
+        final CompletableFuture<ListWorkGroupsResponse> pending = new CompletableFuture<>();
+
+        ApiCallMetrics.instrumentAsync(logLines::add, RESOURCE_TYPE, (ListWorkGroupsRequest request) -> pending)
+                .apply(ListWorkGroupsRequest.builder().build())
+                .cancel(true);
+
+        assertThat(logLines).isEmpty();
+    }
+
+    @Test
+    public void testRetriesAreReadFromSdkMetrics() throws IOException {
+        // Nothing listens on port 1, so every attempt fails to connect and is retried by the SDK without backoff
+        try (AthenaClient unreachableClient = AthenaClient.builder()
+                .httpClient(UrlConnectionHttpClient.create())
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .endpointOverride(URI.create("http://127.0.0.1:1"))
+                .overrideConfiguration(configuration -> configuration.retryStrategy(
+                        AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                                .backoffStrategy(BackoffStrategy.retryImmediately())
+                                .maxAttempts(MAX_ATTEMPTS)
+                                .build()))
+                .build()) {
+            assertThrows(SdkClientException.class, () -> ApiCallMetrics.instrument(logLines::add, RESOURCE_TYPE,
+                    (GetWorkGroupRequest request) -> unreachableClient.getWorkGroup(request))
+                    .apply(GetWorkGroupRequest.builder().workGroup("primary").build()));
+        }
+
+        final JsonNode line = singleLine();
+        assertThat(line.path(ApiCallMetrics.RETRY_COUNT_METRIC).asLong()).isEqualTo(MAX_ATTEMPTS - 1L);
+        assertThat(line.path(ApiCallMetrics.THROTTLED_METRIC).asLong()).isEqualTo(0L);
+        assertThat(line.path(ApiCallMetrics.ERROR_CODE_PROPERTY).asText()).isEqualTo("SdkClientException");
+    }
+
+    private JsonNode singleLine() throws IOException {
+        assertThat(logLines).hasSize(1);
+        return MAPPER.readTree(logLines.get(0));
+    }
+}
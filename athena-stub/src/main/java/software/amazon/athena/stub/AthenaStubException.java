@@ -0,0 +1,53 @@
+package software.amazon.athena.stub;
+
+/**
+ * An error the stub answers a request with. The SDK maps the error type to the modelled Athena exception,
+ * so handlers see the same exception classes and messages they match on against the real service.
+ */
+public class AthenaStubException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    static final String INVALID_REQUEST = "InvalidRequestException";
+    static final String RESOURCE_NOT_FOUND = "ResourceNotFoundException";
+    static final String INTERNAL_SERVER = "InternalServerException";
+    static final String UNKNOWN_OPERATION = "UnknownOperationException";
+    static final String ALREADY_EXISTS_ERROR_CODE = "ALREADY_EXISTS";
+
+    private final String errorType;
+    private final int statusCode;
+    private String athenaErrorCode;
+
+    public AthenaStubException(final String errorType, final int statusCode, final String message) {
+        super(message);
+        this.errorType = errorType;
+        this.statusCode = statusCode;
+    }
+
+    static AthenaStubException invalidRequest(final String format, final Object... args) {
+        return new AthenaStubException(INVALID_REQUEST, 400, String.format(format, args));
+    }
+
+    /**
+     * Sets the AthenaErrorCode member of the error, which the SDK exposes as InvalidRequestException.athenaErrorCode.
+     */
+    AthenaStubException withAthenaErrorCode(final String athenaErrorCode) {
+        this.athenaErrorCode = athenaErrorCode;
+        return this;
+    }
+
+    static AthenaStubException resourceNotFound(final String format, final Object... args) {
+        return new AthenaStubException(RESOURCE_NOT_FOUND, 400, String.format(format, args));
+    }
+
+    public String getErrorType() {
+        return errorType;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getAthenaErrorCode() {
+        return athenaErrorCode;
+    }
+}
@@ -0,0 +1,262 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-process Athena endpoint for offline end-to-end handler runs. It speaks the AWS JSON 1.1 protocol on
+ * loopback HTTP and keeps workgroups, named queries, prepared statements, data catalogs, capacity reservations
+ * and tags in memory, so the real SDK clients the handlers build can be pointed at it with an endpoint override.
+ * Signatures are not checked; any credentials are accepted. A {@link FaultProfile} adds seeded latency,
+ * throttling, internal errors and slow status transitions.
+ *
+ * <pre>
+ * try (AthenaStubServer server = AthenaStubServer.start()) {
+ *     System.setProperty("athena.endpoint", server.endpoint().toString());
+ *     ...
+ * }
+ * </pre>
+ */
+public final class AthenaStubServer implements AutoCloseable {
+    static final String TARGET_HEADER = "X-Amz-Target";
+    static final String TARGET_PREFIX = "AmazonAthena.";
+    static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    static final String REQUEST_ID_HEADER = "x-amzn-RequestId";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AthenaStubState state = new AthenaStubState();
+    private final Map<String, Operation> operations = new HashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicLong firstRequestMillis = new AtomicLong();
+    private volatile FaultInjector faultInjector;
+
+    private AthenaStubServer(final int port, final FaultProfile profile) throws IOException {
+        setFaultProfile(profile);
+        new WorkGroupOperations(state).registerWith(operations);
+        new NamedQueryOperations(state).registerWith(operations);
+        new PreparedStatementOperations(state).registerWith(operations);
+        new DataCatalogOperations(state).registerWith(operations);
+        new CapacityReservationOperations(state).registerWith(operations);
+        new TagOperations(state).registerWith(operations);
+
+        final AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "athena-stub-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Starts a stub on an ephemeral loopback port.
+     */
+    public static AthenaStubServer start() throws IOException {
+        return start(0, FaultProfile.NONE);
+    }
+
+    public static AthenaStubServer start(final FaultProfile profile) throws IOException {
+        return start(0, profile);
+    }
+
+    public static AthenaStubServer start(final int port, final FaultProfile profile) throws IOException {
+        return new AthenaStubServer(port, profile);
+    }
+
+    public URI endpoint() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    /**
+     * Drops every resource created so far, clears the request counts and restarts the fault profile from its
+     * seed, so the next run sees the same faults as the last.
+     */
+    public void reset() {
+        synchronized (state) {
+            state.reset();
+            faultInjector = new FaultInjector(state.profile);
+        }
+        requestCounts.clear();
+        firstRequestMillis.set(0L);
+    }
+
+    /**
+     * Switches to another fault profile, starting from its seed. Transitions already scheduled keep the duration
+     * they were scheduled with.
+     */
+    public void setFaultProfile(final FaultProfile profile) {
+        synchronized (state) {
+            state.profile = profile;
+            faultInjector = new FaultInjector(profile);
+        }
+    }
+
+    /**
+     * Number of calls answered with an injected TooManyRequestsException since the profile was last (re)started.
+     */
+    public long injectedThrottles() {
+        return faultInjector.getInjectedThrottles();
+    }
+
+    /**
+     * Number of calls answered with an injected InternalServerException since the profile was last (re)started.
+     */
+    public long injectedInternalErrors() {
+        return faultInjector.getInjectedInternalErrors();
+    }
+
+    /**
+     * Number of requests received per operation name since start or the last {@link #reset()}, including
+     * requests answered with an error.
+     */
+    public Map<String, Long> requestCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        requestCounts.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long requestCount(final String operation) {
+        final LongAdder count = requestCounts.get(operation);
+        return count == null ? 0L : count.sum();
+    }
+
+    /**
+     * Wall-clock time in epoch milliseconds at which the first request since start or the last {@link #reset()}
+     * arrived, or 0 when none has. Comparable with the start time of a client JVM on the same host.
+     */
+    public long firstRequestMillis() {
+        return firstRequestMillis.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        firstRequestMillis.compareAndSet(0L, System.currentTimeMillis());
+        try {
+            final String target = exchange.getRequestHeaders().getFirst(TARGET_HEADER);
+            final String operationName = target != null && target.startsWith(TARGET_PREFIX)
+                    ? target.substring(TARGET_PREFIX.length())
+                    : null;
+            if (operationName != null) {
+                requestCounts.computeIfAbsent(operationName, key -> new LongAdder()).increment();
+            }
+            final Operation operation = operationName == null ? null : operations.get(operationName);
+            if (!"POST".equals(exchange.getRequestMethod()) || operation == null) {
+                throw new AthenaStubException(AthenaStubException.UNKNOWN_OPERATION, 400,
+                        String.format("Operation %s is not supported", target));
+            }
+
+            final ObjectNode request = readRequest(exchange.getRequestBody());
+            final FaultInjector.Decision fault = faultInjector.next(operationName);
+            if (fault.latencyMillis > 0) {
+                Thread.sleep(fault.latencyMillis);
+            }
+            if (fault.error != null) {
+                throw fault.error;
+            }
+            final ObjectNode response;
+            synchronized (state) {
+                state.applyDueTransitions();
+                response = operation.invoke(request);
+            }
+            respond(exchange, 200, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 500, error(AthenaStubException.INTERNAL_SERVER, "Interrupted"));
+        } catch (AthenaStubException e) {
+            final ObjectNode error = error(e.getErrorType(), e.getMessage());
+            if (e.getAthenaErrorCode() != null) {
+                error.put("AthenaErrorCode", e.getAthenaErrorCode());
+            }
+            respond(exchange, e.getStatusCode(), error);
+        } catch (RuntimeException e) {
+            respond(exchange, 500, error(AthenaStubException.INTERNAL_SERVER, String.valueOf(e)));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static ObjectNode readRequest(final InputStream body) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[8192];
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        if (buffer.size() == 0) {
+            return StubJson.object();
+        }
+        final JsonNode request;
+        try {
+            request = StubJson.MAPPER.readTree(buffer.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new AthenaStubException("SerializationException", 400, e.getOriginalMessage());
+        }
+        if (!request.isObject()) {
+            throw AthenaStubException.invalidRequest("Request body must be a JSON object");
+        }
+        return (ObjectNode) request;
+    }
+
+    private static ObjectNode error(final String errorType, final String message) {
+        final ObjectNode error = StubJson.object();
+        error.put("__type", errorType);
+        error.put("Message", message);
+        return error;
+    }
+
+    private static void respond(final HttpExchange exchange, final int statusCode, final ObjectNode body) throws IOException {
+        final byte[] bytes = StubJson.MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set(REQUEST_ID_HEADER, UUID.randomUUID().toString());
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        final OutputStream out = exchange.getResponseBody();
+        out.write(bytes);
+        out.flush();
+    }
+
+    /**
+     * Runs a stub until the process is interrupted, on the port given as the first argument (default 4566).
+     * A seed as the second argument serves {@link FaultProfile#badDay(long)} instead of a fault-free stub.
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final AthenaStubServer server = start(args.length > 0 ? Integer.parseInt(args[0]) : 4566,
+                args.length > 1 ? FaultProfile.badDay(Long.parseLong(args[1])) : FaultProfile.NONE);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Athena stub listening on " + server.endpoint());
+        while (!Thread.currentThread().isInterrupted()) {
+            TimeUnit.SECONDS.sleep(60);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory state of the stubbed account. Like a fresh account, it starts with the "primary" workgroup and the
+ * "AwsDataCatalog" catalog, neither of which can be deleted. Asynchronous status changes are scheduled as
+ * transitions that are applied before the first call made after they are due.
+ */
+final class AthenaStubState {
+    static final String PRIMARY_WORK_GROUP = "primary";
+    static final String DEFAULT_DATA_CATALOG = "AwsDataCatalog";
+    static final String ACCOUNT_ID = "123456789012";
+    static final String REGION = "us-east-1";
+
+    final Map<String, ObjectNode> workGroups = new TreeMap<>();
+    final Map<String, ObjectNode> namedQueries = new LinkedHashMap<>();
+    final Map<String, String> namedQueryIdsByClientRequestToken = new HashMap<>();
+    final Map<String, Map<String, ObjectNode>> preparedStatements = new HashMap<>();
+    final Map<String, ObjectNode> dataCatalogs = new TreeMap<>();
+    final Map<String, ObjectNode> capacityReservations = new TreeMap<>();
+    final Map<String, ObjectNode> capacityAssignmentConfigurations = new HashMap<>();
+    // Keyed by the resource part of the ARN ("workgroup/name"), so any partition, region or account matches
+    final Map<String, Map<String, String>> tags = new HashMap<>();
+    // At most one pending transition per resource, keyed like tags
+    private final Map<String, PendingTransition> transitions = new LinkedHashMap<>();
+
+    FaultProfile profile = FaultProfile.NONE;
+
+    private static final class PendingTransition {
+        final long dueNanos;
+        final Runnable apply;
+
+        PendingTransition(final long dueNanos, final Runnable apply) {
+            this.dueNanos = dueNanos;
+            this.apply = apply;
+        }
+    }
+
+    AthenaStubState() {
+        reset();
+    }
+
+    void reset() {
+        workGroups.clear();
+        namedQueries.clear();
+        namedQueryIdsByClientRequestToken.clear();
+        preparedStatements.clear();
+        dataCatalogs.clear();
+        capacityReservations.clear();
+        capacityAssignmentConfigurations.clear();
+        tags.clear();
+        transitions.clear();
+
+        workGroups.put(PRIMARY_WORK_GROUP, WorkGroupOperations.newWorkGroup(PRIMARY_WORK_GROUP, StubJson.object()));
+        dataCatalogs.put(DEFAULT_DATA_CATALOG, DataCatalogOperations.newDataCatalog(DEFAULT_DATA_CATALOG, "GLUE"));
+    }
+
+    ObjectNode requireWorkGroup(final String name) {
+        final ObjectNode workGroup = workGroups.get(name);
+        if (workGroup == null) {
+            throw AthenaStubException.invalidRequest("WorkGroup %s is not found.", name);
+        }
+        return workGroup;
+    }
+
+    /**
+     * Runs the transition once the delay has passed, replacing any transition still pending for the resource.
+     * A zero delay runs it immediately.
+     */
+    void schedule(final String resource, final Duration delay, final Runnable transition) {
+        transitions.remove(resource);
+        if (delay.isZero() || delay.isNegative()) {
+            transition.run();
+        } else {
+            transitions.put(resource, new PendingTransition(System.nanoTime() + delay.toNanos(), transition));
+        }
+    }
+
+    void cancelTransition(final String resource) {
+        transitions.remove(resource);
+    }
+
+    void applyDueTransitions() {
+        final long now = System.nanoTime();
+        final Iterator<PendingTransition> pending = transitions.values().iterator();
+        while (pending.hasNext()) {
+            final PendingTransition transition = pending.next();
+            if (now - transition.dueNanos >= 0) {
+                pending.remove();
+                transition.apply.run();
+            }
+        }
+    }
+
+    static String arn(final String resource) {
+        return String.format("arn:aws:athena:%s:%s:%s", REGION, ACCOUNT_ID, resource);
+    }
+
+    static String arnResource(final String arn) {
+        if (arn == null || !arn.startsWith("arn:") || arn.split(":", -1).length < 6) {
+            throw AthenaStubException.invalidRequest("Invalid ResourceARN %s", arn);
+        }
+        return arn.substring(arn.lastIndexOf(':') + 1);
+    }
+
+    void putTags(final String resource, final Map<String, String> resourceTags) {
+        if (!resourceTags.isEmpty()) {
+            tags.computeIfAbsent(resource, key -> new LinkedHashMap<>()).putAll(resourceTags);
+        }
+    }
+
+    void removeTags(final String resource) {
+        tags.remove(resource);
+    }
+}
@@ -0,0 +1,166 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CreateCapacityReservation, GetCapacityReservation, UpdateCapacityReservation, CancelCapacityReservation,
+ * DeleteCapacityReservation, ListCapacityReservations, PutCapacityAssignmentConfiguration and
+ * GetCapacityAssignmentConfiguration. A new reservation is PENDING, a resized one UPDATE_PENDING and a cancelled
+ * one CANCELLING for as long as the {@link FaultProfile} says, after which its allocation succeeds or it is
+ * CANCELLED. Without a profile every transition is immediate.
+ */
+final class CapacityReservationOperations {
+    private static final String PENDING = "PENDING";
+    private static final String ACTIVE = "ACTIVE";
+    private static final String UPDATE_PENDING = "UPDATE_PENDING";
+    private static final String CANCELLING = "CANCELLING";
+    private static final String CANCELLED = "CANCELLED";
+    private static final String RESOURCE_PREFIX = "capacity-reservation/";
+
+    private final AthenaStubState state;
+
+    CapacityReservationOperations(final AthenaStubState state) {
+        this.state = state;
+    }
+
+    void registerWith(final Map<String, Operation> operations) {
+        operations.put("CreateCapacityReservation", this::createCapacityReservation);
+        operations.put("GetCapacityReservation", this::getCapacityReservation);
+        operations.put("UpdateCapacityReservation", this::updateCapacityReservation);
+        operations.put("CancelCapacityReservation", this::cancelCapacityReservation);
+        operations.put("DeleteCapacityReservation", this::deleteCapacityReservation);
+        operations.put("ListCapacityReservations", this::listCapacityReservations);
+        operations.put("PutCapacityAssignmentConfiguration", this::putCapacityAssignmentConfiguration);
+        operations.put("GetCapacityAssignmentConfiguration", this::getCapacityAssignmentConfiguration);
+    }
+
+    private ObjectNode createCapacityReservation(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "Name");
+        if (state.capacityReservations.containsKey(name)) {
+            throw AthenaStubException.invalidRequest("Capacity reservation %s already exists", name);
+        }
+        final ObjectNode capacityReservation = StubJson.object();
+        capacityReservation.put("Name", name);
+        capacityReservation.put("CreationTime", StubJson.now());
+        capacityReservation.put("AllocatedDpus", 0);
+        requestAllocation(capacityReservation, PENDING, StubJson.requiredInt(request, "TargetDpus"),
+                state.profile.getCapacityReservationActivation());
+        state.capacityReservations.put(name, capacityReservation);
+        state.putTags(RESOURCE_PREFIX + name, StubJson.tags(request.get("Tags")));
+        return StubJson.object();
+    }
+
+    private ObjectNode getCapacityReservation(final ObjectNode request) {
+        final ObjectNode response = StubJson.object();
+        response.set("CapacityReservation", requireCapacityReservation(StubJson.requiredText(request, "Name")).deepCopy());
+        return response;
+    }
+
+    private ObjectNode updateCapacityReservation(final ObjectNode request) {
+        final ObjectNode capacityReservation = requireModifiable(StubJson.requiredText(request, "Name"));
+        requestAllocation(capacityReservation, UPDATE_PENDING, StubJson.requiredInt(request, "TargetDpus"),
+                state.profile.getCapacityReservationUpdate());
+        return StubJson.object();
+    }
+
+    private ObjectNode cancelCapacityReservation(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "Name");
+        final ObjectNode capacityReservation = requireModifiable(name);
+        capacityReservation.put("Status", CANCELLING);
+        state.schedule(RESOURCE_PREFIX + name, state.profile.getCapacityReservationCancellation(), () -> {
+            capacityReservation.put("Status", CANCELLED);
+            capacityReservation.put("AllocatedDpus", 0);
+        });
+        return StubJson.object();
+    }
+
+    private ObjectNode deleteCapacityReservation(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "Name");
+        final ObjectNode capacityReservation = requireCapacityReservation(name);
+        if (!CANCELLED.equals(capacityReservation.get("Status").asText())) {
+            throw AthenaStubException.invalidRequest("Capacity reservation %s must be cancelled before it is deleted", name);
+        }
+        state.capacityReservations.remove(name);
+        state.capacityAssignmentConfigurations.remove(name);
+        state.cancelTransition(RESOURCE_PREFIX + name);
+        state.removeTags(RESOURCE_PREFIX + name);
+        return StubJson.object();
+    }
+
+    private ObjectNode listCapacityReservations(final ObjectNode request) {
+        final List<ObjectNode> capacityReservations = new ArrayList<>(state.capacityReservations.values());
+        return StubJson.page(request, capacityReservations, "CapacityReservations", 50);
+    }
+
+    private ObjectNode putCapacityAssignmentConfiguration(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "CapacityReservationName");
+        requireModifiable(name);
+        request.path("CapacityAssignments").forEach(capacityAssignment ->
+                capacityAssignment.path("WorkGroupNames").forEach(workGroup -> state.requireWorkGroup(workGroup.asText())));
+
+        final ObjectNode capacityAssignmentConfiguration = StubJson.object();
+        capacityAssignmentConfiguration.put("CapacityReservationName", name);
+        capacityAssignmentConfiguration.set("CapacityAssignments", request.path("CapacityAssignments").deepCopy());
+        if (!capacityAssignmentConfiguration.get("CapacityAssignments").isArray()) {
+            capacityAssignmentConfiguration.putArray("CapacityAssignments");
+        }
+        state.capacityAssignmentConfigurations.put(name, capacityAssignmentConfiguration);
+        return StubJson.object();
+    }
+
+    private ObjectNode getCapacityAssignmentConfiguration(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "CapacityReservationName");
+        requireCapacityReservation(name);
+        final ObjectNode capacityAssignmentConfiguration = state.capacityAssignmentConfigurations.get(name);
+        if (capacityAssignmentConfiguration == null) {
+            throw AthenaStubException.invalidRequest("Capacity assignment configuration for %s not found", name);
+        }
+        final ObjectNode response = StubJson.object();
+        response.set("CapacityAssignmentConfiguration", capacityAssignmentConfiguration.deepCopy());
+        return response;
+    }
+
+    private void requestAllocation(final ObjectNode capacityReservation,
+                                   final String pendingStatus,
+                                   final int targetDpus,
+                                   final Duration duration) {
+        final double requestTime = StubJson.now();
+        capacityReservation.put("Status", pendingStatus);
+        capacityReservation.put("TargetDpus", targetDpus);
+        capacityReservation.putObject("LastAllocation")
+                .put("Status", "PENDING")
+                .put("RequestTime", requestTime);
+        state.schedule(RESOURCE_PREFIX + capacityReservation.get("Name").asText(), duration, () -> {
+            final double now = StubJson.now();
+            capacityReservation.put("Status", ACTIVE);
+            capacityReservation.put("AllocatedDpus", targetDpus);
+            capacityReservation.putObject("LastAllocation")
+                    .put("Status", "SUCCEEDED")
+                    .put("RequestTime", requestTime)
+                    .put("RequestCompletionTime", now);
+            capacityReservation.put("LastSuccessfulAllocationTime", now);
+        });
+    }
+
+    private ObjectNode requireCapacityReservation(final String name) {
+        final ObjectNode capacityReservation = state.capacityReservations.get(name);
+        if (capacityReservation == null) {
+            throw AthenaStubException.invalidRequest("Capacity reservation %s not found", name);
+        }
+        return capacityReservation;
+    }
+
+    private ObjectNode requireModifiable(final String name) {
+        final ObjectNode capacityReservation = requireCapacityReservation(name);
+        final String status = capacityReservation.get("Status").asText();
+        if (CANCELLING.equals(status) || CANCELLED.equals(status)) {
+            throw AthenaStubException.invalidRequest("Reservation cannot be modified when state is %s", status);
+        }
+        return capacityReservation;
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CreateDataCatalog, GetDataCatalog, UpdateDataCatalog, DeleteDataCatalog and ListDataCatalogs.
+ * A FEDERATED catalog is CREATE_IN_PROGRESS or DELETE_IN_PROGRESS for as long as the {@link FaultProfile}
+ * says, and a deleted one then stays listed as DELETE_COMPLETE, as it does in the service. Other catalogs are
+ * created and removed outright.
+ */
+final class DataCatalogOperations {
+    private static final String FEDERATED = "FEDERATED";
+    private static final String CREATE_IN_PROGRESS = "CREATE_IN_PROGRESS";
+    private static final String CREATE_COMPLETE = "CREATE_COMPLETE";
+    private static final String DELETE_IN_PROGRESS = "DELETE_IN_PROGRESS";
+    private static final String DELETE_COMPLETE = "DELETE_COMPLETE";
+    private static final String RESOURCE_PREFIX = "datacatalog/";
+
+    private final AthenaStubState state;
+
+    DataCatalogOperations(final AthenaStubState state) {
+        this.state = state;
+    }
+
+    void registerWith(final Map<String, Operation> operations) {
+        operations.put("CreateDataCatalog", this::createDataCatalog);
+        operations.put("GetDataCatalog", this::getDataCatalog);
+        operations.put("UpdateDataCatalog", this::updateDataCatalog);
+        operations.put("DeleteDataCatalog", this::deleteDataCatalog);
+        operations.put("ListDataCatalogs", this::listDataCatalogs);
+    }
+
+    static ObjectNode newDataCatalog(final String name, final String type) {
+        final ObjectNode dataCatalog = StubJson.object();
+        dataCatalog.put("Name", name);
+        dataCatalog.put("Type", type);
+        dataCatalog.put("Status", CREATE_COMPLETE);
+        dataCatalog.putObject("Parameters");
+        return dataCatalog;
+    }
+
+    private ObjectNode createDataCatalog(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "Name");
+        final ObjectNode existing = state.dataCatalogs.get(name);
+        if (existing != null && !DELETE_COMPLETE.equals(existing.path("Status").asText())) {
+            throw AthenaStubException.invalidRequest("DataCatalog %s has already been created", name);
+        }
+        final ObjectNode dataCatalog = newDataCatalog(name, StubJson.requiredText(request, "Type"));
+        applyDataCatalog(request, dataCatalog);
+        state.dataCatalogs.put(name, dataCatalog);
+        state.putTags(RESOURCE_PREFIX + name, StubJson.tags(request.get("Tags")));
+        if (FEDERATED.equals(dataCatalog.get("Type").asText())) {
+            dataCatalog.put("Status", CREATE_IN_PROGRESS);
+            state.schedule(RESOURCE_PREFIX + name, state.profile.getFederatedCatalogCreation(),
+                    () -> dataCatalog.put("Status", CREATE_COMPLETE));
+        } else {
+            state.cancelTransition(RESOURCE_PREFIX + name);
+        }
+
+        final ObjectNode response = StubJson.object();
+        response.set("DataCatalog", dataCatalog.deepCopy());
+        return response;
+    }
+
+    private ObjectNode getDataCatalog(final ObjectNode request) {
+        final ObjectNode response = StubJson.object();
+        response.set("DataCatalog", requireDataCatalog(StubJson.requiredText(request, "Name"), true).deepCopy());
+        return response;
+    }
+
+    private ObjectNode updateDataCatalog(final ObjectNode request) {
+        final ObjectNode dataCatalog = requireDataCatalog(StubJson.requiredText(request, "Name"), false);
+        dataCatalog.put("Type", StubJson.requiredText(request, "Type"));
+        applyDataCatalog(request, dataCatalog);
+        return StubJson.object();
+    }
+
+    private ObjectNode deleteDataCatalog(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "Name");
+        final ObjectNode dataCatalog = requireDataCatalog(name, false);
+        if (AthenaStubState.DEFAULT_DATA_CATALOG.equals(name)) {
+            throw AthenaStubException.invalidRequest("DataCatalog %s cannot be deleted", name);
+        }
+        if (FEDERATED.equals(dataCatalog.path("Type").asText())) {
+            dataCatalog.put("Status", DELETE_IN_PROGRESS);
+            state.schedule(RESOURCE_PREFIX + name, state.profile.getFederatedCatalogDeletion(),
+                    () -> dataCatalog.put("Status", DELETE_COMPLETE));
+        } else {
+            state.dataCatalogs.remove(name);
+            state.cancelTransition(RESOURCE_PREFIX + name);
+        }
+        state.removeTags(RESOURCE_PREFIX + name);
+
+        final ObjectNode response = StubJson.object();
+        response.set("DataCatalog", dataCatalog.deepCopy());
+        return response;
+    }
+
+    private ObjectNode listDataCatalogs(final ObjectNode request) {
+        final List<ObjectNode> summaries = new ArrayList<>();
+        state.dataCatalogs.values().forEach(dataCatalog -> {
+            final ObjectNode summary = StubJson.object();
+            summary.set("CatalogName", dataCatalog.get("Name"));
+            summary.set("Type", dataCatalog.get("Type"));
+            summary.set("Status", dataCatalog.get("Status"));
+            StubJson.copyMember(dataCatalog, summary, "ConnectionType");
+            StubJson.copyMember(dataCatalog, summary, "Error");
+            summaries.add(summary);
+        });
+        return StubJson.page(request, summaries, "DataCatalogsSummary", 50);
+    }
+
+    private static void applyDataCatalog(final ObjectNode request, final ObjectNode dataCatalog) {
+        StubJson.copyMember(request, dataCatalog, "Description");
+        if (request.has("Parameters")) {
+            dataCatalog.set("Parameters", request.get("Parameters").deepCopy());
+        } else {
+            dataCatalog.putObject("Parameters");
+        }
+    }
+
+    private ObjectNode requireDataCatalog(final String name, final boolean includeDeleted) {
+        final ObjectNode dataCatalog = state.dataCatalogs.get(name);
+        if (dataCatalog == null || !includeDeleted && DELETE_COMPLETE.equals(dataCatalog.path("Status").asText())) {
+            throw AthenaStubException.invalidRequest("DataCatalog %s was not found", name);
+        }
+        return dataCatalog;
+    }
+}
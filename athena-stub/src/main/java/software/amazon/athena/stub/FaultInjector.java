@@ -0,0 +1,80 @@
+package software.amazon.athena.stub;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Draws the latency and injected error of each call from a {@link FaultProfile}. Each operation has its own
+ * random sources derived from the profile seed and its own internal error burst, so interleaving calls to
+ * different operations across threads does not change what any one operation sees.
+ */
+final class FaultInjector {
+    static final String TOO_MANY_REQUESTS = "TooManyRequestsException";
+
+    private final FaultProfile profile;
+    private final Map<String, OperationFaults> operations = new HashMap<>();
+    private long injectedThrottles;
+    private long injectedInternalErrors;
+
+    FaultInjector(final FaultProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * The random sources and the burst in progress of one operation. Bursts draw from a source of their own,
+     * so latencies and throttles replay the same whether or not bursts are configured.
+     */
+    private static final class OperationFaults {
+        final Random random;
+        final Random burstRandom;
+        int burstRemaining;
+
+        OperationFaults(final long seed) {
+            this.random = new Random(seed);
+            this.burstRandom = new Random(~seed);
+        }
+    }
+
+    static final class Decision {
+        final long latencyMillis;
+        final AthenaStubException error;
+
+        Decision(final long latencyMillis, final AthenaStubException error) {
+            this.latencyMillis = latencyMillis;
+            this.error = error;
+        }
+    }
+
+    synchronized Decision next(final String operation) {
+        final OperationFaults faults = operations.computeIfAbsent(operation,
+                key -> new OperationFaults(profile.getSeed() * 31 + key.hashCode()));
+        final long latencyMillis = Math.max(0L, profile.latencyOf(operation).sampleMillis(faults.random));
+
+        if (faults.burstRemaining == 0 && profile.getInternalErrorBurstRate() > 0
+                && faults.burstRandom.nextDouble() < profile.getInternalErrorBurstRate()) {
+            faults.burstRemaining = profile.getInternalErrorBurstLength();
+        }
+        if (faults.burstRemaining > 0) {
+            faults.burstRemaining--;
+            injectedInternalErrors++;
+            return new Decision(latencyMillis, new AthenaStubException(
+                    AthenaStubException.INTERNAL_SERVER, 500, "Internal server error (injected)"));
+        }
+
+        final double throttleRate = profile.throttleRateOf(operation);
+        if (throttleRate > 0 && faults.random.nextDouble() < throttleRate) {
+            injectedThrottles++;
+            return new Decision(latencyMillis, new AthenaStubException(TOO_MANY_REQUESTS, 400, "Rate exceeded"));
+        }
+        return new Decision(latencyMillis, null);
+    }
+
+    synchronized long getInjectedThrottles() {
+        return injectedThrottles;
+    }
+
+    synchronized long getInjectedInternalErrors() {
+        return injectedInternalErrors;
+    }
+}
@@ -0,0 +1,224 @@
+package software.amazon.athena.stub;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What the stub injects into its responses: per-operation latency, TooManyRequestsException rates,
+ * bursts of InternalServerException, and how long asynchronous state transitions take. Every random choice
+ * is drawn from a source seeded by {@link Builder#seed(long)}, with separate sources per operation, so the same
+ * profile replays the same faults for the same sequence of calls to each operation, however calls to different
+ * operations interleave.
+ *
+ * <p>{@link #NONE} answers every call immediately and completes every transition at once.
+ */
+public final class FaultProfile {
+    public static final FaultProfile NONE = builder().build();
+
+    private final long seed;
+    private final Latency defaultLatency;
+    private final Map<String, Latency> latencies;
+    private final double defaultThrottleRate;
+    private final Map<String, Double> throttleRates;
+    private final double internalErrorBurstRate;
+    private final int internalErrorBurstLength;
+    private final Duration capacityReservationActivation;
+    private final Duration capacityReservationUpdate;
+    private final Duration capacityReservationCancellation;
+    private final Duration federatedCatalogCreation;
+    private final Duration federatedCatalogDeletion;
+
+    private FaultProfile(final Builder builder) {
+        this.seed = builder.seed;
+        this.defaultLatency = builder.defaultLatency;
+        this.latencies = Collections.unmodifiableMap(new HashMap<>(builder.latencies));
+        this.defaultThrottleRate = builder.defaultThrottleRate;
+        this.throttleRates = Collections.unmodifiableMap(new HashMap<>(builder.throttleRates));
+        this.internalErrorBurstRate = builder.internalErrorBurstRate;
+        this.internalErrorBurstLength = builder.internalErrorBurstLength;
+        this.capacityReservationActivation = builder.capacityReservationActivation;
+        this.capacityReservationUpdate = builder.capacityReservationUpdate;
+        this.capacityReservationCancellation = builder.capacityReservationCancellation;
+        this.federatedCatalogCreation = builder.federatedCatalogCreation;
+        this.federatedCatalogDeletion = builder.federatedCatalogDeletion;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A degraded but working service: 40ms median latency with a long tail, 5% throttling, an occasional
+     * burst of three internal errors, capacity reservations that take tens of seconds to settle and federated
+     * catalogs that take a few seconds to create or delete.
+     */
+    public static FaultProfile badDay(final long seed) {
+        return builder()
+                .seed(seed)
+                .latency(Latency.logNormal(Duration.ofMillis(40), 0.5))
+                .throttleRate(0.05)
+                .internalErrorBursts(0.01, 3)
+                .capacityReservationActivation(Duration.ofSeconds(30))
+                .capacityReservationUpdate(Duration.ofSeconds(20))
+                .capacityReservationCancellation(Duration.ofSeconds(10))
+                .federatedCatalogCreation(Duration.ofSeconds(5))
+                .federatedCatalogDeletion(Duration.ofSeconds(5))
+                .build();
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    Latency latencyOf(final String operation) {
+        return latencies.getOrDefault(operation, defaultLatency);
+    }
+
+    double throttleRateOf(final String operation) {
+        return throttleRates.getOrDefault(operation, defaultThrottleRate);
+    }
+
+    double getInternalErrorBurstRate() {
+        return internalErrorBurstRate;
+    }
+
+    int getInternalErrorBurstLength() {
+        return internalErrorBurstLength;
+    }
+
+    Duration getCapacityReservationActivation() {
+        return capacityReservationActivation;
+    }
+
+    Duration getCapacityReservationUpdate() {
+        return capacityReservationUpdate;
+    }
+
+    Duration getCapacityReservationCancellation() {
+        return capacityReservationCancellation;
+    }
+
+    Duration getFederatedCatalogCreation() {
+        return federatedCatalogCreation;
+    }
+
+    Duration getFederatedCatalogDeletion() {
+        return federatedCatalogDeletion;
+    }
+
+    public static final class Builder {
+        private long seed;
+        private Latency defaultLatency = Latency.NONE;
+        private final Map<String, Latency> latencies = new HashMap<>();
+        private double defaultThrottleRate;
+        private final Map<String, Double> throttleRates = new HashMap<>();
+        private double internalErrorBurstRate;
+        private int internalErrorBurstLength;
+        private Duration capacityReservationActivation = Duration.ZERO;
+        private Duration capacityReservationUpdate = Duration.ZERO;
+        private Duration capacityReservationCancellation = Duration.ZERO;
+        private Duration federatedCatalogCreation = Duration.ZERO;
+        private Duration federatedCatalogDeletion = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Latency of every operation without one of its own.
+         */
+        public Builder latency(final Latency latency) {
+            this.defaultLatency = latency;
+            return this;
+        }
+
+        public Builder latency(final String operation, final Latency latency) {
+            this.latencies.put(operation, latency);
+            return this;
+        }
+
+        /**
+         * Fraction of calls, from 0 to 1, answered with TooManyRequestsException, for every operation without
+         * a rate of its own.
+         */
+        public Builder throttleRate(final double rate) {
+            this.defaultThrottleRate = checkRate(rate);
+            return this;
+        }
+
+        public Builder throttleRate(final String operation, final double rate) {
+            this.throttleRates.put(operation, checkRate(rate));
+            return this;
+        }
+
+        /**
+         * Each call starts a burst with the given probability, failing it and the next length - 1 calls to the
+         * same operation with InternalServerException.
+         */
+        public Builder internalErrorBursts(final double rate, final int length) {
+            if (length < 1) {
+                throw new IllegalArgumentException("length must be at least 1");
+            }
+            this.internalErrorBurstRate = checkRate(rate);
+            this.internalErrorBurstLength = length;
+            return this;
+        }
+
+        /**
+         * How long a new capacity reservation stays PENDING before it becomes ACTIVE.
+         */
+        public Builder capacityReservationActivation(final Duration duration) {
+            this.capacityReservationActivation = duration;
+            return this;
+        }
+
+        /**
+         * How long a capacity reservation stays UPDATE_PENDING after its target DPUs change.
+         */
+        public Builder capacityReservationUpdate(final Duration duration) {
+            this.capacityReservationUpdate = duration;
+            return this;
+        }
+
+        /**
+         * How long a capacity reservation stays CANCELLING before it is CANCELLED.
+         */
+        public Builder capacityReservationCancellation(final Duration duration) {
+            this.capacityReservationCancellation = duration;
+            return this;
+        }
+
+        /**
+         * How long a new FEDERATED data catalog stays CREATE_IN_PROGRESS.
+         */
+        public Builder federatedCatalogCreation(final Duration duration) {
+            this.federatedCatalogCreation = duration;
+            return this;
+        }
+
+        /**
+         * How long a deleted FEDERATED data catalog stays DELETE_IN_PROGRESS.
+         */
+        public Builder federatedCatalogDeletion(final Duration duration) {
+            this.federatedCatalogDeletion = duration;
+            return this;
+        }
+
+        public FaultProfile build() {
+            return new FaultProfile(this);
+        }
+
+        private static double checkRate(final double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("rate must be between 0 and 1");
+            }
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.athena.stub;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * A distribution of response latencies, sampled from the seeded random source of a {@link FaultProfile}.
+ */
+public abstract class Latency {
+    public static final Latency NONE = fixed(Duration.ZERO);
+
+    Latency() {
+    }
+
+    abstract long sampleMillis(Random random);
+
+    public static Latency fixed(final Duration latency) {
+        final long millis = latency.toMillis();
+        return new Latency() {
+            @Override
+            long sampleMillis(final Random random) {
+                return millis;
+            }
+        };
+    }
+
+    /**
+     * Uniformly distributed between min and max, inclusive.
+     */
+    public static Latency uniform(final Duration min, final Duration max) {
+        final long minMillis = min.toMillis();
+        final long spread = max.toMillis() - minMillis;
+        if (spread < 0) {
+            throw new IllegalArgumentException("max must not be less than min");
+        }
+        return new Latency() {
+            @Override
+            long sampleMillis(final Random random) {
+                return minMillis + (long) (random.nextDouble() * (spread + 1));
+            }
+        };
+    }
+
+    /**
+     * Log-normally distributed around the median: most calls land near it with a long tail of slow ones,
+     * which is how service latencies usually look. A sigma of 0.5 puts the 99th percentile at about 3.2 times
+     * the median.
+     */
+    public static Latency logNormal(final Duration median, final double sigma) {
+        final double medianMillis = median.toMillis();
+        return new Latency() {
+            @Override
+            long sampleMillis(final Random random) {
+                return Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+    }
+}
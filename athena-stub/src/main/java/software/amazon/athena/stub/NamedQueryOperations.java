@@ -0,0 +1,105 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * CreateNamedQuery, GetNamedQuery, DeleteNamedQuery, ListNamedQueries and BatchGetNamedQuery.
+ */
+final class NamedQueryOperations {
+    private final AthenaStubState state;
+
+    NamedQueryOperations(final AthenaStubState state) {
+        this.state = state;
+    }
+
+    void registerWith(final Map<String, Operation> operations) {
+        operations.put("CreateNamedQuery", this::createNamedQuery);
+        operations.put("GetNamedQuery", this::getNamedQuery);
+        operations.put("DeleteNamedQuery", this::deleteNamedQuery);
+        operations.put("ListNamedQueries", this::listNamedQueries);
+        operations.put("BatchGetNamedQuery", this::batchGetNamedQuery);
+    }
+
+    private ObjectNode createNamedQuery(final ObjectNode request) {
+        final String clientRequestToken = StubJson.optionalText(request, "ClientRequestToken", null);
+        String namedQueryId = clientRequestToken == null ? null : state.namedQueryIdsByClientRequestToken.get(clientRequestToken);
+        if (namedQueryId == null) {
+            final String workGroup = StubJson.optionalText(request, "WorkGroup", AthenaStubState.PRIMARY_WORK_GROUP);
+            state.requireWorkGroup(workGroup);
+
+            namedQueryId = UUID.randomUUID().toString();
+            final ObjectNode namedQuery = StubJson.object();
+            namedQuery.put("Name", StubJson.requiredText(request, "Name"));
+            StubJson.copyMember(request, namedQuery, "Description");
+            namedQuery.put("Database", StubJson.requiredText(request, "Database"));
+            namedQuery.put("QueryString", StubJson.requiredText(request, "QueryString"));
+            namedQuery.put("NamedQueryId", namedQueryId);
+            namedQuery.put("WorkGroup", workGroup);
+            state.namedQueries.put(namedQueryId, namedQuery);
+            if (clientRequestToken != null) {
+                state.namedQueryIdsByClientRequestToken.put(clientRequestToken, namedQueryId);
+            }
+        }
+        final ObjectNode response = StubJson.object();
+        response.put("NamedQueryId", namedQueryId);
+        return response;
+    }
+
+    private ObjectNode getNamedQuery(final ObjectNode request) {
+        final ObjectNode response = StubJson.object();
+        response.set("NamedQuery", requireNamedQuery(StubJson.requiredText(request, "NamedQueryId")).deepCopy());
+        return response;
+    }
+
+    private ObjectNode deleteNamedQuery(final ObjectNode request) {
+        final String namedQueryId = StubJson.requiredText(request, "NamedQueryId");
+        requireNamedQuery(namedQueryId);
+        state.namedQueries.remove(namedQueryId);
+        state.namedQueryIdsByClientRequestToken.values().remove(namedQueryId);
+        return StubJson.object();
+    }
+
+    private ObjectNode listNamedQueries(final ObjectNode request) {
+        final String workGroup = StubJson.optionalText(request, "WorkGroup", AthenaStubState.PRIMARY_WORK_GROUP);
+        state.requireWorkGroup(workGroup);
+        final List<JsonNode> namedQueryIds = new ArrayList<>();
+        state.namedQueries.values().stream()
+                .filter(namedQuery -> workGroup.equals(namedQuery.get("WorkGroup").asText()))
+                .forEach(namedQuery -> namedQueryIds.add(TextNode.valueOf(namedQuery.get("NamedQueryId").asText())));
+        return StubJson.page(request, namedQueryIds, "NamedQueryIds", 50);
+    }
+
+    private ObjectNode batchGetNamedQuery(final ObjectNode request) {
+        final ObjectNode response = StubJson.object();
+        final ArrayNode namedQueries = response.putArray("NamedQueries");
+        final ArrayNode unprocessed = response.putArray("UnprocessedNamedQueryIds");
+        request.path("NamedQueryIds").forEach(id -> {
+            final ObjectNode namedQuery = state.namedQueries.get(id.asText());
+            if (namedQuery != null) {
+                namedQueries.add(namedQuery.deepCopy());
+            } else {
+                unprocessed.addObject()
+                        .put("NamedQueryId", id.asText())
+                        .put("ErrorCode", "INVALID_INPUT")
+                        .put("ErrorMessage", String.format("NamedQuery %s does not exist", id.asText()));
+            }
+        });
+        return response;
+    }
+
+    private ObjectNode requireNamedQuery(final String namedQueryId) {
+        final ObjectNode namedQuery = state.namedQueries.get(namedQueryId);
+        if (namedQuery == null) {
+            throw AthenaStubException.invalidRequest("NamedQuery %s does not exist", namedQueryId);
+        }
+        return namedQuery;
+    }
+}
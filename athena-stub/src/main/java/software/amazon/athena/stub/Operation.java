@@ -0,0 +1,12 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * One Athena API operation, answering the JSON request body with the JSON response body.
+ * Operations are invoked while holding the server's state lock.
+ */
+@FunctionalInterface
+interface Operation {
+    ObjectNode invoke(ObjectNode request);
+}
@@ -0,0 +1,113 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CreatePreparedStatement, GetPreparedStatement, UpdatePreparedStatement, DeletePreparedStatement,
+ * ListPreparedStatements and BatchGetPreparedStatement.
+ */
+final class PreparedStatementOperations {
+    private final AthenaStubState state;
+
+    PreparedStatementOperations(final AthenaStubState state) {
+        this.state = state;
+    }
+
+    void registerWith(final Map<String, Operation> operations) {
+        operations.put("CreatePreparedStatement", this::createPreparedStatement);
+        operations.put("GetPreparedStatement", this::getPreparedStatement);
+        operations.put("UpdatePreparedStatement", this::updatePreparedStatement);
+        operations.put("DeletePreparedStatement", this::deletePreparedStatement);
+        operations.put("ListPreparedStatements", this::listPreparedStatements);
+        operations.put("BatchGetPreparedStatement", this::batchGetPreparedStatement);
+    }
+
+    private ObjectNode createPreparedStatement(final ObjectNode request) {
+        final Map<String, ObjectNode> statements = statementsOf(StubJson.requiredText(request, "WorkGroup"));
+        final String statementName = StubJson.requiredText(request, "StatementName");
+        if (statements.containsKey(statementName)) {
+            throw AthenaStubException.invalidRequest("Prepared statement %s already exists", statementName)
+                    .withAthenaErrorCode(AthenaStubException.ALREADY_EXISTS_ERROR_CODE);
+        }
+        final ObjectNode statement = StubJson.object();
+        statement.put("StatementName", statementName);
+        statement.put("WorkGroupName", request.get("WorkGroup").asText());
+        applyStatement(request, statement);
+        statements.put(statementName, statement);
+        return StubJson.object();
+    }
+
+    private ObjectNode getPreparedStatement(final ObjectNode request) {
+        final ObjectNode response = StubJson.object();
+        response.set("PreparedStatement", requireStatement(request).deepCopy());
+        return response;
+    }
+
+    private ObjectNode updatePreparedStatement(final ObjectNode request) {
+        applyStatement(request, requireStatement(request));
+        return StubJson.object();
+    }
+
+    private ObjectNode deletePreparedStatement(final ObjectNode request) {
+        final ObjectNode statement = requireStatement(request);
+        statementsOf(request.get("WorkGroup").asText()).remove(statement.get("StatementName").asText());
+        return StubJson.object();
+    }
+
+    private ObjectNode listPreparedStatements(final ObjectNode request) {
+        final List<ObjectNode> summaries = new ArrayList<>();
+        statementsOf(StubJson.requiredText(request, "WorkGroup")).values().forEach(statement -> {
+            final ObjectNode summary = StubJson.object();
+            summary.set("StatementName", statement.get("StatementName"));
+            summary.set("LastModifiedTime", statement.get("LastModifiedTime"));
+            summaries.add(summary);
+        });
+        return StubJson.page(request, summaries, "PreparedStatements", 50);
+    }
+
+    private ObjectNode batchGetPreparedStatement(final ObjectNode request) {
+        final String workGroup = StubJson.requiredText(request, "WorkGroup");
+        final Map<String, ObjectNode> statements = statementsOf(workGroup);
+        final ObjectNode response = StubJson.object();
+        final ArrayNode found = response.putArray("PreparedStatements");
+        final ArrayNode unprocessed = response.putArray("UnprocessedPreparedStatementNames");
+        request.path("PreparedStatementNames").forEach(name -> {
+            final ObjectNode statement = statements.get(name.asText());
+            if (statement != null) {
+                found.add(statement.deepCopy());
+            } else {
+                unprocessed.addObject()
+                        .put("StatementName", name.asText())
+                        .put("ErrorCode", "STATEMENT_NOT_FOUND")
+                        .put("ErrorMessage", String.format("Prepared statement %s is not found", name.asText()));
+            }
+        });
+        return response;
+    }
+
+    private static void applyStatement(final ObjectNode request, final ObjectNode statement) {
+        statement.put("QueryStatement", StubJson.requiredText(request, "QueryStatement"));
+        StubJson.copyMember(request, statement, "Description");
+        statement.put("LastModifiedTime", StubJson.now());
+    }
+
+    private ObjectNode requireStatement(final ObjectNode request) {
+        final String statementName = StubJson.requiredText(request, "StatementName");
+        final ObjectNode statement = statementsOf(StubJson.requiredText(request, "WorkGroup")).get(statementName);
+        if (statement == null) {
+            throw AthenaStubException.resourceNotFound("Prepared statement %s is not found", statementName);
+        }
+        return statement;
+    }
+
+    private Map<String, ObjectNode> statementsOf(final String workGroup) {
+        state.requireWorkGroup(workGroup);
+        return state.preparedStatements.computeIfAbsent(workGroup, key -> new TreeMap<>());
+    }
+}
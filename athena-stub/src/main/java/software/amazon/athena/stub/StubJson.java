@@ -0,0 +1,106 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON helpers shared by the operations, following the AWS JSON 1.1 conventions Athena uses:
+ * PascalCase members, epoch-second timestamps and NextToken/MaxResults pagination.
+ */
+final class StubJson {
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private StubJson() {
+    }
+
+    static ObjectNode object() {
+        return MAPPER.createObjectNode();
+    }
+
+    static double now() {
+        return System.currentTimeMillis() / 1000.0;
+    }
+
+    static String requiredText(final ObjectNode request, final String member) {
+        final JsonNode value = request.get(member);
+        if (value == null || !value.isTextual() || value.asText().isEmpty()) {
+            throw AthenaStubException.invalidRequest("%s is required", member);
+        }
+        return value.asText();
+    }
+
+    static String optionalText(final ObjectNode request, final String member, final String defaultValue) {
+        final JsonNode value = request.get(member);
+        return value != null && value.isTextual() ? value.asText() : defaultValue;
+    }
+
+    static int requiredInt(final ObjectNode request, final String member) {
+        final JsonNode value = request.get(member);
+        if (value == null || !value.canConvertToInt()) {
+            throw AthenaStubException.invalidRequest("%s is required", member);
+        }
+        return value.asInt();
+    }
+
+    /**
+     * Copies a member from the request to the stored resource, removing it from the resource when the
+     * request leaves it out.
+     */
+    static void copyMember(final ObjectNode request, final ObjectNode resource, final String member) {
+        final JsonNode value = request.get(member);
+        if (value == null || value.isNull()) {
+            resource.remove(member);
+        } else {
+            resource.set(member, value.deepCopy());
+        }
+    }
+
+    /**
+     * Returns one page of items. The NextToken is the index of the first item of the next page.
+     */
+    static ObjectNode page(final ObjectNode request,
+                           final List<? extends JsonNode> items,
+                           final String member,
+                           final int defaultMaxResults) {
+        final String nextToken = optionalText(request, "NextToken", null);
+        final int start;
+        try {
+            start = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        } catch (NumberFormatException e) {
+            throw AthenaStubException.invalidRequest("Invalid NextToken %s", nextToken);
+        }
+        final JsonNode maxResults = request.get("MaxResults");
+        final int pageSize = maxResults != null && maxResults.canConvertToInt() ? maxResults.asInt() : defaultMaxResults;
+        final int end = Math.min(items.size(), start + pageSize);
+
+        final ObjectNode response = object();
+        final ArrayNode page = response.putArray(member);
+        for (int i = Math.min(start, end); i < end; i++) {
+            page.add(items.get(i).deepCopy());
+        }
+        if (end < items.size()) {
+            response.put("NextToken", String.valueOf(end));
+        }
+        return response;
+    }
+
+    static Map<String, String> tags(final JsonNode tags) {
+        final Map<String, String> tagMap = new LinkedHashMap<>();
+        if (tags != null) {
+            tags.forEach(tag -> tagMap.put(tag.path("Key").asText(), tag.path("Value").asText()));
+        }
+        return tagMap;
+    }
+
+    static ArrayNode tagArray(final Map<String, String> tags) {
+        final ArrayNode tagArray = MAPPER.createArrayNode();
+        tags.forEach((key, value) -> tagArray.addObject().put("Key", key).put("Value", value));
+        return tagArray;
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TagResource, UntagResource and ListTagsForResource for every taggable resource type.
+ */
+final class TagOperations {
+    private final AthenaStubState state;
+
+    TagOperations(final AthenaStubState state) {
+        this.state = state;
+    }
+
+    void registerWith(final Map<String, Operation> operations) {
+        operations.put("TagResource", this::tagResource);
+        operations.put("UntagResource", this::untagResource);
+        operations.put("ListTagsForResource", this::listTagsForResource);
+    }
+
+    private ObjectNode tagResource(final ObjectNode request) {
+        final String resource = AthenaStubState.arnResource(StubJson.requiredText(request, "ResourceARN"));
+        state.putTags(resource, StubJson.tags(request.get("Tags")));
+        return StubJson.object();
+    }
+
+    private ObjectNode untagResource(final ObjectNode request) {
+        final String resource = AthenaStubState.arnResource(StubJson.requiredText(request, "ResourceARN"));
+        final Map<String, String> tags = state.tags.get(resource);
+        if (tags != null) {
+            request.path("TagKeys").forEach(key -> tags.remove(key.asText()));
+            if (tags.isEmpty()) {
+                state.removeTags(resource);
+            }
+        }
+        return StubJson.object();
+    }
+
+    private ObjectNode listTagsForResource(final ObjectNode request) {
+        final String resource = AthenaStubState.arnResource(StubJson.requiredText(request, "ResourceARN"));
+        final List<ObjectNode> tags = new ArrayList<>();
+        StubJson.tagArray(state.tags.getOrDefault(resource, Collections.emptyMap()))
+                .forEach(tag -> tags.add((ObjectNode) tag));
+        return StubJson.page(request, tags, "Tags", 100);
+    }
+}
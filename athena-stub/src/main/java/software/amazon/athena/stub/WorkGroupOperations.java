@@ -0,0 +1,163 @@
+package software.amazon.athena.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CreateWorkGroup, GetWorkGroup, UpdateWorkGroup, DeleteWorkGroup and ListWorkGroups.
+ */
+final class WorkGroupOperations {
+    private static final String AUTO_ENGINE_VERSION = "AUTO";
+    private static final String DEFAULT_ENGINE_VERSION = "Athena engine version 3";
+    private static final String UPDATES_SUFFIX = "Updates";
+    private static final String REMOVE_PREFIX = "Remove";
+
+    private final AthenaStubState state;
+
+    WorkGroupOperations(final AthenaStubState state) {
+        this.state = state;
+    }
+
+    void registerWith(final Map<String, Operation> operations) {
+        operations.put("CreateWorkGroup", this::createWorkGroup);
+        operations.put("GetWorkGroup", this::getWorkGroup);
+        operations.put("UpdateWorkGroup", this::updateWorkGroup);
+        operations.put("DeleteWorkGroup", this::deleteWorkGroup);
+        operations.put("ListWorkGroups", this::listWorkGroups);
+    }
+
+    static ObjectNode newWorkGroup(final String name, final ObjectNode request) {
+        final ObjectNode workGroup = StubJson.object();
+        workGroup.put("Name", name);
+        workGroup.put("State", "ENABLED");
+        StubJson.copyMember(request, workGroup, "Description");
+        workGroup.put("CreationTime", StubJson.now());
+
+        final ObjectNode configuration = request.has("Configuration")
+                ? ((ObjectNode) request.get("Configuration")).deepCopy()
+                : StubJson.object();
+        if (!configuration.has("EnforceWorkGroupConfiguration")) {
+            configuration.put("EnforceWorkGroupConfiguration", true);
+        }
+        if (!configuration.has("PublishCloudWatchMetricsEnabled")) {
+            configuration.put("PublishCloudWatchMetricsEnabled", true);
+        }
+        if (!configuration.has("RequesterPaysEnabled")) {
+            configuration.put("RequesterPaysEnabled", false);
+        }
+        setEngineVersion(configuration, configuration.path("EngineVersion").path("SelectedEngineVersion").asText(AUTO_ENGINE_VERSION));
+        workGroup.set("Configuration", configuration);
+        return workGroup;
+    }
+
+    private ObjectNode createWorkGroup(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "Name");
+        if (state.workGroups.containsKey(name)) {
+            throw AthenaStubException.invalidRequest("WorkGroup is already created");
+        }
+        state.workGroups.put(name, newWorkGroup(name, request));
+        state.putTags("workgroup/" + name, StubJson.tags(request.get("Tags")));
+        return StubJson.object();
+    }
+
+    private ObjectNode getWorkGroup(final ObjectNode request) {
+        final ObjectNode workGroup = state.requireWorkGroup(StubJson.requiredText(request, "WorkGroup"));
+        final ObjectNode response = StubJson.object();
+        response.set("WorkGroup", workGroup.deepCopy());
+        return response;
+    }
+
+    private ObjectNode updateWorkGroup(final ObjectNode request) {
+        final ObjectNode workGroup = state.requireWorkGroup(StubJson.requiredText(request, "WorkGroup"));
+        if (request.has("Description")) {
+            StubJson.copyMember(request, workGroup, "Description");
+        }
+        if (request.has("State")) {
+            workGroup.put("State", request.get("State").asText());
+        }
+        if (request.has("ConfigurationUpdates")) {
+            final ObjectNode configuration = (ObjectNode) workGroup.get("Configuration");
+            applyUpdates(configuration, (ObjectNode) request.get("ConfigurationUpdates"));
+            if (request.get("ConfigurationUpdates").has("EngineVersion")) {
+                setEngineVersion(configuration, configuration.path("EngineVersion").path("SelectedEngineVersion").asText(AUTO_ENGINE_VERSION));
+            }
+        }
+        return StubJson.object();
+    }
+
+    private ObjectNode deleteWorkGroup(final ObjectNode request) {
+        final String name = StubJson.requiredText(request, "WorkGroup");
+        state.requireWorkGroup(name);
+        if (AthenaStubState.PRIMARY_WORK_GROUP.equals(name)) {
+            throw AthenaStubException.invalidRequest("Primary WorkGroup cannot be deleted");
+        }
+        final boolean recursive = request.path("RecursiveDeleteOption").asBoolean(false);
+        final boolean hasNamedQueries = state.namedQueries.values().stream()
+                .anyMatch(namedQuery -> name.equals(namedQuery.path("WorkGroup").asText()));
+        final boolean hasPreparedStatements = !state.preparedStatements.getOrDefault(name, Collections.emptyMap()).isEmpty();
+        if (!recursive && (hasNamedQueries || hasPreparedStatements)) {
+            throw AthenaStubException.invalidRequest("WorkGroup %s is not empty", name);
+        }
+
+        state.workGroups.remove(name);
+        state.preparedStatements.remove(name);
+        state.namedQueries.values().removeIf(namedQuery -> name.equals(namedQuery.path("WorkGroup").asText()));
+        state.namedQueryIdsByClientRequestToken.values().removeIf(id -> !state.namedQueries.containsKey(id));
+        state.removeTags("workgroup/" + name);
+        return StubJson.object();
+    }
+
+    private ObjectNode listWorkGroups(final ObjectNode request) {
+        final List<ObjectNode> summaries = new ArrayList<>();
+        state.workGroups.values().forEach(workGroup -> {
+            final ObjectNode summary = StubJson.object();
+            summary.put("Name", workGroup.get("Name").asText());
+            summary.put("State", workGroup.get("State").asText());
+            StubJson.copyMember(workGroup, summary, "Description");
+            summary.set("CreationTime", workGroup.get("CreationTime"));
+            summary.set("EngineVersion", workGroup.path("Configuration").get("EngineVersion"));
+            summaries.add(summary);
+        });
+        return StubJson.page(request, summaries, "WorkGroups", 50);
+    }
+
+    private static void setEngineVersion(final ObjectNode configuration, final String selectedEngineVersion) {
+        final ObjectNode engineVersion = configuration.putObject("EngineVersion");
+        engineVersion.put("SelectedEngineVersion", selectedEngineVersion);
+        engineVersion.put("EffectiveEngineVersion",
+                AUTO_ENGINE_VERSION.equals(selectedEngineVersion) ? DEFAULT_ENGINE_VERSION : selectedEngineVersion);
+    }
+
+    /**
+     * Applies an Athena "...Updates" structure to the matching configuration: RemoveX=true removes member X,
+     * XUpdates is applied to member X in the same way, and any other member replaces the stored value.
+     */
+    static void applyUpdates(final ObjectNode target, final ObjectNode updates) {
+        final Iterator<Map.Entry<String, JsonNode>> fields = updates.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String member = field.getKey();
+            final JsonNode value = field.getValue();
+            if (member.startsWith(REMOVE_PREFIX) && value.isBoolean()) {
+                if (value.asBoolean()) {
+                    target.remove(member.substring(REMOVE_PREFIX.length()));
+                }
+            } else if (member.endsWith(UPDATES_SUFFIX) && value.isObject()) {
+                final String updatedMember = member.substring(0, member.length() - UPDATES_SUFFIX.length());
+                final JsonNode current = target.get(updatedMember);
+                final ObjectNode updated = current != null && current.isObject()
+                        ? (ObjectNode) current
+                        : target.putObject(updatedMember);
+                applyUpdates(updated, (ObjectNode) value);
+            } else {
+                target.set(member, value.deepCopy());
+            }
+        }
+    }
+}
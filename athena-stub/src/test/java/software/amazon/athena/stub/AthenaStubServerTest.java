@@ -0,0 +1,161 @@
+package software.amazon.athena.stub;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.CapacityAllocationStatus;
+import software.amazon.awssdk.services.athena.model.CapacityAssignment;
+import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ListNamedQueriesResponse;
+import software.amazon.awssdk.services.athena.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.athena.model.Tag;
+import software.amazon.awssdk.services.athena.model.WorkGroup;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AthenaStubServerTest {
+    private static final String WORK_GROUP_ARN = "arn:aws:athena:us-east-1:123456789012:workgroup/analytics";
+
+    private static AthenaStubServer server;
+    private static AthenaClient client;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = AthenaStubServer.start();
+        client = AthenaClient.builder()
+                .httpClient(UrlConnectionHttpClient.create())
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .endpointOverride(server.endpoint())
+                .build();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        client.close();
+        server.close();
+    }
+
+    @AfterEach
+    public void reset() {
+        server.reset();
+    }
+
+    @Test
+    public void testWorkGroupLifecycle() {
+        assertThat(server.firstRequestMillis()).isZero();
+        final long beforeFirstRequest = System.currentTimeMillis();
+        client.createWorkGroup(r -> r.name("analytics")
+                .configuration(c -> c.resultConfiguration(rc -> rc.outputLocation("s3://bucket/results/")))
+                .tags(Tag.builder().key("team").value("data").build()));
+        client.updateWorkGroup(r -> r.workGroup("analytics").description("updated")
+                .configurationUpdates(c -> c.resultConfigurationUpdates(rc -> rc.removeOutputLocation(true))
+                        .bytesScannedCutoffPerQuery(10_000_000L)));
+
+        assertThat(server.firstRequestMillis()).isBetween(beforeFirstRequest, System.currentTimeMillis());
+
+        final WorkGroup workGroup = client.getWorkGroup(r -> r.workGroup("analytics")).workGroup();
+        assertThat(workGroup.description()).isEqualTo("updated");
+        assertThat(workGroup.configuration().resultConfiguration().outputLocation()).isNull();
+        assertThat(workGroup.configuration().bytesScannedCutoffPerQuery()).isEqualTo(10_000_000L);
+        assertThat(workGroup.configuration().enforceWorkGroupConfiguration()).isTrue();
+        assertThat(workGroup.creationTime()).isNotNull();
+        assertThat(client.listTagsForResource(r -> r.resourceARN(WORK_GROUP_ARN)).tags())
+                .containsExactly(Tag.builder().key("team").value("data").build());
+        assertThat(client.listWorkGroups(r -> r.maxResults(1)).nextToken()).isNotNull();
+
+        final InvalidRequestException alreadyCreated = assertThrows(InvalidRequestException.class,
+                () -> client.createWorkGroup(r -> r.name("analytics")));
+        assertThat(alreadyCreated.getMessage()).contains("already created");
+
+        client.deleteWorkGroup(r -> r.workGroup("analytics"));
+        final InvalidRequestException notFound = assertThrows(InvalidRequestException.class,
+                () -> client.getWorkGroup(r -> r.workGroup("analytics")));
+        assertThat(notFound.getMessage()).contains("not found");
+        assertThat(client.listTagsForResource(r -> r.resourceARN(WORK_GROUP_ARN)).tags()).isEmpty();
+    }
+
+    @Test
+    public void testNamedQueriesAndPreparedStatements() {
+        final String namedQueryId = client.createNamedQuery(r -> r.name("query").database("db")
+                .queryString("SELECT 1").clientRequestToken("token")).namedQueryId();
+        assertThat(client.createNamedQuery(r -> r.name("query").database("db")
+                .queryString("SELECT 1").clientRequestToken("token")).namedQueryId()).isEqualTo(namedQueryId);
+
+        final ListNamedQueriesResponse namedQueries = client.listNamedQueries(r -> r.workGroup("primary"));
+        assertThat(namedQueries.namedQueryIds()).containsExactly(namedQueryId);
+        assertThat(client.batchGetNamedQuery(r -> r.namedQueryIds(namedQueryId, "missing"))
+                .unprocessedNamedQueryIds()).hasSize(1);
+        client.deleteNamedQuery(r -> r.namedQueryId(namedQueryId));
+        assertThat(assertThrows(InvalidRequestException.class,
+                () -> client.getNamedQuery(r -> r.namedQueryId(namedQueryId))).getMessage()).contains("does not exist");
+
+        client.createPreparedStatement(r -> r.workGroup("primary").statementName("stmt").queryStatement("SELECT ?"));
+        final InvalidRequestException duplicateStatement = assertThrows(InvalidRequestException.class,
+                () -> client.createPreparedStatement(r -> r.workGroup("primary").statementName("stmt").queryStatement("SELECT ?")));
+        assertThat(duplicateStatement.getMessage()).contains("already exists");
+        assertThat(duplicateStatement.athenaErrorCode()).isEqualTo(AthenaStubException.ALREADY_EXISTS_ERROR_CODE);
+        client.updatePreparedStatement(r -> r.workGroup("primary").statementName("stmt").queryStatement("SELECT 2"));
+        assertThat(client.getPreparedStatement(r -> r.workGroup("primary").statementName("stmt"))
+                .preparedStatement().queryStatement()).isEqualTo("SELECT 2");
+        client.deletePreparedStatement(r -> r.workGroup("primary").statementName("stmt"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.getPreparedStatement(r -> r.workGroup("primary").statementName("stmt")));
+    }
+
+    @Test
+    public void testDataCatalogLifecycle() {
+        client.createDataCatalog(r -> r.name("federated").type(DataCatalogType.FEDERATED));
+        assertThat(assertThrows(InvalidRequestException.class,
+                () -> client.createDataCatalog(r -> r.name("federated").type(DataCatalogType.FEDERATED))).getMessage())
+                .contains("has already been created");
+
+        client.deleteDataCatalog(r -> r.name("federated"));
+        assertThat(client.getDataCatalog(r -> r.name("federated")).dataCatalog().status())
+                .isEqualTo(DataCatalogStatus.DELETE_COMPLETE);
+
+        client.createDataCatalog(r -> r.name("hive").type(DataCatalogType.HIVE));
+        client.deleteDataCatalog(r -> r.name("hive"));
+        assertThat(assertThrows(InvalidRequestException.class,
+                () -> client.getDataCatalog(r -> r.name("hive"))).getMessage()).contains("was not found");
+    }
+
+    @Test
+    public void testCapacityReservationLifecycle() {
+        client.createCapacityReservation(r -> r.name("reservation").targetDpus(24));
+        client.putCapacityAssignmentConfiguration(r -> r.capacityReservationName("reservation")
+                .capacityAssignments(CapacityAssignment.builder().workGroupNames("primary").build()));
+        client.updateCapacityReservation(r -> r.name("reservation").targetDpus(32));
+
+        final CapacityReservation reservation = client.getCapacityReservation(r -> r.name("reservation")).capacityReservation();
+        assertThat(reservation.status()).isEqualTo(CapacityReservationStatus.ACTIVE);
+        assertThat(reservation.allocatedDpus()).isEqualTo(32);
+        assertThat(reservation.lastAllocation().status()).isEqualTo(CapacityAllocationStatus.SUCCEEDED);
+        assertThat(client.getCapacityAssignmentConfiguration(r -> r.capacityReservationName("reservation"))
+                .capacityAssignmentConfiguration().capacityAssignments()).hasSize(1);
+
+        client.cancelCapacityReservation(r -> r.name("reservation"));
+        assertThat(assertThrows(InvalidRequestException.class,
+                () -> client.updateCapacityReservation(r -> r.name("reservation").targetDpus(24))).getMessage())
+                .contains("Reservation cannot be modified when state is CANCELLED");
+        client.deleteCapacityReservation(r -> r.name("reservation"));
+        assertThat(assertThrows(InvalidRequestException.class,
+                () -> client.getCapacityReservation(r -> r.name("reservation"))).getMessage()).contains("not found");
+
+        assertThat(server.requestCount("GetCapacityReservation")).isEqualTo(2L);
+        assertThat(server.requestCounts()).containsEntry("CreateCapacityReservation", 1L);
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.athena.stub;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.AthenaException;
+import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FaultProfileTest {
+    private AthenaStubServer server;
+    private AthenaClient client;
+
+    private void start(final FaultProfile profile) throws IOException {
+        server = AthenaStubServer.start(profile);
+        client = AthenaClient.builder()
+                .httpClient(UrlConnectionHttpClient.create())
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .endpointOverride(server.endpoint())
+                // Every injected error reaches the test instead of being retried away
+                .overrideConfiguration(c -> c.retryStrategy(AwsRetryStrategy.doNotRetry()))
+                .build();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void testSameSeedReplaysSameFaults() throws IOException {
+        start(FaultProfile.builder()
+                .seed(42L)
+                .throttleRate(0.3)
+                .internalErrorBursts(0.05, 3)
+                .build());
+
+        final List<String> firstRun = listWorkGroups(40);
+        final long throttles = server.injectedThrottles();
+        server.reset();
+        final List<String> secondRun = listWorkGroups(40);
+
+        assertThat(secondRun).isEqualTo(firstRun);
+        assertThat(server.injectedThrottles()).isEqualTo(throttles).isPositive();
+        assertThat(firstRun).contains("TooManyRequestsException", "OK");
+        assertThat(server.requestCount("ListWorkGroups")).isEqualTo(40L);
+    }
+
+    @Test
+    public void testConcurrentOperationsDoNotShiftFaults() throws Exception {
+        start(FaultProfile.builder()
+                .seed(42L)
+                .throttleRate(0.3)
+                .internalErrorBursts(0.1, 3)
+                .build());
+
+        final List<String> alone = listWorkGroups(40);
+        server.reset();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<String> concurrent;
+        try {
+            final Future<?> namedQueries = executor.submit(() -> {
+                for (int i = 0; i < 40; i++) {
+                    try {
+                        client.listNamedQueries(r -> r.maxResults(10));
+                    } catch (AthenaException e) {
+                        // Faults of the other operation are not under test
+                    }
+                }
+            });
+            concurrent = listWorkGroups(40);
+            namedQueries.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(concurrent).isEqualTo(alone);
+        assertThat(alone).contains("InternalServerException", "TooManyRequestsException", "OK");
+    }
+
+    @Test
+    public void testSlowTransitions() throws IOException, InterruptedException {
+        start(FaultProfile.builder()
+                .capacityReservationActivation(Duration.ofMillis(300))
+                .federatedCatalogCreation(Duration.ofMillis(300))
+                .build());
+
+        client.createCapacityReservation(r -> r.name("reservation").targetDpus(24));
+        client.createDataCatalog(r -> r.name("federated").type(DataCatalogType.FEDERATED));
+        assertThat(client.getCapacityReservation(r -> r.name("reservation")).capacityReservation().status())
+                .isEqualTo(CapacityReservationStatus.PENDING);
+        assertThat(client.getDataCatalog(r -> r.name("federated")).dataCatalog().status())
+                .isEqualTo(DataCatalogStatus.CREATE_IN_PROGRESS);
+
+        Thread.sleep(400);
+
+        assertThat(client.getCapacityReservation(r -> r.name("reservation")).capacityReservation().status())
+                .isEqualTo(CapacityReservationStatus.ACTIVE);
+        assertThat(client.getDataCatalog(r -> r.name("federated")).dataCatalog().status())
+                .isEqualTo(DataCatalogStatus.CREATE_COMPLETE);
+    }
+
+    private List<String> listWorkGroups(final int calls) {
+        final List<String> outcomes = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            try {
+                client.listWorkGroups(r -> r.maxResults(10));
+                outcomes.add("OK");
+            } catch (AthenaException e) {
+                outcomes.add(e.awsErrorDetails().errorCode());
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.athena.capacityreservation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Time to aggregate a ten page ListCapacityReservations listing with the SEQUENTIAL and PREFETCH fetch modes,
+ * against pages that take SERVICE_LATENCY_MILLIS to arrive and TRANSLATION_MILLIS to translate. PREFETCH
+ * should come in below SEQUENTIAL by roughly the translation time of every page but the last.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageFetchBenchmark {
+    private static final long SERVICE_LATENCY_MILLIS = 20;
+    private static final long TRANSLATION_MILLIS = 10;
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 5;
+
+    private final PageAggregator pageAggregator = PageAggregator.aggregated(Integer.MAX_VALUE, () -> 60_000L);
+    private final List<ListCapacityReservationsResponse> pages = new ArrayList<>();
+    private ExecutorService serviceExecutor;
+
+    @Setup
+    public void setup() {
+        for (int page = 0; page < PAGES; page++) {
+            final List<CapacityReservation> reservations = new ArrayList<>();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                reservations.add(CapacityReservation.builder().name("reservation" + (page * PAGE_SIZE + i)).build());
+            }
+            pages.add(ListCapacityReservationsResponse.builder()
+                    .capacityReservations(reservations)
+                    .nextToken(page + 1 < PAGES ? Integer.toString(page + 1) : null)
+                    .build());
+        }
+        serviceExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        serviceExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public PageAggregator.Page<String> sequential() {
+        return pageAggregator.aggregate(
+                null, this::listPage, PageFetchBenchmark::translate, ListCapacityReservationsResponse::nextToken);
+    }
+
+    @Benchmark
+    public PageAggregator.Page<String> prefetch() {
+        return pageAggregator.aggregateWithPrefetch(
+                null,
+                nextToken -> CompletableFuture.supplyAsync(() -> listPage(nextToken), serviceExecutor),
+                PageFetchBenchmark::translate,
+                response -> response.capacityReservations().size(),
+                ListCapacityReservationsResponse::nextToken);
+    }
+
+    private ListCapacityReservationsResponse listPage(final String nextToken) {
+        sleep(SERVICE_LATENCY_MILLIS);
+        return pages.get(nextToken == null ? 0 : Integer.parseInt(nextToken));
+    }
+
+    private static List<String> translate(final ListCapacityReservationsResponse response) {
+        sleep(TRANSLATION_MILLIS);
+        return response.capacityReservations().stream()
+                .map(CapacityReservation::name)
+                .collect(Collectors.toList());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.athena.capacityreservation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsResponse;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of capacity reservation ARN building and parsing and of translating a 50 item
+ * ListCapacityReservations page, which builds one ARN per reservation.
+ * Run with the gc profiler (the jmh profile does) to see gc.alloc.rate.norm per conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    // Read from state fields rather than constants, so JIT can't fold the ARN built from them
+    private String partition;
+    private String region;
+    private String accountId;
+    private String reservationName;
+    private String arn;
+    private ListCapacityReservationsResponse listResponse;
+    private ResourceHandlerRequest<ResourceModel> listRequest;
+
+    @Setup
+    public void setup() {
+        partition = "aws";
+        region = "us-east-1";
+        accountId = "123456789012";
+        reservationName = "reservation";
+        arn = Translator.translateToCapacityReservationArn(partition, region, accountId, reservationName);
+
+        final List<CapacityReservation> capacityReservations = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            capacityReservations.add(CapacityReservation.builder()
+                    .name("reservation" + i)
+                    .status(CapacityReservationStatus.ACTIVE)
+                    .targetDpus(24)
+                    .allocatedDpus(24)
+                    .build());
+        }
+        listResponse = ListCapacityReservationsResponse.builder()
+                .capacityReservations(capacityReservations)
+                .build();
+        listRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsPartition(partition)
+                .region(region)
+                .awsAccountId(accountId)
+                .build();
+    }
+
+    @Benchmark
+    public String buildArn() {
+        return Translator.translateToCapacityReservationArn(partition, region, accountId, reservationName);
+    }
+
+    @Benchmark
+    public String parseArn() {
+        return Translator.translateArnToCapacityReservationName(arn);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateListPage() {
+        return Translator.translateFromListRequest(listResponse, listRequest);
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.athena.capacityreservation;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * Exponential backoff with jitter. The first delay grows with the number of DPUs being allocated,
+ * since larger changes take longer to settle, and polling stops at a hard deadline.
+ */
+@lombok.Builder
+@lombok.Getter
+public class AdaptivePollingStrategy implements PollingStrategy {
+    // Left for the final read and the progress event once polling gives up
+    static final Duration TIMEOUT_MARGIN = Duration.ofMinutes(5);
+
+    @lombok.Builder.Default
+    private final Duration baseDelay = Duration.ofSeconds(5);
+    @lombok.Builder.Default
+    private final Duration delayPerDpu = Duration.ofMillis(250);
+    @lombok.Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(60);
+    // Fraction of each delay that is randomized in both directions
+    @lombok.Builder.Default
+    private final double jitter = 0.2;
+    // The create, update and delete handlers use forHandler, which derives the deadline from the schema
+    @lombok.Builder.Default
+    private final Duration deadline = Duration.ofMinutes(55);
+    @lombok.Builder.Default
+    private final Clock clock = Clock.systemUTC();
+    @lombok.Builder.Default
+    private final Random random = new Random();
+
+    public static AdaptivePollingStrategy defaults() {
+        return AdaptivePollingStrategy.builder().build();
+    }
+
+    /**
+     * Stops polling {@link #TIMEOUT_MARGIN} before the timeoutInMinutes of the given handler in the resource
+     * schema, so the handler can still report the outcome before CloudFormation times the operation out.
+     */
+    public static AdaptivePollingStrategy forHandler(final String action) {
+        return AdaptivePollingStrategy.builder()
+                .deadline(new Configuration().handlerTimeout(action).minus(TIMEOUT_MARGIN))
+                .build();
+    }
+
+    @Override
+    public Delay schedule(long dpuDelta, Instant startTime) {
+        final Duration initialDelay = initialDelay(dpuDelta);
+        return attempt -> {
+            Duration remaining = deadline.minus(Duration.between(startTime, clock.instant()));
+            if (remaining.isNegative() || remaining.isZero()) {
+                return Duration.ZERO;
+            }
+            Duration next = withJitter(backoff(initialDelay, attempt));
+            return next.compareTo(remaining) > 0 ? remaining : next;
+        };
+    }
+
+    Duration initialDelay(long dpuDelta) {
+        return min(baseDelay.plus(delayPerDpu.multipliedBy(Math.abs(dpuDelta))), maxDelay);
+    }
+
+    private Duration backoff(Duration initialDelay, int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 16);
+        return min(initialDelay.multipliedBy(1L << exponent), maxDelay);
+    }
+
+    private Duration withJitter(Duration delay) {
+        double factor = 1 - jitter + 2 * jitter * random.nextDouble();
+        // Never return zero, that signals the end of polling
+        return Duration.ofMillis(Math.max(1L, (long) (delay.toMillis() * factor)));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
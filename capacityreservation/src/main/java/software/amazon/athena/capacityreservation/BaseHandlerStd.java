@@ -1,12 +1,17 @@
 package software.amazon.athena.capacityreservation;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationResponse;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
 import software.amazon.awssdk.services.athena.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.athena.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -14,6 +19,15 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -22,19 +36,75 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static String NOT_AUTHORIZED_ERROR = "not authorized";
   protected static String ALREADY_CANCELLED_ERROR = "Reservation cannot be modified when state is CANCELLED";
 
+  /**
+   * IN_PROCESS polls a reservation change until it stabilizes within the same invocation.
+   * CALLBACK makes a single check per invocation and otherwise returns IN_PROGRESS with a callback delay,
+   * keeping the stabilization state in the {@link CallbackContext}. CALLBACK is the default, so a long DPU
+   * allocation is not billed as Lambda time.
+   */
+  public enum StabilizationMode {
+    IN_PROCESS,
+    CALLBACK
+  }
+
+  // Null unless the handler traces to its own exporter
+  private final PhaseTracer.SpanExporter spanExporter;
+  // Spans of the current invocation, replaced at the start of each one
+  protected PhaseTracer tracer;
+  private Supplier<AthenaClient> clientSupplier = ClientBuilder::getClient;
+  private Supplier<AthenaAsyncClient> asyncClientSupplier = ClientBuilder::getAsyncClient;
+
+  protected BaseHandlerStd() {
+    this(null);
+  }
+
+  protected BaseHandlerStd(final PhaseTracer.SpanExporter spanExporter) {
+    this.spanExporter = spanExporter;
+    this.tracer = PhaseTracer.start(spanExporter);
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    tracer = PhaseTracer.start(spanExporter);
+    final ProgressEvent<ResourceModel, CallbackContext> progressEvent = tracer.invocation(
+      getClass().getSimpleName().replace("Handler", ""),
+      request.getDesiredResourceState() != null ? request.getDesiredResourceState().getName() : null,
+      () -> handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        ApiCallMetrics.instrument(logger, ResourceModel.TYPE_NAME, proxy.newProxy(clientSupplier)),
+        logger
+      ));
+    // The root span alone carries no phase timings, and a disabled tracer records no spans at all
+    if (tracer.getSpans().size() > 1) {
+      logger.log(String.format("%s %s phase timings: %s",
+        ResourceModel.TYPE_NAME, progressEvent.getStatus(), tracer.summary()));
+    }
+    return progressEvent;
+  }
+
+  /**
+   * Replaces the client the proxy is built around, such as an in-memory fake for benchmarks that should
+   * measure the handler without network I/O.
+   */
+  void setClientSupplier(final Supplier<AthenaClient> clientSupplier) {
+    this.clientSupplier = clientSupplier;
+  }
+
+  /**
+   * Replaces the client that concurrent reads and list prefetches are sent through.
+   */
+  void setAsyncClientSupplier(final Supplier<AthenaAsyncClient> asyncClientSupplier) {
+    this.asyncClientSupplier = asyncClientSupplier;
+  }
+
+  protected Supplier<AthenaAsyncClient> getAsyncClientSupplier() {
+    return asyncClientSupplier;
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -72,12 +142,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     logger.log(String.format("Invoking PutCapacityAssignmentConfiguration API :: %s", ResourceModel.TYPE_NAME));
-    return proxy.initiate("AWS-Athena-CapacityReservation::PutCapacityAssignmentConfiguration", proxyClient, model, callbackContext)
+    return tracer.call("AWS-Athena-CapacityReservation::PutCapacityAssignmentConfiguration", callGraph ->
+        proxy.initiate(callGraph, proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToPutCapacityAssignmentConfigRequest)
             .makeServiceCall((putCapacityAssignmentConfigurationRequest, athenaClientProxyClient) ->
                     athenaClientProxyClient.injectCredentialsAndInvokeV2(putCapacityAssignmentConfigurationRequest,
                             athenaClientProxyClient.client()::putCapacityAssignmentConfiguration))
-            .progress();
+            .progress());
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> getCapacityReservation(
@@ -88,38 +159,45 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           Logger logger) {
     ResourceModel model = progressEvent.getResourceModel();
     CallbackContext callbackContext = progressEvent.getCallbackContext();
-    return proxy.initiate("AWS-Athena-CapacityReservation::GetCapacityReservation", proxyClient, model, callbackContext)
+    return tracer.call("AWS-Athena-CapacityReservation::GetCapacityReservation", callGraph ->
+        proxy.initiate(callGraph, proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToGetCapacityReservationRequest)
             .makeServiceCall((getCapacityReservationRequest, athenaClientProxyClient) -> athenaClientProxyClient.injectCredentialsAndInvokeV2(getCapacityReservationRequest,
                     athenaClientProxyClient.client()::getCapacityReservation))
-            .handleError((reservationRequest, exception, athenaClientProxyClient, resourceModel, context) -> {
-              if (exception instanceof InvalidRequestException) {
-                InvalidRequestException serviceException = (InvalidRequestException) exception;
-                // Return NotFound error is reservation not found
-                if (isNotFoundException(serviceException)) {
-                  return ProgressEvent.failed(resourceModel,
-                          callbackContext,
-                          HandlerErrorCode.NotFound,
-                          exception.getMessage());
-                }
-                // Return invalid request for all other InvalidRequestExceptions
-                return ProgressEvent.failed(resourceModel,
-                        callbackContext,
-                        HandlerErrorCode.InvalidRequest,
-                        exception.getMessage());
-              }
-              return ProgressEvent.failed(resourceModel,
-                      callbackContext,
-                      HandlerErrorCode.GeneralServiceException,
-                      exception.getMessage());
-            })
+            .handleError((reservationRequest, exception, athenaClientProxyClient, resourceModel, context)
+                    -> handleGetCapacityReservationError(exception, resourceModel, callbackContext))
             .done(getCapacityReservationResponse -> {
               logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
               model.setArn(Translator.translateToCapacityReservationArn(request.getAwsPartition(),
                       request.getRegion(), request.getAwsAccountId(), model.getName()));
               updateModelFromSdkResponse(model, getCapacityReservationResponse.capacityReservation());
               return ProgressEvent.progress(model, callbackContext);
-            });
+            }));
+  }
+
+  protected ProgressEvent<ResourceModel, CallbackContext> handleGetCapacityReservationError(
+          Exception exception,
+          ResourceModel resourceModel,
+          CallbackContext callbackContext) {
+    if (exception instanceof InvalidRequestException) {
+      InvalidRequestException serviceException = (InvalidRequestException) exception;
+      // Return NotFound error is reservation not found
+      if (isNotFoundException(serviceException)) {
+        return ProgressEvent.failed(resourceModel,
+                callbackContext,
+                HandlerErrorCode.NotFound,
+                exception.getMessage());
+      }
+      // Return invalid request for all other InvalidRequestExceptions
+      return ProgressEvent.failed(resourceModel,
+              callbackContext,
+              HandlerErrorCode.InvalidRequest,
+              exception.getMessage());
+    }
+    return ProgressEvent.failed(resourceModel,
+            callbackContext,
+            HandlerErrorCode.GeneralServiceException,
+            exception.getMessage());
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> getCapacityAssignmentConfiguration(
@@ -129,7 +207,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           Logger logger) {
     ResourceModel model = progressEvent.getResourceModel();
     CallbackContext callbackContext = progressEvent.getCallbackContext();
-    return proxy.initiate("AWS-Athena-CapacityReservation::GetCapacityAssignmentConfiguration", proxyClient, model, callbackContext)
+    return tracer.call("AWS-Athena-CapacityReservation::GetCapacityAssignmentConfiguration", callGraph ->
+        proxy.initiate(callGraph, proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToGetCapacityAssignmentConfigRequest)
             .makeServiceCall((getCapacityAssignmentConfigRequest, athenaClientProxyClient) ->
                     athenaClientProxyClient.injectCredentialsAndInvokeV2(getCapacityAssignmentConfigRequest,
@@ -144,7 +223,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                 getCapacityAssignmentConfigResponse.capacityAssignmentConfiguration()));
               }
               return ProgressEvent.progress(model, callbackContext);
-            });
+            }));
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> getTags(final AmazonWebServicesClientProxy proxy,
@@ -155,7 +234,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     CallbackContext callbackContext = progress.getCallbackContext();
 
 
-    return proxy.initiate("AWS-Athena-CapacityReservation::GetCapacityReservationTags", proxyClient, model, callbackContext)
+    return tracer.call("AWS-Athena-CapacityReservation::GetCapacityReservationTags", callGraph ->
+        proxy.initiate(callGraph, proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToListTagsForResourceRequest)
             .makeServiceCall((listTagsRequest, athenaClientProxyClient) -> {
               ListTagsForResourceResponse response = athenaClientProxyClient.injectCredentialsAndInvokeV2(listTagsRequest,
@@ -180,7 +260,169 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             })
             .handleError((athenaRequest, exception, athenaClientProxyClient, resourceModel, context)
                     -> handlePropertyRequestError(exception, resourceModel, context, logger))
-            .progress();
+            .progress());
+  }
+
+  /**
+   * Reads the capacity reservation, its capacity assignment configuration and its tags with all three
+   * requests in flight at once. None of the calls depends on another since the ARN is derived from the name.
+   * Results are merged in the same order as the sequential read, so a missing reservation takes precedence
+   * over any property error, and property errors that are not found or not authorized are tolerated.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> readConcurrently(
+          ProxyClient<AthenaAsyncClient> asyncProxyClient,
+          ProgressEvent<ResourceModel, CallbackContext> progressEvent,
+          ResourceHandlerRequest<ResourceModel> request,
+          Logger logger) {
+    ResourceModel model = progressEvent.getResourceModel();
+    CallbackContext callbackContext = progressEvent.getCallbackContext();
+    model.setArn(Translator.translateToCapacityReservationArn(request.getAwsPartition(),
+            request.getRegion(), request.getAwsAccountId(), model.getName()));
+
+    CompletableFuture<GetCapacityReservationResponse> reservationFuture = invokeAsync(() ->
+            asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToGetCapacityReservationRequest(model),
+                    asyncProxyClient.client()::getCapacityReservation));
+    CompletableFuture<GetCapacityAssignmentConfigurationResponse> assignmentFuture = invokeAsync(() ->
+            asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToGetCapacityAssignmentConfigRequest(model),
+                    asyncProxyClient.client()::getCapacityAssignmentConfiguration));
+    CompletableFuture<Set<Tag>> tagsFuture = listTagsAsync(asyncProxyClient, model, null, new HashSet<>(), logger);
+
+    try {
+      updateModelFromSdkResponse(model, reservationFuture.join().capacityReservation());
+      logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+    } catch (CompletionException e) {
+      return handleGetCapacityReservationError(unwrapCompletionException(e), model, callbackContext);
+    }
+
+    try {
+      model.setCapacityAssignmentConfiguration(Translator.translateToCapacityAssignmentConfiguration(
+              assignmentFuture.join().capacityAssignmentConfiguration()));
+      logger.log("CapacityAssignmentConfiguration has successfully been read.");
+    } catch (CompletionException e) {
+      ProgressEvent<ResourceModel, CallbackContext> errorEvent =
+              handlePropertyRequestError(unwrapCompletionException(e), model, callbackContext, logger);
+      if (errorEvent.isFailed()) {
+        return errorEvent;
+      }
+    }
+
+    try {
+      model.setTags(tagsFuture.join());
+      logger.log(String.format("%s tags have successfully been read.", ResourceModel.TYPE_NAME));
+    } catch (CompletionException e) {
+      ProgressEvent<ResourceModel, CallbackContext> errorEvent =
+              handlePropertyRequestError(unwrapCompletionException(e), model, callbackContext, logger);
+      if (errorEvent.isFailed()) {
+        return errorEvent;
+      }
+    }
+    return ProgressEvent.progress(model, callbackContext);
+  }
+
+  private CompletableFuture<Set<Tag>> listTagsAsync(
+          ProxyClient<AthenaAsyncClient> asyncProxyClient,
+          ResourceModel model,
+          String nextToken,
+          Set<Tag> tags,
+          Logger logger) {
+    ListTagsForResourceRequest listTagsRequest = nextToken == null
+            ? Translator.translateToListTagsForResourceRequest(model)
+            : Translator.translateToListTagsForResourceRequest(model, nextToken);
+    CompletableFuture<ListTagsForResourceResponse> responseFuture = invokeAsync(() ->
+            asyncProxyClient.injectCredentialsAndInvokeV2Async(listTagsRequest,
+                    asyncProxyClient.client()::listTagsForResource));
+    return responseFuture.thenCompose(response -> {
+      response.tags().stream()
+              .map(Translator::translateToTag)
+              .forEach(tags::add);
+      if (response.nextToken() == null) {
+        return CompletableFuture.completedFuture(tags);
+      }
+      logger.log(String.format("%s tags have a next token, following pagination", ResourceModel.TYPE_NAME));
+      return listTagsAsync(asyncProxyClient, model, response.nextToken(), tags, logger);
+    });
+  }
+
+  // The proxy may throw before a future is returned, surface those failures through the future instead
+  private static <T> CompletableFuture<T> invokeAsync(Supplier<CompletableFuture<T>> call) {
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      CompletableFuture<T> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+
+  private static Exception unwrapCompletionException(CompletionException e) {
+    return e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+  }
+
+  /**
+   * Makes one stabilization check for a pending reservation change. If the change has not stabilized yet
+   * an IN_PROGRESS event is returned with the next delay of the polling schedule, so the handler is
+   * re-invoked later instead of waiting in process.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> stabilizeWithCallback(
+          ProxyClient<AthenaClient> proxyClient,
+          ProgressEvent<ResourceModel, CallbackContext> progress,
+          BiPredicate<ProxyClient<AthenaClient>, ResourceModel> stabilizer,
+          PollingStrategy pollingStrategy,
+          long dpuDelta,
+          Logger logger) {
+    ResourceModel model = progress.getResourceModel();
+    CallbackContext callbackContext = progress.getCallbackContext();
+
+    if (pollStabilization(proxyClient, model, callbackContext, stabilizer, logger)) {
+      return ProgressEvent.progress(model, callbackContext);
+    }
+
+    Duration nextDelay = pollingStrategy.schedule(dpuDelta, stabilizationStartTime(callbackContext))
+            .nextDelay(callbackContext.getStabilizationAttempts());
+    if (nextDelay.isZero()) {
+      throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getName());
+    }
+    int callbackDelaySeconds = (int) Math.max(1L, (nextDelay.toMillis() + 999) / 1000);
+    logger.log(String.format("%s [%s] not stabilized, checking again in %d seconds",
+            ResourceModel.TYPE_NAME, model.getName(), callbackDelaySeconds));
+    return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, model);
+  }
+
+  /**
+   * Runs one stabilization poll and records it in the callback context. The latency of each poll and the
+   * time since the first poll are logged so the polling schedule can be tuned.
+   */
+  protected boolean pollStabilization(
+          ProxyClient<AthenaClient> proxyClient,
+          ResourceModel model,
+          CallbackContext callbackContext,
+          BiPredicate<ProxyClient<AthenaClient>, ResourceModel> stabilizer,
+          Logger logger) {
+    if (callbackContext.getStabilizationStartTime() == null) {
+      callbackContext.setStabilizationStartTime(Instant.now().toEpochMilli());
+    }
+    int attempt = callbackContext.getStabilizationAttempts() + 1;
+    callbackContext.setStabilizationAttempts(attempt);
+
+    long pollStart = System.nanoTime();
+    boolean stabilized = FlightRecorderEvents.stabilizationPoll(model.getName(),
+            () -> stabilizer.test(proxyClient, model));
+    long pollMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pollStart);
+    long elapsedMillis = Instant.now().toEpochMilli() - callbackContext.getStabilizationStartTime();
+    logger.log(String.format("%s [%s] stabilization poll %d took %d ms, %d ms since first poll, stabilized: %s",
+            ResourceModel.TYPE_NAME, model.getName(), attempt, pollMillis, elapsedMillis, stabilized));
+
+    if (stabilized) {
+      callbackContext.setStabilizationStartTime(null);
+      callbackContext.setStabilizationAttempts(0);
+    }
+    return stabilized;
+  }
+
+  protected static Instant stabilizationStartTime(CallbackContext callbackContext) {
+    return callbackContext.getStabilizationStartTime() != null
+            ? Instant.ofEpochMilli(callbackContext.getStabilizationStartTime())
+            : Instant.now();
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handlePropertyRequestError(
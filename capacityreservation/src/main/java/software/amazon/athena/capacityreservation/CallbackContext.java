@@ -7,4 +7,8 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Epoch millis of the first stabilization check, set while waiting for a reservation change to stabilize across callbacks
+    private Long stabilizationStartTime;
+    // Number of stabilization checks made so far for the pending reservation change
+    private int stabilizationAttempts;
 }
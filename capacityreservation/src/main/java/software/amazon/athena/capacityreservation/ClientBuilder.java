@@ -1,13 +1,40 @@
 package software.amazon.athena.capacityreservation;
 
+import software.amazon.athena.client.AthenaEndpoint;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
+import software.amazon.awssdk.services.athena.AthenaAsyncClientBuilder;
 import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.AthenaClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class ClientBuilder {
+  /**
+   * The async client owns its own event loop, so it is built once per container on first use
+   * and shared. Credentials are injected per request by the proxy.
+   */
+  private static class AsyncClientHolder {
+    private static final AthenaAsyncClient ATHENA_ASYNC_CLIENT = buildAsyncClient();
+  }
+
   public static AthenaClient getClient() {
-      return AthenaClient.builder()
-              .httpClient(LambdaWrapper.HTTP_CLIENT)
-              .build();
+      final AthenaClientBuilder builder = AthenaEndpoint.override(AthenaClient.builder())
+              .httpClient(LambdaWrapper.HTTP_CLIENT);
+      if (PhaseTracer.isEnabled()) {
+          builder.overrideConfiguration(c -> c.addExecutionInterceptor(PhaseTracer.interceptor()));
+      }
+      return builder.build();
   }
 
+  public static AthenaAsyncClient getAsyncClient() {
+      return AsyncClientHolder.ATHENA_ASYNC_CLIENT;
+  }
+
+  // Shared across invocations, so its calls are only traced if tracing was on when it was built
+  private static AthenaAsyncClient buildAsyncClient() {
+      final AthenaAsyncClientBuilder builder = AthenaEndpoint.override(AthenaAsyncClient.builder());
+      if (PhaseTracer.isEnabled()) {
+          builder.overrideConfiguration(c -> c.addExecutionInterceptor(PhaseTracer.interceptor()));
+      }
+      return builder.build();
+  }
 }
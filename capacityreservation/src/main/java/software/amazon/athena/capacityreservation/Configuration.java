@@ -1,8 +1,20 @@
 package software.amazon.athena.capacityreservation;
 
+import java.time.Duration;
+
 class Configuration extends BaseConfiguration {
 
     public Configuration() {
         super("aws-athena-capacityreservation.json");
     }
+
+    /**
+     * The timeoutInMinutes of the given handler ("create", "update", ...) in the resource schema.
+     */
+    Duration handlerTimeout(final String action) {
+        return Duration.ofMinutes(resourceSchemaJSONObject()
+                .getJSONObject("handlers")
+                .getJSONObject(action)
+                .getLong("timeoutInMinutes"));
+    }
 }
@@ -3,6 +3,7 @@ package software.amazon.athena.capacityreservation;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.CreateCapacityReservationRequest;
 import software.amazon.awssdk.services.athena.model.CreateCapacityReservationResponse;
 import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
 import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
@@ -18,8 +19,39 @@ import java.util.Map;
 
 
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler.ReadMode readMode;
+    private final StabilizationMode stabilizationMode;
+    private final PollingStrategy pollingStrategy;
     private Logger logger;
 
+    public CreateHandler() {
+        this(ReadHandler.ReadMode.CONCURRENT);
+    }
+
+    public CreateHandler(final ReadHandler.ReadMode readMode) {
+        this(readMode, StabilizationMode.CALLBACK);
+    }
+
+    public CreateHandler(final ReadHandler.ReadMode readMode, final StabilizationMode stabilizationMode) {
+        this(readMode, stabilizationMode, AdaptivePollingStrategy.forHandler("create"));
+    }
+
+    public CreateHandler(final ReadHandler.ReadMode readMode,
+                         final StabilizationMode stabilizationMode,
+                         final PollingStrategy pollingStrategy) {
+        this(readMode, stabilizationMode, pollingStrategy, null);
+    }
+
+    CreateHandler(final ReadHandler.ReadMode readMode,
+                  final StabilizationMode stabilizationMode,
+                  final PollingStrategy pollingStrategy,
+                  final PhaseTracer.SpanExporter spanExporter) {
+        super(spanExporter);
+        this.readMode = readMode;
+        this.stabilizationMode = stabilizationMode;
+        this.pollingStrategy = pollingStrategy;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -30,10 +62,10 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             // Create capacity reservation and wait for it to become active
-            .then(progress -> createCapacityReservation(proxy, proxyClient, progress, request))
+            .then(tracer.phase("CreateCapacityReservation", progress -> createCapacityReservation(proxy, proxyClient, progress, request)))
             // Put capacity assignment configuration
-            .then(progress -> putCapacityAssignmentConfiguration(proxy, proxyClient, progress, logger))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(tracer.phase("PutCapacityAssignmentConfiguration", progress -> putCapacityAssignmentConfiguration(proxy, proxyClient, progress, logger)))
+            .then(tracer.phase("Read", progress -> new ReadHandler(readMode, getAsyncClientSupplier()).handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createCapacityReservation(
@@ -42,45 +74,80 @@ public class CreateHandler extends BaseHandlerStd {
             ProgressEvent<ResourceModel, CallbackContext> progressEvent,
             ResourceHandlerRequest<ResourceModel> request) {
         ResourceModel resourceModel = progressEvent.getResourceModel();
+        CallbackContext callbackContext = progressEvent.getCallbackContext();
         // Set ARN of capacity reservation
         resourceModel.setArn(Translator.translateToCapacityReservationArn(request.getAwsPartition(),
                 request.getRegion(),
                 request.getAwsAccountId(),
                 resourceModel.getName()));
+
+        // All of the target DPUs are allocated by the create
+        long dpuDelta = resourceModel.getTargetDpus() != null ? resourceModel.getTargetDpus() : 0L;
+
+        if (stabilizationMode == StabilizationMode.CALLBACK) {
+            // Re-invoked after a callback, the reservation was already created and is still stabilizing
+            if (callbackContext.getStabilizationStartTime() != null) {
+                return stabilizeWithCallback(proxyClient, progressEvent, this::isReservationActive,
+                        pollingStrategy, dpuDelta, logger);
+            }
+            return tracer.call("AWS-Athena-CapacityReservation::Create", callGraph ->
+                    proxy.initiate(callGraph, proxyClient, resourceModel, callbackContext)
+                    .translateToServiceRequest(model -> translateToCreateRequest(model, request))
+                    .makeServiceCall(this::createReservation)
+                    .progress())
+                    .then(progress -> stabilizeWithCallback(proxyClient, progress, this::isReservationActive,
+                            pollingStrategy, dpuDelta, logger));
+        }
+
+        // Create capacity reservation and wait for status to stabilize to ACTIVE
+        return tracer.call("AWS-Athena-CapacityReservation::Create", callGraph ->
+                proxy.initiate(callGraph, proxyClient, resourceModel, callbackContext)
+                .translateToServiceRequest(model -> translateToCreateRequest(model, request))
+                .backoffDelay(pollingStrategy.schedule(dpuDelta, stabilizationStartTime(callbackContext)))
+                .makeServiceCall(this::createReservation)
+                .stabilize((awsRequest, awsResponse, athenaClientProxyClient, model, context) ->
+                        pollStabilization(athenaClientProxyClient, model, context, this::isReservationActive, logger))
+                .progress());
+    }
+
+    private CreateCapacityReservationRequest translateToCreateRequest(
+            ResourceModel model,
+            ResourceHandlerRequest<ResourceModel> request) {
         // Collect all tags for create, including system tags, stack tags, and tags specified by the user
-        Map<String, String> tagsForCreate = TagHelper.collectAllTags(resourceModel.getTags(),
+        Map<String, String> tagsForCreate = TagHelper.collectAllTags(model.getTags(),
                 request.getDesiredResourceTags(), request.getSystemTags());
-        // Create capacity reservation and wait for status to stabilize to ACTIVE
-        return proxy.initiate("AWS-Athena-CapacityReservation::Create", proxyClient, progressEvent.getResourceModel(), progressEvent.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToCreateCapacityReservationRequest(model, TagHelper.convertToSet(tagsForCreate)))
-                .makeServiceCall((createCapacityReservationRequest, athenaClientProxyClient) -> {
-                    try {
-                        CreateCapacityReservationResponse response =
-                                athenaClientProxyClient.injectCredentialsAndInvokeV2(createCapacityReservationRequest,
-                                        athenaClientProxyClient.client()::createCapacityReservation);
-                        logger.log(String.format("Successfully created %s [%s]", ResourceModel.TYPE_NAME, resourceModel.getName()));
-                        return response;
-                    } catch (AwsServiceException ex) {
-                        if (isAlreadyExistsException(ex)) {
-                            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME,
-                                    createCapacityReservationRequest.name());
-                        }
-                        throw ex;
-                    }
-                })
-                .stabilize((awsRequest, awsResponse, athenaClientProxyClient, model, context) -> {
-                    GetCapacityReservationRequest reservationRequest =
-                            Translator.translateToGetCapacityReservationRequest(model);
-                    GetCapacityReservationResponse reservationResponse =
-                            athenaClientProxyClient.injectCredentialsAndInvokeV2(reservationRequest,
-                                    athenaClientProxyClient.client()::getCapacityReservation);
-                    updateModelFromSdkResponse(model, reservationResponse.capacityReservation());
-                    logger.log(String.format("%s [%s] status: %s", ResourceModel.TYPE_NAME, model.getName(), model.getStatus()));
-                    if (model.getStatus().equals(CapacityReservationStatus.FAILED.toString())) {
-                        throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, resourceModel.getName());
-                    }
-                    return model.getStatus().equals(CapacityReservationStatus.ACTIVE.toString());
-                })
-                .progress();
+        return Translator.translateToCreateCapacityReservationRequest(model, TagHelper.convertToSet(tagsForCreate));
+    }
+
+    private CreateCapacityReservationResponse createReservation(
+            CreateCapacityReservationRequest createCapacityReservationRequest,
+            ProxyClient<AthenaClient> athenaClientProxyClient) {
+        try {
+            CreateCapacityReservationResponse response =
+                    athenaClientProxyClient.injectCredentialsAndInvokeV2(createCapacityReservationRequest,
+                            athenaClientProxyClient.client()::createCapacityReservation);
+            logger.log(String.format("Successfully created %s [%s]", ResourceModel.TYPE_NAME, createCapacityReservationRequest.name()));
+            return response;
+        } catch (AwsServiceException ex) {
+            if (isAlreadyExistsException(ex)) {
+                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME,
+                        createCapacityReservationRequest.name());
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isReservationActive(ProxyClient<AthenaClient> athenaClientProxyClient, ResourceModel model) {
+        GetCapacityReservationRequest reservationRequest =
+                Translator.translateToGetCapacityReservationRequest(model);
+        GetCapacityReservationResponse reservationResponse =
+                athenaClientProxyClient.injectCredentialsAndInvokeV2(reservationRequest,
+                        athenaClientProxyClient.client()::getCapacityReservation);
+        updateModelFromSdkResponse(model, reservationResponse.capacityReservation());
+        logger.log(String.format("%s [%s] status: %s", ResourceModel.TYPE_NAME, model.getName(), model.getStatus()));
+        if (model.getStatus().equals(CapacityReservationStatus.FAILED.toString())) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getName());
+        }
+        return model.getStatus().equals(CapacityReservationStatus.ACTIVE.toString());
     }
 }
@@ -13,8 +13,22 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private final PollingStrategy pollingStrategy;
     private Logger logger;
 
+    public DeleteHandler() {
+        this(AdaptivePollingStrategy.forHandler("delete"));
+    }
+
+    public DeleteHandler(final PollingStrategy pollingStrategy) {
+        this(pollingStrategy, null);
+    }
+
+    DeleteHandler(final PollingStrategy pollingStrategy, final PhaseTracer.SpanExporter spanExporter) {
+        super(spanExporter);
+        this.pollingStrategy = pollingStrategy;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -25,9 +39,9 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> processModelIdentifier(progress))
-                .then(progress -> cancelCapacityReservation(proxy, proxyClient, progress))
-                .then(progress -> deleteCapacityReservation(proxy, proxyClient, progress))
+                .then(tracer.phase("ProcessIdentifier", progress -> processModelIdentifier(progress)))
+                .then(tracer.phase("CancelCapacityReservation", progress -> cancelCapacityReservation(proxy, proxyClient, progress)))
+                .then(tracer.phase("DeleteCapacityReservation", progress -> deleteCapacityReservation(proxy, proxyClient, progress)))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
@@ -35,20 +49,18 @@ public class DeleteHandler extends BaseHandlerStd {
             AmazonWebServicesClientProxy proxy,
             ProxyClient<AthenaClient> proxyClient,
             ProgressEvent<ResourceModel, CallbackContext> progress) {
-        return proxy.initiate("AWS-Athena-CapacityReservation::Cancel", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        CallbackContext callbackContext = progress.getCallbackContext();
+        // Cancelling releases every DPU of the reservation
+        Long targetDpus = progress.getResourceModel().getTargetDpus();
+        long dpuDelta = targetDpus != null ? targetDpus : 0L;
+        return tracer.call("AWS-Athena-CapacityReservation::Cancel", callGraph ->
+                proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), callbackContext)
                 .translateToServiceRequest(Translator::translateToCancelCapacityReservationRequest)
+                .backoffDelay(pollingStrategy.schedule(dpuDelta, stabilizationStartTime(callbackContext)))
                 .makeServiceCall((cancelCapacityReservationRequest, athenaClientProxyClient) -> athenaClientProxyClient.injectCredentialsAndInvokeV2(cancelCapacityReservationRequest,
                         athenaClientProxyClient.client()::cancelCapacityReservation))
-                .stabilize((awsRequest, awsResponse, athenaClientProxyClient, model, context) -> {
-                    GetCapacityReservationRequest reservationRequest =
-                            Translator.translateToGetCapacityReservationRequest(model);
-                    GetCapacityReservationResponse reservationResponse =
-                            athenaClientProxyClient.injectCredentialsAndInvokeV2(reservationRequest,
-                                    athenaClientProxyClient.client()::getCapacityReservation);
-                    logger.log(String.format("%s [%s] status: %s", ResourceModel.TYPE_NAME, model.getName(),
-                            reservationResponse.capacityReservation().status()));
-                    return reservationResponse.capacityReservation().status().equals(CapacityReservationStatus.CANCELLED);
-                })
+                .stabilize((awsRequest, awsResponse, athenaClientProxyClient, model, context) ->
+                        pollStabilization(athenaClientProxyClient, model, context, this::isReservationCancelled, logger))
                 .handleError((cancelCapacityReservationRequest, e, athenaClientProxyClient, resourceModel, context) -> {
                     // If reservation already cancelled, continue with delete
                     if (isAlreadyCancelledException(e)) {
@@ -66,18 +78,30 @@ public class DeleteHandler extends BaseHandlerStd {
                             HandlerErrorCode.GeneralServiceException,
                             e.getMessage());
                 })
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> deleteCapacityReservation(
             AmazonWebServicesClientProxy proxy,
             ProxyClient<AthenaClient> proxyClient,
             ProgressEvent<ResourceModel, CallbackContext> progress) {
-        return proxy.initiate("AWS-Athena-CapacityReservation::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return tracer.call("AWS-Athena-CapacityReservation::Delete", callGraph ->
+                proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteCapacityReservationRequest)
                 .makeServiceCall((deleteCapacityReservationRequest, athenaClientProxyClient) ->
                         athenaClientProxyClient.injectCredentialsAndInvokeV2(deleteCapacityReservationRequest,
                                 athenaClientProxyClient.client()::deleteCapacityReservation))
-                .progress();
+                .progress());
+    }
+
+    private boolean isReservationCancelled(ProxyClient<AthenaClient> athenaClientProxyClient, ResourceModel model) {
+        GetCapacityReservationRequest reservationRequest =
+                Translator.translateToGetCapacityReservationRequest(model);
+        GetCapacityReservationResponse reservationResponse =
+                athenaClientProxyClient.injectCredentialsAndInvokeV2(reservationRequest,
+                        athenaClientProxyClient.client()::getCapacityReservation);
+        logger.log(String.format("%s [%s] status: %s", ResourceModel.TYPE_NAME, model.getName(),
+                reservationResponse.capacityReservation().status()));
+        return reservationResponse.capacityReservation().status().equals(CapacityReservationStatus.CANCELLED);
     }
 }
@@ -1,7 +1,9 @@
 package software.amazon.athena.capacityreservation;
 
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
-import software.amazon.awssdk.services.athena.model.ListCapacityReservationsRequest;
 import software.amazon.awssdk.services.athena.model.ListCapacityReservationsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -10,10 +12,47 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
+import java.util.function.LongSupplier;
 
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * SEQUENTIAL requests the next page only after the current one has been translated.
+     * PREFETCH requests it through {@link AthenaAsyncClient} as soon as its token is known.
+     */
+    public enum PageFetchMode {
+        SEQUENTIAL,
+        PREFETCH
+    }
+
+    private final PageAggregator pageAggregator;
+    private final PageFetchMode pageFetchMode;
+
+    /**
+     * Follows nextToken until {@link PageAggregator#DEFAULT_MAX_ITEMS} capacity reservations were read, the
+     * service has no more of them or the invocation runs low on time, prefetching each next page.
+     */
+    public ListHandler() {
+        this(PageAggregator.withinTimeBudget(), PageFetchMode.PREFETCH);
+    }
+
+    /**
+     * Keeps following nextToken within one invocation until at least maxItems capacity reservations were read
+     * or the remaining invocation time runs low.
+     */
+    public ListHandler(final int maxItems, final LongSupplier remainingTimeMillis) {
+        this(maxItems, remainingTimeMillis, PageFetchMode.SEQUENTIAL);
+    }
+
+    public ListHandler(final int maxItems, final LongSupplier remainingTimeMillis, final PageFetchMode pageFetchMode) {
+        this(PageAggregator.aggregated(maxItems, remainingTimeMillis), pageFetchMode);
+    }
+
+    private ListHandler(final PageAggregator pageAggregator, final PageFetchMode pageFetchMode) {
+        this.pageAggregator = pageAggregator;
+        this.pageFetchMode = pageFetchMode;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -22,19 +61,30 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<AthenaClient> proxyClient,
         final Logger logger) {
 
-        final ListCapacityReservationsRequest listCapacityReservationsRequest =
-                Translator.translateToListRequest(request.getNextToken());
-
-        ListCapacityReservationsResponse listResponse =
-                proxyClient.injectCredentialsAndInvokeV2(listCapacityReservationsRequest,
-                        proxyClient.client()::listCapacityReservations);
-
-        final List<ResourceModel> models = Translator.translateFromListRequest(listResponse, request);
-        String nextToken = listResponse.nextToken();
+        final PageAggregator.Page<ResourceModel> models;
+        if (pageFetchMode == PageFetchMode.PREFETCH) {
+            final ProxyClient<AthenaAsyncClient> asyncProxyClient =
+                    ApiCallMetrics.instrument(logger, ResourceModel.TYPE_NAME,
+                            proxy.newProxy(getAsyncClientSupplier()));
+            models = pageAggregator.aggregateWithPrefetch(
+                    request.getNextToken(),
+                    nextToken -> asyncProxyClient.injectCredentialsAndInvokeV2Async(Translator.translateToListRequest(nextToken),
+                            asyncProxyClient.client()::listCapacityReservations),
+                    listResponse -> Translator.translateFromListRequest(listResponse, request),
+                    listResponse -> listResponse.capacityReservations().size(),
+                    ListCapacityReservationsResponse::nextToken);
+        } else {
+            models = pageAggregator.aggregate(
+                    request.getNextToken(),
+                    nextToken -> proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken),
+                            proxyClient.client()::listCapacityReservations),
+                    listResponse -> Translator.translateFromListRequest(listResponse, request),
+                    ListCapacityReservationsResponse::nextToken);
+        }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(nextToken)
+            .resourceModels(models.getItems())
+            .nextToken(models.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
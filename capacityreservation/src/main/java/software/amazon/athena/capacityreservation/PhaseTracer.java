@@ -0,0 +1,365 @@
+package software.amazon.athena.capacityreservation;
+
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records the spans of one handler invocation: a root span for the CloudFormation action, one span per step
+ * of the handler's ProgressEvent chain and per proxy.initiate call chain, and one span per Athena API call.
+ * Spans opened while another one is running become its children, so an initiate call made inside a chain
+ * step is reported under that step, and an API call under the step or call chain that made it.
+ *
+ * The root span and the API call spans are annotated with the resource type and identifier, modelled on
+ * OpenTelemetry attributes. API call spans come from the SDK {@link ExecutionInterceptor} returned by
+ * {@link #interceptor()}, which finds the tracer of the running invocation through a thread local.
+ *
+ * Finished spans are handed to a {@link SpanExporter} and kept for {@link #summary()}.
+ *
+ * Tracing is off until a SpanExporter is installed with {@link #install(SpanExporter)} or handed to a handler.
+ * While it is off every invocation shares one tracer that records nothing: no spans are opened, the thread
+ * local is never set and ClientBuilder does not add the interceptor to new clients.
+ */
+final class PhaseTracer {
+    static final String RESOURCE_TYPE_ATTRIBUTE = "aws.cloudformation.resource_type";
+    static final String ACTION_ATTRIBUTE = "aws.cloudformation.action";
+    static final String IDENTIFIER_ATTRIBUTE = "aws.cloudformation.identifier";
+    static final String OPERATION_STATUS_ATTRIBUTE = "aws.cloudformation.operation_status";
+    static final String SERVICE_ATTRIBUTE = "rpc.service";
+    static final String OPERATION_ATTRIBUTE = "rpc.method";
+    static final String ATTEMPTS_ATTRIBUTE = "aws.sdk.attempts";
+    static final String REQUEST_ID_ATTRIBUTE = "aws.request_id";
+    static final String HTTP_STATUS_CODE_ATTRIBUTE = "http.status_code";
+    static final String ERROR_CODE_ATTRIBUTE = "error.code";
+
+    private static final ExecutionInterceptor INTERCEPTOR = new TracingInterceptor();
+    private static final ThreadLocal<PhaseTracer> CURRENT_TRACER = new ThreadLocal<>();
+    private static final PhaseTracer DISABLED = new PhaseTracer(null);
+
+    private static volatile SpanExporter installedExporter;
+
+    /**
+     * Receives every span once it has finished. Exporters are called from the thread that ended the span,
+     * which for async API calls is an SDK thread.
+     */
+    interface SpanExporter {
+        void export(Span span);
+    }
+
+    static final class Span {
+        private final String name;
+        private final Span parent;
+        private final long startNanos;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private volatile long durationNanos;
+        private volatile boolean failed;
+        private int attempts;
+
+        private Span(final String name, final Span parent, final long startNanos) {
+            this.name = name;
+            this.parent = parent;
+            this.startNanos = startNanos;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * The enclosing span, null for the root span of an invocation or a chain step traced outside one.
+         */
+        Span getParent() {
+            return parent;
+        }
+
+        long getDurationMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+
+        /**
+         * True if the step or call threw or returned a FAILED event.
+         */
+        boolean isFailed() {
+            return failed;
+        }
+
+        synchronized Map<String, Object> getAttributes() {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        }
+
+        synchronized void setAttribute(final String key, final Object value) {
+            if (value != null) {
+                attributes.put(key, value);
+            }
+        }
+
+        private synchronized void recordAttempt() {
+            attempts++;
+            attributes.put(ATTEMPTS_ATTRIBUTE, attempts);
+        }
+    }
+
+    private final SpanExporter spanExporter;
+    private final long traceStartNanos = System.nanoTime();
+    // Only the invocation thread opens spans, API calls ending on SDK threads just set their duration
+    private final List<Span> spans = new ArrayList<>();
+    private final Deque<Span> openSpans = new ArrayDeque<>();
+    private Span root;
+
+    PhaseTracer(final SpanExporter spanExporter) {
+        this.spanExporter = spanExporter;
+    }
+
+    /**
+     * Turns tracing on for every handler that was not given its own exporter.
+     */
+    static void install(final SpanExporter spanExporter) {
+        installedExporter = spanExporter;
+    }
+
+    /**
+     * Turns tracing off again. Invocations already running keep tracing until they return.
+     */
+    static void uninstall() {
+        installedExporter = null;
+    }
+
+    static boolean isEnabled() {
+        return installedExporter != null;
+    }
+
+    /**
+     * A new tracer for one invocation, exporting to the given exporter or else the installed one. Without
+     * either the shared disabled tracer is returned.
+     */
+    static PhaseTracer start(final SpanExporter spanExporter) {
+        final SpanExporter exporter = spanExporter != null ? spanExporter : installedExporter;
+        return exporter != null ? new PhaseTracer(exporter) : DISABLED;
+    }
+
+    /**
+     * The interceptor that creates the API call spans. It does nothing for calls made outside a traced
+     * invocation, so it can stay on clients that outlive a single invocation.
+     */
+    static ExecutionInterceptor interceptor() {
+        return INTERCEPTOR;
+    }
+
+    /**
+     * Runs one handler invocation under a root span named after the resource type and action.
+     */
+    ProgressEvent<ResourceModel, CallbackContext> invocation(
+            final String action,
+            final String identifier,
+            final Supplier<ProgressEvent<ResourceModel, CallbackContext>> invocation) {
+        if (this == DISABLED) {
+            return invocation.get();
+        }
+        final PhaseTracer outer = CURRENT_TRACER.get();
+        root = open(ResourceModel.TYPE_NAME + " " + action);
+        root.setAttribute(RESOURCE_TYPE_ATTRIBUTE, ResourceModel.TYPE_NAME);
+        root.setAttribute(ACTION_ATTRIBUTE, action);
+        root.setAttribute(IDENTIFIER_ATTRIBUTE, identifier);
+        CURRENT_TRACER.set(this);
+        try {
+            return trace(root, () -> {
+                final ProgressEvent<ResourceModel, CallbackContext> progressEvent = invocation.get();
+                root.setAttribute(OPERATION_STATUS_ATTRIBUTE, String.valueOf(progressEvent.getStatus()));
+                if (progressEvent.isFailed()) {
+                    root.setAttribute(ERROR_CODE_ATTRIBUTE, String.valueOf(progressEvent.getErrorCode()));
+                }
+                return progressEvent;
+            });
+        } finally {
+            if (outer != null) {
+                CURRENT_TRACER.set(outer);
+            } else {
+                CURRENT_TRACER.remove();
+            }
+        }
+    }
+
+    /**
+     * Wraps a chain step so it is recorded as a span named after the phase, for use with ProgressEvent.then.
+     */
+    Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> phase(
+            final String name,
+            final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step) {
+        if (this == DISABLED) {
+            return step;
+        }
+        return progress -> trace(open(name), () -> step.apply(progress));
+    }
+
+    /**
+     * Runs a proxy.initiate call chain as a span named after its call graph. The call graph is handed to the
+     * chain so the span and the initiate call can't drift apart.
+     */
+    ProgressEvent<ResourceModel, CallbackContext> call(
+            final String callGraph,
+            final Function<String, ProgressEvent<ResourceModel, CallbackContext>> callChain) {
+        if (this == DISABLED) {
+            return callChain.apply(callGraph);
+        }
+        return trace(open(callGraph), () -> callChain.apply(callGraph));
+    }
+
+    List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    /**
+     * Compact one-line rendering of the spans recorded below the root so far, children in brackets after their
+     * parent, failed spans marked with '!', e.g.
+     * {@code total=812ms ProcessIdentifier=0ms CheckExistence=35ms[AWS-Athena-CapacityReservation::GetCapacityReservation=35ms[Athena.GetCapacityReservation=34ms]]}
+     */
+    String summary() {
+        final StringBuilder summary = new StringBuilder("total=")
+                .append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - traceStartNanos))
+                .append("ms");
+        childrenOf(root).forEach(span -> summary.append(' ').append(render(span)));
+        return summary.toString();
+    }
+
+    private Span open(final String name) {
+        final Span span = new Span(name, openSpans.peek(), System.nanoTime());
+        spans.add(span);
+        return span;
+    }
+
+    private <T> T trace(final Span span, final Supplier<T> body) {
+        openSpans.push(span);
+        boolean completed = false;
+        try {
+            final T result = body.get();
+            completed = !(result instanceof ProgressEvent && ((ProgressEvent<?, ?>) result).isFailed());
+            return result;
+        } catch (RuntimeException e) {
+            span.setAttribute(ERROR_CODE_ATTRIBUTE, errorCode(e));
+            throw e;
+        } finally {
+            openSpans.pop();
+            span.failed = !completed;
+            end(span);
+        }
+    }
+
+    private void end(final Span span) {
+        span.durationNanos = System.nanoTime() - span.startNanos;
+        spanExporter.export(span);
+    }
+
+    private List<Span> childrenOf(final Span parent) {
+        return spans.stream()
+                .filter(span -> span.parent == parent)
+                .collect(Collectors.toList());
+    }
+
+    private String render(final Span span) {
+        final StringBuilder rendered = new StringBuilder(span.name)
+                .append('=')
+                .append(span.getDurationMillis())
+                .append("ms");
+        if (span.failed) {
+            rendered.append('!');
+        }
+        final List<Span> children = childrenOf(span);
+        if (!children.isEmpty()) {
+            rendered.append(children.stream()
+                    .map(this::render)
+                    .collect(Collectors.joining(",", "[", "]")));
+        }
+        return rendered.toString();
+    }
+
+    private static String errorCode(final Throwable error) {
+        if (error instanceof AwsServiceException) {
+            final AwsErrorDetails awsErrorDetails = ((AwsServiceException) error).awsErrorDetails();
+            if (awsErrorDetails != null && awsErrorDetails.errorCode() != null) {
+                return awsErrorDetails.errorCode();
+            }
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    private static final class TracingInterceptor implements ExecutionInterceptor {
+        private static final ExecutionAttribute<PhaseTracer> TRACER = new ExecutionAttribute<>("AthenaPhaseTracer");
+        private static final ExecutionAttribute<Span> SPAN = new ExecutionAttribute<>("AthenaPhaseTracerSpan");
+
+        // Runs on the calling thread, so the span is opened below the step or call chain that made the call
+        @Override
+        public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+            final PhaseTracer tracer = CURRENT_TRACER.get();
+            if (tracer == null) {
+                return;
+            }
+            final String service = executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME);
+            final String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+            final Span span = tracer.open(service + "." + operation);
+            span.setAttribute(RESOURCE_TYPE_ATTRIBUTE, ResourceModel.TYPE_NAME);
+            span.setAttribute(IDENTIFIER_ATTRIBUTE, tracer.root.getAttributes().get(IDENTIFIER_ATTRIBUTE));
+            span.setAttribute(SERVICE_ATTRIBUTE, service);
+            span.setAttribute(OPERATION_ATTRIBUTE, operation);
+            executionAttributes.putAttribute(TRACER, tracer);
+            executionAttributes.putAttribute(SPAN, span);
+        }
+
+        // Called once per attempt, so it counts the retries the SDK makes
+        @Override
+        public void beforeTransmission(final Context.BeforeTransmission context,
+                                       final ExecutionAttributes executionAttributes) {
+            final Span span = executionAttributes.getAttribute(SPAN);
+            if (span != null) {
+                span.recordAttempt();
+            }
+        }
+
+        @Override
+        public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+            final Span span = executionAttributes.getAttribute(SPAN);
+            if (span == null) {
+                return;
+            }
+            span.setAttribute(HTTP_STATUS_CODE_ATTRIBUTE, context.httpResponse().statusCode());
+            if (context.response() instanceof AwsResponse) {
+                span.setAttribute(REQUEST_ID_ATTRIBUTE, ((AwsResponse) context.response()).responseMetadata().requestId());
+            }
+            executionAttributes.getAttribute(TRACER).end(span);
+        }
+
+        @Override
+        public void onExecutionFailure(final Context.FailedExecution context,
+                                       final ExecutionAttributes executionAttributes) {
+            final Span span = executionAttributes.getAttribute(SPAN);
+            if (span == null) {
+                return;
+            }
+            if (context.exception() instanceof AwsServiceException) {
+                final AwsServiceException serviceException = (AwsServiceException) context.exception();
+                span.setAttribute(HTTP_STATUS_CODE_ATTRIBUTE, serviceException.statusCode());
+                span.setAttribute(REQUEST_ID_ATTRIBUTE, serviceException.requestId());
+            }
+            span.setAttribute(ERROR_CODE_ATTRIBUTE, errorCode(context.exception()));
+            span.failed = true;
+            executionAttributes.getAttribute(TRACER).end(span);
+        }
+    }
+}
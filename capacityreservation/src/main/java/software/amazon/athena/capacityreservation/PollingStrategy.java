@@ -0,0 +1,19 @@
+package software.amazon.athena.capacityreservation;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decides how long to wait between stabilization polls of a capacity reservation.
+ */
+public interface PollingStrategy {
+    /**
+     * Creates the polling schedule for one stabilization.
+     * @param dpuDelta number of DPUs being allocated or released by the change
+     * @param startTime time of the first poll, the deadline is measured from here so it holds across callbacks
+     * @return Delay between polls, returning {@link Duration#ZERO} once polling should stop
+     */
+    Delay schedule(long dpuDelta, Instant startTime);
+}
@@ -1,5 +1,7 @@
 package software.amazon.athena.capacityreservation;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -7,9 +9,42 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.function.Supplier;
+
 public class ReadHandler extends BaseHandlerStd {
+    /**
+     * SEQUENTIAL reads the reservation, its assignment configuration and its tags one after another.
+     * CONCURRENT issues all three calls at once through {@link AthenaAsyncClient} and merges the results,
+     * and is the default.
+     */
+    public enum ReadMode {
+        SEQUENTIAL,
+        CONCURRENT
+    }
+
+    private final ReadMode readMode;
     private Logger logger;
 
+    public ReadHandler() {
+        this(ReadMode.CONCURRENT);
+    }
+
+    public ReadHandler(final ReadMode readMode) {
+        this(readMode, ClientBuilder::getAsyncClient);
+    }
+
+    ReadHandler(final ReadMode readMode, final Supplier<AthenaAsyncClient> asyncClientSupplier) {
+        this(readMode, asyncClientSupplier, null);
+    }
+
+    ReadHandler(final ReadMode readMode,
+                final Supplier<AthenaAsyncClient> asyncClientSupplier,
+                final PhaseTracer.SpanExporter spanExporter) {
+        super(spanExporter);
+        this.readMode = readMode;
+        setAsyncClientSupplier(asyncClientSupplier);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -19,8 +54,18 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
 
+        if (readMode == ReadMode.CONCURRENT) {
+            return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                    .then(tracer.phase("ProcessIdentifier", progress -> processModelIdentifier(progress)))
+                    .then(tracer.phase("ReadConcurrently", progress ->
+                            readConcurrently(ApiCallMetrics.instrument(logger, ResourceModel.TYPE_NAME,
+                                    proxy.newProxy(getAsyncClientSupplier())), progress, request, logger)))
+                    .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+        }
+
+        // Each read below is an initiate call chain and traced as such
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> processModelIdentifier(progress))
+                .then(tracer.phase("ProcessIdentifier", progress -> processModelIdentifier(progress)))
                 .then(progress -> getCapacityReservation(proxy, proxyClient, progress, request, logger))
                 .then(progress -> getCapacityAssignmentConfiguration(proxy, proxyClient, progress, logger))
                 .then(progress -> getTags(proxy, proxyClient, progress, logger))
@@ -210,7 +210,7 @@ public class TagHelper {
             .translateToServiceRequest(model ->
                 Translator.tagResourceRequest(model, addedTags))
             .makeServiceCall((request, client) ->
-                    proxy.injectCredentialsAndInvokeV2(request, client.client()::tagResource))
+                    client.injectCredentialsAndInvokeV2(request, client.client()::tagResource))
             .progress();
     }
 
@@ -233,7 +233,7 @@ public class TagHelper {
                  .translateToServiceRequest(model ->
                          Translator.untagResourceRequest(model, removedTags))
                  .makeServiceCall((request, client) ->
-                         proxy.injectCredentialsAndInvokeV2(request, client.client()::untagResource))
+                         client.injectCredentialsAndInvokeV2(request, client.client()::untagResource))
                  .progress();
 
     }
@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
 import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
 import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.UpdateCapacityReservationRequest;
 import software.amazon.awssdk.services.athena.model.UpdateCapacityReservationResponse;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -21,8 +22,39 @@ import java.util.Map;
 import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final ReadHandler.ReadMode readMode;
+    private final StabilizationMode stabilizationMode;
+    private final PollingStrategy pollingStrategy;
     private Logger logger;
 
+    public UpdateHandler() {
+        this(ReadHandler.ReadMode.CONCURRENT);
+    }
+
+    public UpdateHandler(final ReadHandler.ReadMode readMode) {
+        this(readMode, StabilizationMode.CALLBACK);
+    }
+
+    public UpdateHandler(final ReadHandler.ReadMode readMode, final StabilizationMode stabilizationMode) {
+        this(readMode, stabilizationMode, AdaptivePollingStrategy.forHandler("update"));
+    }
+
+    public UpdateHandler(final ReadHandler.ReadMode readMode,
+                         final StabilizationMode stabilizationMode,
+                         final PollingStrategy pollingStrategy) {
+        this(readMode, stabilizationMode, pollingStrategy, null);
+    }
+
+    UpdateHandler(final ReadHandler.ReadMode readMode,
+                  final StabilizationMode stabilizationMode,
+                  final PollingStrategy pollingStrategy,
+                  final PhaseTracer.SpanExporter spanExporter) {
+        super(spanExporter);
+        this.readMode = readMode;
+        this.stabilizationMode = stabilizationMode;
+        this.pollingStrategy = pollingStrategy;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -32,10 +64,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         this.logger = logger;
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> processModelIdentifier(progress))
+                .then(tracer.phase("ProcessIdentifier", progress -> processModelIdentifier(progress)))
                 // Check capacity reservation exists
-                .then(progress ->
-                        proxy.initiate("AWS-Athena-CapacityReservation::GetCapacityReservation", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .then(tracer.phase("CheckExistence", progress -> tracer.call("AWS-Athena-CapacityReservation::GetCapacityReservation", callGraph ->
+                        proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToGetCapacityReservationRequest)
                         .makeServiceCall((getCapacityReservationRequest, athenaClientProxyClient) -> athenaClientProxyClient.injectCredentialsAndInvokeV2(getCapacityReservationRequest,
                                         athenaClientProxyClient.client()::getCapacityReservation))
@@ -60,11 +92,11 @@ public class UpdateHandler extends BaseHandlerStd {
                             resourceModel.setArn(Translator.translateToCapacityReservationArn(request.getAwsPartition(),
                                     request.getRegion(), request.getAwsAccountId(), resourceModel.getName()));
                             return ProgressEvent.progress(resourceModel, callbackContext);
-                        }))
-                .then(progress -> updateCapacityReservation(proxy, proxyClient, progress, request))
-                .then(progress -> updateCapacityAssignmentConfiguration(proxy, proxyClient, progress, request))
-                .then(progress -> updateTags(proxy, proxyClient, progress, request))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        }))))
+                .then(tracer.phase("UpdateCapacityReservation", progress -> updateCapacityReservation(proxy, proxyClient, progress, request)))
+                .then(tracer.phase("UpdateCapacityAssignmentConfiguration", progress -> updateCapacityAssignmentConfiguration(proxy, proxyClient, progress, request)))
+                .then(tracer.phase("UpdateTags", progress -> updateTags(proxy, proxyClient, progress, request)))
+                .then(tracer.phase("Read", progress -> new ReadHandler(readMode, getAsyncClientSupplier()).handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateCapacityReservation(
@@ -82,37 +114,62 @@ public class UpdateHandler extends BaseHandlerStd {
 
         ResourceModel model = progressEvent.getResourceModel();
         CallbackContext callbackContext = progressEvent.getCallbackContext();
+        long dpuDelta = desiredModel.getTargetDpus() - previousModel.getTargetDpus();
 
-        return proxy.initiate("AWS-Athena-CapacityReservation::UpdateCapacityReservation", proxyClient, model, callbackContext)
+        if (stabilizationMode == StabilizationMode.CALLBACK) {
+            // Re-invoked after a callback, the update was already requested and is still stabilizing
+            if (callbackContext.getStabilizationStartTime() != null) {
+                return stabilizeWithCallback(proxyClient, progressEvent, this::isAllocationSucceeded,
+                        pollingStrategy, dpuDelta, logger);
+            }
+            return tracer.call("AWS-Athena-CapacityReservation::UpdateCapacityReservation", callGraph ->
+                    proxy.initiate(callGraph, proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Translator::translateToUpdateCapacityReservationRequest)
+                    .makeServiceCall(this::updateReservation)
+                    .progress())
+                    .then(progress -> stabilizeWithCallback(proxyClient, progress, this::isAllocationSucceeded,
+                            pollingStrategy, dpuDelta, logger));
+        }
+
+        return tracer.call("AWS-Athena-CapacityReservation::UpdateCapacityReservation", callGraph ->
+                proxy.initiate(callGraph, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToUpdateCapacityReservationRequest)
-                .makeServiceCall((updateCapacityReservationRequest, athenaClientProxyClient) -> {
-                        UpdateCapacityReservationResponse updateCapacityReservationResponse =
-                            athenaClientProxyClient.injectCredentialsAndInvokeV2(updateCapacityReservationRequest,
-                                    athenaClientProxyClient.client()::updateCapacityReservation);
-                    logger.log(String.format("Successfully updated %s [%s]", ResourceModel.TYPE_NAME, model.getName()));
-                    return updateCapacityReservationResponse;
-                })
+                .backoffDelay(pollingStrategy.schedule(dpuDelta, stabilizationStartTime(callbackContext)))
+                .makeServiceCall(this::updateReservation)
                 // Stabilize when status goes to ACTIVE and last allocation was successful
-                .stabilize((awsRequest, awsResponse, athenaClientProxyClient, resourceModel, context) -> {
-                    GetCapacityReservationRequest reservationRequest =
-                            Translator.translateToGetCapacityReservationRequest(resourceModel);
-                    GetCapacityReservationResponse reservationResponse =
-                            athenaClientProxyClient.injectCredentialsAndInvokeV2(reservationRequest,
-                                    athenaClientProxyClient.client()::getCapacityReservation);
-                    updateModelFromSdkResponse(resourceModel, reservationResponse.capacityReservation());
-                    logger.log(String.format("%s [%s] status: %s", ResourceModel.TYPE_NAME, model.getName(), model.getStatus()));
-                    if (model.getStatus().equals(CapacityReservationStatus.ACTIVE.toString())) {
-                        CapacityAllocationStatus allocationStatus = reservationResponse
-                                .capacityReservation().lastAllocation().status();
-                        if (allocationStatus.equals(CapacityAllocationStatus.SUCCEEDED)) {
-                            return true;
-                        }
-                        // Last allocation did not succeed, fail the update request
-                        throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, resourceModel.getName());
-                    }
-                    return false;
-                })
-                .progress();
+                .stabilize((awsRequest, awsResponse, athenaClientProxyClient, resourceModel, context) ->
+                        pollStabilization(athenaClientProxyClient, resourceModel, context, this::isAllocationSucceeded, logger))
+                .progress());
+    }
+
+    private UpdateCapacityReservationResponse updateReservation(
+            UpdateCapacityReservationRequest updateCapacityReservationRequest,
+            ProxyClient<AthenaClient> athenaClientProxyClient) {
+        UpdateCapacityReservationResponse updateCapacityReservationResponse =
+                athenaClientProxyClient.injectCredentialsAndInvokeV2(updateCapacityReservationRequest,
+                        athenaClientProxyClient.client()::updateCapacityReservation);
+        logger.log(String.format("Successfully updated %s [%s]", ResourceModel.TYPE_NAME, updateCapacityReservationRequest.name()));
+        return updateCapacityReservationResponse;
+    }
+
+    private boolean isAllocationSucceeded(ProxyClient<AthenaClient> athenaClientProxyClient, ResourceModel resourceModel) {
+        GetCapacityReservationRequest reservationRequest =
+                Translator.translateToGetCapacityReservationRequest(resourceModel);
+        GetCapacityReservationResponse reservationResponse =
+                athenaClientProxyClient.injectCredentialsAndInvokeV2(reservationRequest,
+                        athenaClientProxyClient.client()::getCapacityReservation);
+        updateModelFromSdkResponse(resourceModel, reservationResponse.capacityReservation());
+        logger.log(String.format("%s [%s] status: %s", ResourceModel.TYPE_NAME, resourceModel.getName(), resourceModel.getStatus()));
+        if (resourceModel.getStatus().equals(CapacityReservationStatus.ACTIVE.toString())) {
+            CapacityAllocationStatus allocationStatus = reservationResponse
+                    .capacityReservation().lastAllocation().status();
+            if (allocationStatus.equals(CapacityAllocationStatus.SUCCEEDED)) {
+                return true;
+            }
+            // Last allocation did not succeed, fail the update request
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, resourceModel.getName());
+        }
+        return false;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateCapacityAssignmentConfiguration(
@@ -150,11 +207,14 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.progress(model, callbackContext);
         }
 
+        FlightRecorderEvents.TagDiff tagDiff = new FlightRecorderEvents.TagDiff();
+        tagDiff.begin();
         Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(request);
         Map<String, String> desiredTags = TagHelper.getNewDesiredTags(request);
 
         Map<String, String> addedTags = TagHelper.generateTagsToAdd(previousTags, desiredTags);
         Set<String> removedTags = TagHelper.generateTagsToRemove(previousTags, desiredTags);
+        tagDiff.commit(addedTags.size(), removedTags.size());
 
         return TagHelper.untagResource(proxy, proxyClient, model, request, callbackContext, removedTags, logger)
                 .then(progressEvent1 ->
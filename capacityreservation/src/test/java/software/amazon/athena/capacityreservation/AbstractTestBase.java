@@ -5,12 +5,20 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationResponse;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.athena.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -78,6 +86,51 @@ public class AbstractTestBase {
     };
   }
 
+  /**
+   * An async client answering the concurrent read from the stubs of the synchronous sdkClient, so tests of the
+   * default read mode stub and verify the same calls as the sequential one. Each future is already complete, or
+   * already failed with the exception the stub throws.
+   */
+  static AthenaAsyncClient MOCK_ASYNC_CLIENT(final AthenaClient sdkClient) {
+    return new AthenaAsyncClient() {
+      @Override
+      public CompletableFuture<GetCapacityReservationResponse> getCapacityReservation(
+        GetCapacityReservationRequest request) {
+        return complete(() -> sdkClient.getCapacityReservation(request));
+      }
+
+      @Override
+      public CompletableFuture<GetCapacityAssignmentConfigurationResponse> getCapacityAssignmentConfiguration(
+        GetCapacityAssignmentConfigurationRequest request) {
+        return complete(() -> sdkClient.getCapacityAssignmentConfiguration(request));
+      }
+
+      @Override
+      public CompletableFuture<ListTagsForResourceResponse> listTagsForResource(ListTagsForResourceRequest request) {
+        return complete(() -> sdkClient.listTagsForResource(request));
+      }
+
+      @Override
+      public String serviceName() {
+        return SERVICE_NAME;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  private static <T> CompletableFuture<T> complete(final Supplier<T> call) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      future.complete(call.get());
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
   protected void assertExpectedTags(Collection<Tag> actualTags, Map<String, String> expectedTags) {
     assertThat(actualTags.size()).isEqualTo(expectedTags.size());
     expectedTags.keySet().stream()
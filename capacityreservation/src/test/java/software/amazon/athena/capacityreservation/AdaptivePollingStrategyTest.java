@@ -0,0 +1,85 @@
+package software.amazon.athena.capacityreservation;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptivePollingStrategyTest {
+    private static final Instant START_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void testInitialDelayScalesWithDpuDelta() {
+        final AdaptivePollingStrategy strategy = AdaptivePollingStrategy.builder().jitter(0).build();
+
+        assertThat(strategy.initialDelay(0)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(strategy.initialDelay(24)).isEqualTo(Duration.ofSeconds(11));
+        // Releasing DPUs is scaled the same way as adding them
+        assertThat(strategy.initialDelay(-24)).isEqualTo(Duration.ofSeconds(11));
+        assertThat(strategy.initialDelay(10_000)).isEqualTo(strategy.getMaxDelay());
+    }
+
+    @Test
+    public void testExponentialBackoffIsCapped() {
+        final AdaptivePollingStrategy strategy = AdaptivePollingStrategy.builder()
+                .jitter(0)
+                .clock(Clock.fixed(START_TIME, ZoneOffset.UTC))
+                .build();
+        final Delay delay = strategy.schedule(0, START_TIME);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(delay.nextDelay(100)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void testJitterStaysWithinBounds() {
+        final AdaptivePollingStrategy strategy = AdaptivePollingStrategy.builder()
+                .jitter(0.2)
+                .random(new Random(42))
+                .clock(Clock.fixed(START_TIME, ZoneOffset.UTC))
+                .build();
+        final Delay delay = strategy.schedule(0, START_TIME);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(delay.nextDelay(2)).isBetween(Duration.ofSeconds(8), Duration.ofSeconds(12));
+        }
+    }
+
+    @Test
+    public void testDeadlineStopsPolling() {
+        final Duration deadline = Duration.ofMinutes(10);
+        final AdaptivePollingStrategy strategy = AdaptivePollingStrategy.builder()
+                .jitter(0)
+                .deadline(deadline)
+                .clock(Clock.fixed(START_TIME.plus(deadline).minusSeconds(3), ZoneOffset.UTC))
+                .build();
+
+        // The last delay is shortened to land on the deadline
+        assertThat(strategy.schedule(0, START_TIME).nextDelay(1)).isEqualTo(Duration.ofSeconds(3));
+
+        final AdaptivePollingStrategy expired = AdaptivePollingStrategy.builder()
+                .deadline(deadline)
+                .clock(Clock.fixed(START_TIME.plus(deadline), ZoneOffset.UTC))
+                .build();
+        assertThat(expired.schedule(0, START_TIME).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testHandlerDeadlineFollowsSchemaTimeout() {
+        // timeoutInMinutes of the update handler in aws-athena-capacityreservation.json
+        final Duration handlerTimeout = Duration.ofMinutes(60);
+
+        assertThat(new Configuration().handlerTimeout("update")).isEqualTo(handlerTimeout);
+        assertThat(AdaptivePollingStrategy.forHandler("update").getDeadline())
+                .isEqualTo(handlerTimeout.minus(AdaptivePollingStrategy.TIMEOUT_MARGIN));
+    }
+}
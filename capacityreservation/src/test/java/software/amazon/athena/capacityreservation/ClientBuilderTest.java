@@ -0,0 +1,27 @@
+package software.amazon.athena.capacityreservation;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.athena.AthenaClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+    @Test
+    public void testNoTracingInterceptorWhileTracingIsOff() {
+        try (AthenaClient client = ClientBuilder.getClient()) {
+            assertThat(client.serviceClientConfiguration().overrideConfiguration().executionInterceptors())
+                    .doesNotContain(PhaseTracer.interceptor());
+        }
+    }
+
+    @Test
+    public void testTracingInterceptorOnceTracingIsInstalled() {
+        PhaseTracer.install(new InMemorySpanExporter());
+        try (AthenaClient client = ClientBuilder.getClient()) {
+            assertThat(client.serviceClientConfiguration().overrideConfiguration().executionInterceptors())
+                    .contains(PhaseTracer.interceptor());
+        } finally {
+            PhaseTracer.uninstall();
+        }
+    }
+}
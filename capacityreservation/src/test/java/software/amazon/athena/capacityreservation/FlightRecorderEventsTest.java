@@ -0,0 +1,69 @@
+package software.amazon.athena.capacityreservation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderEventsTest extends AbstractTestBase {
+    private Recording recording;
+
+    @BeforeEach
+    public void setup() {
+        recording = new Recording();
+        recording.enable(FlightRecorderEvents.STABILIZATION_POLL).withThreshold(Duration.ZERO);
+        recording.enable(FlightRecorderEvents.TAG_DIFF).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        recording.close();
+    }
+
+    @Test
+    public void testStabilizationPollsAndTagDiffsAreRecorded() throws IOException {
+        assertThat(FlightRecorderEvents.stabilizationPoll(CAPACITY_RESERVATION_NAME, () -> false)).isFalse();
+        final FlightRecorderEvents.TagDiff tagDiff = new FlightRecorderEvents.TagDiff();
+        tagDiff.begin();
+        tagDiff.commit(2, 1);
+
+        final List<RecordedEvent> polls = recordedEvents(FlightRecorderEvents.STABILIZATION_POLL);
+        assertThat(polls).hasSize(1);
+        assertThat(polls.get(0).getString("resourceName")).isEqualTo(CAPACITY_RESERVATION_NAME);
+        assertThat(polls.get(0).getBoolean("stabilized")).isFalse();
+
+        final List<RecordedEvent> tagDiffs = recordedEvents(FlightRecorderEvents.TAG_DIFF);
+        assertThat(tagDiffs).hasSize(1);
+        assertThat(tagDiffs.get(0).getInt("tagsAdded")).isEqualTo(2);
+        assertThat(tagDiffs.get(0).getInt("tagsRemoved")).isEqualTo(1);
+    }
+
+    private List<RecordedEvent> recordedEvents(final String eventName) throws IOException {
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        final Path dump = Files.createTempFile("athena-handlers", ".jfr");
+        try {
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(dump);
+        }
+    }
+}
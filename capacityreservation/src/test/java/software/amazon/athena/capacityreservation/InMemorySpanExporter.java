@@ -0,0 +1,28 @@
+package software.amazon.athena.capacityreservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps finished spans in memory, for tests and benchmarks that inspect traces without a collector.
+ */
+final class InMemorySpanExporter implements PhaseTracer.SpanExporter {
+    private final List<PhaseTracer.Span> finishedSpans = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void export(final PhaseTracer.Span span) {
+        finishedSpans.add(span);
+    }
+
+    /**
+     * The spans finished so far, in the order they ended, so child spans come before their parent.
+     */
+    List<PhaseTracer.Span> getFinishedSpans() {
+        return new ArrayList<>(finishedSpans);
+    }
+
+    void reset() {
+        finishedSpans.clear();
+    }
+}
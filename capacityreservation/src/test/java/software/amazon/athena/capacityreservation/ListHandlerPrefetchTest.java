@@ -0,0 +1,150 @@
+package software.amazon.athena.capacityreservation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsRequest;
+import software.amazon.awssdk.services.athena.model.ListCapacityReservationsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that prefetching page aggregation reads the same pages as sequential aggregation, with each page
+ * answered on a separate service thread. PageFetchBenchmark measures how much time prefetching saves.
+ */
+public class ListHandlerPrefetchTest extends AbstractTestBase {
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 5;
+
+    private ExecutorService serviceExecutor;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    public void setup() {
+        serviceExecutor = Executors.newSingleThreadExecutor();
+        calls = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        serviceExecutor.shutdownNow();
+    }
+
+    @Test
+    public void prefetchReadsSamePagesAsSequential() {
+        final PageAggregator pageAggregator = PageAggregator.aggregated(Integer.MAX_VALUE, () -> 60_000L);
+
+        final PageAggregator.Page<String> sequential = pageAggregator.aggregate(
+                null, this::listPage, ListHandlerPrefetchTest::translate, ListCapacityReservationsResponse::nextToken);
+        final int sequentialCalls = calls.getAndSet(0);
+        final PageAggregator.Page<String> prefetched = pageAggregator.aggregateWithPrefetch(
+                null, this::listPageAsync, ListHandlerPrefetchTest::translate,
+                response -> response.capacityReservations().size(), ListCapacityReservationsResponse::nextToken);
+        final int prefetchCalls = calls.get();
+
+        assertThat(prefetched.getItems()).isEqualTo(sequential.getItems()).hasSize(PAGES * PAGE_SIZE);
+        assertThat(prefetched.getNextToken()).isNull();
+        assertThat(sequentialCalls).isEqualTo(PAGES);
+        assertThat(prefetchCalls).isEqualTo(PAGES);
+    }
+
+    @Test
+    public void prefetchListsSameReservationsEndToEnd() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .awsAccountId(ACCOUNT_ID)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> sequential = new ListHandler(1000, () -> 60_000L)
+                .handleRequest(proxy, request, null, MOCK_PROXY(proxy, new PagingAthenaClient()), logger);
+        final ListHandler prefetchHandler = new ListHandler();
+        prefetchHandler.setAsyncClientSupplier(PagingAthenaAsyncClient::new);
+        final ProgressEvent<ResourceModel, CallbackContext> prefetched =
+                prefetchHandler.handleRequest(proxy, request, null, MOCK_PROXY(proxy, new PagingAthenaClient()), logger);
+
+        assertThat(sequential.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(prefetched.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(prefetched.getResourceModels()).isEqualTo(sequential.getResourceModels()).hasSize(PAGES * PAGE_SIZE);
+        assertThat(prefetched.getNextToken()).isNull();
+        assertThat(calls.get()).isEqualTo(2 * PAGES);
+    }
+
+    private ListCapacityReservationsResponse listPage(final String nextToken) {
+        calls.incrementAndGet();
+        final int page = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        final List<CapacityReservation> reservations = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            reservations.add(CapacityReservation.builder()
+                    .name(CAPACITY_RESERVATION_NAME + (page * PAGE_SIZE + i))
+                    .build());
+        }
+        return ListCapacityReservationsResponse.builder()
+                .capacityReservations(reservations)
+                .nextToken(page + 1 < PAGES ? Integer.toString(page + 1) : null)
+                .build();
+    }
+
+    private CompletableFuture<ListCapacityReservationsResponse> listPageAsync(final String nextToken) {
+        return CompletableFuture.supplyAsync(() -> listPage(nextToken), serviceExecutor);
+    }
+
+    private static List<String> translate(final ListCapacityReservationsResponse response) {
+        return response.capacityReservations().stream()
+                .map(CapacityReservation::name)
+                .collect(Collectors.toList());
+    }
+
+    private class PagingAthenaClient implements AthenaClient {
+        @Override
+        public ListCapacityReservationsResponse listCapacityReservations(final ListCapacityReservationsRequest request) {
+            return listPage(request.nextToken());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private class PagingAthenaAsyncClient implements AthenaAsyncClient {
+        @Override
+        public CompletableFuture<ListCapacityReservationsResponse> listCapacityReservations(
+                final ListCapacityReservationsRequest request) {
+            return listPageAsync(request.nextToken());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package software.amazon.athena.capacityreservation;
 
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.CapacityReservation;
 import software.amazon.awssdk.services.athena.model.ListCapacityReservationsRequest;
@@ -20,12 +21,16 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,7 +54,10 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @Test
     public void testListRequestHandler() {
+        // The default handler prefetches every page through the async client
+        final AthenaAsyncClient asyncClient = mock(AthenaAsyncClient.class);
         final ListHandler handler = new ListHandler();
+        handler.setAsyncClientSupplier(() -> asyncClient);
 
         final ResourceModel model = ResourceModel.builder().build();
 
@@ -62,21 +70,26 @@ public class ListHandlerTest extends AbstractTestBase {
 
         int numberOfReservations = 10;
         List<CapacityReservation> reservationList = buildListOfCapacityReservations(numberOfReservations);
-        String expectedNextToken = UUID.randomUUID().toString();
-        when(sdkClient.listCapacityReservations(any(ListCapacityReservationsRequest.class)))
-                .thenReturn(ListCapacityReservationsResponse.builder()
-                        .nextToken(expectedNextToken)
+        when(asyncClient.listCapacityReservations(any(ListCapacityReservationsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListCapacityReservationsResponse.builder()
+                        .nextToken(UUID.randomUUID().toString())
                         .capacityReservations(reservationList)
-                        .build());
+                        .build()))
+                .thenReturn(CompletableFuture.completedFuture(ListCapacityReservationsResponse.builder()
+                        .capacityReservations(reservationList)
+                        .build()));
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request,  null, proxyClient, logger);
 
-        assertThat(response.getResourceModels().size()).isEqualTo(numberOfReservations);
+        // Both pages are read within the one invocation
+        assertThat(response.getResourceModels().size()).isEqualTo(2 * numberOfReservations);
         response.getResourceModels().stream()
                         .forEach(resource -> assertThat(resource.getArn()).isNotNull());
 
-        assertThat(response.getNextToken()).isEqualTo(expectedNextToken);
+        assertThat(response.getNextToken()).isNull();
+        verify(asyncClient, times(2)).listCapacityReservations(any(ListCapacityReservationsRequest.class));
+        verifyNoInteractions(sdkClient);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -87,6 +100,35 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testAggregatedListRequestHandlerFollowsNextToken() {
+        final ListHandler handler = new ListHandler(100, () -> 60_000L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .awsAccountId(ACCOUNT_ID)
+                .build();
+
+        when(sdkClient.listCapacityReservations(any(ListCapacityReservationsRequest.class)))
+                .thenReturn(ListCapacityReservationsResponse.builder()
+                        .nextToken("token2")
+                        .capacityReservations(buildListOfCapacityReservations(3))
+                        .build())
+                .thenReturn(ListCapacityReservationsResponse.builder()
+                        .capacityReservations(buildListOfCapacityReservations(2))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(5);
+        assertThat(response.getNextToken()).isNull();
+        verify(sdkClient, times(2)).listCapacityReservations(any(ListCapacityReservationsRequest.class));
+    }
+
     private List<CapacityReservation> buildListOfCapacityReservations(int numberOfReservations) {
         List<CapacityReservation> reservationList = new ArrayList<>();
         for (int i = 0; i < numberOfReservations; i++) {
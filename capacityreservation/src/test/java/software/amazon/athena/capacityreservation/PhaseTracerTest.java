@@ -0,0 +1,214 @@
+package software.amazon.athena.capacityreservation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.athena.stub.AthenaStubServer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.CreateCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PhaseTracerTest extends AbstractTestBase {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private InMemorySpanExporter exporter;
+    private PhaseTracer tracer;
+    private AthenaClient unreachableClient;
+
+    @BeforeEach
+    public void setup() {
+        exporter = new InMemorySpanExporter();
+        tracer = new PhaseTracer(exporter);
+        // Nothing listens on port 1, so every attempt fails to connect and is retried by the SDK without backoff
+        unreachableClient = AthenaClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .endpointOverride(URI.create("http://127.0.0.1:1"))
+                .overrideConfiguration(c -> c
+                        .addExecutionInterceptor(PhaseTracer.interceptor())
+                        .retryStrategy(AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                                .backoffStrategy(BackoffStrategy.retryImmediately())
+                                .maxAttempts(MAX_ATTEMPTS)
+                                .build()))
+                .build();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        unreachableClient.close();
+    }
+
+    @Test
+    public void testInvocationNestsPhasesAndSdkCallsUnderRoot() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = tracer.invocation(
+                "Read", CAPACITY_RESERVATION_NAME, () -> ProgressEvent.<ResourceModel, CallbackContext>progress(null, null)
+                        .then(tracer.phase("ReadCapacityReservation", progress -> {
+                            assertThrows(SdkClientException.class, () -> unreachableClient.getCapacityReservation(
+                                    GetCapacityReservationRequest.builder().name(CAPACITY_RESERVATION_NAME).build()));
+                            return ProgressEvent.defaultSuccessHandler(null);
+                        })));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final List<PhaseTracer.Span> spans = exporter.getFinishedSpans();
+        assertThat(spans).hasSize(3);
+        assertThat(tracer.getSpans()).hasSize(3);
+
+        final PhaseTracer.Span sdkCall = spans.get(0);
+        final PhaseTracer.Span phase = spans.get(1);
+        final PhaseTracer.Span root = spans.get(2);
+        assertThat(root.getName()).isEqualTo(ResourceModel.TYPE_NAME + " Read");
+        assertThat(root.getParent()).isNull();
+        assertThat(root.isFailed()).isFalse();
+        assertThat(root.getAttributes())
+                .containsEntry(PhaseTracer.RESOURCE_TYPE_ATTRIBUTE, ResourceModel.TYPE_NAME)
+                .containsEntry(PhaseTracer.ACTION_ATTRIBUTE, "Read")
+                .containsEntry(PhaseTracer.IDENTIFIER_ATTRIBUTE, CAPACITY_RESERVATION_NAME)
+                .containsEntry(PhaseTracer.OPERATION_STATUS_ATTRIBUTE, "SUCCESS");
+
+        assertThat(phase.getName()).isEqualTo("ReadCapacityReservation");
+        assertThat(phase.getParent()).isSameAs(root);
+        assertThat(phase.isFailed()).isFalse();
+
+        assertThat(sdkCall.getName()).isEqualTo("Athena.GetCapacityReservation");
+        assertThat(sdkCall.getParent()).isSameAs(phase);
+        assertThat(sdkCall.isFailed()).isTrue();
+        assertThat(sdkCall.getAttributes())
+                .containsEntry(PhaseTracer.RESOURCE_TYPE_ATTRIBUTE, ResourceModel.TYPE_NAME)
+                .containsEntry(PhaseTracer.IDENTIFIER_ATTRIBUTE, CAPACITY_RESERVATION_NAME)
+                .containsEntry(PhaseTracer.OPERATION_ATTRIBUTE, "GetCapacityReservation")
+                .containsEntry(PhaseTracer.ERROR_CODE_ATTRIBUTE, "SdkClientException")
+                .containsEntry(PhaseTracer.ATTEMPTS_ATTRIBUTE, MAX_ATTEMPTS);
+
+        assertThat(tracer.summary())
+                .startsWith("total=")
+                .contains(" ReadCapacityReservation=")
+                .contains("[Athena.GetCapacityReservation=")
+                .doesNotContain(ResourceModel.TYPE_NAME);
+    }
+
+    @Test
+    public void testSdkCallSpansRecordResponsesAndServiceErrors() throws IOException {
+        try (AthenaStubServer stub = AthenaStubServer.start();
+             AthenaClient stubClient = AthenaClient.builder()
+                     .httpClient(LambdaWrapper.HTTP_CLIENT)
+                     .region(Region.US_EAST_1)
+                     .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                     .endpointOverride(stub.endpoint())
+                     .overrideConfiguration(c -> c.addExecutionInterceptor(PhaseTracer.interceptor()))
+                     .build()) {
+            tracer.invocation("Create", CAPACITY_RESERVATION_NAME, () -> {
+                assertThrows(InvalidRequestException.class, () -> stubClient.getCapacityReservation(
+                        GetCapacityReservationRequest.builder().name(CAPACITY_RESERVATION_NAME).build()));
+                stubClient.createCapacityReservation(CreateCapacityReservationRequest.builder()
+                        .name(CAPACITY_RESERVATION_NAME)
+                        .targetDpus(24)
+                        .build());
+                return ProgressEvent.defaultSuccessHandler(null);
+            });
+        }
+
+        final List<PhaseTracer.Span> spans = exporter.getFinishedSpans();
+        assertThat(spans).hasSize(3);
+
+        final PhaseTracer.Span notFound = spans.get(0);
+        assertThat(notFound.getName()).isEqualTo("Athena.GetCapacityReservation");
+        assertThat(notFound.isFailed()).isTrue();
+        assertThat(notFound.getAttributes())
+                .containsEntry(PhaseTracer.HTTP_STATUS_CODE_ATTRIBUTE, 400)
+                .containsEntry(PhaseTracer.ERROR_CODE_ATTRIBUTE, "InvalidRequestException")
+                .containsKey(PhaseTracer.REQUEST_ID_ATTRIBUTE);
+
+        final PhaseTracer.Span created = spans.get(1);
+        assertThat(created.getName()).isEqualTo("Athena.CreateCapacityReservation");
+        assertThat(created.isFailed()).isFalse();
+        assertThat(created.getAttributes())
+                .containsEntry(PhaseTracer.HTTP_STATUS_CODE_ATTRIBUTE, 200)
+                .containsEntry(PhaseTracer.ATTEMPTS_ATTRIBUTE, 1)
+                .containsKey(PhaseTracer.REQUEST_ID_ATTRIBUTE);
+    }
+
+    @Test
+    public void testFailedInvocationMarksRootSpan() {
+        tracer.invocation("Update", CAPACITY_RESERVATION_NAME, () ->
+                ProgressEvent.failed(null, null, HandlerErrorCode.NotFound, "not found"));
+
+        final List<PhaseTracer.Span> spans = exporter.getFinishedSpans();
+        assertThat(spans).hasSize(1);
+        assertThat(spans.get(0).isFailed()).isTrue();
+        assertThat(spans.get(0).getAttributes())
+                .containsEntry(PhaseTracer.OPERATION_STATUS_ATTRIBUTE, "FAILED")
+                .containsEntry(PhaseTracer.ERROR_CODE_ATTRIBUTE, "NotFound");
+    }
+
+    @Test
+    public void testSdkCallsOutsideAnInvocationAreNotTraced() {
+        assertThrows(SdkClientException.class, () -> unreachableClient.getCapacityReservation(
+                GetCapacityReservationRequest.builder().name(CAPACITY_RESERVATION_NAME).build()));
+
+        assertThat(exporter.getFinishedSpans()).isEmpty();
+        assertThat(tracer.getSpans()).isEmpty();
+    }
+
+    @Test
+    public void testDisabledTracerRecordsNothing() {
+        final PhaseTracer disabled = PhaseTracer.start(null);
+        final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step =
+                progress -> {
+                    assertThrows(SdkClientException.class, () -> unreachableClient.getCapacityReservation(
+                            GetCapacityReservationRequest.builder().name(CAPACITY_RESERVATION_NAME).build()));
+                    return ProgressEvent.defaultSuccessHandler(null);
+                };
+
+        assertThat(PhaseTracer.isEnabled()).isFalse();
+        assertThat(PhaseTracer.start(null)).isSameAs(disabled);
+        assertThat(disabled.phase("ReadCapacityReservation", step)).isSameAs(step);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = disabled.invocation(
+                "Read", CAPACITY_RESERVATION_NAME, () -> disabled.call(
+                        "AWS-Athena-CapacityReservation::GetCapacityReservation", callGraph -> step.apply(null)));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(disabled.getSpans()).isEmpty();
+        assertThat(exporter.getFinishedSpans()).isEmpty();
+    }
+
+    @Test
+    public void testInstalledExporterTracesInvocationsWithoutTheirOwnExporter() {
+        final InMemorySpanExporter ownExporter = new InMemorySpanExporter();
+        PhaseTracer.install(exporter);
+        try {
+            assertThat(PhaseTracer.isEnabled()).isTrue();
+            PhaseTracer.start(null).invocation("Delete", CAPACITY_RESERVATION_NAME, () ->
+                    ProgressEvent.defaultSuccessHandler(null));
+            PhaseTracer.start(ownExporter).invocation("Delete", CAPACITY_RESERVATION_NAME, () ->
+                    ProgressEvent.defaultSuccessHandler(null));
+        } finally {
+            PhaseTracer.uninstall();
+        }
+
+        assertThat(exporter.getFinishedSpans()).hasSize(1);
+        assertThat(ownExporter.getFinishedSpans()).hasSize(1);
+        assertThat(PhaseTracer.isEnabled()).isFalse();
+        assertThat(PhaseTracer.start(null).getSpans()).isEmpty();
+    }
+}
@@ -0,0 +1,235 @@
+package software.amazon.athena.capacityreservation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.AthenaException;
+import software.amazon.awssdk.services.athena.model.CapacityAssignment;
+import software.amazon.awssdk.services.athena.model.CapacityAssignmentConfiguration;
+import software.amazon.awssdk.services.athena.model.CapacityReservation;
+import software.amazon.awssdk.services.athena.model.CapacityReservationStatus;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityAssignmentConfigurationResponse;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationRequest;
+import software.amazon.awssdk.services.athena.model.GetCapacityReservationResponse;
+import software.amazon.awssdk.services.athena.model.InternalServerException;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.athena.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.athena.model.Tag;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadHandlerConcurrentTest extends AbstractTestBase {
+
+    private AmazonWebServicesClientProxy proxy;
+
+    private ProxyClient<AthenaClient> proxyClient;
+
+    private AthenaClient sdkClient;
+
+    private AthenaAsyncClient asyncClient;
+
+    private ReadHandler handler;
+
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(AthenaClient.class);
+        asyncClient = mock(AthenaAsyncClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        // The default read mode, as the handler wrapper constructs it
+        handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> asyncClient);
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(CAPACITY_RESERVATION_NAME)
+                        .build())
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        // The concurrent read never falls back to the synchronous client
+        verifyNoInteractions(sdkClient);
+    }
+
+    @Test
+    public void testReadConcurrentlyMergesAllProperties() {
+        final CapacityReservation reservation = activeReservation();
+        final CapacityAssignmentConfiguration assignmentConfiguration = CapacityAssignmentConfiguration.builder()
+                .capacityReservationName(CAPACITY_RESERVATION_NAME)
+                .capacityAssignments(CapacityAssignment.builder()
+                        .workGroupNames(WORKGROUP_NAME_1, WORKGROUP_NAME_2)
+                        .build())
+                .build();
+        final Map<String, String> expectedTags = new HashMap<>();
+        expectedTags.put("key1", "value1");
+        expectedTags.put("key2", "value2");
+
+        when(asyncClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetCapacityReservationResponse.builder()
+                        .capacityReservation(reservation)
+                        .build()));
+        when(asyncClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetCapacityAssignmentConfigurationResponse.builder()
+                        .capacityAssignmentConfiguration(assignmentConfiguration)
+                        .build()));
+        // Tags are split across two pages
+        when(asyncClient.listTagsForResource(argThat((ListTagsForResourceRequest listRequest) -> listRequest != null && listRequest.nextToken() == null)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key1").value("value1").build())
+                        .nextToken("token")
+                        .build()));
+        when(asyncClient.listTagsForResource(argThat((ListTagsForResourceRequest listRequest) -> listRequest != null && "token".equals(listRequest.nextToken()))))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key2").value("value2").build())
+                        .build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ResourceModel model = response.getResourceModel();
+        assertThat(model.getArn()).isEqualTo(Translator.translateToCapacityReservationArn(AWS_PARTITION, AWS_REGION, ACCOUNT_ID, CAPACITY_RESERVATION_NAME));
+        assertThat(model.getTargetDpus()).isEqualTo(TARGET_DPUS);
+        assertThat(model.getStatus()).isEqualTo(CapacityReservationStatus.ACTIVE.toString());
+        assertThat(model.getCapacityAssignmentConfiguration().getCapacityAssignments()).hasSize(1);
+        assertExpectedModelTags(model.getTags(), expectedTags);
+        verify(asyncClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void testReadConcurrentlyIssuesAllCallsBeforeAnyCompletes() throws Exception {
+        final CompletableFuture<GetCapacityReservationResponse> reservationFuture = new CompletableFuture<>();
+        final CompletableFuture<GetCapacityAssignmentConfigurationResponse> assignmentFuture = new CompletableFuture<>();
+        final CompletableFuture<ListTagsForResourceResponse> tagsFuture = new CompletableFuture<>();
+        when(asyncClient.getCapacityReservation(any(GetCapacityReservationRequest.class))).thenReturn(reservationFuture);
+        when(asyncClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class))).thenReturn(assignmentFuture);
+        when(asyncClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(tagsFuture);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<ProgressEvent<ResourceModel, CallbackContext>> pending = executor.submit(() ->
+                    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+            // All three requests are in flight while none of them has completed
+            verify(asyncClient, timeout(5000)).getCapacityReservation(any(GetCapacityReservationRequest.class));
+            verify(asyncClient, timeout(5000)).getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class));
+            verify(asyncClient, timeout(5000)).listTagsForResource(any(ListTagsForResourceRequest.class));
+            assertThat(pending.isDone()).isFalse();
+
+            tagsFuture.complete(ListTagsForResourceResponse.builder().tags(Collections.emptyList()).build());
+            assignmentFuture.completeExceptionally(InvalidRequestException.builder().message("Capacity assignment configuration not found").build());
+            reservationFuture.complete(GetCapacityReservationResponse.builder().capacityReservation(activeReservation()).build());
+
+            final ProgressEvent<ResourceModel, CallbackContext> response = pending.get(5, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getCapacityAssignmentConfiguration()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadConcurrentlyReservationNotFoundWins() {
+        when(asyncClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(failedFuture(InvalidRequestException.builder().message("Capacity reservation not found").build()));
+        when(asyncClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenReturn(failedFuture(InternalServerException.builder().message("Internal error").build()));
+        when(asyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(failedFuture(InternalServerException.builder().message("Internal error").build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void testReadConcurrentlyToleratesNotFoundAndNotAuthorizedProperties() {
+        when(asyncClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetCapacityReservationResponse.builder()
+                        .capacityReservation(activeReservation())
+                        .build()));
+        when(asyncClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenReturn(failedFuture(InvalidRequestException.builder().message("Capacity assignment configuration not found").build()));
+        when(asyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(failedFuture(AthenaException.builder().message("User is not authorized to perform: athena:ListTagsForResource").build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getCapacityAssignmentConfiguration()).isNull();
+        assertThat(response.getResourceModel().getTags()).isNull();
+    }
+
+    @Test
+    public void testReadConcurrentlyPropertyErrorFails() {
+        when(asyncClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetCapacityReservationResponse.builder()
+                        .capacityReservation(activeReservation())
+                        .build()));
+        when(asyncClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenReturn(failedFuture(InternalServerException.builder().message("Internal error").build()));
+        when(asyncClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+                        .tags(Collections.emptyList())
+                        .build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+    }
+
+    private static CapacityReservation activeReservation() {
+        return CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS.intValue())
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .status(CapacityReservationStatus.ACTIVE)
+                .creationTime(Instant.now())
+                .build();
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
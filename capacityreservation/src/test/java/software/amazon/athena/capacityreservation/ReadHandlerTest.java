@@ -69,13 +69,13 @@ public class ReadHandlerTest extends AbstractTestBase {
 
     @AfterEach
     public void tear_down() {
-        verify(sdkClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(sdkClient);
     }
 
     @Test
     public void testReadCapacityReservationBasic() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
                 .build();
@@ -136,9 +136,53 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testReadCapacityReservationThroughClientSupplier() {
+        final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
+        handler.setClientSupplier(() -> sdkClient);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(CAPACITY_RESERVATION_NAME).build())
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        final CapacityReservation expectedCapacityReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS.intValue())
+                .status(CapacityReservationStatus.ACTIVE)
+                .creationTime(Instant.now())
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .lastSuccessfulAllocationTime(Instant.now())
+                .build();
+        when(sdkClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(expectedCapacityReservation)
+                        .build());
+        when(sdkClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenThrow(InvalidRequestException.builder()
+                        .message("Resource not found")
+                        .build());
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Collections.emptyList())
+                        .build());
+
+        // The proxy client is built by the handler itself around the supplied client
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertExpectedModel(response.getResourceModel(), expectedCapacityReservation);
+        verify(sdkClient).getCapacityReservation(any(GetCapacityReservationRequest.class));
+        verify(sdkClient).getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class));
+        verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     public void testReadCapacityReservationWithOnlyArn() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
         final ResourceModel desiredModel = ResourceModel.builder()
                 .arn(Translator.translateToCapacityReservationArn(AWS_PARTITION,
                         AWS_REGION, ACCOUNT_ID, CAPACITY_RESERVATION_NAME))
@@ -203,6 +247,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Test
     public void testReadReservationWithAssignment() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
 
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
@@ -271,6 +316,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Test
     public void testReadReservationWithTags() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
 
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
@@ -343,6 +389,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Test
     public void testReadReservationWithPaginatedTags() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
 
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
@@ -455,6 +502,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Test
     public void testReadCapacityReservationNotFound() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
                 .build();
@@ -474,14 +522,102 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        // The default read issues all three calls before the reservation turns out to be missing
+        verify(sdkClient).getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class));
+        verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
 
+    @Test
+    public void testReadSequentiallyMergesAllProperties() {
+        final ReadHandler handler = new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(CAPACITY_RESERVATION_NAME).build())
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        final CapacityReservation expectedCapacityReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS.intValue())
+                .status(CapacityReservationStatus.ACTIVE)
+                .creationTime(Instant.now())
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .lastSuccessfulAllocationTime(Instant.now())
+                .build();
+        final CapacityAssignmentConfiguration expectedAssignmentConfiguration = CapacityAssignmentConfiguration.builder()
+                .capacityReservationName(CAPACITY_RESERVATION_NAME)
+                .capacityAssignments(software.amazon.awssdk.services.athena.model.CapacityAssignment.builder()
+                        .workGroupNames(WORKGROUP_NAME_1, WORKGROUP_NAME_2)
+                        .build())
+                .build();
+        final Map<String, String> expectedTags = new HashMap<>();
+        expectedTags.put("key1", "value1");
+        expectedTags.put("key2", "value2");
+
+        // Mock read SDK calls, with tags split across two pages
+        when(sdkClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(expectedCapacityReservation)
+                        .build());
+        when(sdkClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenReturn(GetCapacityAssignmentConfigurationResponse.builder()
+                        .capacityAssignmentConfiguration(expectedAssignmentConfiguration)
+                        .build());
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key1").value("value1").build())
+                        .nextToken("token")
+                        .build())
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key2").value("value2").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // Each sequential read is an initiate call chain on the synchronous client
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verify(sdkClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        ResourceModel actualResourceModel = response.getResourceModel();
+        assertExpectedModel(actualResourceModel, expectedCapacityReservation);
+        assertExpectedAssignmentConfiguration(actualResourceModel.getCapacityAssignmentConfiguration(), expectedAssignmentConfiguration);
+        assertExpectedModelTags(actualResourceModel.getTags(), expectedTags);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void testReadSequentiallyNotFound() {
+        final ReadHandler handler = new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(CAPACITY_RESERVATION_NAME).build())
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        // Mock read SDK calls
+        when(sdkClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenThrow(InvalidRequestException.builder()
+                        .message("Reservation not found")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // The assignment configuration and tags are not read once the reservation is missing
+        verify(sdkClient, atLeastOnce()).serviceName();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
     @Test
     public void testReadReservationWithTagsNotAuthorized() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
 
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
@@ -549,6 +685,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Test
     public void testReadReservationWithAssignmentNotAuthorized() {
         final ReadHandler handler = new ReadHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
 
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
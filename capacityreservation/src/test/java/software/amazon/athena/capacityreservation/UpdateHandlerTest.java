@@ -37,9 +37,11 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -80,6 +82,130 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void testUpdateReservationBasic() {
         final UpdateHandler handler = new UpdateHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS)
+                .build();
+
+        Long updatedDpus = TARGET_DPUS + 12L;
+        final ResourceModel desiredModel = ResourceModel.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(updatedDpus)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        Instant creationTime = Instant.now();
+        Instant allocationRequestTime = creationTime.plusMillis(1000);
+        Instant allocationCompletedTime = allocationRequestTime.plusMillis(1000);
+        final CapacityReservation originalReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS.intValue())
+                .status(CapacityReservationStatus.ACTIVE)
+                .creationTime(creationTime)
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .lastSuccessfulAllocationTime(allocationCompletedTime)
+                .lastAllocation(CapacityAllocation.builder()
+                        .status(CapacityAllocationStatus.SUCCEEDED)
+                        .requestTime(allocationRequestTime)
+                        .requestCompletionTime(allocationCompletedTime)
+                        .build())
+                .build();
+
+        final CapacityReservation updatingReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(updatedDpus.intValue())
+                .status(CapacityReservationStatus.UPDATE_PENDING)
+                .creationTime(creationTime)
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .lastSuccessfulAllocationTime(allocationCompletedTime)
+                .lastAllocation(CapacityAllocation.builder()
+                        .status(CapacityAllocationStatus.SUCCEEDED)
+                        .requestTime(allocationRequestTime)
+                        .requestCompletionTime(allocationCompletedTime)
+                        .build())
+                .build();
+
+        final CapacityReservation updatedReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(updatedDpus.intValue())
+                .status(CapacityReservationStatus.ACTIVE)
+                .creationTime(creationTime)
+                .allocatedDpus(updatedDpus.intValue())
+                .lastSuccessfulAllocationTime(allocationCompletedTime)
+                .lastAllocation(CapacityAllocation.builder()
+                        .status(CapacityAllocationStatus.SUCCEEDED)
+                        .requestTime(allocationRequestTime)
+                        .requestCompletionTime(allocationCompletedTime)
+                        .build())
+                .build();
+
+        // Mock update handler SDK calls
+        when(sdkClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                // Mock existence check
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(originalReservation)
+                        .build())
+                // Mock first stabilization check
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(updatingReservation)
+                        .build())
+                // Mock final stabilization check
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(updatedReservation)
+                        .build());
+        when(sdkClient.updateCapacityReservation(any(UpdateCapacityReservationRequest.class)))
+                .thenReturn(UpdateCapacityReservationResponse.builder().build());
+
+        // Mock read handler SDK calls
+        when(sdkClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenThrow(InvalidRequestException.builder()
+                        .message("Resource not found")
+                        .build());
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Collections.emptyList())
+                        .build());
+
+        // The first check finds the update pending, so the invocation returns and is called back with its context
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isGreaterThan(0);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, firstResponse.getCallbackContext(), proxyClient, logger);
+
+        // Verify update call was made with new DPU count
+        ArgumentCaptor<UpdateCapacityReservationRequest> updateCaptor = ArgumentCaptor.forClass(UpdateCapacityReservationRequest.class);
+        verify(sdkClient, times(1)).updateCapacityReservation(updateCaptor.capture());
+        UpdateCapacityReservationRequest updateCapacityReservationRequest = updateCaptor.getValue();
+        assertThat(updateCapacityReservationRequest.targetDpus()).isEqualTo(updatedDpus.intValue());
+
+        // Existence check and one stabilization check per invocation, then the read. The existence check is
+        // journaled in the callback context and not repeated on re-invocation.
+        verify(sdkClient, times(4)).getCapacityReservation(any(GetCapacityReservationRequest.class));
+
+        // Verify no interactions with assignment config or tags
+        verify(sdkClient, times(0)).putCapacityAssignmentConfiguration(any(PutCapacityAssignmentConfigurationRequest.class));
+        verify(sdkClient, times(0)).untagResource(any(UntagResourceRequest.class));
+        verify(sdkClient, times(0)).tagResource(any(TagResourceRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+    }
+
+    @Test
+    public void testUpdateReservationInProcessWithSequentialRead() {
+        final UpdateHandler handler = new UpdateHandler(ReadHandler.ReadMode.SEQUENTIAL, BaseHandlerStd.StabilizationMode.IN_PROCESS);
         final ResourceModel previousModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
                 .targetDpus(TARGET_DPUS)
@@ -195,9 +321,72 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testUpdateRecordsPhaseSpans() {
+        final List<PhaseTracer.Span> spans = new ArrayList<>();
+        final UpdateHandler handler = new UpdateHandler(ReadHandler.ReadMode.SEQUENTIAL,
+                BaseHandlerStd.StabilizationMode.IN_PROCESS, AdaptivePollingStrategy.defaults(), spans::add);
+        final ResourceModel model = ResourceModel.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(model)
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        when(sdkClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(CapacityReservation.builder()
+                                .name(CAPACITY_RESERVATION_NAME)
+                                .targetDpus(TARGET_DPUS.intValue())
+                                .status(CapacityReservationStatus.ACTIVE)
+                                .build())
+                        .build());
+        when(sdkClient.getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class)))
+                .thenThrow(InvalidRequestException.builder()
+                        .message("Resource not found")
+                        .build());
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Collections.emptyList())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // The sequential read shares the existence check's call graph, so its response is reused
+        verify(sdkClient, times(1)).getCapacityReservation(any(GetCapacityReservationRequest.class));
+        verify(sdkClient, times(1)).getCapacityAssignmentConfiguration(any(GetCapacityAssignmentConfigurationRequest.class));
+        verify(sdkClient, times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        // Spans are exported as they finish, so the initiate call precedes the step that made it
+        assertThat(spans.stream().map(PhaseTracer.Span::getName).collect(Collectors.toList())).containsExactly(
+                "ProcessIdentifier",
+                "AWS-Athena-CapacityReservation::GetCapacityReservation",
+                "CheckExistence",
+                "UpdateCapacityReservation",
+                "UpdateCapacityAssignmentConfiguration",
+                "UpdateTags",
+                "Read");
+        assertThat(spans.get(1).getParent()).isSameAs(spans.get(2));
+        assertThat(spans).noneMatch(PhaseTracer.Span::isFailed);
+        assertThat(handler.tracer.getSpans()).hasSize(spans.size());
+        assertThat(handler.tracer.summary())
+                .startsWith("total=")
+                .contains(" CheckExistence=")
+                .contains("[AWS-Athena-CapacityReservation::GetCapacityReservation=")
+                .contains(" Read=");
+    }
+
     @Test
     public void testUpdateCapacityAssignmentConfig() {
         final UpdateHandler handler = new UpdateHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
         final ResourceModel previousModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
                 .targetDpus(TARGET_DPUS)
@@ -292,6 +481,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void testUpdateCapacityAssignmentTags() {
         final UpdateHandler handler = new UpdateHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
 
         Map<String, String> previousUserTags = new HashMap<>();
         previousUserTags.put("userTag1", "userValue1");
@@ -434,6 +624,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void testUpdateCapacityReservationNotFound() {
         final UpdateHandler handler = new UpdateHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
                 .targetDpus(TARGET_DPUS)
@@ -462,6 +653,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void testUpdateReservationGenericServiceFailure() {
         final UpdateHandler handler = new UpdateHandler();
+        handler.setAsyncClientSupplier(() -> MOCK_ASYNC_CLIENT(sdkClient));
         final ResourceModel desiredModel = ResourceModel.builder()
                 .name(CAPACITY_RESERVATION_NAME)
                 .targetDpus(TARGET_DPUS)
@@ -483,4 +675,68 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
     }
+
+    @Test
+    public void testUpdateReservationWithCallbackReturnsInProgress() {
+        final UpdateHandler handler = new UpdateHandler(ReadHandler.ReadMode.SEQUENTIAL, BaseHandlerStd.StabilizationMode.CALLBACK,
+                AdaptivePollingStrategy.builder().jitter(0).build());
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS)
+                .build();
+
+        Long updatedDpus = TARGET_DPUS + 12L;
+        final ResourceModel desiredModel = ResourceModel.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(updatedDpus)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .awsAccountId(ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        Instant creationTime = Instant.now();
+        final CapacityReservation originalReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(TARGET_DPUS.intValue())
+                .status(CapacityReservationStatus.ACTIVE)
+                .creationTime(creationTime)
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .build();
+        final CapacityReservation updatingReservation = CapacityReservation.builder()
+                .name(CAPACITY_RESERVATION_NAME)
+                .targetDpus(updatedDpus.intValue())
+                .status(CapacityReservationStatus.UPDATE_PENDING)
+                .creationTime(creationTime)
+                .allocatedDpus(TARGET_DPUS.intValue())
+                .build();
+
+        when(sdkClient.getCapacityReservation(any(GetCapacityReservationRequest.class)))
+                // Mock existence check
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(originalReservation)
+                        .build())
+                // Mock the single stabilization check of this invocation
+                .thenReturn(GetCapacityReservationResponse.builder()
+                        .capacityReservation(updatingReservation)
+                        .build());
+        when(sdkClient.updateCapacityReservation(any(UpdateCapacityReservationRequest.class)))
+                .thenReturn(UpdateCapacityReservationResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        verify(sdkClient, times(1)).updateCapacityReservation(any(UpdateCapacityReservationRequest.class));
+        verify(sdkClient, times(2)).getCapacityReservation(any(GetCapacityReservationRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        // 5 second base delay plus 250 ms for each of the 12 DPUs being added
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(8);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getStabilizationStartTime()).isNotNull();
+    }
 }
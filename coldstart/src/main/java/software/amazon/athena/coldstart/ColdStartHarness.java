@@ -0,0 +1,295 @@
+package software.amazon.athena.coldstart;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import software.amazon.athena.stub.AthenaStubServer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cold start of each resource provider's shaded handler jar. Every iteration launches a fresh JVM
+ * that runs {@link ColdStartProbe} against the jar, which sends one canned CREATE request through the HandlerWrapper
+ * testEntrypoint to an {@link AthenaStubServer} in this process. Per module it reports the time to reach main,
+ * the time HotSpot spent loading classes, the time to the first Athena request the stub received, the handler
+ * time, the total time from JVM start until the entry point returned and the resident memory at that point.
+ * A launch whose request does not end in SUCCESS fails the run rather than being measured.
+ *
+ * <p>The JVM flags, Java version and git commit are recorded with the results, so runs on the same host compare
+ * across modules and commits. Set coldstart.baseline to an earlier result file to print the median changes.
+ * Configured through system properties; see the coldstart pom for the defaults.
+ */
+public final class ColdStartHarness {
+    static final String FIRST_SDK_CALL_MILLIS = "firstSdkCallMillis";
+
+    private static final String WRAPPER_CLASS = "software.amazon.athena.%s.HandlerWrapper";
+    private static final String SHADED_JAR = "%1$s/target/aws-athena-%1$s-handler-1.0-SNAPSHOT.jar";
+    private static final String PAYLOAD_RESOURCE = "/payloads/%s.json";
+    private static final String ACTION = "CREATE";
+    private static final String SUCCESS = "SUCCESS";
+    private static final String DEFAULT_MODULES = "workgroup,namedquery,datacatalog,capacityreservation,preparedstatement";
+    private static final long ITERATION_TIMEOUT_SECONDS = 120;
+    private static final List<String> METRICS = Arrays.asList(
+            ColdStartProbe.MAIN_MILLIS,
+            ColdStartProbe.CLASS_LOAD_MILLIS,
+            FIRST_SDK_CALL_MILLIS,
+            ColdStartProbe.HANDLER_MILLIS,
+            ColdStartProbe.INIT_MILLIS,
+            ColdStartProbe.LOADED_CLASSES,
+            ColdStartProbe.RSS_KB,
+            ColdStartProbe.PEAK_RSS_KB);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path root;
+    private final Path workDirectory;
+    private final List<String> jvmArgs;
+    private final int warmups;
+    private final int iterations;
+    private final String probeClasspath;
+
+    private ColdStartHarness(final Path root, final Path workDirectory, final List<String> jvmArgs,
+                             final int warmups, final int iterations) throws URISyntaxException {
+        this.root = root;
+        this.workDirectory = workDirectory;
+        this.jvmArgs = jvmArgs;
+        this.warmups = warmups;
+        this.iterations = iterations;
+        this.probeClasspath = Paths.get(ColdStartProbe.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Path root = Paths.get(System.getProperty("coldstart.root", "..")).toAbsolutePath().normalize();
+        final List<String> modules = Arrays.asList(System.getProperty("coldstart.modules", DEFAULT_MODULES).split(","));
+        final List<String> jvmArgs = Arrays.stream(System.getProperty("coldstart.jvmArgs", "").trim().split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .collect(Collectors.toList());
+        final int warmups = Integer.getInteger("coldstart.warmups", 1);
+        final int iterations = Integer.getInteger("coldstart.iterations", 10);
+        final Path output = Paths.get(System.getProperty("coldstart.output", "target/coldstart-result.json"))
+                .toAbsolutePath();
+        final Path workDirectory = output.getParent().resolve("coldstart");
+        Files.createDirectories(workDirectory);
+
+        final ColdStartHarness harness = new ColdStartHarness(root, workDirectory, jvmArgs, warmups, iterations);
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("gitCommit", gitCommit(root));
+        result.put("javaVersion", System.getProperty("java.version"));
+        result.put("javaVm", System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"));
+        result.put("jvmArgs", jvmArgs);
+        result.put("warmups", warmups);
+        result.put("iterations", iterations);
+        result.put("startedAt", Instant.now().toString());
+        final Map<String, Object> moduleResults = new LinkedHashMap<>();
+        try (AthenaStubServer server = AthenaStubServer.start()) {
+            for (final String module : modules) {
+                moduleResults.put(module, harness.runModule(module.trim(), server));
+            }
+        }
+        result.put("modules", moduleResults);
+        MAPPER.writeValue(output.toFile(), result);
+
+        System.out.printf("%nCold start medians over %d iterations at %s (ms, kB)%n", iterations, result.get("gitCommit"));
+        System.out.printf("%-20s %8s %10s %10s %8s %8s %8s%n",
+                "module", "main", "classLoad", "firstSdk", "handler", "init", "rss");
+        moduleResults.forEach((module, moduleResult) -> System.out.println(summaryLine(module, moduleResult)));
+
+        final String baseline = System.getProperty("coldstart.baseline", "");
+        if (!baseline.isEmpty()) {
+            printBaselineChanges(MAPPER.readTree(new File(baseline)), MAPPER.valueToTree(result));
+        }
+        System.out.println("Results written to " + output);
+    }
+
+    private Map<String, Object> runModule(final String module, final AthenaStubServer server) throws Exception {
+        final Path jar = root.resolve(String.format(SHADED_JAR, module));
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(String.format("%s not found, run mvn package in %s first", jar, module));
+        }
+
+        final List<Map<String, Object>> runs = new ArrayList<>();
+        for (int i = 0; i < warmups + iterations; i++) {
+            server.reset();
+            final Map<String, Object> run = runOnce(module, jar, i, server);
+            // The first launches warm the page cache and are dropped
+            if (i >= warmups) {
+                runs.add(run);
+            }
+        }
+
+        final Map<String, MetricSummary> metrics = new LinkedHashMap<>();
+        for (final String metric : METRICS) {
+            final List<Long> values = runs.stream()
+                    .map(run -> ((Number) run.get(metric)).longValue())
+                    .filter(value -> value >= 0)
+                    .collect(Collectors.toList());
+            if (!values.isEmpty()) {
+                metrics.put(metric, MetricSummary.of(values));
+            }
+        }
+
+        final Map<String, Object> moduleResult = new LinkedHashMap<>();
+        moduleResult.put("jar", root.relativize(jar).toString());
+        moduleResult.put("jarBytes", Files.size(jar));
+        moduleResult.put("jarSha256", sha256(jar));
+        moduleResult.put("action", ACTION);
+        moduleResult.put("metrics", metrics);
+        moduleResult.put("runs", runs);
+        return moduleResult;
+    }
+
+    private Map<String, Object> runOnce(final String module, final Path jar, final int iteration,
+                                        final AthenaStubServer server) throws IOException, InterruptedException {
+        final Path resultFile = workDirectory.resolve(module + "-" + iteration + ".json");
+        final Path logFile = workDirectory.resolve(module + "-" + iteration + ".log");
+        Files.deleteIfExists(resultFile);
+
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dathena.endpoint=" + server.endpoint());
+        command.add("-Daws.region=us-east-1");
+        // Keeps the default credential chain from probing instance metadata; the proxy injects its own per request
+        command.add("-Daws.accessKeyId=accessKey");
+        command.add("-Daws.secretAccessKey=secretKey");
+        command.add("-classpath");
+        command.add(jar + File.pathSeparator + probeClasspath);
+        command.add(ColdStartProbe.class.getName());
+        command.add(String.format(WRAPPER_CLASS, module));
+        command.add(String.format(PAYLOAD_RESOURCE, module));
+        command.add(resultFile.toString());
+
+        final Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        if (!process.waitFor(ITERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException(String.format("%s iteration %d timed out, see %s", module, iteration, logFile));
+        }
+        if (process.exitValue() != 0 || !Files.exists(resultFile)) {
+            throw new IllegalStateException(String.format("%s iteration %d exited with %d, see %s",
+                    module, iteration, process.exitValue(), logFile));
+        }
+
+        final Map<String, Object> run = MAPPER.readValue(resultFile.toFile(),
+                new TypeReference<LinkedHashMap<String, Object>>() { });
+        // A failed or unfinished create takes a different path through the handler, so its timings are not comparable
+        if (!SUCCESS.equals(run.get(ColdStartProbe.STATUS))) {
+            throw new IllegalStateException(String.format("%s iteration %d returned %s instead of %s, see %s",
+                    module, iteration, run.get(ColdStartProbe.STATUS), SUCCESS, logFile));
+        }
+        final long jvmStart = ((Number) run.get(ColdStartProbe.JVM_START_MILLIS)).longValue();
+        final long firstRequest = server.firstRequestMillis();
+        run.put(FIRST_SDK_CALL_MILLIS, firstRequest == 0L ? -1L : firstRequest - jvmStart);
+        return run;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String summaryLine(final String module, final Object moduleResult) {
+        final Map<String, Object> result = (Map<String, Object>) moduleResult;
+        final Map<String, MetricSummary> metrics = (Map<String, MetricSummary>) result.get("metrics");
+        return String.format("%-20s %8s %10s %10s %8s %8s %8s",
+                module,
+                median(metrics, ColdStartProbe.MAIN_MILLIS),
+                median(metrics, ColdStartProbe.CLASS_LOAD_MILLIS),
+                median(metrics, FIRST_SDK_CALL_MILLIS),
+                median(metrics, ColdStartProbe.HANDLER_MILLIS),
+                median(metrics, ColdStartProbe.INIT_MILLIS),
+                median(metrics, ColdStartProbe.RSS_KB));
+    }
+
+    private static String median(final Map<String, MetricSummary> metrics, final String metric) {
+        final MetricSummary summary = metrics.get(metric);
+        return summary == null ? "-" : String.valueOf(summary.getMedian());
+    }
+
+    private static void printBaselineChanges(final JsonNode baseline, final JsonNode current) {
+        System.out.printf("%nMedian changes against %s%n", baseline.path("gitCommit").asText());
+        current.path("modules").fields().forEachRemaining(module -> {
+            final JsonNode baselineMetrics = baseline.path("modules").path(module.getKey()).path("metrics");
+            if (baselineMetrics.isMissingNode()) {
+                return;
+            }
+            final List<String> changes = new ArrayList<>();
+            module.getValue().path("metrics").fields().forEachRemaining(metric -> {
+                final JsonNode before = baselineMetrics.path(metric.getKey()).path("median");
+                if (before.isNumber() && before.asLong() != 0L) {
+                    final long after = metric.getValue().path("median").asLong();
+                    changes.add(String.format("%s %d -> %d (%+.1f%%)", metric.getKey(), before.asLong(), after,
+                            100d * (after - before.asLong()) / before.asLong()));
+                }
+            });
+            System.out.printf("%-20s %s%n", module.getKey(), String.join(", ", changes));
+        });
+    }
+
+    private static String sha256(final Path file) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            final byte[] chunk = new byte[8192];
+            while (in.read(chunk) != -1) {
+                // Reading feeds the digest
+            }
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The commit the jars were built from, marked dirty when the tree has uncommitted changes.
+     */
+    private static String gitCommit(final Path root) {
+        try {
+            final String commit = git(root, "rev-parse", "--short", "HEAD");
+            if (commit.isEmpty()) {
+                return "unknown";
+            }
+            return git(root, "status", "--porcelain").isEmpty() ? commit : commit + "-dirty";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static String git(final Path root, final String... args) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add("git");
+        command.add("-C");
+        command.add(root.toString());
+        command.addAll(Arrays.asList(args));
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final String output;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            output = reader.lines().collect(Collectors.joining("\n")).trim();
+        }
+        return process.waitFor() == 0 ? output : "";
+    }
+}
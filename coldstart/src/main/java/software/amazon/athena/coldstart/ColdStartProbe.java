@@ -0,0 +1,221 @@
+package software.amazon.athena.coldstart;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs in the freshly started JVM of one cold start iteration, with only the shaded handler jar and this class on
+ * the classpath. It invokes the HandlerWrapper testEntrypoint once with a canned payload and writes what it measured
+ * as one flat JSON object. Everything the handler jar provides is reached through reflection, so the probe needs
+ * nothing but the JDK next to the jar under test.
+ *
+ * <p>Arguments: the HandlerWrapper class name, the payload resource name and the result file.
+ */
+public final class ColdStartProbe {
+    static final String JVM_START_MILLIS = "jvmStartMillis";
+    static final String MAIN_MILLIS = "mainMillis";
+    static final String INIT_MILLIS = "initMillis";
+    static final String HANDLER_MILLIS = "handlerMillis";
+    static final String CLASS_LOAD_MILLIS = "classLoadMillis";
+    static final String LOADED_CLASSES = "loadedClasses";
+    static final String RSS_KB = "rssKb";
+    static final String PEAK_RSS_KB = "peakRssKb";
+    static final String STATUS = "status";
+
+    private static final int REMAINING_TIME_MILLIS = 900_000;
+    private static final int MEMORY_LIMIT_MB = 512;
+    private static final Pattern STATUS_PATTERN = Pattern.compile("\"status\"\\s*:\\s*\"(\\w+)\"");
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final long mainEntered = System.currentTimeMillis();
+        final String wrapperClassName = args[0];
+        final byte[] payload = readResource(args[1]);
+
+        final long handlerStarted = System.currentTimeMillis();
+        final Class<?> contextClass = Class.forName("com.amazonaws.services.lambda.runtime.Context");
+        final Object wrapper = Class.forName(wrapperClassName).getConstructor().newInstance();
+        final Method testEntrypoint = wrapper.getClass().getMethod("testEntrypoint",
+                InputStream.class, OutputStream.class, contextClass);
+        final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        try {
+            testEntrypoint.invoke(wrapper, new ByteArrayInputStream(payload), response, context(contextClass));
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("testEntrypoint failed", e.getCause());
+        }
+        final long handlerReturned = System.currentTimeMillis();
+
+        final long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put(JVM_START_MILLIS, jvmStart);
+        result.put(MAIN_MILLIS, mainEntered - jvmStart);
+        result.put(INIT_MILLIS, handlerReturned - jvmStart);
+        result.put(HANDLER_MILLIS, handlerReturned - handlerStarted);
+        result.put(LOADED_CLASSES, ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount());
+        result.put(CLASS_LOAD_MILLIS, classLoadMillis());
+        final Map<String, Long> memory = readProcStatus();
+        result.put(RSS_KB, memory.getOrDefault("VmRSS", -1L));
+        result.put(PEAK_RSS_KB, memory.getOrDefault("VmHWM", -1L));
+        final Matcher status = STATUS_PATTERN.matcher(new String(response.toByteArray(), StandardCharsets.UTF_8));
+        result.put(STATUS, status.find() ? status.group(1) : "UNKNOWN");
+
+        try (Writer writer = Files.newBufferedWriter(Paths.get(args[2]), StandardCharsets.UTF_8)) {
+            writer.write(toJson(result));
+        }
+        // The SDK and the wrapper leave non-daemon threads behind
+        System.exit(0);
+    }
+
+    /**
+     * A Lambda Context for testEntrypoint. The wrapper only needs a logger and the remaining time; log lines go to
+     * stderr, which the harness keeps in a per-iteration log file.
+     */
+    private static Object context(final Class<?> contextClass) throws ClassNotFoundException {
+        final Class<?> loggerClass = Class.forName("com.amazonaws.services.lambda.runtime.LambdaLogger");
+        final PrintStream log = System.err;
+        final Object logger = Proxy.newProxyInstance(loggerClass.getClassLoader(), new Class<?>[] {loggerClass},
+                (proxy, method, methodArgs) -> {
+                    if (methodArgs != null && methodArgs.length > 0 && methodArgs[0] instanceof String) {
+                        log.println(methodArgs[0]);
+                    } else if (methodArgs != null && methodArgs.length > 0 && methodArgs[0] instanceof byte[]) {
+                        log.println(new String((byte[]) methodArgs[0], StandardCharsets.UTF_8));
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+        final String requestId = UUID.randomUUID().toString();
+        final InvocationHandler handler = (proxy, method, methodArgs) -> {
+            switch (method.getName()) {
+                case "getLogger":
+                    return logger;
+                case "getRemainingTimeInMillis":
+                    return REMAINING_TIME_MILLIS;
+                case "getMemoryLimitInMB":
+                    return MEMORY_LIMIT_MB;
+                case "getAwsRequestId":
+                    return requestId;
+                case "getFunctionName":
+                    return "coldstart";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        };
+        return Proxy.newProxyInstance(contextClass.getClassLoader(), new Class<?>[] {contextClass}, handler);
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == boolean.class) {
+            return false;
+        }
+        return null;
+    }
+
+    /**
+     * Time HotSpot spent loading, linking and verifying classes so far, from its sun.cls.time counter. Read with
+     * jcmd after the handler returned, so the attach does not disturb the measured part. -1 without a JDK.
+     */
+    private static long classLoadMillis() throws IOException, InterruptedException {
+        final String pid = ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+        final File javaHome = new File(System.getProperty("java.home"));
+        File jcmd = new File(javaHome, "bin/jcmd");
+        if (!jcmd.exists()) {
+            // Java 8 reports the JRE inside the JDK as java.home
+            jcmd = new File(javaHome.getParentFile(), "bin/jcmd");
+        }
+        if (!jcmd.exists()) {
+            return -1L;
+        }
+        final Process process = new ProcessBuilder(jcmd.getPath(), pid, "PerfCounter.print")
+                .redirectErrorStream(true)
+                .start();
+        final Map<String, Long> counters = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int equals = line.indexOf('=');
+                if (equals > 0 && line.substring(equals + 1).matches("\\d+")) {
+                    counters.put(line.substring(0, equals), Long.parseLong(line.substring(equals + 1)));
+                }
+            }
+        }
+        process.waitFor();
+        final Long ticks = counters.get("sun.cls.time");
+        final Long frequency = counters.get("sun.os.hrt.frequency");
+        return ticks == null || frequency == null || frequency == 0L ? -1L : ticks * 1000L / frequency;
+    }
+
+    /**
+     * The kB values of /proc/self/status, such as VmRSS and VmHWM. Empty where there is no procfs.
+     */
+    static Map<String, Long> readProcStatus() throws IOException {
+        final Map<String, Long> values = new LinkedHashMap<>();
+        final Path status = Paths.get("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return values;
+        }
+        final List<String> lines = Files.readAllLines(status, StandardCharsets.UTF_8);
+        for (final String line : lines) {
+            final String[] parts = line.trim().split("\\s+");
+            if (parts.length == 3 && parts[0].endsWith(":") && "kB".equals(parts[2])) {
+                values.put(parts[0].substring(0, parts[0].length() - 1), Long.parseLong(parts[1]));
+            }
+        }
+        return values;
+    }
+
+    private static byte[] readResource(final String name) throws IOException {
+        try (InputStream in = ColdStartProbe.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("No payload resource " + name);
+            }
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    private static String toJson(final Map<String, Object> values) {
+        final StringBuilder json = new StringBuilder("{");
+        values.forEach((key, value) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(key).append("\":");
+            json.append(value instanceof String ? "\"" + value + "\"" : String.valueOf(value));
+        });
+        return json.append('}').toString();
+    }
+}
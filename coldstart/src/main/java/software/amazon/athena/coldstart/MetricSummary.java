@@ -0,0 +1,61 @@
+package software.amazon.athena.coldstart;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Order statistics of one metric over the measured iterations of a module. Percentiles use the nearest rank,
+ * so every reported value is one that was actually observed.
+ */
+public final class MetricSummary {
+    private final long min;
+    private final long median;
+    private final long p90;
+    private final long max;
+    private final double mean;
+
+    private MetricSummary(final long min, final long median, final long p90, final long max, final double mean) {
+        this.min = min;
+        this.median = median;
+        this.p90 = p90;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    public static MetricSummary of(final List<Long> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No values to summarize");
+        }
+        final List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        final double mean = sorted.stream().mapToLong(Long::longValue).average().orElse(0d);
+        return new MetricSummary(sorted.get(0), percentile(sorted, 50), percentile(sorted, 90),
+                sorted.get(sorted.size() - 1), mean);
+    }
+
+    private static long percentile(final List<Long> sorted, final int percentile) {
+        final int rank = (int) Math.ceil(percentile / 100d * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMedian() {
+        return median;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+}
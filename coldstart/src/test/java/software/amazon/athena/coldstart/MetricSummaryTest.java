@@ -0,0 +1,39 @@
+package software.amazon.athena.coldstart;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetricSummaryTest {
+
+    @Test
+    public void testNearestRankPercentiles() {
+        final MetricSummary summary = MetricSummary.of(
+                Arrays.asList(900L, 100L, 500L, 300L, 700L, 200L, 800L, 400L, 1000L, 600L));
+
+        assertThat(summary.getMin()).isEqualTo(100L);
+        assertThat(summary.getMedian()).isEqualTo(500L);
+        assertThat(summary.getP90()).isEqualTo(900L);
+        assertThat(summary.getMax()).isEqualTo(1000L);
+        assertThat(summary.getMean()).isEqualTo(550d);
+    }
+
+    @Test
+    public void testSingleValue() {
+        final MetricSummary summary = MetricSummary.of(Collections.singletonList(42L));
+
+        assertThat(summary.getMin()).isEqualTo(42L);
+        assertThat(summary.getMedian()).isEqualTo(42L);
+        assertThat(summary.getP90()).isEqualTo(42L);
+        assertThat(summary.getMax()).isEqualTo(42L);
+    }
+
+    @Test
+    public void testNoValues() {
+        assertThrows(IllegalArgumentException.class, () -> MetricSummary.of(Collections.emptyList()));
+    }
+}
@@ -0,0 +1,210 @@
+package software.amazon.athena.datacatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import software.amazon.athena.fake.InMemoryAthenaAsyncClient;
+import software.amazon.athena.fake.InMemoryAthenaClient;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each handler driven through handleRequest against {@link InMemoryAthenaClient}, so the result is
+ * the cost of the ProgressEvent chains, proxy call graphs and CallbackContext handling without any I/O.
+ * After every iteration the Athena calls made per invocation are printed and checked against the expected
+ * counts below, so a change that adds a round trip fails the run instead of only shifting the score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerBenchmark {
+    private static final String PARTITION = "aws";
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String CATALOG_NAME = "catalog";
+    private static final Map<String, String> PARAMETERS = Collections.singletonMap(
+            "metadata-function", "arn:aws:lambda:us-east-1:123456789012:function:hive");
+    // Including the AwsDataCatalog every account has
+    private static final int LIST_PAGE_SIZE = 50;
+    private static final Map<String, Map<String, Long>> EXPECTED_CALLS = new HashMap<>();
+
+    static {
+        EXPECTED_CALLS.put("create", calls(
+                "CreateDataCatalog", 1));
+        EXPECTED_CALLS.put("read", calls(
+                "GetDataCatalog", 1,
+                "ListTagsForResource", 1));
+        EXPECTED_CALLS.put("update", calls(
+                "GetDataCatalog", 1,
+                "UpdateDataCatalog", 1));
+        // GetDataCatalog fails once a HIVE catalog is gone, which ends stabilization
+        EXPECTED_CALLS.put("delete", calls(
+                "DeleteDataCatalog", 1,
+                "GetDataCatalog", 1));
+        EXPECTED_CALLS.put("list", calls(
+                "ListDataCatalogs", 1));
+    }
+
+    private final InMemoryAthenaClient athena = new InMemoryAthenaClient();
+    private final InMemoryAthenaAsyncClient asyncAthena = new InMemoryAthenaAsyncClient(athena);
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKey", "secretKey", "token"), () -> TimeUnit.MINUTES.toMillis(10));
+    private final LoggerProxy logger = new LoggerProxy();
+
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private UpdateHandler updateHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+
+    private long invocations;
+    private String description;
+
+    @Setup(Level.Trial)
+    public void setupHandlers() {
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        updateHandler = new UpdateHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+        createHandler.setClientSupplier(() -> athena);
+        readHandler.setClientSupplier(() -> athena);
+        updateHandler.setClientSupplier(() -> athena);
+        deleteHandler.setClientSupplier(() -> athena);
+        listHandler.setClientSupplier(() -> athena);
+        listHandler.setAsyncClientSupplier(() -> asyncAthena);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupFixtures() {
+        athena.reset();
+        athena.uncounted(() -> {
+            createHiveCatalog(CATALOG_NAME, "first");
+            for (int i = 2; i < LIST_PAGE_SIZE; i++) {
+                createHiveCatalog("listed" + i, null);
+            }
+        });
+        invocations = 0;
+        description = "first";
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyCalls(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        final Map<String, Long> callsPerInvocation = new TreeMap<>();
+        athena.callCounts().forEach((operation, count) -> callsPerInvocation.put(operation, count / invocations));
+        System.out.printf("%n%s: %d invocations, Athena calls per invocation %s%n",
+                benchmark, invocations, callsPerInvocation);
+
+        final Map<String, Long> expected = EXPECTED_CALLS.get(benchmark);
+        final Map<String, Long> expectedTotals = new TreeMap<>();
+        expected.forEach((operation, count) -> expectedTotals.put(operation, count * invocations));
+        if (!expectedTotals.equals(athena.callCounts())) {
+            throw new IllegalStateException(String.format("%s made %s Athena calls per invocation, expected %s",
+                    benchmark, callsPerInvocation, expected));
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        return invoke(createHandler, request(model("created" + invocations, null), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return invoke(readHandler, request(ResourceModel.builder().name(CATALOG_NAME).build(), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        // Alternates between two descriptions so every invocation changes the catalog
+        final String previousDescription = description;
+        description = "first".equals(previousDescription) ? "second" : "first";
+        return invoke(updateHandler, request(
+                model(CATALOG_NAME, description),
+                model(CATALOG_NAME, previousDescription)));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> delete() {
+        final String name = "deleted" + invocations;
+        athena.uncounted(() -> createHiveCatalog(name, null));
+        return invoke(deleteHandler, request(model(name, null), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return invoke(listHandler, request(ResourceModel.builder().build(), null));
+    }
+
+    private void createHiveCatalog(final String name, final String catalogDescription) {
+        athena.createDataCatalog(r -> r.name(name)
+                .type(DataCatalogType.HIVE)
+                .description(catalogDescription)
+                .parameters(PARAMETERS));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(
+            final BaseHandlerAthena handler,
+            final ResourceHandlerRequest<ResourceModel> request) {
+        // A fresh CallbackContext per invocation, as the proxy memoizes call graph results in it
+        final ProgressEvent<ResourceModel, CallbackContext> event = handler.handleRequest(proxy, request, null, logger);
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("%s returned %s: %s",
+                    handler.getClass().getSimpleName(), event.getStatus(), event.getMessage()));
+        }
+        invocations++;
+        return event;
+    }
+
+    private static ResourceModel model(final String name, final String description) {
+        return ResourceModel.builder()
+                .name(name)
+                .type(DataCatalogType.HIVE.toString())
+                .description(description)
+                .parameters(PARAMETERS)
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .awsPartition(PARTITION)
+                .region(REGION)
+                .awsAccountId(ACCOUNT_ID)
+                .build();
+    }
+
+    private static Map<String, Long> calls(final Object... operationCounts) {
+        final Map<String, Long> calls = new TreeMap<>();
+        for (int i = 0; i < operationCounts.length; i += 2) {
+            calls.put((String) operationCounts[i], ((Integer) operationCounts[i + 1]).longValue());
+        }
+        return calls;
+    }
+}
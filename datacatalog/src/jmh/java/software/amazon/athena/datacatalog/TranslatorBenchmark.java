@@ -0,0 +1,80 @@
+package software.amazon.athena.datacatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogSummary;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput of the data catalog tag conversions and of translating a 50 item ListDataCatalogs page.
+ * Run with the gc profiler (the jmh profile does) to see gc.alloc.rate.norm per conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    private List<Tag> resourceTags;
+    private Map<String, String> stackTags;
+    private List<software.amazon.awssdk.services.athena.model.Tag> sdkTags;
+    private List<DataCatalogSummary> summaries;
+
+    @Setup
+    public void setup() {
+        resourceTags = new ArrayList<>();
+        stackTags = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            resourceTags.add(Tag.builder().key("resourceKey" + i).value("resourceValue" + i).build());
+            stackTags.put("stackKey" + i, "stackValue" + i);
+        }
+        sdkTags = Translator.convertToAthenaSdkTags(resourceTags, stackTags);
+
+        summaries = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            final boolean federated = i % 5 == 0;
+            summaries.add(DataCatalogSummary.builder()
+                    .catalogName("catalog" + i)
+                    .type(federated ? DataCatalogType.FEDERATED : DataCatalogType.HIVE)
+                    .status(DataCatalogStatus.CREATE_COMPLETE)
+                    .connectionType(federated ? "DYNAMODB" : null)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.athena.model.Tag> convertToAthenaSdkTags() {
+        return Translator.convertToAthenaSdkTags(resourceTags, stackTags);
+    }
+
+    @Benchmark
+    public List<Tag> convertToResourceModelTags() {
+        return Translator.convertToResourceModelTags(sdkTags);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateListPage() {
+        return summaries.stream()
+                .map(Translator::getModelFromDataCatalogSummary)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,8 @@
 package software.amazon.athena.datacatalog;
 
+import software.amazon.athena.client.AthenaEndpoint;
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.cloudformation.LambdaWrapper;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -8,9 +11,19 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.net.URI;
+import java.util.function.Supplier;
 
 public abstract class BaseHandlerAthena extends BaseHandler<CallbackContext> {
+  /**
+   * The async client owns its own event loop, so it is built once per container on first use
+   * and shared. Credentials are injected per request by the proxy.
+   */
+  private static class AsyncClientHolder {
+    private static final AthenaAsyncClient ATHENA_ASYNC_CLIENT = AthenaEndpoint.override(AthenaAsyncClient.builder()).build();
+  }
+
+  private Supplier<AthenaClient> clientSupplier = this::getClient;
+  private Supplier<AthenaAsyncClient> asyncClientSupplier = BaseHandlerAthena::getAsyncClient;
 
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -22,7 +35,7 @@ public abstract class BaseHandlerAthena extends BaseHandler<CallbackContext> {
         proxy,
         request,
         callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(this::getClient),
+        ApiCallMetrics.instrument(logger, ResourceModel.TYPE_NAME, proxy.newProxy(clientSupplier)),
         logger);
   }
 
@@ -33,9 +46,32 @@ public abstract class BaseHandlerAthena extends BaseHandler<CallbackContext> {
       ProxyClient<AthenaClient> proxyClient,
       final Logger logger);
 
+  /**
+   * Replaces the client the proxy is built around, such as an in-memory fake for benchmarks that should
+   * measure the handler without network I/O.
+   */
+  void setClientSupplier(final Supplier<AthenaClient> clientSupplier) {
+    this.clientSupplier = clientSupplier;
+  }
+
+  /**
+   * Replaces the client that list prefetches are sent through.
+   */
+  void setAsyncClientSupplier(final Supplier<AthenaAsyncClient> asyncClientSupplier) {
+    this.asyncClientSupplier = asyncClientSupplier;
+  }
+
+  protected Supplier<AthenaAsyncClient> getAsyncClientSupplier() {
+    return asyncClientSupplier;
+  }
+
   public AthenaClient getClient() {
-    return AthenaClient.builder()
+    return AthenaEndpoint.override(AthenaClient.builder())
             .httpClient(LambdaWrapper.HTTP_CLIENT)
             .build();
   }
+
+  public static AthenaAsyncClient getAsyncClient() {
+    return AsyncClientHolder.ATHENA_ASYNC_CLIENT;
+  }
 }
@@ -1,5 +1,6 @@
 package software.amazon.athena.datacatalog;
 
+import software.amazon.awssdk.services.athena.model.DataCatalog;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +8,14 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Last DataCatalog observed while stabilizing, kept so done() does not need another GetDataCatalog call
+    private String catalogType;
+    private String catalogStatus;
+    private String catalogError;
+
+    void recordDataCatalog(DataCatalog dataCatalog) {
+        this.catalogType = dataCatalog != null ? dataCatalog.typeAsString() : null;
+        this.catalogStatus = dataCatalog != null ? dataCatalog.statusAsString() : null;
+        this.catalogError = dataCatalog != null ? dataCatalog.error() : null;
+    }
 }
@@ -37,21 +37,27 @@ public class CreateHandler extends BaseHandlerAthena {
             .translateToServiceRequest(
                     model -> Translator.createDataCatalogRequest(model, request.getDesiredResourceTags()))
             .makeServiceCall(this::createDataCatalog)
-            .stabilize((createRequest, createResponse, client, model, context) -> {
-                if (model.getType().equals(DataCatalogType.FEDERATED.name())) {
-                    return !getDataCatalog(client, model).status().equals(DataCatalogStatus.CREATE_IN_PROGRESS);
-                }
-                return true;
-            })
+            .stabilize((createRequest, createResponse, client, model, context) ->
+                FlightRecorderEvents.stabilizationPoll(model.getName(), () -> {
+                    if (model.getType().equals(DataCatalogType.FEDERATED.name())) {
+                        DataCatalog dataCatalog = getDataCatalog(client, model);
+                        context.recordDataCatalog(dataCatalog);
+                        return !dataCatalog.status().equals(DataCatalogStatus.CREATE_IN_PROGRESS);
+                    }
+                    return true;
+                }))
             .done((createRequest, createResponse, client, model, context) -> {
                 OperationStatus operationStatus = OperationStatus.SUCCESS;
                 ProgressEvent.ProgressEventBuilder<ResourceModel, CallbackContext> progressEventBuilder = ProgressEvent.<ResourceModel, CallbackContext>builder()
                         .resourceModel(model);
                 if (model.getType().equals(DataCatalogType.FEDERATED.name())) {
-                    DataCatalog dataCatalog = getDataCatalog(client, model);
-                    if (!dataCatalog.status().equals(DataCatalogStatus.CREATE_COMPLETE)) {
+                    // The last stabilization poll already observed the final status
+                    if (context.getCatalogStatus() == null) {
+                        context.recordDataCatalog(getDataCatalog(client, model));
+                    }
+                    if (!DataCatalogStatus.CREATE_COMPLETE.toString().equals(context.getCatalogStatus())) {
                         operationStatus = OperationStatus.FAILED;
-                        progressEventBuilder.message(dataCatalog.error());
+                        progressEventBuilder.message(context.getCatalogError());
                     }
                 }
                 return progressEventBuilder.status(operationStatus).build();
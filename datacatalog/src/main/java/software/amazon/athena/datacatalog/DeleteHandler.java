@@ -36,27 +36,29 @@ public class DeleteHandler extends BaseHandlerAthena {
                         request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::deleteDataCatalogRequest)
             .makeServiceCall(this::deleteDataCatalog)
-            .stabilize((deleteRequest, deleteResponse, client, model, context) -> {
-                try {
-                    DataCatalog dataCatalog = getDataCatalog(client, model);
-                    if (dataCatalog.type().equals(DataCatalogType.FEDERATED)) {
-                        return !dataCatalog.status().equals(DataCatalogStatus.DELETE_IN_PROGRESS);
+            .stabilize((deleteRequest, deleteResponse, client, model, context) ->
+                FlightRecorderEvents.stabilizationPoll(model.getName(), () -> {
+                    try {
+                        DataCatalog dataCatalog = getDataCatalog(client, model);
+                        context.recordDataCatalog(dataCatalog);
+                        if (dataCatalog.type().equals(DataCatalogType.FEDERATED)) {
+                            return !dataCatalog.status().equals(DataCatalogStatus.DELETE_IN_PROGRESS);
+                        }
                     }
-                }
-                catch (InvalidRequestException ignored) {} // GetDataCatalog should fail for non-FEDERATED after DeleteDataCatalog
-                return true;
-            })
+                    catch (InvalidRequestException ignored) { // GetDataCatalog should fail for non-FEDERATED after DeleteDataCatalog
+                        context.recordDataCatalog(null);
+                    }
+                    return true;
+                }))
             .done((deleteRequest, deleteResponse, client, model, context) -> {
                 OperationStatus operationStatus = OperationStatus.SUCCESS;
                 ProgressEvent.ProgressEventBuilder<ResourceModel, CallbackContext> progressEventBuilder = ProgressEvent.<ResourceModel, CallbackContext>builder();
-                try {
-                    DataCatalog dataCatalog = getDataCatalog(client, model);
-                    if (dataCatalog.type().equals(DataCatalogType.FEDERATED) && !dataCatalog.status().equals(DataCatalogStatus.DELETE_COMPLETE)) {
-                        operationStatus = OperationStatus.FAILED;
-                        progressEventBuilder.message(dataCatalog.error());
-                    }
+                // The last stabilization poll already observed the final status
+                if (DataCatalogType.FEDERATED.toString().equals(context.getCatalogType())
+                        && !DataCatalogStatus.DELETE_COMPLETE.toString().equals(context.getCatalogStatus())) {
+                    operationStatus = OperationStatus.FAILED;
+                    progressEventBuilder.message(context.getCatalogError());
                 }
-                catch (InvalidRequestException ignored) {} // GetDataCatalog should fail for non-FEDERATED after DeleteDataCatalog
                 return progressEventBuilder
                         .status(operationStatus)
                         .build();
@@ -1,8 +1,14 @@
 package software.amazon.athena.datacatalog;
 
+import com.google.common.base.Strings;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.commons.collections.MapUtils;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.DataCatalog;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
 import software.amazon.awssdk.services.athena.model.GetDataCatalogRequest;
 import software.amazon.awssdk.services.athena.model.GetDataCatalogResponse;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
@@ -48,4 +54,23 @@ class HandlerUtils {
             getDataCatalogRequest, client.client()::getDataCatalog);
     return getDataCatalogResponse.dataCatalog();
   }
+
+  /**
+   * Compares the fields UpdateDataCatalog can change. Parameters are not sent for FEDERATED catalogs,
+   * so they are ignored for that type. Absent and empty values are treated as equal.
+   */
+  static boolean hasDataCatalogChanges(DataCatalog dataCatalog, ResourceModel model) {
+    if (!Objects.equals(dataCatalog.typeAsString(), model.getType())) {
+      return true;
+    }
+    if (!Strings.nullToEmpty(dataCatalog.description()).equals(Strings.nullToEmpty(model.getDescription()))) {
+      return true;
+    }
+    if (DataCatalogType.FEDERATED.toString().equals(model.getType())) {
+      return false;
+    }
+    Map<String, String> currentParameters = MapUtils.isEmpty(dataCatalog.parameters()) ? Collections.emptyMap() : dataCatalog.parameters();
+    Map<String, String> desiredParameters = MapUtils.isEmpty(model.getParameters()) ? Collections.emptyMap() : model.getParameters();
+    return !currentParameters.equals(desiredParameters);
+  }
 }
@@ -1,7 +1,15 @@
 package software.amazon.athena.datacatalog;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.athena.metrics.EmbeddedMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
 import software.amazon.awssdk.services.athena.model.ListDataCatalogsRequest;
@@ -15,8 +23,46 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerAthena {
 
+    private static final int MAX_RESULTS = 50;
+    static final String FILTERED_DELETED_CATALOGS_METRIC = "FilteredDeletedDataCatalogs";
+
     ProxyClient<AthenaClient> athenaProxyClient;
 
+    /**
+     * SEQUENTIAL requests the next page only after the current one has been translated.
+     * PREFETCH requests it through {@link AthenaAsyncClient} as soon as its token is known.
+     */
+    public enum PageFetchMode {
+        SEQUENTIAL,
+        PREFETCH
+    }
+
+    private final PageAggregator pageAggregator;
+    private final PageFetchMode pageFetchMode;
+
+    /**
+     * Follows nextToken until {@link PageAggregator#DEFAULT_MAX_ITEMS} data catalogs were read, the service has
+     * no more of them or the invocation runs low on time, so pages that lost their DELETE_COMPLETE catalogs are
+     * filled up from the next page instead of being returned short. Pages are prefetched.
+     */
+    public ListHandler() {
+        this.pageAggregator = PageAggregator.withinTimeBudget();
+        this.pageFetchMode = PageFetchMode.PREFETCH;
+    }
+
+    /**
+     * Keeps following nextToken within one invocation until at least maxItems data catalogs were read
+     * or the remaining invocation time runs low.
+     */
+    public ListHandler(final int maxItems, final LongSupplier remainingTimeMillis) {
+        this(maxItems, remainingTimeMillis, PageFetchMode.SEQUENTIAL);
+    }
+
+    public ListHandler(final int maxItems, final LongSupplier remainingTimeMillis, final PageFetchMode pageFetchMode) {
+        this.pageAggregator = PageAggregator.aggregated(maxItems, remainingTimeMillis);
+        this.pageFetchMode = pageFetchMode;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -26,25 +72,51 @@ public class ListHandler extends BaseHandlerAthena {
         final Logger logger) {
 
         athenaProxyClient = proxyClient;
-        final ListDataCatalogsResponse listDataCatalogsResponse = proxy.injectCredentialsAndInvokeV2(
-            listDataCatalogsRequest(request.getNextToken()), proxyClient.client()::listDataCatalogs
-        );
+        final AtomicLong filteredCatalogs = new AtomicLong();
+        final PageAggregator.Page<ResourceModel> dataCatalogs;
+        if (pageFetchMode == PageFetchMode.PREFETCH) {
+            final ProxyClient<AthenaAsyncClient> asyncProxyClient =
+                ApiCallMetrics.instrument(logger, ResourceModel.TYPE_NAME, proxy.newProxy(getAsyncClientSupplier()));
+            dataCatalogs = pageAggregator.aggregateWithPrefetch(
+                request.getNextToken(),
+                nextToken -> asyncProxyClient.injectCredentialsAndInvokeV2Async(
+                    listDataCatalogsRequest(nextToken), asyncProxyClient.client()::listDataCatalogs),
+                listDataCatalogsResponse -> translateDataCatalogs(listDataCatalogsResponse, filteredCatalogs),
+                listDataCatalogsResponse -> listDataCatalogsResponse.dataCatalogsSummary().size(),
+                ListDataCatalogsResponse::nextToken);
+        } else {
+            dataCatalogs = pageAggregator.aggregate(
+                request.getNextToken(),
+                nextToken -> proxyClient.injectCredentialsAndInvokeV2(
+                    listDataCatalogsRequest(nextToken), proxyClient.client()::listDataCatalogs),
+                listDataCatalogsResponse -> translateDataCatalogs(listDataCatalogsResponse, filteredCatalogs),
+                ListDataCatalogsResponse::nextToken);
+        }
+        EmbeddedMetrics.logCounts(logger, ResourceModel.TYPE_NAME, "ListDataCatalogs",
+            Collections.singletonMap(FILTERED_DELETED_CATALOGS_METRIC, filteredCatalogs.get()));
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(listDataCatalogsResponse.dataCatalogsSummary()
-                    .stream().filter(summary -> !summary.status().equals(DataCatalogStatus.DELETE_COMPLETE))
-                    .map(Translator::getModelFromDataCatalogSummary)
-                    .collect(Collectors.toList()))
-            .nextToken(listDataCatalogsResponse.nextToken())
+            .resourceModels(dataCatalogs.getItems())
+            .nextToken(dataCatalogs.getNextToken())
             .status(OperationStatus.SUCCESS)
             .callbackContext(callbackContext)
             .build();
     }
 
+    private static List<ResourceModel> translateDataCatalogs(final ListDataCatalogsResponse listDataCatalogsResponse,
+                                                             final AtomicLong filteredCatalogs) {
+        final List<ResourceModel> dataCatalogs = listDataCatalogsResponse.dataCatalogsSummary()
+            .stream().filter(summary -> !summary.status().equals(DataCatalogStatus.DELETE_COMPLETE))
+            .map(Translator::getModelFromDataCatalogSummary)
+            .collect(Collectors.toList());
+        filteredCatalogs.addAndGet(listDataCatalogsResponse.dataCatalogsSummary().size() - dataCatalogs.size());
+        return dataCatalogs;
+    }
+
     private ListDataCatalogsRequest listDataCatalogsRequest(final String nextToken) {
         return ListDataCatalogsRequest.builder()
             .nextToken(nextToken)
-            .maxResults(50)
+            .maxResults(MAX_RESULTS)
             .build();
     }
 }
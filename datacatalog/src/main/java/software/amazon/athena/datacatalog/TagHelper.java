@@ -147,7 +147,7 @@ public class TagHelper {
                 .translateToServiceRequest(model ->
                         Translator.tagResourceRequest(HandlerUtils.getDatacatalogArn(handlerRequest, handlerRequest.getDesiredResourceState().getName()), addedTags))
                 .makeServiceCall((request, client) ->
-                        proxy.injectCredentialsAndInvokeV2(request, client.client()::tagResource))
+                        client.injectCredentialsAndInvokeV2(request, client.client()::tagResource))
                 .progress();
     }
 
@@ -170,7 +170,7 @@ public class TagHelper {
                 .translateToServiceRequest(model ->
                         Translator.untagResourceRequest(HandlerUtils.getDatacatalogArn(handlerRequest, handlerRequest.getDesiredResourceState().getName()), removedTags))
                 .makeServiceCall((request, client) ->
-                        proxy.injectCredentialsAndInvokeV2(request, client.client()::untagResource))
+                        client.injectCredentialsAndInvokeV2(request, client.client()::untagResource))
                 .progress();
 
     }
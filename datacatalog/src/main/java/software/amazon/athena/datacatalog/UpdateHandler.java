@@ -1,16 +1,22 @@
 package software.amazon.athena.datacatalog;
 
 import static software.amazon.athena.datacatalog.HandlerUtils.handleExceptions;
+import static software.amazon.athena.datacatalog.HandlerUtils.hasDataCatalogChanges;
 
 import java.util.Set;
 import java.util.Map;
 
-import lombok.Setter;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
+import software.amazon.awssdk.services.athena.model.DataCatalog;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
+import software.amazon.awssdk.services.athena.model.GetDataCatalogRequest;
+import software.amazon.awssdk.services.athena.model.GetDataCatalogResponse;
 import software.amazon.awssdk.services.athena.model.UpdateDataCatalogRequest;
 import software.amazon.awssdk.services.athena.model.UpdateDataCatalogResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -20,13 +26,6 @@ public class UpdateHandler extends BaseHandlerAthena {
 
     private Logger logger;
 
-    @Setter
-    private ReadHandler readHandler;
-
-    public UpdateHandler() {
-        readHandler = new ReadHandler();
-    }
-
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -39,19 +38,37 @@ public class UpdateHandler extends BaseHandlerAthena {
         final ResourceModel resourceModel = request.getDesiredResourceState();
 
         return ProgressEvent.progress(resourceModel, callbackContext)
-            .then(progressEvent -> {
-                ProgressEvent<ResourceModel, CallbackContext> readProgress =
-                    readHandler.handleRequest(proxy, request, callbackContext, proxy.newProxy(this::getClient), logger);
-                if (readProgress.isFailed()) {
-                    readProgress.setResourceModel(null);
-                }
-                return readProgress;
-            })
-            .onSuccess(p -> proxy.initiate("athena::updateDataCatalog", athenaProxyClient, resourceModel, callbackContext)
-                .translateToServiceRequest(Translator::updateDataCatalogRequest)
-                .makeServiceCall(this::updateDataCatalog)
-                .progress()
-                .then(progress -> updateTags(proxy, athenaProxyClient, progress, request)));
+            .then(progress -> proxy.initiate("athena::getDataCatalog", athenaProxyClient, resourceModel, callbackContext)
+                .translateToServiceRequest(Translator::getDataCatalogRequest)
+                .makeServiceCall(this::getDataCatalog)
+                .done((getRequest, getResponse, client, model, context) ->
+                    updateDataCatalogIfChanged(proxy, client, getResponse.dataCatalog(), model, context)))
+            .then(progress -> updateTags(proxy, athenaProxyClient, progress, request));
+    }
+
+    /**
+     * The GetDataCatalog response doubles as the existence check and as the current state to diff against,
+     * so UpdateDataCatalog is only called when description, type or parameters actually changed.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateDataCatalogIfChanged(
+            AmazonWebServicesClientProxy proxy,
+            ProxyClient<AthenaClient> athenaProxyClient,
+            DataCatalog dataCatalog,
+            ResourceModel model,
+            CallbackContext callbackContext) {
+        if (dataCatalog.type().equals(DataCatalogType.FEDERATED) && dataCatalog.status().equals(DataCatalogStatus.DELETE_COMPLETE)) {
+            return ProgressEvent.failed(null, callbackContext, HandlerErrorCode.NotFound,
+                String.format("Federated catalog %s is deleted", dataCatalog.name()));
+        }
+        if (!hasDataCatalogChanges(dataCatalog, model)) {
+            logger.log(String.format("%s [%s] has no changes, skipping UpdateDataCatalog",
+                ResourceModel.TYPE_NAME, model.getName()));
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        return proxy.initiate("athena::updateDataCatalog", athenaProxyClient, model, callbackContext)
+            .translateToServiceRequest(Translator::updateDataCatalogRequest)
+            .makeServiceCall(this::updateDataCatalog)
+            .progress();
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateTags (
@@ -65,11 +82,14 @@ public class UpdateHandler extends BaseHandlerAthena {
         if (!TagHelper.shouldUpdateTags(request)) {
             return ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
         } else {
+            FlightRecorderEvents.TagDiff tagDiff = new FlightRecorderEvents.TagDiff();
+            tagDiff.begin();
             Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(request);
             Map<String, String> desiredTags = TagHelper.getNewDesiredTags(request);
 
             Map<String, String> addedTags = TagHelper.generateTagsToAddAndUpdate(previousTags, desiredTags);
             Set<String> removedTags = TagHelper.generateTagsToRemove(previousTags, desiredTags);
+            tagDiff.commit(addedTags.size(), removedTags.size());
 
             return TagHelper.untagResource(proxy, proxyClient, model, request, callbackContext, removedTags, logger)
                     .then(progressEvent1 ->
@@ -78,6 +98,16 @@ public class UpdateHandler extends BaseHandlerAthena {
         }
     }
 
+    private GetDataCatalogResponse getDataCatalog(GetDataCatalogRequest getDataCatalogRequest,
+            final ProxyClient<AthenaClient> athenaProxyClient) {
+        try {
+            return athenaProxyClient.injectCredentialsAndInvokeV2(
+                getDataCatalogRequest, athenaProxyClient.client()::getDataCatalog);
+        } catch (AthenaException e) {
+            throw handleExceptions(e, getDataCatalogRequest.name());
+        }
+    }
+
     private UpdateDataCatalogResponse updateDataCatalog(UpdateDataCatalogRequest updateDataCatalogRequest,
             final ProxyClient<AthenaClient> athenaProxyClient) {
         try {
@@ -7,10 +7,12 @@ import software.amazon.awssdk.services.athena.model.CreateDataCatalogRequest;
 import software.amazon.awssdk.services.athena.model.CreateDataCatalogResponse;
 import software.amazon.awssdk.services.athena.model.DataCatalog;
 import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.DataCatalogType;
 import software.amazon.awssdk.services.athena.model.GetDataCatalogRequest;
 import software.amazon.awssdk.services.athena.model.GetDataCatalogResponse;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
@@ -21,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,6 +91,39 @@ public class CreateHandlerTest extends BaseHandlerTest {
         assertSuccessState(response);
         assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
         assertThat(response.getResourceModels()).isNull();
+        // The status seen by the stabilization poll is reused by done
+        verify(athenaClient, times(1)).getDataCatalog(any(GetDataCatalogRequest.class));
+    }
+
+    @Test
+    public void testFederatedFailedStateReusesLastSnapshot() {
+        final ResourceModel model = buildTestResourceModelFederated();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        // Mock
+        when(proxyClient.client().createDataCatalog(any(CreateDataCatalogRequest.class)))
+                .thenReturn(CreateDataCatalogResponse.builder().build());
+        when(proxyClient.client().getDataCatalog(any(GetDataCatalogRequest.class)))
+                .thenReturn(
+                        GetDataCatalogResponse.builder()
+                                .dataCatalog(DataCatalog.builder()
+                                        .type(DataCatalogType.FEDERATED)
+                                        .status(DataCatalogStatus.CREATE_FAILED)
+                                        .error("Connector stack failed to deploy")
+                                        .build())
+                                .build()
+                );
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getMessage()).isEqualTo("Connector stack failed to deploy");
+        verify(athenaClient, times(1)).createDataCatalog(any(CreateDataCatalogRequest.class));
+        verify(athenaClient, times(1)).getDataCatalog(any(GetDataCatalogRequest.class));
     }
 
     @Test
@@ -9,6 +9,7 @@ import software.amazon.awssdk.services.athena.model.GetDataCatalogRequest;
 import software.amazon.awssdk.services.athena.model.GetDataCatalogResponse;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,6 +84,36 @@ public class DeleteHandlerTest extends BaseHandlerTest {
 
         assertSuccessState(response);
         assertThat(response.getResourceModel()).isNull();
+        // The status seen by the stabilization poll is reused by done
+        verify(athenaClient, times(1)).getDataCatalog(any(GetDataCatalogRequest.class));
+    }
+
+    @Test
+    public void testFederatedFailedStateReusesLastSnapshot() {
+        final ResourceModel model = buildTestResourceModelFederated();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        // Mock
+        when(proxyClient.client().deleteDataCatalog(any(DeleteDataCatalogRequest.class)))
+                .thenReturn(DeleteDataCatalogResponse.builder().build());
+        when(proxyClient.client().getDataCatalog(any(GetDataCatalogRequest.class)))
+                .thenReturn(
+                        GetDataCatalogResponse.builder()
+                                .dataCatalog(DataCatalog.builder()
+                                        .type(DataCatalogType.FEDERATED)
+                                        .status(DataCatalogStatus.DELETE_FAILED)
+                                        .error("Connector stack failed to delete")
+                                        .build())
+                                .build()
+                );
+        final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getMessage()).isEqualTo("Connector stack failed to delete");
+        verify(athenaClient, times(1)).deleteDataCatalog(any(DeleteDataCatalogRequest.class));
+        verify(athenaClient, times(1)).getDataCatalog(any(GetDataCatalogRequest.class));
     }
 
     @Test
@@ -2,9 +2,12 @@ package software.amazon.athena.datacatalog;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.athena.datacatalog.HandlerUtils.handleExceptions;
+import static software.amazon.athena.datacatalog.HandlerUtils.hasDataCatalogChanges;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.athena.model.AthenaException;
+import software.amazon.awssdk.services.athena.model.DataCatalog;
 import software.amazon.awssdk.services.athena.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.athena.model.TooManyRequestsException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -22,4 +25,29 @@ public class HandlerUtilsTest {
     AthenaException exception = ResourceNotFoundException.builder().build();
     assertThat(handleExceptions(exception, "name")).isInstanceOf(CfnNotFoundException.class);
   }
+
+  @Test
+  public void testHasDataCatalogChanges_equivalentCatalog() {
+    DataCatalog dataCatalog = DataCatalog.builder().name("name").type("HIVE").build();
+    ResourceModel model = ResourceModel.builder().name("name").type("HIVE").description("").build();
+    assertThat(hasDataCatalogChanges(dataCatalog, model)).isFalse();
+  }
+
+  @Test
+  public void testHasDataCatalogChanges_parametersChanged() {
+    DataCatalog dataCatalog = DataCatalog.builder().name("name").type("HIVE")
+        .parameters(ImmutableMap.of("metadata-function", "testing")).build();
+    ResourceModel model = ResourceModel.builder().name("name").type("HIVE")
+        .parameters(ImmutableMap.of("metadata-function", "updated")).build();
+    assertThat(hasDataCatalogChanges(dataCatalog, model)).isTrue();
+  }
+
+  @Test
+  public void testHasDataCatalogChanges_federatedIgnoresParameters() {
+    DataCatalog dataCatalog = DataCatalog.builder().name("name").type("FEDERATED")
+        .parameters(ImmutableMap.of("connection-type", "DYNAMODB", "connection-arn", "arn")).build();
+    ResourceModel model = ResourceModel.builder().name("name").type("FEDERATED")
+        .parameters(ImmutableMap.of("connection-type", "DYNAMODB")).build();
+    assertThat(hasDataCatalogChanges(dataCatalog, model)).isFalse();
+  }
 }
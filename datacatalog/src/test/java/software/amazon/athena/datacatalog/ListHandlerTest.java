@@ -1,6 +1,12 @@
 package software.amazon.athena.datacatalog;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.model.DataCatalogSummary;
 import software.amazon.awssdk.services.athena.model.ListDataCatalogsRequest;
 import software.amazon.awssdk.services.athena.model.ListDataCatalogsResponse;
@@ -12,6 +18,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,7 +29,21 @@ public class ListHandlerTest extends BaseHandlerTest {
 
     @Override
     protected BaseHandlerAthena getHandlerInstance() {
-        return new ListHandler();
+        return defaultHandler();
+    }
+
+    /**
+     * The handler as the wrapper constructs it. It prefetches through an async client that answers from
+     * the same mock as the blocking one.
+     */
+    private ListHandler defaultHandler() {
+        final AthenaAsyncClient asyncClient = mock(AthenaAsyncClient.class);
+        when(asyncClient.listDataCatalogs(any(ListDataCatalogsRequest.class))).thenAnswer(invocation ->
+            CompletableFuture.completedFuture(
+                athenaClient.listDataCatalogs(invocation.<ListDataCatalogsRequest>getArgument(0))));
+        final ListHandler handler = new ListHandler();
+        handler.setAsyncClientSupplier(() -> asyncClient);
+        return handler;
     }
 
     @Test
@@ -60,7 +84,6 @@ public class ListHandlerTest extends BaseHandlerTest {
 
         when(proxyClient.client().listDataCatalogs(any(ListDataCatalogsRequest.class))).thenReturn(
             ListDataCatalogsResponse.builder()
-                .nextToken("nextToken")
                 .dataCatalogsSummary(Lists.newArrayList(catalog1, catalog2, catalog3, catalog4))
                 .build());
 
@@ -69,6 +92,7 @@ public class ListHandlerTest extends BaseHandlerTest {
         assertSuccessState(response);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getResourceModels().get(0).getName()).isEqualTo(catalog1.catalogName());
         assertThat(response.getResourceModels().get(0).getType()).isEqualTo(catalog2.typeAsString());
         assertThat(response.getResourceModels().get(1).getName()).isEqualTo(catalog2.catalogName());
@@ -78,4 +102,131 @@ public class ListHandlerTest extends BaseHandlerTest {
         assertThat(response.getResourceModels().get(2).getConnectionType()).isEqualTo(catalog4.connectionTypeAsString());
         assertThat(response.getResourceModels().get(2).getError()).isEqualTo(catalog4.error());
     }
+
+    @Test
+    public void testShortPagesAreFilledAndFilteredCatalogsCounted() throws Exception {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        final List<String> logLines = new ArrayList<>();
+
+        // The first page holds only tombstones but still has a next token
+        when(proxyClient.client().listDataCatalogs(any(ListDataCatalogsRequest.class))).thenReturn(
+            ListDataCatalogsResponse.builder()
+                .nextToken("token2")
+                .dataCatalogsSummary(
+                    DataCatalogSummary.builder().catalogName("deleted1").type("FEDERATED").status("DELETE_COMPLETE").build(),
+                    DataCatalogSummary.builder().catalogName("deleted2").type("FEDERATED").status("DELETE_COMPLETE").build())
+                .build(),
+            ListDataCatalogsResponse.builder()
+                .dataCatalogsSummary(
+                    DataCatalogSummary.builder().catalogName("deleted3").type("FEDERATED").status("DELETE_COMPLETE").build(),
+                    DataCatalogSummary.builder().catalogName("name1").type("HIVE").status("CREATE_COMPLETE").build())
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = defaultHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logLines::add);
+
+        assertSuccessState(response);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName).containsExactly("name1");
+        assertThat(response.getNextToken()).isNull();
+        verify(athenaClient, times(2)).listDataCatalogs(any(ListDataCatalogsRequest.class));
+
+        // One API call metric line per page, then the filtered count
+        assertThat(logLines).hasSize(3);
+        final JsonNode metrics = new ObjectMapper().readTree(logLines.get(2));
+        assertThat(metrics.path("_aws").path("CloudWatchMetrics").get(0).path("Metrics").get(0).path("Name").asText())
+            .isEqualTo(ListHandler.FILTERED_DELETED_CATALOGS_METRIC);
+        assertThat(metrics.path("Operation").asText()).isEqualTo("ListDataCatalogs");
+        assertThat(metrics.path(ListHandler.FILTERED_DELETED_CATALOGS_METRIC).asLong()).isEqualTo(3L);
+    }
+
+    @Test
+    public void testDefaultFillsFiftyLiveCatalogs() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        // A full first page that loses five tombstones is not enough, so the second page is read as well
+        final List<DataCatalogSummary> firstPage = new ArrayList<>();
+        final List<DataCatalogSummary> secondPage = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            firstPage.add(DataCatalogSummary.builder().catalogName("first" + i).type("HIVE")
+                .status(i < 5 ? "DELETE_COMPLETE" : "CREATE_COMPLETE").build());
+            secondPage.add(DataCatalogSummary.builder().catalogName("second" + i).type("HIVE")
+                .status("CREATE_COMPLETE").build());
+        }
+        when(proxyClient.client().listDataCatalogs(any(ListDataCatalogsRequest.class))).thenReturn(
+            ListDataCatalogsResponse.builder().nextToken("token2").dataCatalogsSummary(firstPage).build(),
+            ListDataCatalogsResponse.builder().nextToken("token3").dataCatalogsSummary(secondPage).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
+
+        assertSuccessState(response);
+        assertThat(response.getResourceModels()).hasSize(95);
+        assertThat(response.getNextToken()).isEqualTo("token3");
+        verify(athenaClient, times(2)).listDataCatalogs(any(ListDataCatalogsRequest.class));
+    }
+
+    @Test
+    public void testAggregatedFollowsNextTokenUntilMaxItems() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(proxyClient.client().listDataCatalogs(any(ListDataCatalogsRequest.class))).thenReturn(
+            ListDataCatalogsResponse.builder()
+                .nextToken("token2")
+                .dataCatalogsSummary(
+                    DataCatalogSummary.builder().catalogName("name1").type("HIVE").status("CREATE_COMPLETE").build(),
+                    DataCatalogSummary.builder().catalogName("name2").type("FEDERATED").status("DELETE_COMPLETE").build())
+                .build(),
+            ListDataCatalogsResponse.builder()
+                .nextToken("token3")
+                .dataCatalogsSummary(
+                    DataCatalogSummary.builder().catalogName("name3").type("HIVE").status("CREATE_COMPLETE").build())
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(2, () -> 60_000L)
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertSuccessState(response);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName).containsExactly("name1", "name3");
+        assertThat(response.getNextToken()).isEqualTo("token3");
+        verify(athenaClient, times(2)).listDataCatalogs(any(ListDataCatalogsRequest.class));
+    }
+
+    @Test
+    public void testPrefetchReadsAllPagesThroughAsyncClient() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        final AthenaAsyncClient asyncClient = mock(AthenaAsyncClient.class);
+
+        when(asyncClient.listDataCatalogs(any(ListDataCatalogsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ListDataCatalogsResponse.builder()
+                .nextToken("token2")
+                .dataCatalogsSummary(
+                    DataCatalogSummary.builder().catalogName("name1").type("HIVE").status("CREATE_COMPLETE").build())
+                .build()))
+            .thenReturn(CompletableFuture.completedFuture(ListDataCatalogsResponse.builder()
+                .dataCatalogsSummary(
+                    DataCatalogSummary.builder().catalogName("name2").type("HIVE").status("CREATE_COMPLETE").build())
+                .build()));
+
+        final ListHandler handler = new ListHandler(100, () -> 60_000L, ListHandler.PageFetchMode.PREFETCH);
+        handler.setAsyncClientSupplier(() -> asyncClient);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertSuccessState(response);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getName).containsExactly("name1", "name2");
+        assertThat(response.getNextToken()).isNull();
+        verify(asyncClient, times(2)).listDataCatalogs(any(ListDataCatalogsRequest.class));
+        verifyZeroInteractions(athenaClient);
+    }
 }
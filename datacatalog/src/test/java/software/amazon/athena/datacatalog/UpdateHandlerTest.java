@@ -3,12 +3,14 @@ package software.amazon.athena.datacatalog;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
-import org.mockito.Mock;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaRequest;
 import software.amazon.awssdk.services.athena.model.AthenaResponse;
+import software.amazon.awssdk.services.athena.model.DataCatalog;
+import software.amazon.awssdk.services.athena.model.DataCatalogStatus;
+import software.amazon.awssdk.services.athena.model.GetDataCatalogRequest;
+import software.amazon.awssdk.services.athena.model.GetDataCatalogResponse;
 import software.amazon.awssdk.services.athena.model.InternalServerException;
 import software.amazon.awssdk.services.athena.model.TagResourceRequest;
 import software.amazon.awssdk.services.athena.model.TagResourceResponse;
@@ -16,6 +18,7 @@ import software.amazon.awssdk.services.athena.model.UntagResourceRequest;
 import software.amazon.awssdk.services.athena.model.UntagResourceResponse;
 import software.amazon.awssdk.services.athena.model.UpdateDataCatalogRequest;
 import software.amazon.awssdk.services.athena.model.UpdateDataCatalogResponse;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -25,26 +28,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends BaseHandlerTest {
 
-    @Mock
-    ReadHandler readHandler;
-
     @Override
     protected BaseHandlerAthena getHandlerInstance() {
-        UpdateHandler u = new UpdateHandler();
-        u.setReadHandler(readHandler);
-        return u;
-    }
-
-    @BeforeEach
-    public void setUpReader() {
-        readHandler = mock(ReadHandler.class);
+        return new UpdateHandler();
     }
 
     @Test
@@ -53,11 +47,12 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         final ResourceModel model2 = buildTestResourceModelWithNullTags();
         final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(model, model2);
 
-        mockInvocation(false, false);
-        mockSuccessfulReadhandler(model);
+        mockGetDataCatalog(model);
         final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
 
         assertDesiredState(response, request);
+        verify(proxyClient.client(), times(1)).getDataCatalog(any(GetDataCatalogRequest.class));
+        verify(proxyClient.client(), never()).updateDataCatalog(any(UpdateDataCatalogRequest.class));
     }
 
     @Test
@@ -66,10 +61,11 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         final ResourceModel newModel = buildTestResourceModel(); // with tags
         final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
 
-        mockInvocation(true, false);
-        mockSuccessfulReadhandler(oldModel);
+        mockInvocation(false, true, false);
+        mockGetDataCatalog(oldModel);
         final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
         assertDesiredState(response, request);
+        verify(proxyClient.client(), never()).updateDataCatalog(any(UpdateDataCatalogRequest.class));
 
         // Verify that tags are added
         TagResourceRequest tagRequest =
@@ -85,8 +81,8 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         final ResourceModel newModel = buildTestResourceModelWithNullTags(); // no tags
         final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
 
-        mockInvocation(false, true);
-        mockSuccessfulReadhandler(oldModel);
+        mockInvocation(false, false, true);
+        mockGetDataCatalog(oldModel);
         final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
         assertDesiredState(response, request);
 
@@ -103,8 +99,8 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         final ResourceModel newModel = buildTestResourceModelWithUpdatedTagValue();
         final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
 
-        mockInvocation(true, false);
-        mockSuccessfulReadhandler(oldModel);
+        mockInvocation(false, true, false);
+        mockGetDataCatalog(oldModel);
         final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
         assertDesiredState(response, request);
 
@@ -125,8 +121,8 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         final ResourceModel newModel = buildTestResourceModelWithUpdatedParameters();
         final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
 
-        mockInvocation(false, false);
-        mockSuccessfulReadhandler(oldModel);
+        mockInvocation(true, false, false);
+        mockGetDataCatalog(oldModel);
         final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
         assertDesiredState(response, request);
 
@@ -141,7 +137,7 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         final ResourceModel newModel = buildTestResourceModelWithUpdatedParameters();
         final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
 
-        mockSuccessfulReadhandler(oldModel);
+        mockGetDataCatalog(oldModel);
         when(proxyClient.client().updateDataCatalog(any(UpdateDataCatalogRequest.class)))
             .thenThrow(InternalServerException.builder().build());
 
@@ -150,6 +146,46 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
     }
 
+    @Test
+    public void testSuccessState_UpdateDescription() {
+        final ResourceModel oldModel = buildTestResourceModel();
+        final ResourceModel newModel = ResourceModel.builder()
+            .name(oldModel.getName())
+            .description("updated description")
+            .type(oldModel.getType())
+            .tags(oldModel.getTags())
+            .parameters(oldModel.getParameters())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
+
+        mockInvocation(true, false, false);
+        mockGetDataCatalog(oldModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
+        assertDesiredState(response, request);
+
+        UpdateDataCatalogRequest updateRequest =
+            captureRequests(verifiedClient()::updateDataCatalog, UpdateDataCatalogRequest.class).get(0);
+        assertThat(updateRequest.description()).isEqualTo("updated description");
+    }
+
+    @Test
+    public void testFailedState_FederatedCatalogDeleted() {
+        final ResourceModel oldModel = buildTestResourceModelFederated();
+        final ResourceModel newModel = buildTestResourceModelFederated();
+        final ResourceHandlerRequest<ResourceModel> request = getUpdateResourceHandlerRequest(oldModel, newModel);
+
+        when(proxyClient.client().getDataCatalog(any(GetDataCatalogRequest.class)))
+            .thenReturn(GetDataCatalogResponse.builder()
+                .dataCatalog(toDataCatalog(oldModel).toBuilder().status(DataCatalogStatus.DELETE_COMPLETE).build())
+                .build());
+        final ProgressEvent<ResourceModel, CallbackContext> response = testHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(response.getResourceModel()).isNull();
+        verify(proxyClient.client(), never()).updateDataCatalog(any(UpdateDataCatalogRequest.class));
+    }
+
     private ResourceHandlerRequest<ResourceModel> getUpdateResourceHandlerRequest(ResourceModel oldModel,
             ResourceModel newModel) {
         return ResourceHandlerRequest.<ResourceModel>builder()
@@ -160,9 +196,11 @@ public class UpdateHandlerTest extends BaseHandlerTest {
             .build();
     }
 
-    private void mockInvocation(boolean tag, boolean untag) {
-        when(proxyClient.client().updateDataCatalog(any(UpdateDataCatalogRequest.class)))
-            .thenReturn(UpdateDataCatalogResponse.builder().build());
+    private void mockInvocation(boolean update, boolean tag, boolean untag) {
+        if (update) {
+            when(proxyClient.client().updateDataCatalog(any(UpdateDataCatalogRequest.class)))
+                .thenReturn(UpdateDataCatalogResponse.builder().build());
+        }
         if (untag) {
             when(proxyClient.client().untagResource(any(UntagResourceRequest.class)))
                 .thenReturn(UntagResourceResponse.builder().build());
@@ -173,9 +211,19 @@ public class UpdateHandlerTest extends BaseHandlerTest {
         }
     }
 
-    private void mockSuccessfulReadhandler(ResourceModel model) {
-        when(readHandler.handleRequest(any(), any(), any(), any(), any()))
-            .thenReturn(ProgressEvent.defaultSuccessHandler(model));
+    private void mockGetDataCatalog(ResourceModel model) {
+        when(proxyClient.client().getDataCatalog(any(GetDataCatalogRequest.class)))
+            .thenReturn(GetDataCatalogResponse.builder().dataCatalog(toDataCatalog(model)).build());
+    }
+
+    private static DataCatalog toDataCatalog(ResourceModel model) {
+        return DataCatalog.builder()
+            .name(model.getName())
+            .description(model.getDescription())
+            .type(model.getType())
+            .parameters(model.getParameters())
+            .status(DataCatalogStatus.CREATE_COMPLETE)
+            .build();
     }
 
     private void assertDesiredState(ProgressEvent<ResourceModel, CallbackContext> response,
@@ -0,0 +1,188 @@
+package software.amazon.athena.namedquery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import software.amazon.athena.fake.InMemoryAthenaClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each handler driven through handleRequest against {@link InMemoryAthenaClient}, installed
+ * through the ClientBuilder hook since the named query handlers have no common base class.
+ * After every iteration the Athena calls made per invocation are printed and checked against the expected
+ * counts below, so a change that adds a round trip fails the run instead of only shifting the score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerBenchmark {
+    private static final String PARTITION = "aws";
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String WORK_GROUP = InMemoryAthenaClient.PRIMARY_WORK_GROUP;
+    private static final String DATABASE = "default";
+    private static final String QUERY_STRING = "SELECT * FROM orders";
+    private static final int LIST_PAGE_SIZE = 50;
+    private static final Map<String, Map<String, Long>> EXPECTED_CALLS = new HashMap<>();
+
+    static {
+        EXPECTED_CALLS.put("create", calls(
+                "CreateNamedQuery", 1));
+        EXPECTED_CALLS.put("read", calls(
+                "GetNamedQuery", 1));
+        EXPECTED_CALLS.put("delete", calls(
+                "DeleteNamedQuery", 1));
+        // The request names no workgroup, so the primary one is listed and its 50 IDs are hydrated with a single batch
+        EXPECTED_CALLS.put("list", calls(
+                "ListNamedQueries", 1,
+                "BatchGetNamedQuery", 1));
+        EXPECTED_CALLS.put("listSummary", calls(
+                "ListNamedQueries", 1));
+    }
+
+    private final InMemoryAthenaClient athena = new InMemoryAthenaClient();
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKey", "secretKey", "token"), () -> TimeUnit.MINUTES.toMillis(10));
+    private final LoggerProxy logger = new LoggerProxy();
+
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+    private ListHandler summaryListHandler;
+
+    private long invocations;
+    private String namedQueryId;
+
+    @Setup(Level.Trial)
+    public void setupHandlers() {
+        ClientBuilder.setClientSupplier(() -> athena);
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+        summaryListHandler = new ListHandler(ListHandler.ListMode.SUMMARY);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupFixtures() {
+        athena.reset();
+        athena.uncounted(() -> {
+            namedQueryId = createNamedQuery("first");
+            for (int i = 1; i < LIST_PAGE_SIZE; i++) {
+                createNamedQuery("listed" + i);
+            }
+        });
+        invocations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyCalls(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        final Map<String, Long> callsPerInvocation = new TreeMap<>();
+        athena.callCounts().forEach((operation, count) -> callsPerInvocation.put(operation, count / invocations));
+        System.out.printf("%n%s: %d invocations, Athena calls per invocation %s%n",
+                benchmark, invocations, callsPerInvocation);
+
+        final Map<String, Long> expected = EXPECTED_CALLS.get(benchmark);
+        final Map<String, Long> expectedTotals = new TreeMap<>();
+        expected.forEach((operation, count) -> expectedTotals.put(operation, count * invocations));
+        if (!expectedTotals.equals(athena.callCounts())) {
+            throw new IllegalStateException(String.format("%s made %s Athena calls per invocation, expected %s",
+                    benchmark, callsPerInvocation, expected));
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        return invoke(createHandler, request(ResourceModel.builder()
+                .name("created" + invocations)
+                .database(DATABASE)
+                .queryString(QUERY_STRING)
+                .workGroup(WORK_GROUP)
+                .build()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return invoke(readHandler, request(ResourceModel.builder()
+                .namedQueryId(namedQueryId)
+                .build()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> delete() {
+        final String[] deletedId = new String[1];
+        athena.uncounted(() -> deletedId[0] = createNamedQuery("deleted" + invocations));
+        return invoke(deleteHandler, request(ResourceModel.builder()
+                .namedQueryId(deletedId[0])
+                .build()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return invoke(listHandler, request(ResourceModel.builder().build()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> listSummary() {
+        return invoke(summaryListHandler, request(ResourceModel.builder().build()));
+    }
+
+    private String createNamedQuery(final String name) {
+        return athena.createNamedQuery(r -> r.workGroup(WORK_GROUP).name(name).database(DATABASE)
+                .queryString(QUERY_STRING)).namedQueryId();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(
+            final BaseHandler<CallbackContext> handler,
+            final ResourceHandlerRequest<ResourceModel> request) {
+        final ProgressEvent<ResourceModel, CallbackContext> event = handler.handleRequest(proxy, request, null, logger);
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("%s returned %s: %s",
+                    handler.getClass().getSimpleName(), event.getStatus(), event.getMessage()));
+        }
+        invocations++;
+        return event;
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .awsPartition(PARTITION)
+                .region(REGION)
+                .awsAccountId(ACCOUNT_ID)
+                .build();
+    }
+
+    private static Map<String, Long> calls(final Object... operationCounts) {
+        final Map<String, Long> calls = new TreeMap<>();
+        for (int i = 0; i < operationCounts.length; i += 2) {
+            calls.put((String) operationCounts[i], ((Integer) operationCounts[i + 1]).longValue());
+        }
+        return calls;
+    }
+}
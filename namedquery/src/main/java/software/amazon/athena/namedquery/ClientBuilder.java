@@ -0,0 +1,33 @@
+package software.amazon.athena.namedquery;
+
+import software.amazon.athena.client.AthenaEndpoint;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.util.function.Supplier;
+
+public class ClientBuilder {
+    /**
+     * The client is built lazily on first use and then shared by every handler invocation in the
+     * container. Credentials are injected per request by the proxy, so a single client is safe to reuse.
+     */
+    private static class LazyHolder {
+        private static final AthenaClient ATHENA_CLIENT = AthenaEndpoint.override(AthenaClient.builder())
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .build();
+    }
+
+    private static volatile Supplier<AthenaClient> clientSupplier = () -> LazyHolder.ATHENA_CLIENT;
+
+    public static AthenaClient getClient() {
+        return clientSupplier.get();
+    }
+
+    /**
+     * Replaces the client every handler reads through {@link #getClient()}, such as an in-memory fake for
+     * benchmarks that should measure the handlers without network I/O.
+     */
+    static void setClientSupplier(final Supplier<AthenaClient> supplier) {
+        clientSupplier = supplier;
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.athena.namedquery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pagination state of a multi-workgroup listing, handed to CloudFormation as an opaque nextToken.
+ *
+ * Workgroups are walked in ListWorkGroups order. Only the workgroups currently being listed are kept
+ * with their ListNamedQueries token, the rest is described by the position in the ListWorkGroups pages,
+ * so the token stays small regardless of how many workgroups the account has.
+ */
+@Data
+@NoArgsConstructor
+class CompositeNextToken {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // ListWorkGroups token of the page the next workgroup is taken from, null for the first page
+    private String workGroupsPageToken;
+    // Number of workgroups of that page that have already been started
+    private int workGroupsPageOffset;
+    private boolean workGroupsExhausted;
+    // Workgroups being listed, mapped to their ListNamedQueries token (null until the first page is read)
+    private Map<String, String> activeWorkGroups = new LinkedHashMap<>();
+
+    static CompositeNextToken decode(final String nextToken) {
+        if (nextToken == null) {
+            return new CompositeNextToken();
+        }
+        try {
+            return MAPPER.readValue(Base64.getUrlDecoder().decode(nextToken), CompositeNextToken.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CfnInvalidRequestException(String.format("Invalid nextToken %s", nextToken), e);
+        }
+    }
+
+    String encode() {
+        if (workGroupsExhausted && activeWorkGroups.isEmpty()) {
+            return null;
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new CfnInternalFailureException(e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package software.amazon.athena.namedquery;
 
 import com.amazonaws.util.StringUtils;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.CreateNamedQueryRequest;
@@ -32,7 +33,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             final Logger logger) {
 
         clientProxy = proxy;
-        athenaClient = AthenaClient.create();
+        athenaClient = ClientBuilder.getClient();
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
@@ -66,7 +67,10 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 .workGroup(model.getWorkGroup())
                 .build();
         try {
-            return clientProxy.injectCredentialsAndInvokeV2(
+            return ApiCallMetrics.invoke(
+                    clientProxy,
+                    logger,
+                    ResourceModel.TYPE_NAME,
                     createNamedQueryRequest,
                     athenaClient::createNamedQuery).namedQueryId();
         } catch (AthenaException e) {
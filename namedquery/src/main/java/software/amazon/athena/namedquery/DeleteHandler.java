@@ -1,5 +1,6 @@
 package software.amazon.athena.namedquery;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.DeleteNamedQueryRequest;
@@ -31,7 +32,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             final Logger logger) {
 
         clientProxy = proxy;
-        athenaClient = AthenaClient.create();
+        athenaClient = ClientBuilder.getClient();
         this.logger = logger;
 
         ResourceModel model = request.getDesiredResourceState();
@@ -54,7 +55,8 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
                 .namedQueryId(model.getNamedQueryId())
                 .build();
         try {
-            clientProxy.injectCredentialsAndInvokeV2(deleteNamedQueryRequest, athenaClient::deleteNamedQuery);
+            ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+                    deleteNamedQueryRequest, athenaClient::deleteNamedQuery);
         } catch (AthenaException e) {
             throw translateAthenaException(e, model.getNamedQueryId());
         }
@@ -3,6 +3,7 @@ package software.amazon.athena.namedquery;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.InternalServerException;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.NamedQuery;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -30,4 +31,15 @@ final class HandlerUtils {
 
     return e;
   }
+
+  static ResourceModel buildResourceModel(NamedQuery namedQuery) {
+    return ResourceModel.builder()
+        .namedQueryId(namedQuery.namedQueryId())
+        .name(namedQuery.name())
+        .database(namedQuery.database())
+        .description(namedQuery.description())
+        .queryString(namedQuery.queryString())
+        .workGroup(namedQuery.workGroup())
+        .build();
+  }
 }
@@ -1,27 +1,108 @@
 package software.amazon.athena.namedquery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
-import software.amazon.awssdk.services.athena.model.InternalServerException;
-import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.BatchGetNamedQueryRequest;
+import software.amazon.awssdk.services.athena.model.BatchGetNamedQueryResponse;
 import software.amazon.awssdk.services.athena.model.ListNamedQueriesRequest;
 import software.amazon.awssdk.services.athena.model.ListNamedQueriesResponse;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsRequest;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsResponse;
+import software.amazon.awssdk.services.athena.model.UnprocessedNamedQueryId;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.athena.namedquery.HandlerUtils.buildResourceModel;
 import static software.amazon.athena.namedquery.HandlerUtils.translateAthenaException;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
+    private static final int MAX_BATCH_GET_ATTEMPTS = 3;
+    private static final long BATCH_GET_RETRY_BASE_DELAY_MILLIS = 100;
+    private static final int MAX_BATCH_GET_IDS = 50;
+    private static final int MAX_CONCURRENT_WORKGROUPS = 4;
+    private static final Set<String> RETRYABLE_ERROR_CODES =
+            new HashSet<>(Arrays.asList("INTERNAL_FAILURE", "TOO_MANY_REQUESTS"));
+
+    /**
+     * SUMMARY returns only the namedQueryId of each query. HYDRATED, the default, resolves every page of IDs
+     * with one BatchGetNamedQuery call and returns full models.
+     */
+    public enum ListMode {
+        SUMMARY,
+        HYDRATED
+    }
+
+    /**
+     * REQUESTED, the default, lists the workgroup of the desired model, or the default workgroup if none is set.
+     * ALL lists only the workgroup of the desired model when one is set. Otherwise it fans out across every
+     * workgroup in the account, listing up to MAX_CONCURRENT_WORKGROUPS of them in parallel per invocation,
+     * and carries the per-workgroup cursors in a CompositeNextToken.
+     */
+    public enum WorkGroupScope {
+        REQUESTED,
+        ALL
+    }
+
+    private final ListMode listMode;
+    private final WorkGroupScope workGroupScope;
+    private final PageAggregator pageAggregator;
     private AmazonWebServicesClientProxy clientProxy;
     private AthenaClient athenaClient;
+    private Logger logger;
+
+    public ListHandler() {
+        this(ListMode.HYDRATED);
+    }
+
+    public ListHandler(final ListMode listMode) {
+        this(listMode, WorkGroupScope.REQUESTED);
+    }
+
+    /**
+     * Follows nextToken until {@link PageAggregator#DEFAULT_MAX_ITEMS} named queries were read, the service
+     * has no more of them or the invocation runs low on time.
+     */
+    public ListHandler(final ListMode listMode, final WorkGroupScope workGroupScope) {
+        this(listMode, workGroupScope, PageAggregator.withinTimeBudget());
+    }
+
+    /**
+     * Keeps following nextToken within one invocation until at least maxItems named queries were read
+     * or the remaining invocation time runs low.
+     */
+    public ListHandler(final ListMode listMode,
+                       final WorkGroupScope workGroupScope,
+                       final int maxItems,
+                       final LongSupplier remainingTimeMillis) {
+        this(listMode, workGroupScope, PageAggregator.aggregated(maxItems, remainingTimeMillis));
+    }
+
+    private ListHandler(final ListMode listMode,
+                        final WorkGroupScope workGroupScope,
+                        final PageAggregator pageAggregator) {
+        this.listMode = listMode;
+        this.workGroupScope = workGroupScope;
+        this.pageAggregator = pageAggregator;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,35 +112,216 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final Logger logger) {
 
         clientProxy = proxy;
-        athenaClient = AthenaClient.create();
+        athenaClient = ClientBuilder.getClient();
+        this.logger = logger;
 
-        final List<ResourceModel> namedQueries = new ArrayList<>();
-        final ListNamedQueriesResponse listNamedQueriesResponse =
-                listNamedQueries(request.getDesiredResourceState(), request.getNextToken());
-        listNamedQueriesResponse.namedQueryIds().forEach(q ->
-                namedQueries.add(ResourceModel.builder()
-                        .namedQueryId(q)
-                        .build())
-        );
+        final ResourceModel model = request.getDesiredResourceState();
+        final String workGroup = model != null ? model.getWorkGroup() : null;
+        final PageAggregator.Page<ResourceModel> namedQueries;
+        if (workGroupScope == WorkGroupScope.ALL && workGroup == null) {
+            // One pool for every page of the invocation, its threads are only started as workgroups are listed
+            final ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_WORKGROUPS);
+            try {
+                namedQueries = pageAggregator.aggregate(
+                        request.getNextToken(),
+                        nextToken -> listAcrossWorkGroups(nextToken, executor),
+                        PageAggregator.Page::getItems,
+                        PageAggregator.Page::getNextToken);
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            namedQueries = pageAggregator.aggregate(
+                    request.getNextToken(),
+                    nextToken -> listNamedQueries(workGroup, nextToken),
+                    response -> response.namedQueryIds().stream()
+                            .map(q -> ResourceModel.builder()
+                                    .namedQueryId(q)
+                                    .build())
+                            .collect(Collectors.toList()),
+                    ListNamedQueriesResponse::nextToken);
+        }
+
+        final List<ResourceModel> resourceModels = listMode == ListMode.HYDRATED && !namedQueries.getItems().isEmpty()
+                ? batchGetNamedQueries(namedQueries.getItems().stream()
+                        .map(ResourceModel::getNamedQueryId)
+                        .collect(Collectors.toList()))
+                : namedQueries.getItems();
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(namedQueries)
-            .nextToken(listNamedQueriesResponse.nextToken())
+            .resourceModels(resourceModels)
+            .nextToken(namedQueries.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
 
-    private ListNamedQueriesResponse listNamedQueries(ResourceModel model, final String nextToken) {
+    /**
+     * Reads one page of each active workgroup in parallel on the invocation's executor and returns the merged identifier-only models
+     * together with the encoded CompositeNextToken.
+     */
+    private PageAggregator.Page<ResourceModel> listAcrossWorkGroups(final String nextToken,
+                                                                    final ExecutorService executor) {
+        final CompositeNextToken compositeNextToken = CompositeNextToken.decode(nextToken);
+        startWorkGroups(compositeNextToken);
+
+        final Map<String, String> activeWorkGroups = compositeNextToken.getActiveWorkGroups();
+        final Map<String, CompletableFuture<ListNamedQueriesResponse>> pages = new LinkedHashMap<>();
+        activeWorkGroups.forEach((workGroup, workGroupToken) -> pages.put(workGroup,
+                CompletableFuture.supplyAsync(() -> listNamedQueries(workGroup, workGroupToken), executor)));
+
+        final List<ResourceModel> namedQueries = new ArrayList<>();
+        pages.forEach((workGroup, page) -> {
+            final ListNamedQueriesResponse listNamedQueriesResponse = join(page);
+            listNamedQueriesResponse.namedQueryIds().forEach(q ->
+                    namedQueries.add(ResourceModel.builder()
+                            .namedQueryId(q)
+                            .workGroup(workGroup)
+                            .build()));
+            if (listNamedQueriesResponse.nextToken() == null) {
+                activeWorkGroups.remove(workGroup);
+            } else {
+                activeWorkGroups.put(workGroup, listNamedQueriesResponse.nextToken());
+            }
+        });
+
+        return new PageAggregator.Page<>(namedQueries, compositeNextToken.encode());
+    }
+
+    /**
+     * Tops the active workgroups up to MAX_CONCURRENT_WORKGROUPS, walking ListWorkGroups from the position
+     * recorded in the token.
+     */
+    private void startWorkGroups(final CompositeNextToken compositeNextToken) {
+        ListWorkGroupsResponse workGroupsPage = null;
+        while (compositeNextToken.getActiveWorkGroups().size() < MAX_CONCURRENT_WORKGROUPS
+                && !compositeNextToken.isWorkGroupsExhausted()) {
+            if (workGroupsPage == null) {
+                workGroupsPage = listWorkGroups(compositeNextToken.getWorkGroupsPageToken());
+            }
+            final int offset = compositeNextToken.getWorkGroupsPageOffset();
+            if (offset < workGroupsPage.workGroups().size()) {
+                compositeNextToken.getActiveWorkGroups().put(workGroupsPage.workGroups().get(offset).name(), null);
+                compositeNextToken.setWorkGroupsPageOffset(offset + 1);
+            } else if (workGroupsPage.nextToken() != null) {
+                compositeNextToken.setWorkGroupsPageToken(workGroupsPage.nextToken());
+                compositeNextToken.setWorkGroupsPageOffset(0);
+                workGroupsPage = null;
+            } else {
+                compositeNextToken.setWorkGroupsExhausted(true);
+            }
+        }
+    }
+
+    private ListWorkGroupsResponse listWorkGroups(final String nextToken) {
+        final ListWorkGroupsRequest listWorkGroupsRequest = ListWorkGroupsRequest.builder()
+                .nextToken(nextToken)
+                .maxResults(50)
+                .build();
+        try {
+            return ApiCallMetrics.invoke(
+                    clientProxy,
+                    logger,
+                    ResourceModel.TYPE_NAME,
+                    listWorkGroupsRequest,
+                    athenaClient::listWorkGroups);
+        } catch (AthenaException e) {
+            throw translateAthenaException(e, null);
+        }
+    }
+
+    private ListNamedQueriesResponse listNamedQueries(final String workGroup, final String nextToken) {
         final ListNamedQueriesRequest listNamedQueriesRequest = ListNamedQueriesRequest.builder()
                 .nextToken(nextToken)
+                .workGroup(workGroup)
                 .maxResults(50)
                 .build();
         try {
-            return clientProxy.injectCredentialsAndInvokeV2(
+            return ApiCallMetrics.invoke(
+                    clientProxy,
+                    logger,
+                    ResourceModel.TYPE_NAME,
                     listNamedQueriesRequest,
                     athenaClient::listNamedQueries);
         } catch (AthenaException e) {
-            throw translateAthenaException(e, model.getNamedQueryId());
+            throw translateAthenaException(e, workGroup);
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves IDs with one BatchGetNamedQuery call per 50 IDs, retrying IDs that failed with a throttling or
+     * internal error with exponential backoff. IDs of queries deleted since they were listed are dropped, and IDs
+     * that are still unprocessed after the last attempt are returned as identifier-only models.
+     */
+    private List<ResourceModel> batchGetNamedQueries(final List<String> namedQueryIds) {
+        final Map<String, ResourceModel> modelsById = new LinkedHashMap<>();
+        for (int from = 0; from < namedQueryIds.size(); from += MAX_BATCH_GET_IDS) {
+            batchGetNamedQueries(namedQueryIds.subList(from, Math.min(from + MAX_BATCH_GET_IDS, namedQueryIds.size())), modelsById);
+        }
+        return namedQueryIds.stream()
+                .filter(modelsById::containsKey)
+                .map(modelsById::get)
+                .collect(Collectors.toList());
+    }
+
+    private void batchGetNamedQueries(final List<String> namedQueryIds, final Map<String, ResourceModel> modelsById) {
+
+        List<String> pending = namedQueryIds;
+        for (int attempt = 1; !pending.isEmpty() && attempt <= MAX_BATCH_GET_ATTEMPTS; attempt++) {
+            if (attempt > 1 && !backoff(attempt)) {
+                break;
+            }
+            final BatchGetNamedQueryResponse batchGetNamedQueryResponse = batchGetNamedQuery(pending);
+            batchGetNamedQueryResponse.namedQueries().forEach(namedQuery ->
+                    modelsById.put(namedQuery.namedQueryId(), buildResourceModel(namedQuery)));
+            pending = batchGetNamedQueryResponse.unprocessedNamedQueryIds().stream()
+                    .filter(unprocessed -> RETRYABLE_ERROR_CODES.contains(unprocessed.errorCode()))
+                    .map(UnprocessedNamedQueryId::namedQueryId)
+                    .collect(Collectors.toList());
+        }
+
+        if (!pending.isEmpty()) {
+            logger.log(String.format("Could not resolve %d %s after %d attempts, returning identifiers only",
+                    pending.size(), ResourceModel.TYPE_NAME, MAX_BATCH_GET_ATTEMPTS));
+            pending.forEach(namedQueryId -> modelsById.put(namedQueryId, ResourceModel.builder()
+                    .namedQueryId(namedQueryId)
+                    .build()));
+        }
+    }
+
+    private BatchGetNamedQueryResponse batchGetNamedQuery(final List<String> namedQueryIds) {
+        final BatchGetNamedQueryRequest batchGetNamedQueryRequest = BatchGetNamedQueryRequest.builder()
+                .namedQueryIds(namedQueryIds)
+                .build();
+        try {
+            return ApiCallMetrics.invoke(
+                    clientProxy,
+                    logger,
+                    ResourceModel.TYPE_NAME,
+                    batchGetNamedQueryRequest,
+                    athenaClient::batchGetNamedQuery);
+        } catch (AthenaException e) {
+            throw translateAthenaException(e, null);
+        }
+    }
+
+    private static boolean backoff(final int attempt) {
+        try {
+            Thread.sleep(BATCH_GET_RETRY_BASE_DELAY_MILLIS << (attempt - 2));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 }
@@ -1,5 +1,6 @@
 package software.amazon.athena.namedquery;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.GetNamedQueryRequest;
@@ -13,11 +14,13 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.athena.namedquery.HandlerUtils.buildResourceModel;
 import static software.amazon.athena.namedquery.HandlerUtils.translateAthenaException;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
     private AmazonWebServicesClientProxy clientProxy;
     private AthenaClient athenaClient;
+    private Logger logger;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -29,7 +32,8 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         final ResourceModel model = request.getDesiredResourceState();
 
         clientProxy = proxy;
-        athenaClient = AthenaClient.create();
+        athenaClient = ClientBuilder.getClient();
+        this.logger = logger;
 
         return ProgressEvent.defaultSuccessHandler(getNamedQuery(model));
     }
@@ -39,17 +43,13 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
                 .namedQueryId(model.getNamedQueryId())
                 .build();
         try {
-            final NamedQuery namedQuery = clientProxy.injectCredentialsAndInvokeV2(
+            final NamedQuery namedQuery = ApiCallMetrics.invoke(
+                    clientProxy,
+                    logger,
+                    ResourceModel.TYPE_NAME,
                     getNamedQueryRequest,
                     athenaClient::getNamedQuery).namedQuery();
-            return ResourceModel.builder()
-                    .namedQueryId(namedQuery.namedQueryId())
-                    .name(namedQuery.name())
-                    .database(namedQuery.database())
-                    .description(namedQuery.description())
-                    .queryString(namedQuery.queryString())
-                    .workGroup(namedQuery.workGroup())
-                    .build();
+            return buildResourceModel(namedQuery);
         } catch (AthenaException e) {
             throw translateAthenaException(e, model.getNamedQueryId());
         }
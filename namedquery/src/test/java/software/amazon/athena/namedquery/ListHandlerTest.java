@@ -2,21 +2,36 @@ package software.amazon.athena.namedquery;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import software.amazon.awssdk.services.athena.model.BatchGetNamedQueryRequest;
+import software.amazon.awssdk.services.athena.model.BatchGetNamedQueryResponse;
 import software.amazon.awssdk.services.athena.model.InternalServerException;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ListNamedQueriesRequest;
 import software.amazon.awssdk.services.athena.model.ListNamedQueriesResponse;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsRequest;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsResponse;
+import software.amazon.awssdk.services.athena.model.NamedQuery;
+import software.amazon.awssdk.services.athena.model.UnprocessedNamedQueryId;
+import software.amazon.awssdk.services.athena.model.WorkGroupSummary;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -45,11 +60,16 @@ class ListHandlerTest {
         // Mock
         doReturn(
                 ListNamedQueriesResponse.builder()
-                        .nextToken("nextToken")
                         .namedQueryIds(namedQueryIds)
                         .build())
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(any(), any());
+                .injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+        doReturn(
+                BatchGetNamedQueryResponse.builder()
+                        .namedQueries(namedQuery("id1"), namedQuery("id2"))
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
 
         // Call
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -62,10 +82,300 @@ class ListHandlerTest {
         assertThat(response.getResourceModels().size()).isEqualTo(namedQueryIds.size());
         assertThat(response.getResourceModels().get(0).getNamedQueryId()).isEqualTo(namedQueryIds.get(0));
         assertThat(response.getResourceModels().get(1).getNamedQueryId()).isEqualTo(namedQueryIds.get(1));
+        assertThat(response.getResourceModels().get(0).getQueryString()).isEqualTo("SELECT 1");
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    void testSummarySuccessState() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        final List<String> namedQueryIds = Arrays.asList("id1", "id2");
+
+        // Mock
+        doReturn(
+                ListNamedQueriesResponse.builder()
+                        .namedQueryIds(namedQueryIds)
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = new ListHandler(ListHandler.ListMode.SUMMARY).handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModels().size()).isEqualTo(namedQueryIds.size());
+        assertThat(response.getResourceModels().get(0).getNamedQueryId()).isEqualTo(namedQueryIds.get(0));
+        assertThat(response.getResourceModels().get(1).getNamedQueryId()).isEqualTo(namedQueryIds.get(1));
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxy, times(0)).injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+    }
+
+    @Test
+    void testWorkGroupIsPassedToListNamedQueries() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().workGroup("wg1").build())
+                .nextToken("token")
+                .build();
+        final ArgumentCaptor<ListNamedQueriesRequest> listRequestCaptor = ArgumentCaptor.forClass(ListNamedQueriesRequest.class);
+
+        // Mock
+        doReturn(
+                ListNamedQueriesResponse.builder()
+                        .namedQueryIds("id1")
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(listRequestCaptor.capture(), any());
+        doReturn(
+                BatchGetNamedQueryResponse.builder()
+                        .namedQueries(namedQuery("id1"))
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = new ListHandler().handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(listRequestCaptor.getValue().workGroup()).isEqualTo("wg1");
+        assertThat(listRequestCaptor.getValue().nextToken()).isEqualTo("token");
+    }
+
+    @Test
+    void testAllWorkGroupsMergesPagesUnderCompositeToken() {
+        // Mock
+        doReturn(
+                ListWorkGroupsResponse.builder()
+                        .workGroups(
+                                WorkGroupSummary.builder().name("wg1").build(),
+                                WorkGroupSummary.builder().name("wg2").build())
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListWorkGroupsRequest.class), any());
+        doAnswer(invocation -> {
+            final ListNamedQueriesRequest listRequest = invocation.getArgument(0);
+            if ("wg2".equals(listRequest.workGroup())) {
+                return ListNamedQueriesResponse.builder().namedQueryIds("wg2-id1").build();
+            }
+            return listRequest.nextToken() == null
+                    ? ListNamedQueriesResponse.builder().namedQueryIds("wg1-id1").nextToken("wg1-page2").build()
+                    : ListNamedQueriesResponse.builder().namedQueryIds("wg1-id2").build();
+        })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+        final ListHandler handler = new ListHandler(
+                ListHandler.ListMode.SUMMARY, ListHandler.WorkGroupScope.ALL, 2, () -> 60_000L);
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().build())
+                        .build(),
+                null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().build())
+                        .nextToken(firstPage.getNextToken())
+                        .build(),
+                null, logger);
+
+        // Assert
+        assertThat(firstPage.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(firstPage.getResourceModels()).containsExactly(
+                ResourceModel.builder().namedQueryId("wg1-id1").workGroup("wg1").build(),
+                ResourceModel.builder().namedQueryId("wg2-id1").workGroup("wg2").build());
+        assertThat(firstPage.getNextToken()).isNotNull();
+        assertThat(secondPage.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondPage.getResourceModels()).containsExactly(
+                ResourceModel.builder().namedQueryId("wg1-id2").workGroup("wg1").build());
+        assertThat(secondPage.getNextToken()).isNull();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListWorkGroupsRequest.class), any());
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+        verifyNoMoreInteractions(proxy);
+    }
+
+    @Test
+    void testDefaultListsOnlyTheDefaultWorkGroupWhenNoneIsRequested() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        final ArgumentCaptor<ListNamedQueriesRequest> listRequestCaptor = ArgumentCaptor.forClass(ListNamedQueriesRequest.class);
+
+        // Mock
+        doReturn(
+                ListNamedQueriesResponse.builder()
+                        .namedQueryIds("id1")
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(listRequestCaptor.capture(), any());
+        doReturn(
+                BatchGetNamedQueryResponse.builder()
+                        .namedQueries(namedQuery("id1"))
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = new ListHandler().handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(
+                HandlerUtils.buildResourceModel(namedQuery("id1")));
+        assertThat(listRequestCaptor.getValue().workGroup()).isNull();
+        verify(proxy, times(0)).injectCredentialsAndInvokeV2(any(ListWorkGroupsRequest.class), any());
+    }
+
+    @Test
+    void testAllWorkGroupsShareOneBoundedPoolAcrossPages() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        final Set<String> listingThreads = ConcurrentHashMap.newKeySet();
+
+        // Mock
+        doAnswer(invocation -> {
+            final ListWorkGroupsRequest listWorkGroupsRequest = invocation.getArgument(0);
+            return listWorkGroupsRequest.nextToken() == null
+                    ? ListWorkGroupsResponse.builder()
+                            .workGroups(workGroups("wg1", "wg2", "wg3"))
+                            .nextToken("workGroupsPage2")
+                            .build()
+                    : ListWorkGroupsResponse.builder()
+                            .workGroups(workGroups("wg4", "wg5", "wg6"))
+                            .build();
+        })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListWorkGroupsRequest.class), any());
+        doAnswer(invocation -> {
+            listingThreads.add(Thread.currentThread().getName());
+            final ListNamedQueriesRequest listRequest = invocation.getArgument(0);
+            return ListNamedQueriesResponse.builder().namedQueryIds(listRequest.workGroup() + "-id1").build();
+        })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(
+                ListHandler.ListMode.SUMMARY, ListHandler.WorkGroupScope.ALL, 50, () -> 60_000L)
+                .handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getNamedQueryId)
+                .containsExactly("wg1-id1", "wg2-id1", "wg3-id1", "wg4-id1", "wg5-id1", "wg6-id1");
+        assertThat(response.getNextToken()).isNull();
+        // Both aggregated pages list on the same pool of at most four threads
+        assertThat(listingThreads).hasSizeLessThanOrEqualTo(4);
+        verify(proxy, times(6)).injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+    }
+
+    @Test
+    void testAllWorkGroupsHydratesTheMergedPage() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        // Mock
+        doReturn(
+                ListWorkGroupsResponse.builder()
+                        .workGroups(
+                                WorkGroupSummary.builder().name("wg1").build(),
+                                WorkGroupSummary.builder().name("wg2").build())
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListWorkGroupsRequest.class), any());
+        doAnswer(invocation -> {
+            final ListNamedQueriesRequest listRequest = invocation.getArgument(0);
+            return ListNamedQueriesResponse.builder().namedQueryIds(listRequest.workGroup() + "-id1").build();
+        })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+        doReturn(
+                BatchGetNamedQueryResponse.builder()
+                        .namedQueries(namedQuery("wg1-id1"), namedQuery("wg2-id1"))
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = new ListHandler(ListHandler.ListMode.HYDRATED, ListHandler.WorkGroupScope.ALL)
+                        .handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(
+                HandlerUtils.buildResourceModel(namedQuery("wg1-id1")),
+                HandlerUtils.buildResourceModel(namedQuery("wg2-id1")));
+        assertThat(response.getNextToken()).isNull();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListWorkGroupsRequest.class), any());
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+    }
+
+    @Test
+    void testAggregatedFollowsNextTokenUntilMaxItems() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().workGroup("wg1").build())
+                .build();
+        final ArgumentCaptor<ListNamedQueriesRequest> listRequestCaptor = ArgumentCaptor.forClass(ListNamedQueriesRequest.class);
+
+        // Mock
+        doReturn(
+                ListNamedQueriesResponse.builder().namedQueryIds("id1", "id2").nextToken("token2").build(),
+                ListNamedQueriesResponse.builder().namedQueryIds("id3").nextToken("token3").build(),
+                ListNamedQueriesResponse.builder().namedQueryIds("id4").build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(listRequestCaptor.capture(), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(
+                ListHandler.ListMode.SUMMARY, ListHandler.WorkGroupScope.REQUESTED, 3, () -> 60_000L)
+                .handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getNamedQueryId)
+                .containsExactly("id1", "id2", "id3");
+        assertThat(response.getNextToken()).isEqualTo("token3");
+        assertThat(listRequestCaptor.getAllValues()).extracting(ListNamedQueriesRequest::nextToken)
+                .containsExactly(null, "token2");
+        assertThat(listRequestCaptor.getAllValues()).extracting(ListNamedQueriesRequest::workGroup)
+                .containsOnly("wg1");
+    }
+
+    @Test
+    void testAllWorkGroupsInvalidNextToken() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("not a composite token")
+                .build();
+
+        // Call
+        assertThrows(CfnInvalidRequestException.class, () ->
+                new ListHandler(ListHandler.ListMode.SUMMARY, ListHandler.WorkGroupScope.ALL)
+                        .handleRequest(proxy, request, null, logger));
+    }
+
     @Test
     void testInternalServerException() {
         // Prepare inputs
@@ -100,4 +410,67 @@ class ListHandlerTest {
                 new ListHandler().handleRequest(proxy, request, null, logger));
     }
 
+    @Test
+    void testHydratedSuccessStateRetriesFailedIdsAndDropsDeletedIds() {
+        // Prepare inputs
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().workGroup("primary").build())
+                .build();
+        final List<String> namedQueryIds = Arrays.asList("id1", "id2", "id3");
+
+        // Mock
+        doReturn(
+                ListNamedQueriesResponse.builder()
+                        .namedQueryIds(namedQueryIds)
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListNamedQueriesRequest.class), any());
+        doReturn(
+                BatchGetNamedQueryResponse.builder()
+                        .namedQueries(namedQuery("id1"))
+                        .unprocessedNamedQueryIds(
+                                UnprocessedNamedQueryId.builder()
+                                        .namedQueryId("id2")
+                                        .errorCode("INTERNAL_FAILURE")
+                                        .build(),
+                                UnprocessedNamedQueryId.builder()
+                                        .namedQueryId("id3")
+                                        .errorCode("INVALID_INPUT")
+                                        .build())
+                        .build(),
+                BatchGetNamedQueryResponse.builder()
+                        .namedQueries(namedQuery("id2"))
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+
+        // Call
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = new ListHandler().handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).containsExactly(
+                HandlerUtils.buildResourceModel(namedQuery("id1")),
+                HandlerUtils.buildResourceModel(namedQuery("id2")));
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(BatchGetNamedQueryRequest.class), any());
+    }
+
+    private static WorkGroupSummary[] workGroups(final String... names) {
+        return Arrays.stream(names)
+                .map(name -> WorkGroupSummary.builder().name(name).build())
+                .toArray(WorkGroupSummary[]::new);
+    }
+
+    private static NamedQuery namedQuery(String namedQueryId) {
+        return NamedQuery.builder()
+                .namedQueryId(namedQueryId)
+                .name("query " + namedQueryId)
+                .database("db")
+                .description("description")
+                .queryString("SELECT 1")
+                .workGroup("primary")
+                .build();
+    }
 }
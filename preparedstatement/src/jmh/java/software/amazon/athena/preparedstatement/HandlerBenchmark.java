@@ -0,0 +1,254 @@
+package software.amazon.athena.preparedstatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import software.amazon.athena.fake.InMemoryAthenaClient;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each handler driven through handleRequest against {@link InMemoryAthenaClient}, so the result is
+ * the cost of the ProgressEvent chains, proxy call graphs and CallbackContext handling without any I/O.
+ * After every iteration the Athena calls made per invocation are printed and checked against the expected
+ * counts below, so a change that adds a round trip fails the run instead of only shifting the score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerBenchmark {
+    private static final String PARTITION = "aws";
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String WORK_GROUP = InMemoryAthenaClient.PRIMARY_WORK_GROUP;
+    private static final String STATEMENT_NAME = "statement";
+    private static final String QUERY_STATEMENT = "SELECT * FROM orders WHERE order_id = ?";
+    private static final int LIST_PAGE_SIZE = 50;
+    private static final Map<String, Map<String, Long>> EXPECTED_CALLS = new HashMap<>();
+
+    static {
+        EXPECTED_CALLS.put("create", calls(
+                "CreatePreparedStatement", 1,
+                "GetPreparedStatement", 1));
+        // The existence check is answered with ResourceNotFoundException, which still counts as a call
+        EXPECTED_CALLS.put("createCheckThenCreate", calls(
+                "CreatePreparedStatement", 1,
+                "GetPreparedStatement", 2));
+        // A duplicate name is rejected by the create itself, or found by the existence check before any create
+        EXPECTED_CALLS.put("createExisting", calls(
+                "CreatePreparedStatement", 1));
+        EXPECTED_CALLS.put("createExistingCheckThenCreate", calls(
+                "GetPreparedStatement", 1));
+        EXPECTED_CALLS.put("read", calls(
+                "GetPreparedStatement", 1));
+        EXPECTED_CALLS.put("update", calls(
+                "GetPreparedStatement", 2,
+                "UpdatePreparedStatement", 1));
+        EXPECTED_CALLS.put("delete", calls(
+                "GetPreparedStatement", 1,
+                "DeletePreparedStatement", 1));
+        // 50 names hydrated in batches of 20
+        EXPECTED_CALLS.put("list", calls(
+                "ListPreparedStatements", 1,
+                "BatchGetPreparedStatement", 3));
+        EXPECTED_CALLS.put("listSummary", calls(
+                "ListPreparedStatements", 1));
+    }
+
+    private final InMemoryAthenaClient athena = new InMemoryAthenaClient();
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKey", "secretKey", "token"), () -> TimeUnit.MINUTES.toMillis(10));
+    private final LoggerProxy logger = new LoggerProxy();
+
+    private CreateHandler createHandler;
+    private CreateHandler checkThenCreateHandler;
+    private ReadHandler readHandler;
+    private UpdateHandler updateHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+    private ListHandler summaryListHandler;
+
+    private long invocations;
+    private String description;
+
+    @Setup(Level.Trial)
+    public void setupHandlers() {
+        createHandler = new CreateHandler();
+        checkThenCreateHandler = new CreateHandler(CreateHandler.CreateMode.CHECK_THEN_CREATE);
+        readHandler = new ReadHandler();
+        updateHandler = new UpdateHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+        summaryListHandler = new ListHandler(ListHandler.ListMode.SUMMARY);
+        createHandler.setClientSupplier(() -> athena);
+        checkThenCreateHandler.setClientSupplier(() -> athena);
+        readHandler.setClientSupplier(() -> athena);
+        updateHandler.setClientSupplier(() -> athena);
+        deleteHandler.setClientSupplier(() -> athena);
+        listHandler.setClientSupplier(() -> athena);
+        summaryListHandler.setClientSupplier(() -> athena);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupFixtures() {
+        athena.reset();
+        athena.uncounted(() -> {
+            athena.createPreparedStatement(r -> r.workGroup(WORK_GROUP).statementName(STATEMENT_NAME)
+                    .queryStatement(QUERY_STATEMENT).description("first"));
+            for (int i = 1; i < LIST_PAGE_SIZE; i++) {
+                final String name = "listed" + i;
+                athena.createPreparedStatement(r -> r.workGroup(WORK_GROUP).statementName(name)
+                        .queryStatement(QUERY_STATEMENT));
+            }
+        });
+        invocations = 0;
+        description = "first";
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyCalls(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        final Map<String, Long> callsPerInvocation = new TreeMap<>();
+        athena.callCounts().forEach((operation, count) -> callsPerInvocation.put(operation, count / invocations));
+        System.out.printf("%n%s: %d invocations, Athena calls per invocation %s%n",
+                benchmark, invocations, callsPerInvocation);
+
+        final Map<String, Long> expected = EXPECTED_CALLS.get(benchmark);
+        final Map<String, Long> expectedTotals = new TreeMap<>();
+        expected.forEach((operation, count) -> expectedTotals.put(operation, count * invocations));
+        if (!expectedTotals.equals(athena.callCounts())) {
+            throw new IllegalStateException(String.format("%s made %s Athena calls per invocation, expected %s",
+                    benchmark, callsPerInvocation, expected));
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        return invoke(createHandler, request(model("created" + invocations, null), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createCheckThenCreate() {
+        return invoke(checkThenCreateHandler, request(model("created" + invocations, null), null));
+    }
+
+    @Benchmark
+    public CfnAlreadyExistsException createExisting() {
+        return rejectDuplicate(createHandler);
+    }
+
+    @Benchmark
+    public CfnAlreadyExistsException createExistingCheckThenCreate() {
+        return rejectDuplicate(checkThenCreateHandler);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return invoke(readHandler, request(ResourceModel.builder()
+                .statementName(STATEMENT_NAME)
+                .workGroup(WORK_GROUP)
+                .build(), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        // Alternates between two descriptions so every invocation changes the statement
+        final String previousDescription = description;
+        description = "first".equals(previousDescription) ? "second" : "first";
+        return invoke(updateHandler, request(
+                model(STATEMENT_NAME, description),
+                model(STATEMENT_NAME, previousDescription)));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> delete() {
+        final String name = "deleted" + invocations;
+        athena.uncounted(() -> athena.createPreparedStatement(r -> r.workGroup(WORK_GROUP).statementName(name)
+                .queryStatement(QUERY_STATEMENT)));
+        return invoke(deleteHandler, request(model(name, null), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return invoke(listHandler, request(ResourceModel.builder().workGroup(WORK_GROUP).build(), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> listSummary() {
+        return invoke(summaryListHandler, request(ResourceModel.builder().workGroup(WORK_GROUP).build(), null));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(
+            final BaseHandler<CallbackContext> handler,
+            final ResourceHandlerRequest<ResourceModel> request) {
+        // A fresh CallbackContext per invocation, as the proxy memoizes call graph results in it
+        final ProgressEvent<ResourceModel, CallbackContext> event = handler.handleRequest(proxy, request, null, logger);
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("%s returned %s: %s",
+                    handler.getClass().getSimpleName(), event.getStatus(), event.getMessage()));
+        }
+        invocations++;
+        return event;
+    }
+
+    private CfnAlreadyExistsException rejectDuplicate(final CreateHandler handler) {
+        try {
+            handler.handleRequest(proxy, request(model(STATEMENT_NAME, null), null), null, logger);
+        } catch (final CfnAlreadyExistsException e) {
+            invocations++;
+            return e;
+        }
+        throw new IllegalStateException(String.format("%s created the existing statement %s",
+                handler.getClass().getSimpleName(), STATEMENT_NAME));
+    }
+
+    private static ResourceModel model(final String statementName, final String description) {
+        return ResourceModel.builder()
+                .statementName(statementName)
+                .workGroup(WORK_GROUP)
+                .queryStatement(QUERY_STATEMENT)
+                .description(description)
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .awsPartition(PARTITION)
+                .region(REGION)
+                .awsAccountId(ACCOUNT_ID)
+                .build();
+    }
+
+    private static Map<String, Long> calls(final Object... operationCounts) {
+        final Map<String, Long> calls = new TreeMap<>();
+        for (int i = 0; i < operationCounts.length; i += 2) {
+            calls.put((String) operationCounts[i], ((Integer) operationCounts[i + 1]).longValue());
+        }
+        return calls;
+    }
+}
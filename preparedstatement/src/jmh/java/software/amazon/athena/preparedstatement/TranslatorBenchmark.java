@@ -0,0 +1,56 @@
+package software.amazon.athena.preparedstatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.athena.model.ListPreparedStatementsResponse;
+import software.amazon.awssdk.services.athena.model.PreparedStatementSummary;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of translating a 50 item ListPreparedStatements page into primary identifier models.
+ * Run with the gc profiler (the jmh profile does) to see gc.alloc.rate.norm per conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final String WORK_GROUP = "primary";
+
+    private ListPreparedStatementsResponse listResponse;
+
+    @Setup
+    public void setup() {
+        final Instant lastModifiedTime = Instant.now();
+        final List<PreparedStatementSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            summaries.add(PreparedStatementSummary.builder()
+                    .statementName("statement" + i)
+                    .lastModifiedTime(lastModifiedTime)
+                    .build());
+        }
+        listResponse = ListPreparedStatementsResponse.builder()
+                .preparedStatements(summaries)
+                .build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateListPage() {
+        return Translator.translateFromListRequest(listResponse, WORK_GROUP);
+    }
+}
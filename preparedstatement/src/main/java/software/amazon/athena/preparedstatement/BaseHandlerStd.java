@@ -1,5 +1,6 @@
 package software.amazon.athena.preparedstatement;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -7,7 +8,11 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.function.Supplier;
+
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  private Supplier<AthenaClient> clientSupplier = ClientBuilder::getClient;
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
@@ -18,11 +23,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       proxy,
       request,
       callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
+      ApiCallMetrics.instrument(logger, ResourceModel.TYPE_NAME, proxy.newProxy(clientSupplier)),
       logger
     );
   }
 
+  /**
+   * Replaces the client the proxy is built around, such as an in-memory fake for benchmarks that should
+   * measure the handler without network I/O.
+   */
+  void setClientSupplier(final Supplier<AthenaClient> clientSupplier) {
+    this.clientSupplier = clientSupplier;
+  }
+
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
@@ -1,12 +1,13 @@
 package software.amazon.athena.preparedstatement;
 
+import software.amazon.athena.client.AthenaEndpoint;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class ClientBuilder {
 
   public static AthenaClient getClient() {
-    return AthenaClient.builder()
+    return AthenaEndpoint.override(AthenaClient.builder())
               .httpClient(LambdaWrapper.HTTP_CLIENT)
               .build();
   }
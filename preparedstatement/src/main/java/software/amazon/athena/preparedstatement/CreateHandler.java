@@ -14,8 +14,30 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class CreateHandler extends BaseHandlerStd {
+    // AthenaErrorCode values of the InvalidRequestException, which stay stable when the message wording changes
+    static final String ALREADY_EXISTS_ERROR_CODE = "ALREADY_EXISTS";
+    static final String NOT_FOUND_ERROR_CODE = "RESOURCE_NOT_FOUND";
+
+    /**
+     * OPTIMISTIC calls CreatePreparedStatement directly and relies on the service rejecting duplicate names.
+     * CHECK_THEN_CREATE issues a GetPreparedStatement first, costing one extra round trip per create.
+     */
+    public enum CreateMode {
+        OPTIMISTIC,
+        CHECK_THEN_CREATE
+    }
+
+    private final CreateMode createMode;
     private Logger logger;
 
+    public CreateHandler() {
+        this(CreateMode.OPTIMISTIC);
+    }
+
+    public CreateHandler(final CreateMode createMode) {
+        this.createMode = createMode;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -27,30 +49,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
 
-            .then(progress ->
-                proxy.initiate("AWS-Athena-PreparedStatement::Create::PreExistanceCheck",
-                    proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-
-                    .translateToServiceRequest(Translator::translateToReadRequest)
-
-                    .makeServiceCall((awsRequest, client) -> {
-                        client.injectCredentialsAndInvokeV2(
-                            awsRequest, client.client()::getPreparedStatement);
-                        logger.log(String.format("%s has been read successfully.", ResourceModel.TYPE_NAME));
-                        throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, awsRequest.statementName());
-                    })
-
-                    .handleError((awsRequest, exception, client, model, context) -> {
-                        if (exception instanceof ResourceNotFoundException) {
-                            return ProgressEvent.progress(model, context);
-                        } else if (exception instanceof InvalidRequestException &&
-                            exception.getMessage().contains("is not found")) {
-                            return ProgressEvent.progress(model, context);
-                        }
-                        throw exception;
-                    })
-                    .progress()
-            )
+            .then(progress -> createMode == CreateMode.CHECK_THEN_CREATE ? checkNotExists(proxy, proxyClient, progress) : progress)
 
             .then(progress ->
                 proxy.initiate("AWS-Athena-PreparedStatement::Create",
@@ -62,6 +61,9 @@ public class CreateHandler extends BaseHandlerStd {
                           awsResponse = client.injectCredentialsAndInvokeV2(
                               awsRequest, client.client()::createPreparedStatement);
                         } catch (final AwsServiceException e) {
+                            if (hasAthenaErrorCode(e, ALREADY_EXISTS_ERROR_CODE)) {
+                                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, awsRequest.statementName());
+                            }
                             throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
                         }
 
@@ -74,4 +76,36 @@ public class CreateHandler extends BaseHandlerStd {
             .then(progress -> new ReadHandler()
                 .handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
+
+    private ProgressEvent<ResourceModel, CallbackContext> checkNotExists(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<AthenaClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        return proxy.initiate("AWS-Athena-PreparedStatement::Create::PreExistanceCheck",
+            proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+
+            .translateToServiceRequest(Translator::translateToReadRequest)
+
+            .makeServiceCall((awsRequest, client) -> {
+                client.injectCredentialsAndInvokeV2(
+                    awsRequest, client.client()::getPreparedStatement);
+                logger.log(String.format("%s has been read successfully.", ResourceModel.TYPE_NAME));
+                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, awsRequest.statementName());
+            })
+
+            .handleError((awsRequest, exception, client, model, context) -> {
+                if (exception instanceof ResourceNotFoundException) {
+                    return ProgressEvent.progress(model, context);
+                } else if (hasAthenaErrorCode(exception, NOT_FOUND_ERROR_CODE)) {
+                    return ProgressEvent.progress(model, context);
+                }
+                throw exception;
+            })
+            .progress();
+    }
+
+    private static boolean hasAthenaErrorCode(final Exception e, final String athenaErrorCode) {
+        return e instanceof InvalidRequestException
+            && athenaErrorCode.equals(((InvalidRequestException) e).athenaErrorCode());
+    }
 }
@@ -1,7 +1,21 @@
 package software.amazon.athena.preparedstatement;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.BatchGetPreparedStatementResponse;
 import software.amazon.awssdk.services.athena.model.ListPreparedStatementsRequest;
 import software.amazon.awssdk.services.athena.model.ListPreparedStatementsResponse;
+import software.amazon.awssdk.services.athena.model.UnprocessedPreparedStatementName;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -9,6 +23,57 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
+    private static final int MAX_BATCH_GET_ATTEMPTS = 3;
+    private static final long BATCH_GET_RETRY_BASE_DELAY_MILLIS = 100;
+    private static final int MAX_BATCH_GET_NAMES = 20;
+    private static final Set<String> RETRYABLE_ERROR_CODES =
+        new HashSet<>(Arrays.asList("INTERNAL_FAILURE", "TOO_MANY_REQUESTS"));
+
+    /**
+     * SUMMARY returns only the primary identifier of each statement. HYDRATED, the default, additionally fetches
+     * every page of names with one BatchGetPreparedStatement call, so queryStatement and description are included.
+     */
+    public enum ListMode {
+        SUMMARY,
+        HYDRATED
+    }
+
+    private final ListMode listMode;
+    private final PageAggregator pageAggregator;
+    private Supplier<AthenaClient> clientSupplier = ClientBuilder::getClient;
+
+    public ListHandler() {
+        this(ListMode.HYDRATED);
+    }
+
+    /**
+     * Follows nextToken until {@link PageAggregator#DEFAULT_MAX_ITEMS} statements were read, the service has
+     * no more of them or the invocation runs low on time.
+     */
+    public ListHandler(final ListMode listMode) {
+        this(listMode, PageAggregator.withinTimeBudget());
+    }
+
+    /**
+     * Keeps following nextToken within one invocation until at least maxItems statements were read
+     * or the remaining invocation time runs low.
+     */
+    public ListHandler(final ListMode listMode, final int maxItems, final LongSupplier remainingTimeMillis) {
+        this(listMode, PageAggregator.aggregated(maxItems, remainingTimeMillis));
+    }
+
+    private ListHandler(final ListMode listMode, final PageAggregator pageAggregator) {
+        this.listMode = listMode;
+        this.pageAggregator = pageAggregator;
+    }
+
+    /**
+     * Replaces the client the statements are listed with, such as an in-memory fake for benchmarks that
+     * should measure the handler without network I/O.
+     */
+    void setClientSupplier(final Supplier<AthenaClient> clientSupplier) {
+        this.clientSupplier = clientSupplier;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -17,16 +82,99 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
-        final ListPreparedStatementsRequest awsRequest =
-            Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken());
+        final AthenaClient athenaClient = clientSupplier.get();
+        final String workGroup = request.getDesiredResourceState().getWorkGroup();
+
+        final PageAggregator.Page<ResourceModel> page = pageAggregator.aggregate(
+            request.getNextToken(),
+            nextToken -> {
+                final ListPreparedStatementsRequest awsRequest =
+                    Translator.translateToListRequest(request.getDesiredResourceState(), nextToken);
+                return ApiCallMetrics.invoke(proxy, logger, ResourceModel.TYPE_NAME,
+                    awsRequest, athenaClient::listPreparedStatements);
+            },
+            awsResponse -> Translator.translateFromListRequest(awsResponse, workGroup),
+            ListPreparedStatementsResponse::nextToken);
 
-        ListPreparedStatementsResponse awsResponse = proxy.injectCredentialsAndInvokeV2(
-            awsRequest, ClientBuilder.getClient()::listPreparedStatements);
+        final List<ResourceModel> models = listMode == ListMode.HYDRATED && !page.getItems().isEmpty()
+            ? hydrate(proxy, athenaClient, workGroup, page.getItems(), logger)
+            : page.getItems();
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(Translator.translateFromListRequest(awsResponse, awsRequest.workGroup()))
-            .nextToken(awsResponse.nextToken())
+            .resourceModels(models)
+            .nextToken(page.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private List<ResourceModel> hydrate(
+        final AmazonWebServicesClientProxy proxy,
+        final AthenaClient athenaClient,
+        final String workGroup,
+        final List<ResourceModel> listedModels,
+        final Logger logger) {
+
+        final List<String> statementNames = listedModels.stream()
+            .map(ResourceModel::getStatementName)
+            .collect(Collectors.toList());
+        final Map<String, ResourceModel> modelsByName = new LinkedHashMap<>();
+
+        // BatchGetPreparedStatement accepts at most MAX_BATCH_GET_NAMES names per call
+        for (int from = 0; from < statementNames.size(); from += MAX_BATCH_GET_NAMES) {
+            hydrate(proxy, athenaClient, workGroup,
+                statementNames.subList(from, Math.min(from + MAX_BATCH_GET_NAMES, statementNames.size())),
+                modelsByName, logger);
+        }
+
+        return statementNames.stream()
+            .filter(modelsByName::containsKey)
+            .map(modelsByName::get)
+            .collect(Collectors.toList());
+    }
+
+    private void hydrate(
+        final AmazonWebServicesClientProxy proxy,
+        final AthenaClient athenaClient,
+        final String workGroup,
+        final List<String> statementNames,
+        final Map<String, ResourceModel> modelsByName,
+        final Logger logger) {
+
+        List<String> pending = statementNames;
+        for (int attempt = 1; !pending.isEmpty() && attempt <= MAX_BATCH_GET_ATTEMPTS; attempt++) {
+            if (attempt > 1 && !backoff(attempt)) {
+                break;
+            }
+            final BatchGetPreparedStatementResponse batchResponse = ApiCallMetrics.invoke(proxy, logger,
+                ResourceModel.TYPE_NAME, Translator.translateToBatchGetRequest(workGroup, pending),
+                athenaClient::batchGetPreparedStatement);
+            batchResponse.preparedStatements().forEach(preparedStatement ->
+                modelsByName.put(preparedStatement.statementName(), Translator.translateFromPreparedStatement(preparedStatement)));
+
+            // Only throttling and internal errors are retried, statements deleted since they were listed are dropped
+            pending = batchResponse.unprocessedPreparedStatementNames().stream()
+                .filter(unprocessed -> RETRYABLE_ERROR_CODES.contains(unprocessed.errorCode()))
+                .map(UnprocessedPreparedStatementName::statementName)
+                .collect(Collectors.toList());
+        }
+
+        if (!pending.isEmpty()) {
+            logger.log(String.format("Could not hydrate %d %s after %d attempts, returning identifiers only",
+                pending.size(), ResourceModel.TYPE_NAME, MAX_BATCH_GET_ATTEMPTS));
+            pending.forEach(statementName -> modelsByName.put(statementName, ResourceModel.builder()
+                .statementName(statementName)
+                .workGroup(workGroup)
+                .build()));
+        }
+    }
+
+    private static boolean backoff(final int attempt) {
+        try {
+            Thread.sleep(BATCH_GET_RETRY_BASE_DELAY_MILLIS << (attempt - 2));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
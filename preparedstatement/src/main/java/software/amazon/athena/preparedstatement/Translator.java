@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import software.amazon.awssdk.services.athena.model.BatchGetPreparedStatementRequest;
 import software.amazon.awssdk.services.athena.model.CreatePreparedStatementRequest;
 import software.amazon.awssdk.services.athena.model.DeletePreparedStatementRequest;
 import software.amazon.awssdk.services.athena.model.GetPreparedStatementRequest;
@@ -60,12 +61,20 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final AwsResponse awsResponse) {
-    PreparedStatement readResponse = ((GetPreparedStatementResponse)awsResponse).preparedStatement();
+    return translateFromPreparedStatement(((GetPreparedStatementResponse)awsResponse).preparedStatement());
+  }
+
+  /**
+   * Translates a full prepared statement from sdk into a resource model
+   * @param preparedStatement the prepared statement returned by Get or BatchGet
+   * @return model resource model
+   */
+  static ResourceModel translateFromPreparedStatement(final PreparedStatement preparedStatement) {
     return ResourceModel.builder()
-        .statementName(readResponse.statementName())
-        .workGroup(readResponse.workGroupName())
-        .description(readResponse.description())
-        .queryStatement(readResponse.queryStatement())
+        .statementName(preparedStatement.statementName())
+        .workGroup(preparedStatement.workGroupName())
+        .description(preparedStatement.description())
+        .queryStatement(preparedStatement.queryStatement())
         .build();
   }
 
@@ -125,6 +134,19 @@ public class Translator {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Request to fetch the full definitions of a page of listed resources
+   * @param workGroup the workgroup the statements belong to
+   * @param statementNames up to 20 statement names
+   * @return awsRequest the aws service request to batch get resources
+   */
+  static BatchGetPreparedStatementRequest translateToBatchGetRequest(final String workGroup, final List<String> statementNames) {
+    return BatchGetPreparedStatementRequest.builder()
+        .workGroup(workGroup)
+        .preparedStatementNames(statementNames)
+        .build();
+  }
+
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
     return Optional.ofNullable(collection)
         .map(Collection::stream)
@@ -8,9 +8,11 @@ import software.amazon.awssdk.services.athena.model.CreatePreparedStatementReque
 import software.amazon.awssdk.services.athena.model.CreatePreparedStatementResponse;
 import software.amazon.awssdk.services.athena.model.GetPreparedStatementRequest;
 import software.amazon.awssdk.services.athena.model.GetPreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.InvalidRequestException;
 import software.amazon.awssdk.services.athena.model.PreparedStatement;
 import software.amazon.awssdk.services.athena.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -28,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -59,7 +63,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(CreateHandler.CreateMode.CHECK_THEN_CREATE);
         Answer<GetPreparedStatementResponse> readAnswer = new Answer<GetPreparedStatementResponse>() {
             private int count = 0;
 
@@ -110,7 +114,38 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_AlreadyExists() {
+        final CreateHandler handler = new CreateHandler(CreateHandler.CreateMode.CHECK_THEN_CREATE);
+        when(athenaClient.getPreparedStatement(any(GetPreparedStatementRequest.class)))
+            .thenReturn(GetPreparedStatementResponse.builder()
+                .preparedStatement(PreparedStatement.builder()
+                    .statementName("name")
+                    .workGroupName("wg-v2")
+                    .description("test")
+                    .queryStatement("select ?")
+                    .build())
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .statementName("name")
+            .workGroup("wg-v2")
+            .description("test")
+            .queryStatement("select ?")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        assertThrows(CfnAlreadyExistsException.class, () ->
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+    }
+
+    @Test
+    public void handleRequest_OptimisticSuccess() {
         final CreateHandler handler = new CreateHandler();
+        when(athenaClient.createPreparedStatement(any(CreatePreparedStatementRequest.class)))
+            .thenReturn(CreatePreparedStatementResponse.builder().build());
         when(athenaClient.getPreparedStatement(any(GetPreparedStatementRequest.class)))
             .thenReturn(GetPreparedStatementResponse.builder()
                 .preparedStatement(PreparedStatement.builder()
@@ -132,8 +167,95 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        // Only the read-back after create, no pre-existence check
+        verify(athenaClient, times(1)).getPreparedStatement(any(GetPreparedStatementRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OptimisticAlreadyExists() {
+        final CreateHandler handler = new CreateHandler();
+        when(athenaClient.createPreparedStatement(any(CreatePreparedStatementRequest.class)))
+            .thenThrow(InvalidRequestException.builder()
+                .message("Prepared statement name already exists in WorkGroup wg-v2")
+                .athenaErrorCode(CreateHandler.ALREADY_EXISTS_ERROR_CODE)
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .statementName("name")
+            .workGroup("wg-v2")
+            .description("test")
+            .queryStatement("select ?")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
         assertThrows(CfnAlreadyExistsException.class, () ->
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+        verify(athenaClient, never()).getPreparedStatement(any(GetPreparedStatementRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CheckThenCreateNotFoundErrorCode() {
+        final CreateHandler handler = new CreateHandler(CreateHandler.CreateMode.CHECK_THEN_CREATE);
+        when(athenaClient.getPreparedStatement(any(GetPreparedStatementRequest.class)))
+            .thenThrow(InvalidRequestException.builder()
+                .message("Prepared statement name is missing from WorkGroup wg-v2")
+                .athenaErrorCode(CreateHandler.NOT_FOUND_ERROR_CODE)
+                .build())
+            .thenReturn(GetPreparedStatementResponse.builder()
+                .preparedStatement(PreparedStatement.builder()
+                    .statementName("name")
+                    .workGroupName("wg-v2")
+                    .queryStatement("select ?")
+                    .build())
+                .build());
+        when(athenaClient.createPreparedStatement(any(CreatePreparedStatementRequest.class)))
+            .thenReturn(CreatePreparedStatementResponse.builder().build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .statementName("name")
+            .workGroup("wg-v2")
+            .queryStatement("select ?")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(athenaClient, times(1)).createPreparedStatement(any(CreatePreparedStatementRequest.class));
+        verify(athenaClient, times(2)).getPreparedStatement(any(GetPreparedStatementRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OptimisticInvalidRequestWithoutErrorCode() {
+        final CreateHandler handler = new CreateHandler();
+        // The message alone no longer decides, only the AthenaErrorCode does
+        when(athenaClient.createPreparedStatement(any(CreatePreparedStatementRequest.class)))
+            .thenThrow(InvalidRequestException.builder()
+                .message("Prepared statement name already exists in WorkGroup wg-v2")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .statementName("name")
+            .workGroup("wg-v2")
+            .queryStatement("select ?")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
 
+        assertThrows(CfnGeneralServiceException.class, () ->
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
 }
@@ -5,8 +5,15 @@ import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.athena.model.BatchGetPreparedStatementRequest;
+import software.amazon.awssdk.services.athena.model.BatchGetPreparedStatementResponse;
+import software.amazon.awssdk.services.athena.model.ListPreparedStatementsRequest;
 import software.amazon.awssdk.services.athena.model.ListPreparedStatementsResponse;
+import software.amazon.awssdk.services.athena.model.PreparedStatement;
 import software.amazon.awssdk.services.athena.model.PreparedStatementSummary;
+import software.amazon.awssdk.services.athena.model.UnprocessedPreparedStatementName;
+import org.mockito.ArgumentCaptor;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -21,6 +28,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,12 +47,55 @@ public class ListHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_SimpleSuccess() {
         final ListHandler handler = new ListHandler();
+        List<PreparedStatementSummary> expected = Lists.newArrayList(
+            PreparedStatementSummary.builder().statementName("ps1").build(),
+            PreparedStatementSummary.builder().statementName("ps2").build());
+        when(proxy.injectCredentialsAndInvokeV2(any(ListPreparedStatementsRequest.class), any()))
+            .thenReturn(ListPreparedStatementsResponse.builder()
+                .preparedStatements(expected)
+                .build());
+        when(proxy.injectCredentialsAndInvokeV2(any(BatchGetPreparedStatementRequest.class), any()))
+            .thenReturn(BatchGetPreparedStatementResponse.builder()
+                .preparedStatements(preparedStatement("ps1"), preparedStatement("ps2"))
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .workGroup("testwg")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getNextToken()).isNull();
+
+        Set<String> results = response.getResourceModels().stream()
+            .map(ResourceModel::getStatementName)
+            .collect(Collectors.toSet());
+        assertEquals(results, Sets.newHashSet("ps1", "ps2"));
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getQueryStatement)
+            .containsOnly("select ?");
+    }
+
+    @Test
+    public void handleRequest_SummarySimpleSuccess() {
+        final ListHandler handler = new ListHandler(ListHandler.ListMode.SUMMARY);
         List<PreparedStatementSummary> expected = Lists.newArrayList(
             PreparedStatementSummary.builder().statementName("ps1").build(),
             PreparedStatementSummary.builder().statementName("ps2").build());
         when(proxy.injectCredentialsAndInvokeV2(any(), any()))
             .thenReturn(ListPreparedStatementsResponse.builder()
-                .nextToken("anexttoken")
                 .preparedStatements(expected)
                 .build());
 
@@ -64,6 +116,7 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getNextToken()).isNull();
 
         Set<String> results = response.getResourceModels().stream()
             .map(ResourceModel::getStatementName)
@@ -72,5 +125,108 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        // Summaries are returned as listed, without a BatchGetPreparedStatement
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_HydratedRetriesUnprocessed() {
+        final ListHandler handler = new ListHandler();
+        when(proxy.injectCredentialsAndInvokeV2(any(ListPreparedStatementsRequest.class), any()))
+            .thenReturn(ListPreparedStatementsResponse.builder()
+                .nextToken("anexttoken")
+                .preparedStatements(
+                    PreparedStatementSummary.builder().statementName("ps1").build(),
+                    PreparedStatementSummary.builder().statementName("ps2").build())
+                .build())
+            .thenReturn(ListPreparedStatementsResponse.builder()
+                .preparedStatements(PreparedStatementSummary.builder().statementName("ps3").build())
+                .build());
+        when(proxy.injectCredentialsAndInvokeV2(any(BatchGetPreparedStatementRequest.class), any()))
+            .thenReturn(BatchGetPreparedStatementResponse.builder()
+                .preparedStatements(preparedStatement("ps1"))
+                .unprocessedPreparedStatementNames(
+                    UnprocessedPreparedStatementName.builder().statementName("ps2").errorCode("INTERNAL_FAILURE").build(),
+                    UnprocessedPreparedStatementName.builder().statementName("ps3").errorCode("STATEMENT_NOT_FOUND").build())
+                .build())
+            .thenReturn(BatchGetPreparedStatementResponse.builder()
+                .preparedStatements(preparedStatement("ps2"))
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .workGroup("testwg")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).containsExactly(
+            Translator.translateFromPreparedStatement(preparedStatement("ps1")),
+            Translator.translateFromPreparedStatement(preparedStatement("ps2")));
+
+        // Both ListPreparedStatements pages are read, then two BatchGetPreparedStatement calls hydrate them
+        ArgumentCaptor<AwsRequest> requestCaptor = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(4)).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
+        List<BatchGetPreparedStatementRequest> batchRequests = requestCaptor.getAllValues().stream()
+            .filter(BatchGetPreparedStatementRequest.class::isInstance)
+            .map(BatchGetPreparedStatementRequest.class::cast)
+            .collect(Collectors.toList());
+        assertThat(batchRequests).hasSize(2);
+        assertThat(batchRequests.get(0).preparedStatementNames()).containsExactly("ps1", "ps2", "ps3");
+        assertThat(batchRequests.get(1).preparedStatementNames()).containsExactly("ps2");
+    }
+
+    @Test
+    public void handleRequest_AggregatedFollowsNextTokenUntilMaxItems() {
+        final ListHandler handler = new ListHandler(ListHandler.ListMode.SUMMARY, 3, () -> 60_000L);
+        when(proxy.injectCredentialsAndInvokeV2(any(ListPreparedStatementsRequest.class), any()))
+            .thenReturn(ListPreparedStatementsResponse.builder()
+                .nextToken("token2")
+                .preparedStatements(
+                    PreparedStatementSummary.builder().statementName("ps1").build(),
+                    PreparedStatementSummary.builder().statementName("ps2").build())
+                .build())
+            .thenReturn(ListPreparedStatementsResponse.builder()
+                .nextToken("token3")
+                .preparedStatements(
+                    PreparedStatementSummary.builder().statementName("ps3").build(),
+                    PreparedStatementSummary.builder().statementName("ps4").build())
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+            .workGroup("testwg")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("token3");
+        assertThat(response.getResourceModels().stream().map(ResourceModel::getStatementName).collect(Collectors.toList()))
+            .containsExactly("ps1", "ps2", "ps3", "ps4");
+
+        ArgumentCaptor<ListPreparedStatementsRequest> requestCaptor = ArgumentCaptor.forClass(ListPreparedStatementsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
+        assertThat(requestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(requestCaptor.getAllValues().get(1).nextToken()).isEqualTo("token2");
+    }
+
+    private static PreparedStatement preparedStatement(String name) {
+        return PreparedStatement.builder()
+            .statementName(name)
+            .workGroupName("testwg")
+            .queryStatement("select ?")
+            .description("description of " + name)
+            .build();
     }
 }
@@ -0,0 +1,212 @@
+package software.amazon.athena.workgroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import software.amazon.athena.fake.InMemoryAthenaAsyncClient;
+import software.amazon.athena.fake.InMemoryAthenaClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each handler driven through handleRequest against {@link InMemoryAthenaClient}, installed
+ * through the ClientBuilder hooks since the workgroup handlers have no common base class.
+ * After every iteration the Athena calls made per invocation are printed and checked against the expected
+ * counts below, so a change that adds a round trip fails the run instead of only shifting the score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerBenchmark {
+  private static final String PARTITION = "aws";
+  private static final String REGION = "us-east-1";
+  private static final String ACCOUNT_ID = "123456789012";
+  private static final String WORK_GROUP = "workgroup";
+  // Includes the primary workgroup, so the list fits in one page of ListWorkGroups
+  private static final int LIST_PAGE_SIZE = 50;
+  private static final Map<String, Map<String, Long>> EXPECTED_CALLS = new HashMap<>();
+
+  static {
+    EXPECTED_CALLS.put("create", calls(
+        "CreateWorkGroup", 1));
+    // GetWorkGroup and the tag listing run concurrently
+    EXPECTED_CALLS.put("read", calls(
+        "GetWorkGroup", 1,
+        "ListTagsForResource", 1));
+    EXPECTED_CALLS.put("readSequential", calls(
+        "GetWorkGroup", 1,
+        "ListTagsForResource", 1));
+    // Only the description changes and there are no tags, so the minimal update is the only call
+    EXPECTED_CALLS.put("update", calls(
+        "UpdateWorkGroup", 1));
+    EXPECTED_CALLS.put("delete", calls(
+        "GetWorkGroup", 1,
+        "DeleteWorkGroup", 1));
+    EXPECTED_CALLS.put("list", calls(
+        "ListWorkGroups", 1));
+    EXPECTED_CALLS.put("listSequential", calls(
+        "ListWorkGroups", 1));
+  }
+
+  private final InMemoryAthenaClient athena = new InMemoryAthenaClient();
+  private final InMemoryAthenaAsyncClient asyncAthena = new InMemoryAthenaAsyncClient(athena);
+  private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+      new Credentials("accessKey", "secretKey", "token"), () -> TimeUnit.MINUTES.toMillis(10));
+  private final LoggerProxy logger = new LoggerProxy();
+
+  private CreateHandler createHandler;
+  private ReadHandler readHandler;
+  private ReadHandler sequentialReadHandler;
+  private UpdateHandler updateHandler;
+  private DeleteHandler deleteHandler;
+  private ListHandler listHandler;
+  private ListHandler sequentialListHandler;
+
+  private long invocations;
+  private String description;
+
+  @Setup(Level.Trial)
+  public void setupHandlers() {
+    ClientBuilder.setClientSupplier(() -> athena);
+    ClientBuilder.setAsyncClientSupplier(() -> asyncAthena);
+    createHandler = new CreateHandler();
+    readHandler = new ReadHandler();
+    sequentialReadHandler = new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL);
+    updateHandler = new UpdateHandler();
+    deleteHandler = new DeleteHandler();
+    listHandler = new ListHandler();
+    sequentialListHandler = new ListHandler(Integer.MAX_VALUE, () -> TimeUnit.MINUTES.toMillis(10));
+  }
+
+  @Setup(Level.Iteration)
+  public void setupFixtures() {
+    athena.reset();
+    athena.uncounted(() -> {
+      athena.createWorkGroup(r -> r.name(WORK_GROUP).description("first"));
+      for (int i = 2; i < LIST_PAGE_SIZE; i++) {
+        final String name = "listed" + i;
+        athena.createWorkGroup(r -> r.name(name));
+      }
+    });
+    invocations = 0;
+    description = "first";
+  }
+
+  @TearDown(Level.Iteration)
+  public void verifyCalls(final BenchmarkParams params) {
+    final String benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+    final Map<String, Long> callsPerInvocation = new TreeMap<>();
+    athena.callCounts().forEach((operation, count) -> callsPerInvocation.put(operation, count / invocations));
+    System.out.printf("%n%s: %d invocations, Athena calls per invocation %s%n",
+        benchmark, invocations, callsPerInvocation);
+
+    final Map<String, Long> expected = EXPECTED_CALLS.get(benchmark);
+    final Map<String, Long> expectedTotals = new TreeMap<>();
+    expected.forEach((operation, count) -> expectedTotals.put(operation, count * invocations));
+    if (!expectedTotals.equals(athena.callCounts())) {
+      throw new IllegalStateException(String.format("%s made %s Athena calls per invocation, expected %s",
+          benchmark, callsPerInvocation, expected));
+    }
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> create() {
+    return invoke(createHandler, request(model("created" + invocations, null), null));
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> read() {
+    return invoke(readHandler, request(model(WORK_GROUP, null), null));
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> readSequential() {
+    return invoke(sequentialReadHandler, request(model(WORK_GROUP, null), null));
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> update() {
+    // Alternates between two descriptions so every invocation changes the workgroup
+    final String previousDescription = description;
+    description = "first".equals(previousDescription) ? "second" : "first";
+    return invoke(updateHandler, request(
+        model(WORK_GROUP, description),
+        model(WORK_GROUP, previousDescription)));
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> delete() {
+    final String name = "deleted" + invocations;
+    athena.uncounted(() -> athena.createWorkGroup(r -> r.name(name)));
+    return invoke(deleteHandler, request(model(name, null), null));
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> list() {
+    return invoke(listHandler, request(ResourceModel.builder().build(), null));
+  }
+
+  @Benchmark
+  public ProgressEvent<ResourceModel, CallbackContext> listSequential() {
+    return invoke(sequentialListHandler, request(ResourceModel.builder().build(), null));
+  }
+
+  private ProgressEvent<ResourceModel, CallbackContext> invoke(
+      final BaseHandler<CallbackContext> handler,
+      final ResourceHandlerRequest<ResourceModel> request) {
+    final ProgressEvent<ResourceModel, CallbackContext> event = handler.handleRequest(proxy, request, null, logger);
+    if (event.getStatus() != OperationStatus.SUCCESS) {
+      throw new IllegalStateException(String.format("%s returned %s: %s",
+          handler.getClass().getSimpleName(), event.getStatus(), event.getMessage()));
+    }
+    invocations++;
+    return event;
+  }
+
+  private static ResourceModel model(final String name, final String description) {
+    return ResourceModel.builder()
+        .name(name)
+        .description(description)
+        .build();
+  }
+
+  private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+    return ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(desired)
+        .previousResourceState(previous)
+        .awsPartition(PARTITION)
+        .region(REGION)
+        .awsAccountId(ACCOUNT_ID)
+        .build();
+  }
+
+  private static Map<String, Long> calls(final Object... operationCounts) {
+    final Map<String, Long> calls = new TreeMap<>();
+    for (int i = 0; i < operationCounts.length; i += 2) {
+      calls.put((String) operationCounts[i], ((Integer) operationCounts[i + 1]).longValue());
+    }
+    return calls;
+  }
+}
@@ -0,0 +1,96 @@
+package software.amazon.athena.workgroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfiguration;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfigurationUpdates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the workgroup configuration and tag conversions done on every invocation.
+ * Run with the gc profiler (the jmh profile does) to see gc.alloc.rate.norm per conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+  private Translator translator;
+  private software.amazon.athena.workgroup.WorkGroupConfiguration cfnConfiguration;
+  private WorkGroupConfiguration sdkConfiguration;
+  private List<Tag> resourceTags;
+  private Map<String, String> stackTags;
+
+  @Setup
+  public void setup() {
+    translator = new Translator();
+    cfnConfiguration = software.amazon.athena.workgroup.WorkGroupConfiguration.builder()
+            .enforceWorkGroupConfiguration(true)
+            .bytesScannedCutoffPerQuery(10_000_000_000L)
+            .publishCloudWatchMetricsEnabled(true)
+            .requesterPaysEnabled(false)
+            .resultConfiguration(software.amazon.athena.workgroup.ResultConfiguration.builder()
+                    .outputLocation("s3://test/")
+                    .encryptionConfiguration(software.amazon.athena.workgroup.EncryptionConfiguration.builder()
+                            .encryptionOption("CSE_KMS")
+                            .kmsKey("some_key")
+                            .build())
+                    .expectedBucketOwner("123456789012")
+                    .aclConfiguration(software.amazon.athena.workgroup.AclConfiguration.builder()
+                            .s3AclOption("BUCKET_OWNER_FULL_CONTROL")
+                            .build())
+                    .build())
+            .engineVersion(software.amazon.athena.workgroup.EngineVersion.builder()
+                    .selectedEngineVersion("AUTO")
+                    .build())
+            .customerContentEncryptionConfiguration(software.amazon.athena.workgroup.CustomerContentEncryptionConfiguration.builder()
+                    .kmsKey("arn:aws:kms:us-east-1:123456789012:key/fake-kms-key-id")
+                    .build())
+            .executionRole("arn:aws:iam::123456789012:role/service-role/fake-execution-role")
+            .additionalConfiguration("{\"additionalConfig\": \"some_config\"}")
+            .build();
+    sdkConfiguration = translator.createSdkWorkgroupConfigurationFromCfnConfiguration(cfnConfiguration);
+
+    resourceTags = new ArrayList<>();
+    stackTags = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      resourceTags.add(Tag.builder().key("resourceKey" + i).value("resourceValue" + i).build());
+      stackTags.put("stackKey" + i, "stackValue" + i);
+    }
+  }
+
+  @Benchmark
+  public WorkGroupConfiguration cfnToSdkConfiguration() {
+    return translator.createSdkWorkgroupConfigurationFromCfnConfiguration(cfnConfiguration);
+  }
+
+  @Benchmark
+  public software.amazon.athena.workgroup.WorkGroupConfiguration sdkToCfnConfiguration() {
+    return translator.createCfnWorkgroupConfigurationFromSdkConfiguration(sdkConfiguration);
+  }
+
+  @Benchmark
+  public WorkGroupConfigurationUpdates cfnConfigurationToSdkUpdates() {
+    return translator.createSdkConfigurationUpdatesFromCfnConfiguration(cfnConfiguration);
+  }
+
+  @Benchmark
+  public List<software.amazon.awssdk.services.athena.model.Tag> consolidatedSdkTags() {
+    return translator.createConsolidatedSdkTagsFromCfnTags(resourceTags, stackTags);
+  }
+}
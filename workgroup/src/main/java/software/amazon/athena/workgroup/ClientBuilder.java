@@ -0,0 +1,51 @@
+package software.amazon.athena.workgroup;
+
+import software.amazon.athena.client.AthenaEndpoint;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.util.function.Supplier;
+
+public class ClientBuilder {
+  /**
+   * The client is built lazily on first use and then shared by every handler invocation in the
+   * container. Credentials are injected per request by the proxy, so a single client is safe to reuse.
+   */
+  private static class LazyHolder {
+    private static final AthenaClient ATHENA_CLIENT = AthenaEndpoint.override(AthenaClient.builder())
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .build();
+  }
+
+  private static class AsyncLazyHolder {
+    private static final AthenaAsyncClient ATHENA_ASYNC_CLIENT = AthenaEndpoint.override(AthenaAsyncClient.builder()).build();
+  }
+
+  private static volatile Supplier<AthenaClient> clientSupplier = () -> LazyHolder.ATHENA_CLIENT;
+  private static volatile Supplier<AthenaAsyncClient> asyncClientSupplier = () -> AsyncLazyHolder.ATHENA_ASYNC_CLIENT;
+
+  public static AthenaClient getClient() {
+      return clientSupplier.get();
+  }
+
+  public static AthenaAsyncClient getAsyncClient() {
+      return asyncClientSupplier.get();
+  }
+
+  /**
+   * Replaces the client every handler reads through {@link #getClient()}, such as an in-memory fake for
+   * benchmarks that should measure the handlers without network I/O.
+   */
+  static void setClientSupplier(final Supplier<AthenaClient> supplier) {
+      clientSupplier = supplier;
+  }
+
+  /**
+   * Replaces the client returned by {@link #getAsyncClient()}, see {@link #setClientSupplier(Supplier)}.
+   */
+  static void setAsyncClientSupplier(final Supplier<AthenaAsyncClient> supplier) {
+      asyncClientSupplier = supplier;
+  }
+
+}
@@ -0,0 +1,165 @@
+package software.amazon.athena.workgroup;
+
+import software.amazon.awssdk.services.athena.model.ResultConfigurationUpdates;
+import software.amazon.awssdk.services.athena.model.UpdateWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.WorkGroupConfigurationUpdates;
+
+import java.util.Objects;
+
+public class ConfigurationDiffHelper {
+    private static final WorkGroupConfigurationUpdates NO_CONFIGURATION_UPDATES = WorkGroupConfigurationUpdates.builder().build();
+    private static final ResultConfigurationUpdates NO_RESULT_CONFIGURATION_UPDATES = ResultConfigurationUpdates.builder().build();
+
+    /**
+     * canGenerateMinimalUpdate
+     *
+     * A minimal update can only be computed when both the previous and desired models describe the full
+     * configuration through WorkGroupConfiguration. WorkGroupConfigurationUpdates is already a delta, and
+     * without a previous model there is nothing to compare against.
+     */
+    public static boolean canGenerateMinimalUpdate(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        return previousModel != null
+                && !usesConfigurationUpdates(previousModel)
+                && !usesConfigurationUpdates(desiredModel);
+    }
+
+    /**
+     * generateUpdateRequest
+     *
+     * Builds an UpdateWorkGroupRequest that only carries the description, state and configuration fields
+     * which differ between the previous and desired models.
+     *
+     * @return the minimal request, or null if nothing changed and the UpdateWorkGroup call can be skipped
+     */
+    static UpdateWorkGroupRequest generateUpdateRequest(final Translator translator,
+                                                        final ResourceModel previousModel,
+                                                        final ResourceModel desiredModel) {
+        final UpdateWorkGroupRequest.Builder updateRequestBuilder = UpdateWorkGroupRequest.builder()
+                .workGroup(desiredModel.getName());
+        boolean changed = false;
+
+        final String previousDescription = descriptionOrDefault(previousModel);
+        final String desiredDescription = descriptionOrDefault(desiredModel);
+        if (!Objects.equals(previousDescription, desiredDescription)) {
+            updateRequestBuilder.description(desiredDescription);
+            changed = true;
+        }
+
+        final String previousState = stateOrDefault(previousModel);
+        final String desiredState = stateOrDefault(desiredModel);
+        if (!Objects.equals(previousState, desiredState)) {
+            updateRequestBuilder.state(desiredState);
+            changed = true;
+        }
+
+        final WorkGroupConfigurationUpdates configurationUpdates = generateConfigurationUpdates(translator,
+                previousModel.getWorkGroupConfiguration(), desiredModel.getWorkGroupConfiguration());
+        if (configurationUpdates != null) {
+            updateRequestBuilder.configurationUpdates(configurationUpdates);
+            changed = true;
+        }
+
+        return changed ? updateRequestBuilder.build() : null;
+    }
+
+    /**
+     * generateConfigurationUpdates
+     *
+     * Both configurations are first resolved through the Translator, so an omitted configuration or field is
+     * compared against the default it would be reset to. Paired value/remove fields are copied together.
+     *
+     * @return WorkGroupConfigurationUpdates with only the changed fields, or null if the configurations are equivalent
+     */
+    static WorkGroupConfigurationUpdates generateConfigurationUpdates(final Translator translator,
+                                                                      final WorkGroupConfiguration previousConfiguration,
+                                                                      final WorkGroupConfiguration desiredConfiguration) {
+        final WorkGroupConfigurationUpdates previous = resolve(translator, previousConfiguration);
+        final WorkGroupConfigurationUpdates desired = resolve(translator, desiredConfiguration);
+        final WorkGroupConfigurationUpdates.Builder updates = WorkGroupConfigurationUpdates.builder();
+
+        if (!Objects.equals(previous.enforceWorkGroupConfiguration(), desired.enforceWorkGroupConfiguration())) {
+            updates.enforceWorkGroupConfiguration(desired.enforceWorkGroupConfiguration());
+        }
+        if (!Objects.equals(previous.publishCloudWatchMetricsEnabled(), desired.publishCloudWatchMetricsEnabled())) {
+            updates.publishCloudWatchMetricsEnabled(desired.publishCloudWatchMetricsEnabled());
+        }
+        if (!Objects.equals(previous.requesterPaysEnabled(), desired.requesterPaysEnabled())) {
+            updates.requesterPaysEnabled(desired.requesterPaysEnabled());
+        }
+        if (!Objects.equals(previous.bytesScannedCutoffPerQuery(), desired.bytesScannedCutoffPerQuery())
+                || !Objects.equals(previous.removeBytesScannedCutoffPerQuery(), desired.removeBytesScannedCutoffPerQuery())) {
+            updates.bytesScannedCutoffPerQuery(desired.bytesScannedCutoffPerQuery());
+            updates.removeBytesScannedCutoffPerQuery(desired.removeBytesScannedCutoffPerQuery());
+        }
+        if (!Objects.equals(previous.engineVersion(), desired.engineVersion())) {
+            updates.engineVersion(desired.engineVersion());
+        }
+        if (!Objects.equals(previous.additionalConfiguration(), desired.additionalConfiguration())) {
+            updates.additionalConfiguration(desired.additionalConfiguration());
+        }
+        if (!Objects.equals(previous.executionRole(), desired.executionRole())) {
+            updates.executionRole(desired.executionRole());
+        }
+        if (!Objects.equals(previous.customerContentEncryptionConfiguration(), desired.customerContentEncryptionConfiguration())
+                || !Objects.equals(previous.removeCustomerContentEncryptionConfiguration(), desired.removeCustomerContentEncryptionConfiguration())) {
+            updates.customerContentEncryptionConfiguration(desired.customerContentEncryptionConfiguration());
+            updates.removeCustomerContentEncryptionConfiguration(desired.removeCustomerContentEncryptionConfiguration());
+        }
+        if (!Objects.equals(previous.managedQueryResultsConfigurationUpdates(), desired.managedQueryResultsConfigurationUpdates())) {
+            updates.managedQueryResultsConfigurationUpdates(desired.managedQueryResultsConfigurationUpdates());
+        }
+        updates.resultConfigurationUpdates(generateResultConfigurationUpdates(
+                previous.resultConfigurationUpdates(), desired.resultConfigurationUpdates()));
+
+        final WorkGroupConfigurationUpdates configurationUpdates = updates.build();
+        return NO_CONFIGURATION_UPDATES.equals(configurationUpdates) ? null : configurationUpdates;
+    }
+
+    private static ResultConfigurationUpdates generateResultConfigurationUpdates(final ResultConfigurationUpdates previous,
+                                                                                 final ResultConfigurationUpdates desired) {
+        final ResultConfigurationUpdates previousUpdates = previous != null ? previous : NO_RESULT_CONFIGURATION_UPDATES;
+        final ResultConfigurationUpdates desiredUpdates = desired != null ? desired : NO_RESULT_CONFIGURATION_UPDATES;
+        final ResultConfigurationUpdates.Builder updates = ResultConfigurationUpdates.builder();
+
+        if (!Objects.equals(previousUpdates.outputLocation(), desiredUpdates.outputLocation())
+                || !Objects.equals(previousUpdates.removeOutputLocation(), desiredUpdates.removeOutputLocation())) {
+            updates.outputLocation(desiredUpdates.outputLocation());
+            updates.removeOutputLocation(desiredUpdates.removeOutputLocation());
+        }
+        if (!Objects.equals(previousUpdates.encryptionConfiguration(), desiredUpdates.encryptionConfiguration())
+                || !Objects.equals(previousUpdates.removeEncryptionConfiguration(), desiredUpdates.removeEncryptionConfiguration())) {
+            updates.encryptionConfiguration(desiredUpdates.encryptionConfiguration());
+            updates.removeEncryptionConfiguration(desiredUpdates.removeEncryptionConfiguration());
+        }
+        if (!Objects.equals(previousUpdates.expectedBucketOwner(), desiredUpdates.expectedBucketOwner())
+                || !Objects.equals(previousUpdates.removeExpectedBucketOwner(), desiredUpdates.removeExpectedBucketOwner())) {
+            updates.expectedBucketOwner(desiredUpdates.expectedBucketOwner());
+            updates.removeExpectedBucketOwner(desiredUpdates.removeExpectedBucketOwner());
+        }
+        if (!Objects.equals(previousUpdates.aclConfiguration(), desiredUpdates.aclConfiguration())
+                || !Objects.equals(previousUpdates.removeAclConfiguration(), desiredUpdates.removeAclConfiguration())) {
+            updates.aclConfiguration(desiredUpdates.aclConfiguration());
+            updates.removeAclConfiguration(desiredUpdates.removeAclConfiguration());
+        }
+
+        final ResultConfigurationUpdates resultConfigurationUpdates = updates.build();
+        return NO_RESULT_CONFIGURATION_UPDATES.equals(resultConfigurationUpdates) ? null : resultConfigurationUpdates;
+    }
+
+    private static WorkGroupConfigurationUpdates resolve(final Translator translator, final WorkGroupConfiguration configuration) {
+        return translator.createSdkConfigurationUpdatesFromCfnConfiguration(
+                configuration != null ? configuration : WorkGroupConfiguration.builder().build());
+    }
+
+    private static boolean usesConfigurationUpdates(final ResourceModel model) {
+        return model.getWorkGroupConfiguration() == null && model.getWorkGroupConfigurationUpdates() != null;
+    }
+
+    private static String descriptionOrDefault(final ResourceModel model) {
+        return model.getDescription() != null ? model.getDescription() : HandlerUtils.DEFAULT_DESCRIPTION;
+    }
+
+    private static String stateOrDefault(final ResourceModel model) {
+        return model.getState() != null ? model.getState() : HandlerUtils.DEFAULT_STATE;
+    }
+}
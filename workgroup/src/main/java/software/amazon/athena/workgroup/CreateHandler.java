@@ -1,6 +1,7 @@
 package software.amazon.athena.workgroup;
 
 import org.apache.commons.collections.CollectionUtils;
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.CreateWorkGroupRequest;
@@ -30,7 +31,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     final Logger logger) {
 
     this.clientProxy = proxy;
-    this.athenaClient = AthenaClient.create();
+    this.athenaClient = ClientBuilder.getClient();
     this.logger = logger;
     this.translator = new Translator();
     this.request = request;
@@ -59,7 +60,8 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         translator.createSdkWorkgroupConfigurationFromCfnConfiguration(model.getWorkGroupConfiguration()) : null)
       .build();
     try {
-      return clientProxy.injectCredentialsAndInvokeV2(createWorkGroupRequest, athenaClient::createWorkGroup);
+      return ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+          createWorkGroupRequest, athenaClient::createWorkGroup);
     } catch (AthenaException e) {
       throw translateAthenaException(e, model.getName());
     }
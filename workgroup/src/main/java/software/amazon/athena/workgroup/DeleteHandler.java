@@ -1,5 +1,6 @@
 package software.amazon.athena.workgroup;
 
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.DeleteWorkGroupRequest;
@@ -25,7 +26,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     final Logger logger) {
 
     clientProxy = proxy;
-    athenaClient = AthenaClient.create();
+    athenaClient = ClientBuilder.getClient();
     this.logger = logger;
 
     ResourceModel model = request.getDesiredResourceState();
@@ -43,7 +44,8 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         .workGroup(model.getName())
         .build();
     try {
-      clientProxy.injectCredentialsAndInvokeV2(getWorkGroupRequest, athenaClient::getWorkGroup);
+      ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+          getWorkGroupRequest, athenaClient::getWorkGroup);
       return progress;
     } catch (AthenaException e) {
       throw translateAthenaException(e, model.getName());
@@ -63,7 +65,8 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
       .recursiveDeleteOption(model.getRecursiveDeleteOption())
       .build();
     try {
-      clientProxy.injectCredentialsAndInvokeV2(deleteWorkGroupRequest, athenaClient::deleteWorkGroup);
+      ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+          deleteWorkGroupRequest, athenaClient::deleteWorkGroup);
     } catch (AthenaException e) {
       throw translateAthenaException(e, model.getName());
     }
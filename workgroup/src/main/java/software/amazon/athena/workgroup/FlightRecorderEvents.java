@@ -0,0 +1,43 @@
+package software.amazon.athena.workgroup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events for the tag diffs made by the handlers. Together with the Athena API call events
+ * of the shared athena-metrics module, a recording tells Athena time apart from framework overhead. The events
+ * cost next to nothing while no recording is running; profiling/athena-handlers.jfc at the root of the
+ * repository enables them.
+ *
+ * Every resource provider in this repository emits the same event names, so one profile covers all of them.
+ */
+final class FlightRecorderEvents {
+  static final String TAG_DIFF = "software.amazon.athena.TagDiff";
+
+  private FlightRecorderEvents() {
+  }
+
+  @Name(TAG_DIFF)
+  @Label("Tag Diff")
+  @Category({"AWS", "Athena Resource Providers"})
+  @Description("Computing the tags to add and remove on update")
+  static final class TagDiff extends Event {
+    @Label("Resource Type")
+    String resourceType = ResourceModel.TYPE_NAME;
+
+    @Label("Tags Added")
+    int tagsAdded;
+
+    @Label("Tags Removed")
+    int tagsRemoved;
+
+    void commit(final int added, final int removed) {
+      tagsAdded = added;
+      tagsRemoved = removed;
+      commit();
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package software.amazon.athena.workgroup;
 
+import software.amazon.athena.client.PageAggregator;
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.InternalServerException;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
@@ -13,15 +16,66 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
   private AmazonWebServicesClientProxy clientProxy;
   private AthenaClient athenaClient;
+  private Logger logger;
 
   private static final int MAX_RESULTS = 50;
 
+  /**
+   * SEQUENTIAL requests the next page only after the current one has been translated.
+   * PREFETCH requests it through {@link AthenaAsyncClient} as soon as its token is known.
+   */
+  public enum PageFetchMode {
+    SEQUENTIAL,
+    PREFETCH
+  }
+
+  private final PageAggregator pageAggregator;
+  private final PageFetchMode pageFetchMode;
+  private final Supplier<AthenaAsyncClient> asyncClientSupplier;
+
+  /**
+   * Follows nextToken until {@link PageAggregator#DEFAULT_MAX_ITEMS} workgroups were read, the service has no
+   * more of them or the invocation runs low on time, prefetching each next page.
+   */
+  public ListHandler() {
+    this(PageAggregator.withinTimeBudget(), PageFetchMode.PREFETCH, ClientBuilder::getAsyncClient);
+  }
+
+  /**
+   * Keeps following nextToken within one invocation until at least maxItems workgroups were read
+   * or the remaining invocation time runs low.
+   */
+  public ListHandler(final int maxItems, final LongSupplier remainingTimeMillis) {
+    this(maxItems, remainingTimeMillis, PageFetchMode.SEQUENTIAL);
+  }
+
+  public ListHandler(final int maxItems, final LongSupplier remainingTimeMillis, final PageFetchMode pageFetchMode) {
+    this(PageAggregator.aggregated(maxItems, remainingTimeMillis), pageFetchMode, ClientBuilder::getAsyncClient);
+  }
+
+  ListHandler(final int maxItems,
+              final LongSupplier remainingTimeMillis,
+              final PageFetchMode pageFetchMode,
+              final Supplier<AthenaAsyncClient> asyncClientSupplier) {
+    this(PageAggregator.aggregated(maxItems, remainingTimeMillis), pageFetchMode, asyncClientSupplier);
+  }
+
+  private ListHandler(final PageAggregator pageAggregator,
+                      final PageFetchMode pageFetchMode,
+                      final Supplier<AthenaAsyncClient> asyncClientSupplier) {
+    this.pageAggregator = pageAggregator;
+    this.pageFetchMode = pageFetchMode;
+    this.asyncClientSupplier = asyncClientSupplier;
+  }
+
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
@@ -30,37 +84,70 @@ public class ListHandler extends BaseHandler<CallbackContext> {
     final Logger logger) {
 
     clientProxy = proxy;
-    athenaClient = AthenaClient.create();
+    this.logger = logger;
 
-    final List<ResourceModel> workGroups = new ArrayList<>();
-    final ListWorkGroupsResponse listWorkGroupsResponse = listWorkgroup(request.getNextToken());
-    listWorkGroupsResponse.workGroups().forEach(q ->
-      workGroups.add(ResourceModel.builder()
-        .name(q.name())
-        .description(q.description())
-        .creationTime(Long.toString(q.creationTime().getEpochSecond()))
-        .state(q.stateAsString())
-        .build())
-    );
+    final PageAggregator.Page<ResourceModel> workGroups;
+    if (pageFetchMode == PageFetchMode.PREFETCH) {
+      workGroups = listWorkgroupsWithPrefetch(request.getNextToken());
+    } else {
+      athenaClient = ClientBuilder.getClient();
+      workGroups = pageAggregator.aggregate(
+        request.getNextToken(),
+        this::listWorkgroup,
+        ListHandler::translateWorkGroups,
+        ListWorkGroupsResponse::nextToken);
+    }
 
     return ProgressEvent.<ResourceModel, CallbackContext>builder()
-      .resourceModels(workGroups)
-      .nextToken(listWorkGroupsResponse.nextToken())
+      .resourceModels(workGroups.getItems())
+      .nextToken(workGroups.getNextToken())
       .status(OperationStatus.SUCCESS)
       .build();
   }
 
   private ListWorkGroupsResponse listWorkgroup(final String nextToken) {
-    final ListWorkGroupsRequest listWorkGroupsRequest = ListWorkGroupsRequest.builder()
-      .nextToken(nextToken)
-      .maxResults(MAX_RESULTS)
-      .build();
     try {
-      return clientProxy.injectCredentialsAndInvokeV2(listWorkGroupsRequest, athenaClient::listWorkGroups);
+      return ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+          listWorkGroupsRequest(nextToken), athenaClient::listWorkGroups);
     } catch (InternalServerException e) {
       throw new CfnGeneralServiceException("listWorkGroupsRequest", e);
     } catch (InvalidRequestException e) {
       throw new CfnInvalidRequestException(e.getMessage(), e);
     }
   }
+
+  private PageAggregator.Page<ResourceModel> listWorkgroupsWithPrefetch(final String nextToken) {
+    final AthenaAsyncClient athenaAsyncClient = asyncClientSupplier.get();
+    try {
+      return pageAggregator.aggregateWithPrefetch(
+        nextToken,
+        token -> ApiCallMetrics.invokeAsync(clientProxy, logger, ResourceModel.TYPE_NAME,
+            listWorkGroupsRequest(token), athenaAsyncClient::listWorkGroups),
+        ListHandler::translateWorkGroups,
+        listWorkGroupsResponse -> listWorkGroupsResponse.workGroups().size(),
+        ListWorkGroupsResponse::nextToken);
+    } catch (InternalServerException e) {
+      throw new CfnGeneralServiceException("listWorkGroupsRequest", e);
+    } catch (InvalidRequestException e) {
+      throw new CfnInvalidRequestException(e.getMessage(), e);
+    }
+  }
+
+  private static ListWorkGroupsRequest listWorkGroupsRequest(final String nextToken) {
+    return ListWorkGroupsRequest.builder()
+      .nextToken(nextToken)
+      .maxResults(MAX_RESULTS)
+      .build();
+  }
+
+  private static List<ResourceModel> translateWorkGroups(final ListWorkGroupsResponse listWorkGroupsResponse) {
+    return listWorkGroupsResponse.workGroups().stream()
+      .map(q -> ResourceModel.builder()
+        .name(q.name())
+        .description(q.description())
+        .creationTime(Long.toString(q.creationTime().getEpochSecond()))
+        .state(q.stateAsString())
+        .build())
+      .collect(Collectors.toList());
+  }
 }
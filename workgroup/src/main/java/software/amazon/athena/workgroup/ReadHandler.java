@@ -1,6 +1,8 @@
 package software.amazon.athena.workgroup;
 
 import com.google.common.collect.Lists;
+import software.amazon.athena.metrics.ApiCallMetrics;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
 import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
@@ -14,16 +16,37 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static software.amazon.athena.workgroup.HandlerUtils.getWorkGroupArn;
 import static software.amazon.athena.workgroup.HandlerUtils.translateAthenaException;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
+  /**
+   * SEQUENTIAL reads the workgroup and then pages through its tags. CONCURRENT starts the tag listing
+   * alongside GetWorkGroup, since the tag ARN does not depend on the workgroup response, and is the default.
+   */
+  public enum ReadMode {
+    SEQUENTIAL,
+    CONCURRENT
+  }
+
+  private final ReadMode readMode;
   private AmazonWebServicesClientProxy clientProxy;
   private AthenaClient athenaClient;
   private Translator translator;
+  private Logger logger;
   private ResourceHandlerRequest<ResourceModel> request;
 
+  public ReadHandler() {
+    this(ReadMode.CONCURRENT);
+  }
+
+  public ReadHandler(final ReadMode readMode) {
+    this.readMode = readMode;
+  }
+
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
@@ -34,10 +57,14 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     final ResourceModel model = request.getDesiredResourceState();
 
     this.clientProxy = proxy;
-    this.athenaClient = AthenaClient.create();
+    this.athenaClient = ClientBuilder.getClient();
     this.translator = new Translator();
+    this.logger = logger;
     this.request = request;
 
+    if (readMode == ReadMode.CONCURRENT) {
+      return ProgressEvent.defaultSuccessHandler(getWorkGroupConcurrently(model));
+    }
     return ProgressEvent.defaultSuccessHandler(getWorkGroup(model));
   }
 
@@ -48,7 +75,8 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     final String workGroupARN = getWorkGroupArn(request, model.getName());
     try {
       // Get WorkGroup
-      final WorkGroup workGroup = clientProxy.injectCredentialsAndInvokeV2(getWorkGroupRequest, athenaClient::getWorkGroup).workGroup();
+      final WorkGroup workGroup = ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+          getWorkGroupRequest, athenaClient::getWorkGroup).workGroup();
 
       // List all tags for this WorkGroup
       ListTagsForResourceRequest listTagsRequest = ListTagsForResourceRequest.builder()
@@ -58,8 +86,8 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
       String nextToken;
       List<Tag> tags = Lists.newArrayList();
       do {
-        ListTagsForResourceResponse listTagsResponse = clientProxy.injectCredentialsAndInvokeV2(
-            listTagsRequest, athenaClient::listTagsForResource);
+        ListTagsForResourceResponse listTagsResponse = ApiCallMetrics.invoke(
+            clientProxy, logger, ResourceModel.TYPE_NAME, listTagsRequest, athenaClient::listTagsForResource);
         tags.addAll(listTagsResponse.tags());
         nextToken = listTagsResponse.nextToken();
         if (nextToken != null) {
@@ -67,18 +95,76 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         }
       } while (nextToken != null);
 
-      return ResourceModel.builder()
-        .name(workGroup.name())
-        .state(workGroup.stateAsString())
-        .description(workGroup.description())
-        .recursiveDeleteOption(model.getRecursiveDeleteOption())
-        .creationTime(Long.toString(workGroup.creationTime().getEpochSecond()))
-        .workGroupConfiguration(workGroup.configuration() != null ? translator.createCfnWorkgroupConfigurationFromSdkConfiguration(workGroup.configuration()) : null)
-        .workGroupConfigurationUpdates(null)
-        .tags(translator.createCfnTagsFromSdkTags(tags))
+      return buildModel(model, workGroup, tags);
+    } catch (AthenaException e) {
+        throw translateAthenaException(e, model.getName());
+    }
+  }
+
+  private ResourceModel getWorkGroupConcurrently(final ResourceModel model) {
+    final AthenaAsyncClient athenaAsyncClient = ClientBuilder.getAsyncClient();
+    final GetWorkGroupRequest getWorkGroupRequest = GetWorkGroupRequest.builder()
+      .workGroup(model.getName())
+      .build();
+    final ListTagsForResourceRequest listTagsRequest = ListTagsForResourceRequest.builder()
+        .resourceARN(getWorkGroupArn(request, model.getName()))
+        .maxResults(100)
         .build();
+    try {
+      // Start GetWorkGroup and the tag listing together, then wait on them in the same order as the sequential read
+      final CompletableFuture<WorkGroup> workGroupFuture = ApiCallMetrics
+          .invokeAsync(clientProxy, logger, ResourceModel.TYPE_NAME, getWorkGroupRequest, athenaAsyncClient::getWorkGroup)
+          .thenApply(response -> response.workGroup());
+      final CompletableFuture<List<Tag>> tagsFuture = listTagsAsync(athenaAsyncClient, listTagsRequest, Lists.newArrayList());
+
+      final WorkGroup workGroup = join(workGroupFuture);
+      final List<Tag> tags = join(tagsFuture);
+      return buildModel(model, workGroup, tags);
     } catch (AthenaException e) {
         throw translateAthenaException(e, model.getName());
     }
   }
+
+  private CompletableFuture<List<Tag>> listTagsAsync(final AthenaAsyncClient athenaAsyncClient,
+                                                     final ListTagsForResourceRequest listTagsRequest,
+                                                     final List<Tag> tags) {
+    return ApiCallMetrics.invokeAsync(clientProxy, logger, ResourceModel.TYPE_NAME,
+        listTagsRequest, athenaAsyncClient::listTagsForResource)
+        .thenCompose(listTagsResponse -> {
+          tags.addAll(listTagsResponse.tags());
+          if (listTagsResponse.nextToken() == null) {
+            return CompletableFuture.completedFuture(tags);
+          }
+          return listTagsAsync(athenaAsyncClient,
+              listTagsRequest.toBuilder().nextToken(listTagsResponse.nextToken()).build(), tags);
+        });
+  }
+
+  /**
+   * Waits for the future and rethrows the service exception it failed with, so callers can translate it
+   * exactly like an exception from a blocking call.
+   */
+  private static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private ResourceModel buildModel(final ResourceModel model, final WorkGroup workGroup, final List<Tag> tags) {
+    return ResourceModel.builder()
+      .name(workGroup.name())
+      .state(workGroup.stateAsString())
+      .description(workGroup.description())
+      .recursiveDeleteOption(model.getRecursiveDeleteOption())
+      .creationTime(Long.toString(workGroup.creationTime().getEpochSecond()))
+      .workGroupConfiguration(workGroup.configuration() != null ? translator.createCfnWorkgroupConfigurationFromSdkConfiguration(workGroup.configuration()) : null)
+      .workGroupConfigurationUpdates(null)
+      .tags(translator.createCfnTagsFromSdkTags(tags))
+      .build();
+  }
 }
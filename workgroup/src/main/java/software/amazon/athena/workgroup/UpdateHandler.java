@@ -1,8 +1,10 @@
 package software.amazon.athena.workgroup;
 
 import com.google.common.collect.Sets;
+import software.amazon.athena.metrics.ApiCallMetrics;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.AthenaException;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
 import software.amazon.awssdk.services.athena.model.Tag;
 import software.amazon.awssdk.services.athena.model.TagResourceRequest;
 import software.amazon.awssdk.services.athena.model.UntagResourceRequest;
@@ -36,7 +38,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     final Logger logger) {
 
     clientProxy = proxy;
-    athenaClient = AthenaClient.create();
+    athenaClient = ClientBuilder.getClient();
     this.request = request;
     this.logger = logger;
     translator = new Translator();
@@ -60,18 +62,22 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
       if (TagHelper.shouldUpdateTags(request)) {
         String workGroupARN = getWorkGroupArn(request, newModel.getName());
 
+        FlightRecorderEvents.TagDiff tagDiff = new FlightRecorderEvents.TagDiff();
+        tagDiff.begin();
         Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(request);
         Map<String, String> desiredTags = TagHelper.getNewDesiredTags(request);
 
         Map<String, String> addedAndUpdatedTags = TagHelper.generateTagsToAddAndUpdate(previousTags, desiredTags);
         Set<String> removedTags = TagHelper.generateTagsToRemove(previousTags, desiredTags);
+        tagDiff.commit(addedAndUpdatedTags.size(), removedTags.size());
 
         if (!removedTags.isEmpty()) {
           UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
                   .resourceARN(workGroupARN)
                   .tagKeys(removedTags)
                   .build();
-          clientProxy.injectCredentialsAndInvokeV2(untagResourceRequest, athenaClient::untagResource);
+          ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+              untagResourceRequest, athenaClient::untagResource);
         }
 
         if (!addedAndUpdatedTags.isEmpty()) {
@@ -81,30 +87,50 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                           .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
                           .collect(Collectors.toList()))
                   .build();
-          clientProxy.injectCredentialsAndInvokeV2(tagResourceRequest, athenaClient::tagResource);
+          ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+              tagResourceRequest, athenaClient::tagResource);
         }
       }
 
       // Handle modifications to WorkGroup configuration
-      final UpdateWorkGroupRequest.Builder updateRequestBuilder = UpdateWorkGroupRequest.builder()
-          .workGroup(newModel.getName())
-          .description(newModel.getDescription() != null ? newModel.getDescription() : HandlerUtils.DEFAULT_DESCRIPTION)
-          .state(newModel.getState() != null ? newModel.getState() : HandlerUtils.DEFAULT_STATE);
-
-      // Prioritize looking at WorkGroupConfiguration field
-      if (newModel.getWorkGroupConfiguration() != null) {
-        updateRequestBuilder.configurationUpdates(translator.createSdkConfigurationUpdatesFromCfnConfiguration(newModel.getWorkGroupConfiguration()));
-      } else if (newModel.getWorkGroupConfigurationUpdates() != null) {
-        updateRequestBuilder.configurationUpdates(translator.createSdkConfigurationUpdatesFromCfnConfigurationUpdates(newModel.getWorkGroupConfigurationUpdates()));
+      final UpdateWorkGroupRequest updateRequest;
+      if (ConfigurationDiffHelper.canGenerateMinimalUpdate(request.getPreviousResourceState(), newModel)) {
+        updateRequest = ConfigurationDiffHelper.generateUpdateRequest(translator, request.getPreviousResourceState(), newModel);
+        if (updateRequest == null) {
+          // UpdateWorkGroup is what would have reported a workgroup deleted out of band, so check it still exists
+          ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+              GetWorkGroupRequest.builder().workGroup(newModel.getName()).build(), athenaClient::getWorkGroup);
+          logger.log(String.format("No configuration changes for %s [%s], skipping UpdateWorkGroup",
+              ResourceModel.TYPE_NAME, newModel.getName()));
+          return null;
+        }
       } else {
-        // Both fields are null, apply default WorkGroup settings
-        updateRequestBuilder.configurationUpdates(HandlerUtils.getDefaultWorkGroupConfiguration());
+        updateRequest = createFullUpdateRequest(newModel);
       }
 
       // Submit UpdateWorkGroup request to Athena
-      return clientProxy.injectCredentialsAndInvokeV2(updateRequestBuilder.build(), athenaClient::updateWorkGroup);
+      return ApiCallMetrics.invoke(clientProxy, logger, ResourceModel.TYPE_NAME,
+          updateRequest, athenaClient::updateWorkGroup);
     } catch (AthenaException e) {
       throw translateAthenaException(e, newModel.getName());
     }
   }
+
+  private UpdateWorkGroupRequest createFullUpdateRequest(final ResourceModel newModel) {
+    final UpdateWorkGroupRequest.Builder updateRequestBuilder = UpdateWorkGroupRequest.builder()
+        .workGroup(newModel.getName())
+        .description(newModel.getDescription() != null ? newModel.getDescription() : HandlerUtils.DEFAULT_DESCRIPTION)
+        .state(newModel.getState() != null ? newModel.getState() : HandlerUtils.DEFAULT_STATE);
+
+    // Prioritize looking at WorkGroupConfiguration field
+    if (newModel.getWorkGroupConfiguration() != null) {
+      updateRequestBuilder.configurationUpdates(translator.createSdkConfigurationUpdatesFromCfnConfiguration(newModel.getWorkGroupConfiguration()));
+    } else if (newModel.getWorkGroupConfigurationUpdates() != null) {
+      updateRequestBuilder.configurationUpdates(translator.createSdkConfigurationUpdatesFromCfnConfigurationUpdates(newModel.getWorkGroupConfigurationUpdates()));
+    } else {
+      // Both fields are null, apply default WorkGroup settings
+      updateRequestBuilder.configurationUpdates(HandlerUtils.getDefaultWorkGroupConfiguration());
+    }
+    return updateRequestBuilder.build();
+  }
 }
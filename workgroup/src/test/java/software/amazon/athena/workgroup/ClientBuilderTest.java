@@ -0,0 +1,123 @@
+package software.amazon.athena.workgroup;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.athena.client.AthenaEndpoint;
+import software.amazon.athena.stub.AthenaStubServer;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.athena.model.CreateWorkGroupRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the read handler through a real credentials proxy, so every invocation calls the clients returned by
+ * {@link ClientBuilder} and sends its requests to an in-process Athena stub.
+ *
+ * Runs in a surefire execution of its own: the shared clients are built once per JVM, and they have to be built
+ * after the stub endpoint is set.
+ */
+class ClientBuilderTest {
+  private static final String WORKGROUP_NAME = "analytics";
+  private static final int WARMUP_INVOCATIONS = 100;
+  private static final int SIMULATED_INVOCATIONS = 5_000;
+  private static final int MAX_THREAD_GROWTH = 2;
+  private static final long MAX_HEAP_GROWTH_BYTES = 8L * 1024 * 1024;
+
+  private static AthenaStubServer stub;
+
+  @BeforeAll
+  static void startStub() throws IOException {
+    if (System.getProperty("aws.region") == null) {
+      System.setProperty("aws.region", "us-east-1");
+    }
+    // Without TCP_NODELAY every stub response waits out a delayed ACK, which dominates thousands of invocations
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    stub = AthenaStubServer.start();
+    System.setProperty(AthenaEndpoint.PROPERTY, stub.endpoint().toString());
+    // The shared client has no credentials of its own, they are injected per request like in the handlers
+    proxy().injectCredentialsAndInvokeV2(CreateWorkGroupRequest.builder().name(WORKGROUP_NAME).build(),
+        ClientBuilder.getClient()::createWorkGroup);
+  }
+
+  @AfterAll
+  static void stopStub() {
+    System.clearProperty(AthenaEndpoint.PROPERTY);
+    stub.close();
+  }
+
+  @Test
+  void testClientIsReused() {
+    final AthenaClient client = ClientBuilder.getClient();
+
+    assertThat(client).isNotNull();
+    assertThat(ClientBuilder.getClient()).isSameAs(client);
+    assertThat(ClientBuilder.getAsyncClient()).isSameAs(ClientBuilder.getAsyncClient());
+  }
+
+  @Test
+  void testInvocationsShareOneClient() {
+    final AmazonWebServicesClientProxy proxy = proxy();
+    final ReadHandler handler = new ReadHandler();
+    final ResourceHandlerRequest<ResourceModel> request = request();
+    final LoggerProxy logger = new LoggerProxy();
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    for (int i = 0; i < WARMUP_INVOCATIONS; i++) {
+      handler.handleRequest(proxy, request, null, logger);
+    }
+    final AthenaClient client = ClientBuilder.getClient();
+    final AthenaAsyncClient asyncClient = ClientBuilder.getAsyncClient();
+    final int threadsBefore = threads.getThreadCount();
+    final long getWorkGroupCallsBefore = stub.requestCount("GetWorkGroup");
+    final long heapBefore = usedHeapAfterGc();
+
+    for (int i = 0; i < SIMULATED_INVOCATIONS; i++) {
+      final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+      assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+      assertThat(response.getResourceModel().getName()).isEqualTo(WORKGROUP_NAME);
+    }
+    final long heapAfter = usedHeapAfterGc();
+
+    assertThat(stub.requestCount("GetWorkGroup") - getWorkGroupCallsBefore).isEqualTo(SIMULATED_INVOCATIONS);
+    assertThat(ClientBuilder.getClient()).isSameAs(client);
+    assertThat(ClientBuilder.getAsyncClient()).isSameAs(asyncClient);
+    assertThat(threads.getThreadCount() - threadsBefore).isLessThanOrEqualTo(MAX_THREAD_GROWTH);
+    assertThat(heapAfter - heapBefore).isLessThan(MAX_HEAP_GROWTH_BYTES);
+  }
+
+  private static AmazonWebServicesClientProxy proxy() {
+    return new AmazonWebServicesClientProxy(new LoggerProxy(),
+        new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(10).toMillis());
+  }
+
+  private static ResourceHandlerRequest<ResourceModel> request() {
+    return ResourceHandlerRequest.<ResourceModel>builder()
+        .desiredResourceState(ResourceModel.builder().name(WORKGROUP_NAME).build())
+        .awsPartition("aws")
+        .region("us-east-1")
+        .awsAccountId("123456789012")
+        .build();
+  }
+
+  private static long usedHeapAfterGc() {
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
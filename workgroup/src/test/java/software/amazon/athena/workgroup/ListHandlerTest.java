@@ -2,11 +2,14 @@ package software.amazon.athena.workgroup;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.model.EngineVersion;
 import software.amazon.awssdk.services.athena.model.InternalServerException;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
+import software.amazon.awssdk.services.athena.model.ListWorkGroupsRequest;
 import software.amazon.awssdk.services.athena.model.ListWorkGroupsResponse;
 import software.amazon.awssdk.services.athena.model.WorkGroupSummary;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -20,12 +23,18 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ListHandlerTest {
@@ -59,14 +68,13 @@ class ListHandlerTest {
     workgroups.add(workGroup1);
     workgroups.add(workGroup2);
 
-    // Mock
+    // Mock, the default handler prefetches through the async client
     doReturn(
-      ListWorkGroupsResponse.builder()
-        .nextToken("nextToken")
+      CompletableFuture.completedFuture(ListWorkGroupsResponse.builder()
         .workGroups(workgroups)
-        .build())
+        .build()))
       .when(proxy)
-      .injectCredentialsAndInvokeV2(any(), any());
+      .injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response
@@ -79,10 +87,97 @@ class ListHandlerTest {
     assertThat(response.getResourceModels().size()).isEqualTo(workgroups.size());
     assertThat(response.getResourceModels().get(0).getName()).isEqualTo(workgroups.get(0).name());
     assertThat(response.getResourceModels().get(1).getName()).isEqualTo(workgroups.get(1).name());
+    assertThat(response.getNextToken()).isNull();
     assertThat(response.getMessage()).isNull();
     assertThat(response.getErrorCode()).isNull();
   }
 
+  @Test
+  void testAggregatedFollowsNextTokenUntilMaxItems() {
+    // Prepare inputs
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+      .desiredResourceState(ResourceModel.builder().build())
+      .build();
+    final ArgumentCaptor<ListWorkGroupsRequest> listRequestCaptor = ArgumentCaptor.forClass(ListWorkGroupsRequest.class);
+
+    // Mock
+    doReturn(
+      listWorkGroupsResponse("token2", "wg1", "wg2"),
+      listWorkGroupsResponse("token3", "wg3", "wg4"),
+      listWorkGroupsResponse("token4", "wg5", "wg6"))
+      .when(proxy)
+      .injectCredentialsAndInvokeV2(listRequestCaptor.capture(), any());
+
+    // Call
+    final ProgressEvent<ResourceModel, CallbackContext> response
+      = new ListHandler(3, () -> 60_000L).handleRequest(proxy, request, null, logger);
+
+    // Assert
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).extracting(ResourceModel::getName)
+      .containsExactly("wg1", "wg2", "wg3", "wg4");
+    assertThat(response.getNextToken()).isEqualTo("token3");
+    assertThat(listRequestCaptor.getAllValues()).extracting(ListWorkGroupsRequest::nextToken)
+      .containsExactly(null, "token2");
+  }
+
+  @Test
+  void testAggregatedStopsWhenRemainingTimeRunsLow() {
+    // Prepare inputs
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+      .desiredResourceState(ResourceModel.builder().build())
+      .nextToken("token1")
+      .build();
+    final AtomicLong remainingTimeMillis = new AtomicLong(10_000L);
+
+    // Mock
+    doReturn(
+      listWorkGroupsResponse("token2", "wg1"),
+      listWorkGroupsResponse("token3", "wg2"))
+      .when(proxy)
+      .injectCredentialsAndInvokeV2(any(), any());
+
+    // Call, every page consumes 3 seconds of the remaining time
+    final ProgressEvent<ResourceModel, CallbackContext> response
+      = new ListHandler(1000, () -> remainingTimeMillis.addAndGet(-3_000L)).handleRequest(proxy, request, null, logger);
+
+    // Assert
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).extracting(ResourceModel::getName).containsExactly("wg1", "wg2");
+    assertThat(response.getNextToken()).isEqualTo("token3");
+    verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+  }
+
+  @Test
+  void testPrefetchDoesNotReadAheadPastMaxItems() {
+    // Prepare inputs
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+      .desiredResourceState(ResourceModel.builder().build())
+      .build();
+    final ArgumentCaptor<ListWorkGroupsRequest> listRequestCaptor = ArgumentCaptor.forClass(ListWorkGroupsRequest.class);
+
+    // Mock
+    doReturn(
+      CompletableFuture.completedFuture(listWorkGroupsResponse("token2", "wg1", "wg2")),
+      CompletableFuture.completedFuture(listWorkGroupsResponse("token3", "wg3", "wg4")))
+      .when(proxy)
+      .injectCredentialsAndInvokeV2Async(listRequestCaptor.capture(), any());
+
+    // Call
+    final ListHandler handler = new ListHandler(3, () -> 60_000L, ListHandler.PageFetchMode.PREFETCH,
+      () -> mock(AthenaAsyncClient.class));
+    final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+
+    // Assert, the second page reaches maxItems, so the third page is left for the next invocation
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModels()).extracting(ResourceModel::getName)
+      .containsExactly("wg1", "wg2", "wg3", "wg4");
+    assertThat(response.getNextToken()).isEqualTo("token3");
+    assertThat(listRequestCaptor.getAllValues()).extracting(ListWorkGroupsRequest::nextToken)
+      .containsExactly(null, "token2");
+    verifyNoMoreInteractions(proxy);
+  }
+
   @Test
   void testInternalServerException() {
     // Prepare inputs
@@ -93,7 +188,7 @@ class ListHandlerTest {
     // Mock
     doThrow(InternalServerException.builder().build())
       .when(proxy)
-      .injectCredentialsAndInvokeV2(any(), any());
+      .injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnGeneralServiceException.class, () ->
@@ -110,11 +205,21 @@ class ListHandlerTest {
     // Mock
     doThrow(InvalidRequestException.builder().build())
       .when(proxy)
-      .injectCredentialsAndInvokeV2(any(), any());
+      .injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnInvalidRequestException.class, () ->
       new ListHandler().handleRequest(proxy, request, null, logger));
   }
 
+  private static ListWorkGroupsResponse listWorkGroupsResponse(final String nextToken, final String... names) {
+    final List<WorkGroupSummary> workGroups = new ArrayList<>();
+    for (final String name : names) {
+      workGroups.add(WorkGroupSummary.builder().name(name).creationTime(Instant.now()).state("enabled").build());
+    }
+    return ListWorkGroupsResponse.builder()
+      .nextToken(nextToken)
+      .workGroups(workGroups)
+      .build();
+  }
 }
@@ -31,6 +31,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -39,6 +40,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ReadHandlerTest {
@@ -72,8 +75,8 @@ class ReadHandlerTest {
       .build();
 
     // Mock
-    doReturn(ListTagsForResourceResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
-    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build()).when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build())).when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy, request, null, logger);
@@ -118,8 +121,8 @@ class ReadHandlerTest {
             .build();
 
     // Mock
-    doReturn(ListTagsForResourceResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
-    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build()).when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build())).when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy, request, null, logger);
@@ -190,8 +193,8 @@ class ReadHandlerTest {
             .build();
 
     // Mock
-    doReturn(ListTagsForResourceResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
-    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build()).when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build())).when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy, request, null, logger);
@@ -253,8 +256,8 @@ class ReadHandlerTest {
       .build();
 
     // Mock
-    doReturn(ListTagsForResourceResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
-    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build()).when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build())).when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy, request, null, logger);
@@ -288,7 +291,7 @@ class ReadHandlerTest {
       ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
 
     // Mock
-    doThrow(InternalServerException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+    doReturn(failedFuture(InternalServerException.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnGeneralServiceException.class, () -> new ReadHandler().handleRequest(proxy, request, null, logger));
@@ -303,7 +306,7 @@ class ReadHandlerTest {
       ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
 
     // Mock
-    doThrow(InvalidRequestException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+    doReturn(failedFuture(InvalidRequestException.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnInvalidRequestException.class, () -> new ReadHandler().handleRequest(proxy, request, null, logger));
@@ -320,7 +323,7 @@ class ReadHandlerTest {
     // Mock
     String message = String.format("WorkGroup %s is not found.", workGroup);
     InvalidRequestException invalidRequestException = InvalidRequestException.builder().message(message).build();
-    doThrow(invalidRequestException).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+    doReturn(failedFuture(invalidRequestException)).when(proxy).injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnNotFoundException.class, () -> new ReadHandler().handleRequest(proxy, request, null, logger));
@@ -337,7 +340,7 @@ class ReadHandlerTest {
     // Mock
     String message = String.format("WorkGroup %s is already created", workGroup);
     InvalidRequestException invalidRequestException = InvalidRequestException.builder().message(message).build();
-    doThrow(invalidRequestException).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+    doReturn(failedFuture(invalidRequestException)).when(proxy).injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnAlreadyExistsException.class, () -> new ReadHandler().handleRequest(proxy, request, null, logger));
@@ -361,10 +364,10 @@ class ReadHandlerTest {
         .build();
 
     // Mock
-    doReturn(ListTagsForResourceResponse.builder().tags(sdkTags).build()).when(proxy)
-        .injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
-    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build()).when(proxy)
-        .injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().tags(sdkTags).build())).when(proxy)
+        .injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build())).when(proxy)
+        .injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy, request, null, logger);
@@ -405,8 +408,8 @@ class ReadHandlerTest {
             .build();
 
     // Mock
-    doReturn(ListTagsForResourceResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
-    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build()).when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(ListTagsForResourceResponse.builder().build())).when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build())).when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
 
     // Call
     final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy, request, null, logger);
@@ -431,4 +434,169 @@ class ReadHandlerTest {
     assertThat(response.getErrorCode()).isNull();
     assertThat(response.getResourceModel().getWorkGroupConfiguration().getManagedQueryResultsConfiguration().getEnabled()).isEqualTo(true);
   }
+
+  @Test
+  void testConcurrentReadMergesWorkGroupAndAllTagPages() {
+    // Prepare inputs
+    final ResourceModel resourceModel = ResourceModel.builder().name("primary workgroup").build();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
+
+    final WorkGroup workGroup = WorkGroup.builder()
+      .name("primary workgroup")
+      .description("the primary workgroup")
+      .state("enabled")
+      .creationTime(Instant.now())
+      .build();
+
+    // Mock
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build()))
+        .when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
+    doReturn(
+        CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.athena.model.Tag.builder().key("key1").value("value1").build())
+            .nextToken("token")
+            .build()),
+        CompletableFuture.completedFuture(ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.athena.model.Tag.builder().key("key2").value("value2").build())
+            .build()))
+        .when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+
+    // Call
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        new ReadHandler().handleRequest(proxy, request, null, logger);
+
+    // Assert
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getName()).isEqualTo(workGroup.name());
+    assertThat(response.getResourceModel().getDescription()).isEqualTo(workGroup.description());
+    assertThat(response.getResourceModel().getTags()).extracting(Tag::getKey).containsExactlyInAnyOrder("key1", "key2");
+    verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+  }
+
+  @Test
+  void testConcurrentReadWorkGroupNotFound() {
+    // Prepare inputs
+    final ResourceModel resourceModel = ResourceModel.builder().name("someWorkGroup").build();
+    final ResourceHandlerRequest<ResourceModel> request =
+        ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
+
+    // Mock
+    doReturn(failedFuture(InvalidRequestException.builder().message("WorkGroup someWorkGroup is not found.").build()))
+        .when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
+    doReturn(failedFuture(InternalServerException.builder().build()))
+        .when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+
+    // Call
+    assertThrows(CfnNotFoundException.class,
+        () -> new ReadHandler().handleRequest(proxy, request, null, logger));
+  }
+
+  @Test
+  void testConcurrentReadTagsInternalServerException() {
+    // Prepare inputs
+    final ResourceModel resourceModel = ResourceModel.builder().name("primary").build();
+    final ResourceHandlerRequest<ResourceModel> request =
+        ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
+
+    final WorkGroup workGroup = WorkGroup.builder()
+      .name("primary")
+      .state("enabled")
+      .creationTime(Instant.now())
+      .build();
+
+    // Mock
+    doReturn(CompletableFuture.completedFuture(GetWorkGroupResponse.builder().workGroup(workGroup).build()))
+        .when(proxy).injectCredentialsAndInvokeV2Async(any(GetWorkGroupRequest.class), any());
+    doReturn(failedFuture(InternalServerException.builder().build()))
+        .when(proxy).injectCredentialsAndInvokeV2Async(any(ListTagsForResourceRequest.class), any());
+
+    // Call
+    assertThrows(CfnGeneralServiceException.class,
+        () -> new ReadHandler().handleRequest(proxy, request, null, logger));
+  }
+
+  @Test
+  void testSequentialReadMergesWorkGroupAndAllTagPages() {
+    // Prepare inputs
+    final ResourceModel resourceModel = ResourceModel.builder().name("primary workgroup").build();
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
+
+    final WorkGroup workGroup = WorkGroup.builder()
+      .name("primary workgroup")
+      .description("the primary workgroup")
+      .state("enabled")
+      .creationTime(Instant.now())
+      .build();
+
+    // Mock
+    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build())
+        .when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doReturn(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.athena.model.Tag.builder().key("key1").value("value1").build())
+            .nextToken("token")
+            .build(),
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.athena.model.Tag.builder().key("key2").value("value2").build())
+            .build())
+        .when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
+
+    // Call
+    final ProgressEvent<ResourceModel, CallbackContext> response =
+        new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL).handleRequest(proxy, request, null, logger);
+
+    // Assert
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getName()).isEqualTo(workGroup.name());
+    assertThat(response.getResourceModel().getDescription()).isEqualTo(workGroup.description());
+    assertThat(response.getResourceModel().getTags()).extracting(Tag::getKey).containsExactlyInAnyOrder("key1", "key2");
+    verify(proxy, never()).injectCredentialsAndInvokeV2Async(any(), any());
+  }
+
+  @Test
+  void testSequentialReadWorkGroupNotFound() {
+    // Prepare inputs
+    final ResourceModel resourceModel = ResourceModel.builder().name("someWorkGroup").build();
+    final ResourceHandlerRequest<ResourceModel> request =
+        ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
+
+    // Mock
+    doThrow(InvalidRequestException.builder().message("WorkGroup someWorkGroup is not found.").build())
+        .when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+
+    // Call
+    assertThrows(CfnNotFoundException.class,
+        () -> new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL).handleRequest(proxy, request, null, logger));
+    verify(proxy, never()).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
+  }
+
+  @Test
+  void testSequentialReadTagsInternalServerException() {
+    // Prepare inputs
+    final ResourceModel resourceModel = ResourceModel.builder().name("primary").build();
+    final ResourceHandlerRequest<ResourceModel> request =
+        ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(resourceModel).build();
+
+    final WorkGroup workGroup = WorkGroup.builder()
+      .name("primary")
+      .state("enabled")
+      .creationTime(Instant.now())
+      .build();
+
+    // Mock
+    doReturn(GetWorkGroupResponse.builder().workGroup(workGroup).build())
+        .when(proxy).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    doThrow(InternalServerException.builder().build())
+        .when(proxy).injectCredentialsAndInvokeV2(any(ListTagsForResourceRequest.class), any());
+
+    // Call
+    assertThrows(CfnGeneralServiceException.class,
+        () -> new ReadHandler(ReadHandler.ReadMode.SEQUENTIAL).handleRequest(proxy, request, null, logger));
+  }
+
+  private static <T> CompletableFuture<T> failedFuture(final Throwable throwable) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
 }
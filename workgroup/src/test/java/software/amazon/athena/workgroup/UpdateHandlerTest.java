@@ -7,6 +7,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.athena.model.AthenaRequest;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupRequest;
+import software.amazon.awssdk.services.athena.model.GetWorkGroupResponse;
 import software.amazon.awssdk.services.athena.model.InternalServerException;
 import software.amazon.awssdk.services.athena.model.InvalidRequestException;
 import software.amazon.awssdk.services.athena.model.TagResourceRequest;
@@ -26,16 +28,19 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -361,6 +366,174 @@ public class UpdateHandlerTest {
 
   }
 
+  @Test
+  void testNoOpUpdateSkipsUpdateWorkGroup() {
+    // Prepare inputs
+    final ResourceModel oldModel = ResourceModel.builder()
+            .name("primary")
+            .description("Primary workgroup description")
+            .workGroupConfiguration(WorkGroupConfiguration.builder()
+                    .bytesScannedCutoffPerQuery(10_000_000_000L)
+                    .resultConfiguration(ResultConfiguration.builder()
+                            .outputLocation("s3://abc/")
+                            .build())
+                    .build())
+            .build();
+    final ResourceModel newModel = ResourceModel.builder()
+            .name("primary")
+            .description("Primary workgroup description")
+            .workGroupConfiguration(WorkGroupConfiguration.builder()
+                    .bytesScannedCutoffPerQuery(10_000_000_000L)
+                    .resultConfiguration(ResultConfiguration.builder()
+                            .outputLocation("s3://abc/")
+                            .build())
+                    .build())
+            .build();
+
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(oldModel)
+            .desiredResourceState(newModel)
+            .build();
+
+    // Mock
+    doReturn(GetWorkGroupResponse.builder().build())
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+
+    // Call
+    final ProgressEvent<ResourceModel, CallbackContext> response
+            = new UpdateHandler().handleRequest(proxy, request, null, logger);
+
+    // Assert
+    verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    verify(proxy, never()).injectCredentialsAndInvokeV2(any(UpdateWorkGroupRequest.class), any());
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel()).isEqualTo(newModel);
+  }
+
+  @Test
+  void testNoOpUpdateOfDeletedWorkGroupIsNotFound() {
+    // Prepare inputs
+    final ResourceModel model = ResourceModel.builder()
+            .name("deleted")
+            .description("Deleted out of band")
+            .build();
+
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(model)
+            .desiredResourceState(model)
+            .build();
+
+    // Mock
+    doThrow(InvalidRequestException.builder().message("WorkGroup deleted is not found.").build())
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+
+    // Call
+    assertThrows(CfnNotFoundException.class, () ->
+            new UpdateHandler().handleRequest(proxy, request, null, logger));
+
+    // Assert
+    verify(proxy, never()).injectCredentialsAndInvokeV2(any(UpdateWorkGroupRequest.class), any());
+  }
+
+  @Test
+  void testTagOnlyUpdateSkipsUpdateWorkGroup() {
+    // Prepare inputs
+    final ResourceModel oldModel = ResourceModel.builder()
+            .name("primary")
+            .build();
+    final ResourceModel newModel = ResourceModel.builder()
+            .name("primary")
+            .tags(Lists.list(new Tag("key1", "value1")))
+            .build();
+
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(oldModel)
+            .desiredResourceState(newModel)
+            .region("unit-test")
+            .awsAccountId("123456789012")
+            .build();
+
+    // Mock
+    doReturn(TagResourceResponse.builder().build())
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+    doReturn(GetWorkGroupResponse.builder().build())
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+
+    // Call
+    final ProgressEvent<ResourceModel, CallbackContext> response
+            = new UpdateHandler().handleRequest(proxy, request, null, logger);
+
+    // Assert
+    verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+    verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(GetWorkGroupRequest.class), any());
+    verify(proxy, never()).injectCredentialsAndInvokeV2(any(UpdateWorkGroupRequest.class), any());
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+  }
+
+  @Test
+  void testSingleFieldChangeSendsMinimalUpdate() {
+    // Prepare inputs
+    final ResultConfiguration resultConfiguration = ResultConfiguration.builder()
+            .outputLocation("s3://abc/")
+            .encryptionConfiguration(software.amazon.athena.workgroup.EncryptionConfiguration.builder()
+                    .encryptionOption("SSE_S3")
+                    .build())
+            .build();
+    final ResourceModel oldModel = ResourceModel.builder()
+            .name("primary")
+            .description("Primary workgroup description")
+            .workGroupConfiguration(WorkGroupConfiguration.builder()
+                    .bytesScannedCutoffPerQuery(11_111_111_111L)
+                    .requesterPaysEnabled(true)
+                    .resultConfiguration(resultConfiguration)
+                    .build())
+            .build();
+    final ResourceModel newModel = ResourceModel.builder()
+            .name("primary")
+            .description("Primary workgroup description")
+            .workGroupConfiguration(WorkGroupConfiguration.builder()
+                    .bytesScannedCutoffPerQuery(22_222_222_222L)
+                    .requesterPaysEnabled(true)
+                    .resultConfiguration(resultConfiguration)
+                    .build())
+            .build();
+
+    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(oldModel)
+            .desiredResourceState(newModel)
+            .build();
+
+    // Mock
+    doReturn(UpdateWorkGroupResponse.builder().build())
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(any(), any());
+
+    // Call
+    final ProgressEvent<ResourceModel, CallbackContext> response
+            = new UpdateHandler().handleRequest(proxy, request, null, logger);
+
+    // Assert
+    ArgumentCaptor<UpdateWorkGroupRequest> requestCaptor = ArgumentCaptor.forClass(UpdateWorkGroupRequest.class);
+    verify(proxy, times(1)).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
+    UpdateWorkGroupRequest receivedRequest = requestCaptor.getValue();
+
+    assertEquals("primary", receivedRequest.workGroup());
+    assertNull(receivedRequest.description());
+    assertNull(receivedRequest.state());
+    assertEquals(22_222_222_222L, receivedRequest.configurationUpdates().bytesScannedCutoffPerQuery());
+    assertNull(receivedRequest.configurationUpdates().removeBytesScannedCutoffPerQuery());
+    assertNull(receivedRequest.configurationUpdates().requesterPaysEnabled());
+    assertNull(receivedRequest.configurationUpdates().enforceWorkGroupConfiguration());
+    assertNull(receivedRequest.configurationUpdates().engineVersion());
+    assertNull(receivedRequest.configurationUpdates().resultConfigurationUpdates());
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+  }
+
   @Test
   void testSuccessStateWithAddingTags() {
     // Prepare inputs
@@ -642,7 +815,9 @@ public class UpdateHandlerTest {
     // Mock
     String message = String.format("WorkGroup %s is not found.", workGroup);
     InvalidRequestException invalidRequestException = InvalidRequestException.builder().message(message).build();
-    doThrow(invalidRequestException).when(proxy).injectCredentialsAndInvokeV2(any(), any());
+    final CompletableFuture<Object> notFound = new CompletableFuture<>();
+    notFound.completeExceptionally(invalidRequestException);
+    doReturn(notFound).when(proxy).injectCredentialsAndInvokeV2Async(any(), any());
 
     // Call
     assertThrows(CfnNotFoundException.class, () -> new ReadHandler().handleRequest(proxy, request, null, logger));